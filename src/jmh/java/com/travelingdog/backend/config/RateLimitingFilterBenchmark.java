@@ -0,0 +1,88 @@
+package com.travelingdog.backend.config;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * 동시 요청에서 IP별 RateLimiter 필터 비용 (8 스레드)
+ *
+ * 모든 /api/* 요청이 거치는 필터로, IP별 캐시 조회와 RateLimiter 획득이 경합 지점입니다.
+ * - clients=1: 모든 스레드가 같은 IP (같은 RateLimiter에 경합, 대부분 429 응답 경로)
+ * - clients=1000: 프록시 뒤 다수 클라이언트 (X-Forwarded-For 분산, 캐시 세그먼트 경합)
+ * 연산당 응답을 새로 만들며, 429 응답 본문 쓰기 비용도 포함됩니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class RateLimitingFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    @State(Scope.Benchmark)
+    public static class SharedFilter {
+
+        @Param({ "1", "1000" })
+        int clients;
+
+        OncePerRequestFilter filter;
+
+        @Setup
+        public void setUp() {
+            filter = new RateLimitingConfig().rateLimitingFilter().getFilter();
+        }
+    }
+
+    /**
+     * 스레드별 요청 (OncePerRequestFilter가 요청 속성을 쓰므로 스레드 간 공유하지 않음)
+     */
+    @State(Scope.Thread)
+    public static class ClientRequests {
+
+        MockHttpServletRequest[] requests;
+        int next;
+
+        @Setup
+        public void setUp(SharedFilter shared, ThreadParams threadParams) {
+            requests = new MockHttpServletRequest[shared.clients];
+            for (int i = 0; i < shared.clients; i++) {
+                // 스레드마다 시작 위치를 달리해 같은 순간 같은 IP에 몰리지 않게 함
+                int client = (i + threadParams.getThreadIndex() * 31) % shared.clients;
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/travel/plan/search");
+                request.addHeader("X-Forwarded-For", "10.0." + (client / 256) + "." + (client % 256) + ", 172.16.0.1");
+                requests[i] = request;
+            }
+        }
+
+        MockHttpServletRequest next() {
+            MockHttpServletRequest request = requests[next];
+            next = next + 1 == requests.length ? 0 : next + 1;
+            return request;
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filter(SharedFilter shared, ClientRequests requests)
+            throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        shared.filter.doFilter(requests.next(), response, NO_OP_CHAIN);
+        return response;
+    }
+}
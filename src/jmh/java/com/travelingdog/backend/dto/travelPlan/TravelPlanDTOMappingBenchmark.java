@@ -0,0 +1,82 @@
+package com.travelingdog.backend.dto.travelPlan;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.travelingdog.backend.model.AccommodationType;
+import com.travelingdog.backend.model.Interest;
+import com.travelingdog.backend.model.Itinerary;
+import com.travelingdog.backend.model.ItineraryActivity;
+import com.travelingdog.backend.model.Transportation;
+import com.travelingdog.backend.model.TravelPlan;
+import com.travelingdog.backend.model.TravelStyle;
+import com.travelingdog.backend.model.User;
+
+/**
+ * 여행 계획 엔티티 → 응답 DTO 변환 (TravelPlanDTO.fromEntity)
+ *
+ * 상세 조회/목록 응답마다 일정과 활동 전체를 복사하므로 일수가 긴 계획에서 비용이 커집니다.
+ * 영속성 컨텍스트 없이 메모리에 만든 엔티티로 변환 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TravelPlanDTOMappingBenchmark {
+
+    private static final int ACTIVITIES_PER_DAY = 6;
+
+    @Param({ "3", "14", "30" })
+    private int days;
+
+    private TravelPlan plan;
+
+    @Setup
+    public void setUp() {
+        LocalDate startDate = LocalDate.of(2025, 5, 1);
+        plan = TravelPlan.builder()
+                .id(1L)
+                .title("후쿠오카 여행")
+                .country("일본")
+                .city("후쿠오카")
+                .startDate(startDate)
+                .endDate(startDate.plusDays(days - 1))
+                .user(User.builder().id(1L).nickname("여행자").email("bench@example.com").build())
+                .build();
+
+        for (String name : new String[] { "맛집 탐방", "휴양" }) {
+            plan.getTravelStyles().add(TravelStyle.builder().name(name).travelPlan(plan).build());
+            plan.getInterests().add(Interest.builder().name(name).travelPlan(plan).build());
+        }
+        plan.getAccommodationTypes().add(AccommodationType.builder().name("호텔").travelPlan(plan).build());
+        plan.getTransportationTypes().add(Transportation.builder().name("지하철").travelPlan(plan).build());
+
+        for (int day = 0; day < days; day++) {
+            Itinerary itinerary = new Itinerary();
+            itinerary.setDate(startDate.plusDays(day).toString());
+            itinerary.setLocation("후쿠오카 시내");
+            for (int i = 0; i < ACTIVITIES_PER_DAY; i++) {
+                ItineraryActivity activity = new ItineraryActivity();
+                activity.setTitle("활동 " + i);
+                activity.setLocationName("캐널시티 하카타 (Canal City Hakata)");
+                activity.setDescription("쇼핑 및 분수 쇼 관람, 주변 산책");
+                activity.setCost("15000원");
+                itinerary.addActivity(activity);
+            }
+            plan.addItinerary(itinerary);
+        }
+    }
+
+    @Benchmark
+    public TravelPlanDTO fromEntity() {
+        return TravelPlanDTO.fromEntity(plan);
+    }
+}
@@ -0,0 +1,96 @@
+package com.travelingdog.backend.jwt;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.repository.UserRepository;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * 인증된 API 요청마다 거치는 JWT 검증 비용
+ *
+ * - validateToken: 서명 검증 + 만료 확인 + 사용자 존재 확인 (리포지토리는 메모리 스텁)
+ * - appRequestFilter: 앱 요청(Bearer 토큰)이 JwtAuthenticationFilter를 통과해 SecurityContext가 채워지기까지
+ * DB 조회 비용은 제외하고 파싱/서명/필터 처리 비용만 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String EMAIL = "bench@example.com";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey("benchmark-secret-key-that-is-at-least-256-bits-long");
+        properties.setAccessTokenValidityInSeconds(3600);
+        properties.setRefreshTokenValidityInSeconds(86400);
+
+        User user = User.builder().id(1L).email(EMAIL).nickname("여행자").password("password").build();
+        jwtTokenProvider = new JwtTokenProvider(properties, userRepository(user));
+        UserDetailsService userDetailsService = username -> org.springframework.security.core.userdetails.User
+                .withUsername(username).password("password").authorities("ROLE_USER").build();
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService,
+                new JwtAuthenticationEntryPoint(new ObjectMapper()));
+
+        token = jwtTokenProvider.generateToken(EMAIL);
+        request = new MockHttpServletRequest("GET", "/api/travel/plan/list");
+        request.setServletPath("/api/travel/plan/list");
+        request.addHeader("X-Client-Type", "APP");
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse appRequestFilter() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        // 요청 처리 후 정리하는 운영 필터 체인과 같게 매 연산 뒤 비움
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+
+    /**
+     * findByEmail만 응답하는 메모리 스텁 (검증 경로에서 쓰는 유일한 메소드)
+     */
+    private static UserRepository userRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[] { UserRepository.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "findByEmail" -> user.getEmail().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "UserRepositoryStub";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
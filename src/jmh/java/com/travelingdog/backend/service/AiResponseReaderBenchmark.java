@@ -0,0 +1,90 @@
+package com.travelingdog.backend.service;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.travelingdog.backend.dto.AIRecommendedTravelPlanDTO;
+
+/**
+ * 여행 계획 응답 1건을 DTO로 읽는 비용 (시간 + 연산당 할당량)
+ *
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 확인합니다. (build.gradle jmh.profilers)
+ * - structuredDirect: 응답 스키마 지정 호출(순수 JSON)을 공용 매퍼로 바로 역직렬화
+ * - fencedExtract: 코드 블록으로 감싼 응답을 토큰 버퍼 하나를 거쳐 역직렬화
+ * - legacyRegexThenRead: 교체 전 방식 (정규식 정규화 문자열 + 기본 ObjectMapper)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AiResponseReaderBenchmark {
+
+    private static final Pattern CODE_BLOCK = Pattern.compile("```(?:json)?\\s*(.+?)\\s*```", Pattern.DOTALL);
+
+    @Param({ "3", "7", "14" })
+    private int days;
+
+    private String structured;
+    private String fenced;
+
+    // 운영 공용 매퍼와 같은 구성 (JacksonConfig)
+    private final ObjectMapper sharedMapper = JsonMapper.builder()
+            .addModule(new BlackbirdModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    private final ObjectMapper legacyMapper = new ObjectMapper();
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{")
+                .append("\"trip_name\": \"후쿠오카 여행\", \"start_date\": \"2025-05-01\", \"end_date\": \"2025-05-10\",")
+                .append("\"travel_style\": [\"맛집 탐방\"], \"country\": \"일본\", \"destination\": \"후쿠오카\",")
+                .append("\"interests\": [], \"accommodation\": [], \"transportation\": [\"지하철\"], \"itinerary\": [");
+        for (int day = 1; day <= days; day++) {
+            json.append(day > 1 ? "," : "").append("{\"date\": \"").append(day)
+                    .append("\", \"location\": \"후쿠오카 시내\", \"activities\": [");
+            for (int activity = 0; activity < 6; activity++) {
+                json.append(activity > 0 ? "," : "")
+                        .append("{\"title\": \"활동 ").append(activity)
+                        .append("\", \"location_name\": \"캐널시티 하카타 (Canal City Hakata)\",")
+                        .append(" \"description\": \"쇼핑 및 분수 쇼 관람, 주변 산책\", \"cost\": \"15000원\"}");
+            }
+            json.append("]}");
+        }
+        json.append("], \"transportation_tips\": \"지하철 1일권이 편리합니다.\"}");
+        structured = json.toString();
+        fenced = "네, 요청하신 여행 계획입니다.\n```json\n" + structured + "\n```\n즐거운 여행 되세요!";
+    }
+
+    @Benchmark
+    public AIRecommendedTravelPlanDTO structuredDirect() throws IOException {
+        return AiResponseReader.read(sharedMapper, structured, AIRecommendedTravelPlanDTO.class);
+    }
+
+    @Benchmark
+    public AIRecommendedTravelPlanDTO fencedExtract() throws IOException {
+        return AiResponseReader.read(sharedMapper, fenced, AIRecommendedTravelPlanDTO.class);
+    }
+
+    @Benchmark
+    public AIRecommendedTravelPlanDTO legacyRegexThenRead() throws IOException {
+        Matcher matcher = CODE_BLOCK.matcher(fenced);
+        String normalized = matcher.find() ? matcher.group(1) : fenced;
+        return legacyMapper.readValue(normalized, AIRecommendedTravelPlanDTO.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.travelingdog.backend.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.travelingdog.backend.dto.AIRecommendedTravelPlanDTO;
+import com.travelingdog.backend.dto.travelPlan.UserSpecifiedAccommodation;
+
+/**
+ * 여행 계획 생성 요청의 CPU 구간: 프롬프트 생성 + 응답 파싱/검증
+ *
+ * - enhancedPrompt: 선호 항목과 날짜별 지정 숙소(직렬화 포함)를 채운 요청 프롬프트
+ * - parseStructured: 응답 스키마 지정 호출의 순수 JSON 응답
+ * - parseFenced: 설명 문장 + 코드 블록으로 감싼 응답 (스키마 미지원 공급자)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GptResponseHandlerBenchmark {
+
+    @Param({ "3", "7", "14" })
+    private int days;
+
+    private final GptResponseHandler handler = new GptResponseHandler();
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<UserSpecifiedAccommodation> accommodations;
+    private String structured;
+    private String fenced;
+
+    @Setup
+    public void setUp() {
+        // 운영 공용 매퍼와 같은 구성 (JacksonConfig), 실패 응답 저장소는 두지 않음
+        ObjectMapper sharedMapper = JsonMapper.builder()
+                .addModule(new BlackbirdModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        ReflectionTestUtils.setField(handler, "objectMapper", sharedMapper);
+
+        startDate = LocalDate.of(2025, 5, 1);
+        endDate = startDate.plusDays(days - 1);
+        accommodations = new ArrayList<>();
+        for (int day = 0; day < days; day += 2) {
+            accommodations.add(UserSpecifiedAccommodation.builder()
+                    .date(startDate.plusDays(day).toString())
+                    .accommodation("호텔 닛코 후쿠오카 (Hotel Nikko Fukuoka)")
+                    .build());
+        }
+
+        StringBuilder json = new StringBuilder("{")
+                .append("\"trip_name\": \"후쿠오카 여행\", \"start_date\": \"").append(startDate)
+                .append("\", \"end_date\": \"").append(endDate).append("\",")
+                .append("\"travel_style\": [\"맛집 탐방\"], \"country\": \"일본\", \"destination\": \"후쿠오카\",")
+                .append("\"interests\": [\"음식\"], \"accommodation\": [\"호텔\"], \"transportation\": [\"지하철\"],")
+                .append("\"itinerary\": [");
+        for (int day = 0; day < days; day++) {
+            json.append(day > 0 ? "," : "").append("{\"date\": \"").append(startDate.plusDays(day))
+                    .append("\", \"location\": \"후쿠오카 시내\", \"activities\": [");
+            for (int activity = 0; activity < 6; activity++) {
+                json.append(activity > 0 ? "," : "")
+                        .append("{\"title\": \"활동 ").append(activity)
+                        .append("\", \"location_name\": \"캐널시티 하카타 (Canal City Hakata)\",")
+                        .append(" \"description\": \"쇼핑 및 분수 쇼 관람, 주변 산책\", \"cost\": \"15000원\"}");
+            }
+            json.append("]}");
+        }
+        json.append("], \"transportation_tips\": \"지하철 1일권이 편리합니다.\"}");
+        structured = json.toString();
+        fenced = "네, 요청하신 여행 계획입니다.\n```json\n" + structured + "\n```\n즐거운 여행 되세요!";
+    }
+
+    @Benchmark
+    public String enhancedPrompt() {
+        return handler.createEnhancedPrompt("후쿠오카", startDate, endDate, "맛집 탐방, 휴양", "음식, 쇼핑", "호텔",
+                "지하철", accommodations);
+    }
+
+    @Benchmark
+    public AIRecommendedTravelPlanDTO parseStructured() {
+        return handler.parseGptResponse(structured, null);
+    }
+
+    @Benchmark
+    public AIRecommendedTravelPlanDTO parseFenced() {
+        return handler.parseGptResponse(fenced, null);
+    }
+}
@@ -0,0 +1,47 @@
+package com.travelingdog.backend.service;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 하루 5~20개 활동의 동선 최적화(최근접 이웃 + 2-opt) 소요 시간 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItineraryRouteOptimizerBenchmark {
+
+    @Param({ "5", "10", "15", "20" })
+    private int stops;
+
+    private double[][] points;
+
+    @Setup
+    public void setUp() {
+        // 후쿠오카 시내 정도 범위(약 20km)에 무작위 배치
+        Random random = new Random(42);
+        points = new double[stops][];
+        for (int i = 0; i < stops; i++) {
+            points[i] = new double[] { 33.5 + random.nextDouble() * 0.2, 130.3 + random.nextDouble() * 0.2 };
+        }
+    }
+
+    @Benchmark
+    public int[] openPath() {
+        return ItineraryRouteOptimizer.solvePath(points, false, false, Long.MAX_VALUE);
+    }
+
+    @Benchmark
+    public int[] anchoredPath() {
+        return ItineraryRouteOptimizer.solvePath(points, true, true, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,75 @@
+package com.travelingdog.backend.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * LLM 응답 JSON 추출: 스트리밍 추출기 vs 기존 정규식 정규화
+ *
+ * 설명 문장 + 코드 블록으로 감싼 여행 계획 응답을 일수별로 생성해 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LlmJsonExtractorBenchmark {
+
+    @Param({ "3", "7", "14" })
+    private int days;
+
+    private String response;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("네, 요청하신 여행 계획입니다.\n```json\n{")
+                .append("\"trip_name\": \"후쿠오카 여행\", \"start_date\": \"2025-05-01\", \"end_date\": \"2025-05-10\",")
+                .append("\"travel_style\": [\"맛집 탐방\"], \"country\": \"일본\", \"destination\": \"후쿠오카\",")
+                .append("\"interests\": [], \"accommodation\": [], \"transportation\": [\"지하철\"], \"itinerary\": [");
+        for (int day = 1; day <= days; day++) {
+            json.append(day > 1 ? "," : "").append("{\"date\": ").append(day)
+                    .append(", \"location\": \"후쿠오카 시내\", \"activities\": [");
+            for (int activity = 0; activity < 6; activity++) {
+                json.append(activity > 0 ? "," : "")
+                        .append("{\"title\": \"활동 ").append(activity)
+                        .append("\", \"location_name\": \"캐널시티 하카타 (Canal City Hakata)\",")
+                        .append(" \"description\": \"쇼핑 및 분수 쇼 관람, 주변 산책\", \"cost\": \"15000원\"}");
+            }
+            json.append("]}");
+        }
+        json.append("], \"transportation_tips\": \"지하철 1일권이 편리합니다.\"}\n```\n즐거운 여행 되세요!");
+        response = json.toString();
+    }
+
+    @Benchmark
+    public TokenBuffer streamingExtractor() throws JsonProcessingException {
+        return LlmJsonExtractor.extract(response);
+    }
+
+    /**
+     * 교체 전 GptResponseHandler.normalizeGptResponse 구현 (비교 기준)
+     */
+    @Benchmark
+    public String legacyRegexNormalize() {
+        Pattern codeBlockPattern = Pattern.compile("```(?:json)?\\s*(.+?)\\s*```", Pattern.DOTALL);
+        Matcher codeBlockMatcher = codeBlockPattern.matcher(response);
+        if (codeBlockMatcher.find()) {
+            return codeBlockMatcher.group(1);
+        }
+        Pattern jsonObjectPattern = Pattern.compile("\\{.*?\"trip_name\".*?\"transportation_tips\".*?\\}",
+                Pattern.DOTALL);
+        Matcher jsonObjectMatcher = jsonObjectPattern.matcher(response);
+        return jsonObjectMatcher.find() ? jsonObjectMatcher.group() : response;
+    }
+}
@@ -0,0 +1,75 @@
+package com.travelingdog.backend.service;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityRequestDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO;
+
+/**
+ * 당일 활동 추천 응답 파싱 (TodayActivityService.readResponse)
+ *
+ * 카테고리별 추천 개수(perCategory)를 바꿔 가며 순수 JSON 응답과 코드 블록 응답을 비교합니다.
+ * 파싱에는 ObjectMapper만 쓰므로 서비스를 만들지 않고 정적 파서를 직접 호출합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodayActivityParseBenchmark {
+
+    private static final String[] CATEGORIES = { "restaurants", "cultureSpots", "shoppingSpots", "natureSpots" };
+
+    @Param({ "3", "10" })
+    private int perCategory;
+
+    private ObjectMapper sharedMapper;
+    private TodayActivityRequestDTO request;
+    private String structured;
+    private String fenced;
+
+    @Setup
+    public void setUp() {
+        // 운영 공용 매퍼와 같은 구성 (JacksonConfig)
+        sharedMapper = JsonMapper.builder()
+                .addModule(new BlackbirdModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        request = new TodayActivityRequestDTO("후쿠오카 하카타역", perCategory, perCategory, perCategory, perCategory);
+
+        StringBuilder json = new StringBuilder("{");
+        for (int category = 0; category < CATEGORIES.length; category++) {
+            json.append(category > 0 ? "," : "").append("\"").append(CATEGORIES[category]).append("\": [");
+            for (int i = 0; i < perCategory; i++) {
+                json.append(i > 0 ? "," : "")
+                        .append("{\"locationName\": \"잇푸도 라멘 하카타점 (Ippudo Ramen Hakata Branch) ").append(i)
+                        .append("\", \"category\": \"일식\"}");
+            }
+            json.append("]");
+        }
+        structured = json.append("}").toString();
+        fenced = "추천 결과입니다.\n```json\n" + structured + "\n```";
+    }
+
+    @Benchmark
+    public TodayActivityResponseDTO parseStructured() throws IOException {
+        return TodayActivityService.readResponse(sharedMapper, structured, request.getLocation());
+    }
+
+    @Benchmark
+    public TodayActivityResponseDTO parseFenced() throws IOException {
+        return TodayActivityService.readResponse(sharedMapper, fenced, request.getLocation());
+    }
+}
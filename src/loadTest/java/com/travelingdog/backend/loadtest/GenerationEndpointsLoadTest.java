@@ -0,0 +1,178 @@
+package com.travelingdog.backend.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelingdog.backend.config.FirebaseConfigTest;
+import com.travelingdog.backend.loadtest.LoadDriver.LoadResult;
+import com.travelingdog.backend.jwt.JwtTokenProvider;
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.repository.UserRepository;
+
+/**
+ * AI 생성 엔드포인트 부하 테스트
+ *
+ * 실제 Gemini/OpenAI 대신 {@link StubLlmServer}를 띄워 외부 API 지연만 흉내 내고,
+ * 여행 계획 생성, 당일 활동 추천, 맛집 추천 엔드포인트를 고정 동시성으로 호출해 p50/p95/p99 지연과 처리량을 출력합니다.
+ *
+ * 실행: ./gradlew loadTest -Dloadtest.concurrency=50 -Dloadtest.requests=500 -Dstub-llm.median-ms=800
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(FirebaseConfigTest.class)
+@Tag("load")
+public class GenerationEndpointsLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 20);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 200);
+    private static final double MIN_SUCCESS_RATE = Double
+            .parseDouble(System.getProperty("loadtest.min-success-rate", "0.99"));
+
+    private static StubLlmServer stub;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private String token;
+
+    @DynamicPropertySource
+    static void stubLlmProperties(DynamicPropertyRegistry registry) throws IOException {
+        LoadDriver.quietTestProfileLogging(registry);
+        stub = new StubLlmServer(0, StubLlmServer.Profile.fromSystemProperties());
+        registry.add("gemini.api.url",
+                () -> stub.baseUrl() + "/v1beta/models/gemini-2.0-flash:generateContent");
+        registry.add("openai.api.url", () -> stub.baseUrl() + "/v1/chat/completions");
+        // 기본은 생성 경로를 측정하고, 추천 캐시 효과는 -Dloadtest.today-activity-cache=true로 확인
+        registry.add("today-activity.cache.enabled",
+                () -> System.getProperty("loadtest.today-activity-cache", "false"));
+    }
+
+    @AfterAll
+    static void stopStub() {
+        if (stub != null) {
+            System.out.printf("stub llm: requests=%d, injected errors=%d%n", stub.getRequestCount(),
+                    stub.getErrorCount());
+            stub.close();
+        }
+    }
+
+    @BeforeAll
+    static void printProfile() {
+        System.out.printf("load profile: concurrency=%d, requests=%d, %s%n", CONCURRENCY, REQUESTS,
+                StubLlmServer.Profile.fromSystemProperties());
+    }
+
+    @BeforeEach
+    void setUp() {
+        String email = "loadtest@example.com";
+        if (userRepository.findByEmail(email).isEmpty()) {
+            User user = new User();
+            user.setEmail(email);
+            user.setPassword(passwordEncoder.encode("password"));
+            user.setNickname("LoadTester");
+            userRepository.save(user);
+        }
+        token = jwtTokenProvider.generateToken(email);
+    }
+
+    @Test
+    @DisplayName("여행 계획 생성 엔드포인트 부하")
+    void travelPlanGeneration() throws Exception {
+        LoadResult result = drive("POST /api/travel/plan", () -> post("/api/travel/plan", travelPlanBody()));
+        assertThat(result.successRate()).isGreaterThanOrEqualTo(MIN_SUCCESS_RATE);
+    }
+
+    @Test
+    @DisplayName("당일 활동 추천 엔드포인트 부하")
+    void todayActivityRecommendation() throws Exception {
+        Map<String, Object> body = Map.of("location", "후쿠오카 텐진", "restaurantCount", 2,
+                "cultureCount", 2, "shoppingCount", 1, "natureCount", 1);
+        LoadResult result = drive("POST /api/today-activity/recommend",
+                () -> post("/api/today-activity/recommend", body));
+        assertThat(result.successRate()).isGreaterThanOrEqualTo(MIN_SUCCESS_RATE);
+    }
+
+    @Test
+    @DisplayName("맛집 추천 엔드포인트 부하")
+    void restaurantRecommendation() throws Exception {
+        HttpResponse<String> created = httpClient.send(post("/api/travel/plan", travelPlanBody()),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(created.statusCode()).isEqualTo(200);
+        long planId = objectMapper.readTree(created.body()).path("id").asLong();
+
+        String path = "/api/travel/plan/" + planId + "/restaurants";
+        LoadResult result = drive("POST " + path, () -> post(path, Map.of()));
+        assertThat(result.successRate()).isGreaterThanOrEqualTo(MIN_SUCCESS_RATE);
+    }
+
+    private Map<String, Object> travelPlanBody() {
+        LocalDate start = LocalDate.now().plusDays(14);
+        return Map.of("city", "Fukuoka", "startDate", start.toString(), "endDate", start.plusDays(2).toString());
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .timeout(Duration.ofSeconds(60))
+                    .header("Content-Type", "application/json")
+                    .header("X-Client-Type", "APP")
+                    .header("Authorization", "Bearer " + token)
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 고정 동시성으로 요청을 보내고 지연 분포를 출력합니다.
+     */
+    private LoadResult drive(String name, Supplier<HttpRequest> requestFactory) {
+        LoadResult result = LoadDriver.run(httpClient, name, CONCURRENCY, REQUESTS, requestFactory);
+        assertThat(result.latencies()).hasSize(REQUESTS);
+        return result;
+    }
+}
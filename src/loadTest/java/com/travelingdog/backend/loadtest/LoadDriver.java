@@ -0,0 +1,102 @@
+package com.travelingdog.backend.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+/**
+ * 부하 테스트 공통 작업자 루프와 측정용 로깅 설정
+ *
+ * 고정 개수의 작업자(가상 스레드)가 남은 요청 수를 나눠 가지며 요청을 보내고, 요청별 지연과 실패 수를 모읍니다.
+ * 200이 아닌 응답과 I/O 오류는 실패로 셉니다.
+ */
+final class LoadDriver {
+
+    /**
+     * application-test.yml에서 DEBUG로 올린 로거
+     */
+    private static final String[] TEST_PROFILE_DEBUG_LOGGERS = {
+            "root", "org.springframework", "org.hibernate", "org.springframework.web",
+            "org.springframework.security", "org.springframework.test", "org.springframework.session",
+            "org.springframework.data.redis", "io.lettuce.core"
+    };
+
+    private LoadDriver() {
+    }
+
+    /**
+     * 테스트 프로필의 DEBUG 로깅과 SQL 출력을 끕니다. 켜 두면 동기 콘솔 출력이 지연/처리량 측정값을 좌우합니다.
+     */
+    static void quietTestProfileLogging(DynamicPropertyRegistry registry) {
+        for (String logger : TEST_PROFILE_DEBUG_LOGGERS) {
+            registry.add("logging.level." + logger, () -> "INFO");
+        }
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.show_sql", () -> "false");
+        registry.add("spring.jpa.properties.hibernate.format_sql", () -> "false");
+    }
+
+    static LoadResult run(HttpClient httpClient, String name, int concurrency, int requests,
+            Supplier<HttpRequest> requestFactory) {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+        AtomicInteger remaining = new AtomicInteger(requests);
+        AtomicInteger failures = new AtomicInteger();
+
+        long started = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(requestFactory.get(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (IOException | InterruptedException e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies.add(System.nanoTime() - begin);
+                    }
+                });
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+
+        LoadResult result = new LoadResult(name, new ArrayList<>(latencies), failures.get(), elapsedNanos);
+        result.print();
+        return result;
+    }
+
+    record LoadResult(String name, List<Long> latencies, int failures, long elapsedNanos) {
+
+        double successRate() {
+            return latencies.isEmpty() ? 0 : 1.0 - (double) failures / latencies.size();
+        }
+
+        long percentileMillis(double percentile) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index)) / 1_000_000;
+        }
+
+        void print() {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            System.out.printf("%-45s n=%d fail=%d p50=%dms p95=%dms p99=%dms throughput=%.1f req/s%n",
+                    name, latencies.size(), failures, percentileMillis(0.50), percentileMillis(0.95),
+                    percentileMillis(0.99), latencies.size() / seconds);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.travelingdog.backend.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelingdog.backend.config.FirebaseConfigTest;
+import com.travelingdog.backend.loadtest.LoadDriver.LoadResult;
+import com.travelingdog.backend.model.TravelPlan;
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.repository.TravelPlanRepository;
+import com.travelingdog.backend.repository.UserRepository;
+import com.travelingdog.backend.status.PlanStatus;
+
+/**
+ * 로깅 설정별 검색 엔드포인트 처리량 비교
+ *
+ * 같은 검색 요청을 로깅 모드만 바꿔 실행하고 처리량/지연을 출력합니다. 두 번 실행해 결과를 비교합니다.
+ *   legacy : 동기 콘솔 출력 + show-sql/format_sql + SQL DEBUG + 바인딩/트랜잭션 TRACE (이전 기본 설정)
+ *   async  : 비동기 appender + INFO (현재 기본 설정)
+ *
+ * 실행: ./gradlew loadTest --tests '*SearchLoggingLoadTest' -Dloadtest.logging=legacy
+ *       ./gradlew loadTest --tests '*SearchLoggingLoadTest' -Dloadtest.logging=async
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Import(FirebaseConfigTest.class)
+@Tag("load")
+public class SearchLoggingLoadTest {
+
+    private static final String LOGGING_MODE = System.getProperty("loadtest.logging", "async");
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 20);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 2000);
+    private static final int PLANS = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TravelPlanRepository travelPlanRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @DynamicPropertySource
+    static void loggingProperties(DynamicPropertyRegistry registry) {
+        // 테스트 프로필의 DEBUG 로거가 두 모드 모두를 덮지 않도록 공통 기준을 INFO로 맞추고, legacy만 다시 올림
+        LoadDriver.quietTestProfileLogging(registry);
+        registry.add("rate-limiting.enabled", () -> "false");
+
+        if ("legacy".equals(LOGGING_MODE)) {
+            registry.add("logging.appender", () -> "CONSOLE");
+            registry.add("spring.jpa.show-sql", () -> "true");
+            registry.add("spring.jpa.properties.hibernate.show_sql", () -> "true");
+            registry.add("spring.jpa.properties.hibernate.format_sql", () -> "true");
+            registry.add("logging.level.org.hibernate.SQL", () -> "DEBUG");
+            registry.add("logging.level.org.hibernate.orm.jdbc.bind", () -> "TRACE");
+            registry.add("logging.level.org.springframework.orm.jpa.JpaTransactionManager", () -> "DEBUG");
+            registry.add("logging.level.org.springframework.transaction", () -> "TRACE");
+        } else {
+            registry.add("logging.appender", () -> "ASYNC_CONSOLE");
+        }
+    }
+
+    @BeforeAll
+    static void printProfile() {
+        System.out.printf("search load profile: logging=%s, concurrency=%d, requests=%d%n", LOGGING_MODE,
+                CONCURRENCY, REQUESTS);
+    }
+
+    @BeforeEach
+    void setUp() {
+        if (travelPlanRepository.count() >= PLANS) {
+            return;
+        }
+        User author = userRepository.save(User.builder()
+                .email("search-loadtest@example.com")
+                .password("password")
+                .nickname("SearchLoadTester")
+                .build());
+        List<TravelPlan> plans = new ArrayList<>(PLANS);
+        for (int i = 0; i < PLANS; i++) {
+            plans.add(TravelPlan.builder()
+                    .title("후쿠오카 여행 " + i)
+                    .country("Japan")
+                    .city("Fukuoka")
+                    .startDate(LocalDate.now().plusDays(i % 30))
+                    .endDate(LocalDate.now().plusDays(i % 30 + 2))
+                    .status(PlanStatus.PUBLISHED)
+                    .user(author)
+                    .build());
+        }
+        travelPlanRepository.saveAll(plans);
+    }
+
+    @Test
+    @DisplayName("키워드 검색 엔드포인트 처리량")
+    void keywordSearch() throws Exception {
+        // 키워드 검색은 첫 페이지 응답 캐시를 거치지 않으므로 매 요청이 DB까지 내려감
+        String body = objectMapper.writeValueAsString(Map.of("keyword", "후쿠오카", "sortBy", "recent",
+                "page", 0, "size", 10));
+
+        LoadResult result = LoadDriver.run(httpClient, "POST /api/travel/plan/search (" + LOGGING_MODE + ")",
+                CONCURRENCY, REQUESTS, () -> search(body));
+        assertThat(result.successRate()).isEqualTo(1.0);
+    }
+
+    private HttpRequest search(String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/travel/plan/search"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
@@ -0,0 +1,210 @@
+package com.travelingdog.backend.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 부하 테스트용 로컬 Gemini/OpenAI 대역 서버
+ *
+ * 요청 본문 형태로 API를 구분합니다. (contents = Gemini generateContent, messages = OpenAI chat completions)
+ * 프롬프트 내용으로 여행 계획/당일 활동/맛집 중 어떤 응답을 줄지 고르고, 테스트 코퍼스(llm-responses)의 응답을 그대로 돌려줍니다.
+ * 지연 시간은 중앙값과 p99로 지정한 로그정규 분포를 따르며, 지정한 비율만큼 오류 상태 코드를 반환합니다.
+ * streamGenerateContent 또는 OpenAI "stream": true 요청에는 SSE로 나눠 보냅니다.
+ *
+ * 단독 실행: ./gradlew stubLlmServer -Dstub-llm.port=18080 -Dstub-llm.median-ms=800 -Dstub-llm.p99-ms=4000
+ */
+public class StubLlmServer implements AutoCloseable {
+
+    /**
+     * 지연/오류/스트리밍 설정
+     */
+    public record Profile(long medianMs, long p99Ms, double errorRate, int errorStatus, int streamChunks) {
+
+        public static Profile fromSystemProperties() {
+            return new Profile(
+                    Long.getLong("stub-llm.median-ms", 800),
+                    Long.getLong("stub-llm.p99-ms", 4000),
+                    Double.parseDouble(System.getProperty("stub-llm.error-rate", "0.0")),
+                    Integer.getInteger("stub-llm.error-status", 503),
+                    Integer.getInteger("stub-llm.stream-chunks", 8));
+        }
+
+        long sampleLatencyMs() {
+            if (medianMs <= 0) {
+                return 0;
+            }
+            // 로그정규 분포: p99 = median * exp(2.326 * sigma)
+            double sigma = p99Ms > medianMs ? Math.log((double) p99Ms / medianMs) / 2.326 : 0;
+            double sample = medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian());
+            return Math.round(sample);
+        }
+    }
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Map<String, String> CANNED_RESPONSES = Map.of(
+            "travel-plan", loadCorpus("/llm-responses/fukuoka-code-block.txt"),
+            "today-activity", loadCorpus("/llm-responses/today-activity/fukuoka-nearby.txt"),
+            "restaurant", loadCorpus("/llm-responses/restaurant/jeju-restaurants.txt"));
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Profile profile;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+
+    public StubLlmServer(int port, Profile profile) throws IOException {
+        this.profile = profile;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 256);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.incrementAndGet();
+            JsonNode body = OBJECT_MAPPER.readTree(exchange.getRequestBody());
+            sleep(profile.sampleLatencyMs());
+
+            if (ThreadLocalRandom.current().nextDouble() < profile.errorRate()) {
+                errorCount.incrementAndGet();
+                byte[] error = "{\"error\":{\"code\":503,\"message\":\"stub overloaded\"}}"
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(profile.errorStatus(), error.length);
+                exchange.getResponseBody().write(error);
+                return;
+            }
+
+            boolean openAi = body.has("messages");
+            String prompt = openAi ? lastMessage(body) : body.path("contents").path(0).path("parts").path(0)
+                    .path("text").asText("");
+            String text = CANNED_RESPONSES.get(classify(prompt));
+            boolean stream = exchange.getRequestURI().getPath().contains("streamGenerateContent")
+                    || body.path("stream").asBoolean(false);
+
+            if (stream) {
+                streamResponse(exchange, text, openAi);
+            } else {
+                byte[] payload = OBJECT_MAPPER.writeValueAsBytes(openAi ? openAiBody(text, false) : geminiBody(text));
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, payload.length);
+                exchange.getResponseBody().write(payload);
+            }
+        } catch (RuntimeException e) {
+            exchange.sendResponseHeaders(500, -1);
+        }
+    }
+
+    private void streamResponse(HttpExchange exchange, String text, boolean openAi) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        int chunks = Math.max(1, profile.streamChunks());
+        int chunkSize = (text.length() + chunks - 1) / chunks;
+        for (int start = 0; start < text.length(); start += chunkSize) {
+            String piece = text.substring(start, Math.min(text.length(), start + chunkSize));
+            Object event = openAi ? openAiBody(piece, true) : geminiBody(piece);
+            out.write(("data: " + OBJECT_MAPPER.writeValueAsString(event) + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            sleep(profile.medianMs() / chunks / 4);
+        }
+        if (openAi) {
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+        out.flush();
+    }
+
+    static String classify(String prompt) {
+        if (prompt.contains("당일 활동")) {
+            return "today-activity";
+        }
+        if (prompt.contains("맛집을 추천")) {
+            return "restaurant";
+        }
+        return "travel-plan";
+    }
+
+    private static String lastMessage(JsonNode body) {
+        JsonNode messages = body.path("messages");
+        return messages.path(messages.size() - 1).path("content").asText("");
+    }
+
+    private static Map<String, Object> geminiBody(String text) {
+        return Map.of("candidates", List.of(Map.of(
+                "content", Map.of("role", "model", "parts", List.of(Map.of("text", text))),
+                "finishReason", "STOP")));
+    }
+
+    private static Map<String, Object> openAiBody(String text, boolean delta) {
+        Map<String, Object> message = Map.of("role", "assistant", "content", text);
+        return Map.of(
+                "id", "chatcmpl-stub",
+                "object", delta ? "chat.completion.chunk" : "chat.completion",
+                "choices", List.of(Map.of("index", 0, delta ? "delta" : "message", message)));
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String loadCorpus(String resource) {
+        try (InputStream in = StubLlmServer.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("코퍼스를 찾을 수 없습니다: " + resource);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        StubLlmServer stub = new StubLlmServer(Integer.getInteger("stub-llm.port", 18080),
+                Profile.fromSystemProperties());
+        System.out.println("Stub LLM server listening on " + stub.baseUrl());
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,94 @@
+package com.travelingdog.backend.config;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.travelingdog.backend.service.AiStageTimer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 생성 요청 단계별 지연 조회 (GET /actuator/aistages)
+ *
+ * ai.request/ai.stage 타이머를 작업(operation) → 단계(stage) 순으로 묶어 건수, 오류 수, 평균/최대와
+ * p50/p95/p99(ms)를 보여줍니다. 요청 전체 구간은 "total" 단계로 표시합니다.
+ * 백분위수는 application.yml의 management.metrics.distribution.percentiles 설정값을 사용합니다.
+ */
+@Component
+@Endpoint(id = "aistages")
+@RequiredArgsConstructor
+public class AiStageMetricsEndpoint {
+
+    static final String TOTAL_STAGE = "total";
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, Map<String, StageStats>> stages() {
+        Map<String, Map<String, StageStats>> result = new TreeMap<>();
+        for (Timer timer : meterRegistry.find(AiStageTimer.REQUEST_METRIC).timers()) {
+            add(result, timer, TOTAL_STAGE);
+        }
+        for (Timer timer : meterRegistry.find(AiStageTimer.STAGE_METRIC).timers()) {
+            add(result, timer, timer.getId().getTag("stage"));
+        }
+        return result;
+    }
+
+    private static void add(Map<String, Map<String, StageStats>> result, Timer timer, String stage) {
+        String operation = timer.getId().getTag("operation");
+        if (operation == null || stage == null) {
+            return;
+        }
+        // Observation 타이머는 error 태그별로 나뉘므로, 백분위수는 성공 구간 기준으로 보여주고 실패는 건수만 합산
+        boolean failed = isFailure(timer);
+        result.computeIfAbsent(operation, key -> new TreeMap<>())
+                .merge(stage, StageStats.of(timer, failed), StageStats::merge);
+    }
+
+    private static boolean isFailure(Timer timer) {
+        String error = timer.getId().getTag("error");
+        return error != null && !"none".equals(error);
+    }
+
+    /**
+     * 단계 하나의 지연 통계 (ms, 백분위수가 설정되지 않았으면 null)
+     */
+    public record StageStats(long count, long errors, double meanMs, double maxMs, Double p50Ms, Double p95Ms,
+            Double p99Ms) {
+
+        static StageStats of(Timer timer, boolean failed) {
+            if (failed) {
+                return new StageStats(0, timer.count(), 0, 0, null, null, null);
+            }
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            return new StageStats(timer.count(), 0, snapshot.mean(TimeUnit.MILLISECONDS),
+                    snapshot.max(TimeUnit.MILLISECONDS), percentile(snapshot, 0.5), percentile(snapshot, 0.95),
+                    percentile(snapshot, 0.99));
+        }
+
+        StageStats merge(StageStats other) {
+            StageStats success = count > 0 ? this : other;
+            return new StageStats(count + other.count, errors + other.errors, success.meanMs, success.maxMs,
+                    success.p50Ms, success.p95Ms, success.p99Ms);
+        }
+
+        private static Double percentile(HistogramSnapshot snapshot, double percentile) {
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                if (Math.abs(value.percentile() - percentile) < 1e-9) {
+                    return value.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return null;
+        }
+    }
+}
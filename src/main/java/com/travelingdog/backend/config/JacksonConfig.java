@@ -0,0 +1,26 @@
+package com.travelingdog.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * 공용 ObjectMapper 설정
+ *
+ * 서비스, HTTP 메시지 컨버터, RestClient가 모두 이 매퍼를 사용합니다.
+ * Blackbird는 리플렉션 대신 LambdaMetafactory로 만든 접근자를 써서 게터/세터 호출 비용을 줄입니다.
+ * 필드 이름 정규화/인턴은 Jackson 기본값으로 이미 켜져 있으므로 따로 설정하지 않습니다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Module 빈은 Spring Boot가 공용 ObjectMapper에 자동 등록
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,65 @@
+package com.travelingdog.backend.config;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * 대량 로그 카테고리 샘플링 필터 (logback-spring.xml에서 비동기 appender 앞에 등록)
+ *
+ * 지정한 로거(접두사 일치)의 {@code level} 이하 이벤트는 N건 중 1건만 통과시킵니다. 그보다 높은 레벨(WARN/ERROR)과
+ * 다른 로거의 이벤트는 그대로 통과합니다. 큐에 넣기 전에 버리므로 버려진 이벤트는 포맷/출력 비용이 없습니다.
+ */
+public class LogSamplingFilter extends Filter<ILoggingEvent> {
+
+    private String[] loggers = new String[0];
+    private int rate = 100;
+    private Level level = Level.INFO;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        if (rate <= 1 || event.getLevel().toInt() > level.toInt() || !isSampled(event.getLoggerName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return sequence.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(String loggerName) {
+        for (String prefix : loggers) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 샘플링할 로거 이름 접두사 (쉼표 구분)
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * N건 중 1건 통과 (1 이하면 샘플링하지 않음)
+     */
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    /**
+     * 이 레벨 이하의 이벤트만 샘플링
+     */
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+}
@@ -0,0 +1,266 @@
+package com.travelingdog.backend.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 요청/리포지토리 메소드 단위 쿼리 집계
+ *
+ * 샘플링된 요청(또는 요청 밖의 리포지토리 호출)마다 스레드에 {@link Tally}를 두고, Hibernate가 준비하는 SQL 문장,
+ * 로딩한 엔티티, 2차 캐시 조회, 느린 문장을 셉니다. 요청이 끝나면 엔드포인트별로 Micrometer에 기록합니다.
+ * 같은 SQL이 한 요청에서 임계값 이상 반복되면 N+1로 보고 처음 임계값을 넘긴 호출 위치를 로그로 남깁니다.
+ * 샘플링되지 않은 요청은 스레드에 표시만 남겨, 요청 안의 리포지토리 호출이 다시 샘플링되지 않게 합니다.
+ * (표시가 없으면 요청 밖 호출로 보고 호출마다 샘플링하므로 실제 비율보다 많이 집계됨)
+ */
+public class QueryMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMetrics.class);
+
+    private static final String APP_PACKAGE = "com.travelingdog.backend.";
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    // Hibernate가 리플렉션으로 만드는 리스너에서도 접근해야 하므로 static
+    private static final ThreadLocal<Tally> CURRENT = new ThreadLocal<>();
+
+    // 샘플링되지 않은 요청 표시. 집계하지 않으므로 current()는 null을 돌려줌
+    private static final Tally UNSAMPLED = new Tally("unsampled", Long.MAX_VALUE, Integer.MAX_VALUE);
+
+    private final MeterRegistry meterRegistry;
+    private final double sampleRate;
+    private final long slowStatementNanos;
+    private final int nPlusOneThreshold;
+
+    public QueryMetrics(MeterRegistry meterRegistry, double sampleRate, long slowStatementMs, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.sampleRate = sampleRate;
+        this.slowStatementNanos = TimeUnit.MILLISECONDS.toNanos(slowStatementMs);
+        this.nPlusOneThreshold = Math.max(2, nPlusOneThreshold);
+    }
+
+    /**
+     * 현재 스레드의 집계 (샘플링되지 않았으면 null)
+     */
+    static Tally current() {
+        Tally tally = CURRENT.get();
+        return tally == UNSAMPLED ? null : tally;
+    }
+
+    /**
+     * 요청 집계를 시작합니다. 샘플링되지 않아도 요청 중임을 표시하므로 반드시 {@link #endRequest}로 끝내야 합니다.
+     *
+     * @return 시작된 집계, 샘플링되지 않았으면 null
+     */
+    Tally beginRequest(String label) {
+        Tally tally = begin(label);
+        if (tally == null) {
+            CURRENT.set(UNSAMPLED);
+        }
+        return tally;
+    }
+
+    /**
+     * 샘플링에 당첨되면 현재 스레드에 집계를 시작합니다.
+     *
+     * @param label 느린 문장/N+1 로그에 남길 요청 식별자 (예: "GET /api/travel/plan/3")
+     * @return 시작된 집계, 샘플링되지 않았으면 null
+     */
+    Tally begin(String label) {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return null;
+        }
+        Tally tally = new Tally(label, slowStatementNanos, nPlusOneThreshold);
+        CURRENT.set(tally);
+        return tally;
+    }
+
+    /**
+     * 요청 집계를 끝내고 엔드포인트별 메트릭을 기록합니다. 샘플링되지 않은 요청(tally가 null)은 표시만 지웁니다.
+     *
+     * @param uri    매핑된 URI 패턴 (카디널리티를 제한하기 위해 실제 경로가 아닌 패턴을 사용)
+     * @param method HTTP 메소드
+     */
+    void endRequest(Tally tally, String uri, String method) {
+        CURRENT.remove();
+        if (tally == null) {
+            return;
+        }
+
+        summary("db.request.statements", "uri", uri, "method", method).record(tally.statements);
+        summary("db.request.entity_loads", "uri", uri, "method", method).record(tally.entityLoads);
+        if (tally.cacheHits + tally.cacheMisses > 0) {
+            Counter.builder("db.request.cache_gets").tags("uri", uri, "result", "hit")
+                    .register(meterRegistry).increment(tally.cacheHits);
+            Counter.builder("db.request.cache_gets").tags("uri", uri, "result", "miss")
+                    .register(meterRegistry).increment(tally.cacheMisses);
+        }
+        if (tally.slowStatements > 0) {
+            Counter.builder("db.request.slow_statements").tags("uri", uri, "method", method)
+                    .register(meterRegistry).increment(tally.slowStatements);
+        }
+        if (!tally.nPlusOneSites.isEmpty()) {
+            Counter.builder("db.request.n_plus_one").tags("uri", uri, "method", method)
+                    .register(meterRegistry).increment(tally.nPlusOneSites.size());
+            tally.nPlusOneSites.forEach((sql, site) -> log.warn("N+1 의심: {} {} - 같은 쿼리 {}회, 호출 위치 {}, SQL: {}",
+                    method, uri, tally.statementCounts.get(sql), site, abbreviate(sql)));
+        }
+    }
+
+    /**
+     * 리포지토리 메소드 한 번의 실행 구간을 기록합니다.
+     * 요청 안에서는 요청 집계의 증가분을, 요청 밖(스케줄러 등)에서는 샘플링된 호출만 기록합니다.
+     * 샘플링되지 않은 요청 안에서는 기록하지 않습니다.
+     */
+    <T> T recordRepositoryCall(String repository, String method, RepositoryCall<T> call) throws Throwable {
+        Tally tally = CURRENT.get();
+        if (tally == UNSAMPLED) {
+            return call.proceed();
+        }
+        boolean standalone = tally == null;
+        if (standalone) {
+            tally = begin(repository + "." + method);
+            if (tally == null) {
+                return call.proceed();
+            }
+        }
+
+        int statementsBefore = tally.statements;
+        int loadsBefore = tally.entityLoads;
+        try {
+            return call.proceed();
+        } finally {
+            summary("db.repository.statements", "repository", repository, "method", method)
+                    .record(tally.statements - statementsBefore);
+            summary("db.repository.entity_loads", "repository", repository, "method", method)
+                    .record(tally.entityLoads - loadsBefore);
+            if (standalone) {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Hibernate에 등록할 StatementInspector. SQL은 바꾸지 않고 집계만 합니다.
+     */
+    StatementInspector statementInspector() {
+        return sql -> {
+            Tally tally = current();
+            if (tally != null) {
+                tally.statement(sql);
+            }
+            return sql;
+        };
+    }
+
+    private DistributionSummary summary(String name, String... tags) {
+        return DistributionSummary.builder(name).tags(tags).register(meterRegistry);
+    }
+
+    static String abbreviate(String sql) {
+        String flattened = sql.replaceAll("\\s+", " ").trim();
+        return flattened.length() <= MAX_LOGGED_SQL_LENGTH ? flattened
+                : flattened.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    @FunctionalInterface
+    interface RepositoryCall<T> {
+        T proceed() throws Throwable;
+    }
+
+    /**
+     * 한 요청(스레드) 동안의 쿼리 집계. 한 스레드에서만 접근하므로 동기화하지 않습니다.
+     */
+    static final class Tally {
+
+        private final String label;
+        private final long slowStatementNanos;
+        private final int nPlusOneThreshold;
+
+        int statements;
+        int entityLoads;
+        int cacheHits;
+        int cacheMisses;
+        int slowStatements;
+
+        // 같은 SQL 문자열의 실행 횟수와, N+1 임계값을 처음 넘긴 호출 위치
+        final Map<String, Integer> statementCounts = new HashMap<>();
+        final Map<String, String> nPlusOneSites = new HashMap<>();
+
+        private String lastSql;
+        private long executeStartNanos;
+
+        Tally(String label, long slowStatementNanos, int nPlusOneThreshold) {
+            this.label = label;
+            this.slowStatementNanos = slowStatementNanos;
+            this.nPlusOneThreshold = nPlusOneThreshold;
+        }
+
+        void statement(String sql) {
+            statements++;
+            lastSql = sql;
+            int count = statementCounts.merge(sql, 1, Integer::sum);
+            // 스택 추적은 임계값을 처음 넘는 순간 SQL당 한 번만
+            if (count == nPlusOneThreshold) {
+                nPlusOneSites.put(sql, callSite());
+            }
+        }
+
+        void entityLoaded() {
+            entityLoads++;
+        }
+
+        void cacheGet(boolean hit) {
+            if (hit) {
+                cacheHits++;
+            } else {
+                cacheMisses++;
+            }
+        }
+
+        void executeStart() {
+            executeStartNanos = System.nanoTime();
+        }
+
+        void executeEnd() {
+            if (executeStartNanos == 0) {
+                return;
+            }
+            long elapsed = System.nanoTime() - executeStartNanos;
+            executeStartNanos = 0;
+            if (elapsed >= slowStatementNanos) {
+                slowStatements++;
+                log.warn("느린 쿼리: {} - {}ms, SQL: {}", label, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                        lastSql == null ? "(알 수 없음)" : abbreviate(lastSql));
+            }
+        }
+
+        /**
+         * 쿼리를 일으킨 애플리케이션 코드 위치 (집계/프록시 클래스 제외)
+         */
+        private static String callSite() {
+            return StackWalker.getInstance().walk(frames -> frames
+                    .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE))
+                    .filter(frame -> !isInstrumentation(frame.getClassName()))
+                    .findFirst()
+                    .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                    .orElse("(알 수 없음)"));
+        }
+
+        private static boolean isInstrumentation(String className) {
+            return className.contains("$$")
+                    || className.equals(QueryMetrics.class.getName())
+                    || className.startsWith(QueryMetrics.class.getName() + "$")
+                    || className.startsWith(QueryMetricsConfig.class.getName())
+                    || className.equals(QueryMetricsSessionListener.class.getName());
+        }
+    }
+}
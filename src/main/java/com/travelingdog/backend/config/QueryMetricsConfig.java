@@ -0,0 +1,134 @@
+package com.travelingdog.backend.config;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 쿼리 메트릭 수집 설정
+ *
+ * Hibernate StatementInspector/세션 이벤트 리스너/엔티티 로드 리스너로 쿼리를 세고, API 요청 필터와
+ * 리포지토리 프록시에서 구간을 나눠 {@link QueryMetrics}로 기록합니다. 결과는 actuator의 metrics 엔드포인트
+ * (db.request.*, db.repository.*)로 확인합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "query-metrics.enabled", havingValue = "true")
+public class QueryMetricsConfig {
+
+    @Bean
+    public QueryMetrics queryMetrics(MeterRegistry meterRegistry,
+            @Value("${query-metrics.sample-rate:0.1}") double sampleRate,
+            @Value("${query-metrics.slow-statement-ms:200}") long slowStatementMs,
+            @Value("${query-metrics.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        return new QueryMetrics(meterRegistry, sampleRate, slowStatementMs, nPlusOneThreshold);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsHibernateCustomizer(QueryMetrics queryMetrics) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryMetrics.statementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    QueryMetricsSessionListener.class.getName());
+        };
+    }
+
+    /**
+     * 엔티티 로드 리스너 등록 (세션 팩토리가 만들어진 뒤에만 이벤트 레지스트리에 접근 가능)
+     */
+    @Bean
+    public SmartInitializingSingleton queryMetricsLoadListener(EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            PostLoadEventListener listener = event -> {
+                QueryMetrics.Tally tally = QueryMetrics.current();
+                if (tally != null) {
+                    tally.entityLoaded();
+                }
+            };
+            entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry()
+                    .getService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, listener);
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> queryMetricsFilter(QueryMetrics queryMetrics) {
+        FilterRegistrationBean<OncePerRequestFilter> registrationBean = new FilterRegistrationBean<>();
+
+        registrationBean.setFilter(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request,
+                    HttpServletResponse response,
+                    FilterChain filterChain)
+                    throws ServletException, IOException {
+
+                // 샘플링되지 않은 요청도 표시가 남으므로 항상 endRequest로 정리
+                QueryMetrics.Tally tally = queryMetrics.beginRequest(
+                        request.getMethod() + " " + request.getRequestURI());
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    // 경로 변수 값이 태그로 쌓이지 않도록 매핑된 URI 패턴 사용
+                    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    queryMetrics.endRequest(tally, pattern != null ? pattern.toString() : "UNKNOWN",
+                            request.getMethod());
+                }
+            }
+        });
+
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2); // 속도 제한 필터 다음 순서
+        registrationBean.addUrlPatterns("/api/*");
+        return registrationBean;
+    }
+
+    /**
+     * 모든 Spring Data 리포지토리 프록시에 메소드 단위 쿼리 집계를 추가합니다.
+     * (BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 QueryMetrics는 첫 호출 때 조회)
+     */
+    @Bean
+    public static BeanPostProcessor queryMetricsRepositoryPostProcessor(ObjectProvider<QueryMetrics> queryMetrics) {
+        Supplier<QueryMetrics> metrics = SingletonSupplier.of(queryMetrics::getObject);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> {
+                                String repository = repositoryInformation.getRepositoryInterface().getSimpleName();
+                                proxyFactory.addAdvice((MethodInterceptor) invocation -> metrics.get()
+                                        .recordRepositoryCall(repository, invocation.getMethod().getName(),
+                                                invocation::proceed));
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+}
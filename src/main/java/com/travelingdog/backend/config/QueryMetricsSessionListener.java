@@ -0,0 +1,45 @@
+package com.travelingdog.backend.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션 단위 JDBC 실행/2차 캐시 이벤트를 현재 요청의 쿼리 집계로 전달합니다.
+ *
+ * Hibernate가 세션마다 기본 생성자로 만들기 때문에 스레드의 집계를 직접 조회합니다.
+ */
+public class QueryMetricsSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        QueryMetrics.Tally tally = QueryMetrics.current();
+        if (tally != null) {
+            tally.executeStart();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryMetrics.Tally tally = QueryMetrics.current();
+        if (tally != null) {
+            tally.executeEnd();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        QueryMetrics.Tally tally = QueryMetrics.current();
+        if (tally != null) {
+            tally.cacheGet(hit);
+        }
+    }
+}
@@ -7,8 +7,11 @@ import org.springframework.web.client.RestClient;
 @Configuration
 public class RestClientConfig {
 
+    /**
+     * 자동 구성된 빌더를 써야 공용 ObjectMapper(JacksonConfig)로 응답 본문을 스트림에서 바로 역직렬화함
+     */
     @Bean
-    public RestClient restClient() {
-        return RestClient.create();
+    public RestClient restClient(RestClient.Builder builder) {
+        return builder.build();
     }
 }
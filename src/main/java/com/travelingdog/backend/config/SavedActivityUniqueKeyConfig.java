@@ -0,0 +1,70 @@
+package com.travelingdog.backend.config;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 저장 활동 중복 제거 후 (사용자, 활동명, 카테고리) 유니크 인덱스를 생성합니다.
+ *
+ * 유니크 제약 이전에 쌓인 중복 행이 있으면 ddl-auto: update의 제약 추가가 실패하고, 제약 없이는
+ * ON CONFLICT (user_id, location_name, category)가 동작하지 않습니다. 그래서 인덱스가 없을 때만 기동 시 한 번
+ * 가장 먼저 저장된 행(최소 id)만 남기고 지운 뒤 같은 이름의 유니크 인덱스를 만듭니다. 지운 건수만큼 사용자 집계도 줄입니다.
+ * PostgreSQL에서만 실행하고 H2 등 다른 DB에서는 건너뜁니다.
+ */
+@Configuration
+public class SavedActivityUniqueKeyConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SavedActivityUniqueKeyConfig.class);
+
+    static final String UNIQUE_INDEX = "uk_saved_activity_user_location_category";
+
+    private static final String DELETE_DUPLICATES = "WITH removed AS ("
+            + " DELETE FROM saved_activity a USING saved_activity b"
+            + " WHERE a.user_id = b.user_id AND a.location_name = b.location_name AND a.category = b.category"
+            + " AND a.id > b.id"
+            + " RETURNING a.user_id)"
+            + " UPDATE user_stats s SET saved_activity_count = s.saved_activity_count - r.removed_count"
+            + " FROM (SELECT user_id, COUNT(*) AS removed_count FROM removed GROUP BY user_id) r"
+            + " WHERE s.user_id = r.user_id";
+
+    private static final String CREATE_UNIQUE_INDEX = "CREATE UNIQUE INDEX IF NOT EXISTS " + UNIQUE_INDEX
+            + " ON saved_activity (user_id, location_name, category)";
+
+    @Bean
+    public ApplicationRunner savedActivityUniqueKeyInitializer(DataSource dataSource) {
+        return args -> {
+            String product;
+            try (Connection connection = dataSource.getConnection()) {
+                product = connection.getMetaData().getDatabaseProductName();
+            }
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                log.debug("{}에서는 저장 활동 중복 제거를 건너뜁니다.", product);
+                return;
+            }
+
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                    UNIQUE_INDEX);
+            if (Boolean.TRUE.equals(exists)) {
+                return;
+            }
+
+            try {
+                int affectedUsers = jdbcTemplate.update(DELETE_DUPLICATES);
+                log.info("저장 활동 중복 제거 완료 - 집계를 보정한 사용자: {}", affectedUsers);
+                jdbcTemplate.execute(CREATE_UNIQUE_INDEX);
+            } catch (RuntimeException e) {
+                // 중복 제거와 인덱스 생성 사이에 새 중복이 들어오면 실패할 수 있으며, 다음 기동 때 다시 시도
+                log.warn("저장 활동 유니크 인덱스 생성 실패: {}", e.getMessage());
+            }
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.travelingdog.backend.config;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 좌표 컬럼의 GiST 인덱스를 생성합니다.
+ *
+ * JPA @Index로는 인덱스 방식(USING GIST)을 지정할 수 없어 기동 시 PostgreSQL(PostGIS)에서만 직접 생성합니다.
+ * H2 등 다른 DB에서는 건너뜁니다.
+ */
+@Configuration
+public class SpatialIndexConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SpatialIndexConfig.class);
+
+    private static final String[] SPATIAL_INDEX_DDL = {
+            "CREATE INDEX IF NOT EXISTS idx_itinerary_activity_location ON itinerary_activity USING GIST (location)",
+            "CREATE INDEX IF NOT EXISTS idx_saved_activity_location ON saved_activity USING GIST (location)"
+    };
+
+    @Bean
+    public ApplicationRunner spatialIndexInitializer(DataSource dataSource) {
+        return args -> {
+            String product;
+            try (Connection connection = dataSource.getConnection()) {
+                product = connection.getMetaData().getDatabaseProductName();
+            }
+            if (!"PostgreSQL".equalsIgnoreCase(product)) {
+                log.debug("{}에서는 GiST 인덱스 생성을 건너뜁니다.", product);
+                return;
+            }
+
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            for (String ddl : SPATIAL_INDEX_DDL) {
+                try {
+                    jdbcTemplate.execute(ddl);
+                } catch (RuntimeException e) {
+                    log.warn("공간 인덱스 생성 실패: {} - {}", ddl, e.getMessage());
+                }
+            }
+        };
+    }
+}
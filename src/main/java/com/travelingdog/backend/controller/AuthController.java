@@ -90,7 +90,7 @@ public class AuthController {
                                 .sameSite("None")
                                 .build();
 
-                UserProfileDTO profile = UserProfileDTO.fromEntity(user, null);
+                UserProfileDTO profile = UserProfileDTO.fromEntity(user);
 
                 return ResponseEntity.status(HttpStatus.OK)
                                 .header(HttpHeaders.SET_COOKIE, accessTokenCookie.toString())
@@ -131,7 +131,7 @@ public class AuthController {
                                 .sameSite("None")
                                 .build();
 
-                UserProfileDTO profile = UserProfileDTO.fromEntity(user, null);
+                UserProfileDTO profile = UserProfileDTO.fromEntity(user);
 
                 return ResponseEntity.status(HttpStatus.OK)
                                 .header(HttpHeaders.SET_COOKIE, accessTokenCookie.toString())
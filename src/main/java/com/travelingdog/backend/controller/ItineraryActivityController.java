@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.travelingdog.backend.dto.itinerary.ItineraryActivityBatchRequest;
 import com.travelingdog.backend.dto.itinerary.ItineraryActivityCreateRequest;
 import com.travelingdog.backend.dto.itinerary.ItineraryActivityResponseDTO;
 import com.travelingdog.backend.dto.itinerary.ItineraryActivityUpdateRequest;
@@ -104,6 +105,29 @@ public class ItineraryActivityController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdActivity);
     }
 
+    @Operation(summary = "활동 일괄 편집", description = "한 일정에 활동 생성/수정/삭제/이동 작업을 한 트랜잭션으로 적용합니다. 하나라도 실패하면 전체가 취소됩니다.", security = {
+            @SecurityRequirement(name = "bearerAuth") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "적용 성공 (위치 순 활동 목록)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "접근 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "일정 또는 활동을 찾을 수 없음")
+    })
+    @PostMapping("/itinerary/{id}/batch")
+    public ResponseEntity<List<ItineraryActivityResponseDTO>> applyBatch(
+            @Parameter(description = "일정 ID", required = true) @PathVariable("id") Long id,
+            @Parameter(description = "적용할 작업 목록", required = true) @Valid @RequestBody ItineraryActivityBatchRequest request,
+            @AuthenticationPrincipal User user) {
+
+        if (user == null) {
+            throw new UnauthorizedException("인증이 필요한 요청입니다.");
+        }
+
+        List<ItineraryActivityResponseDTO> activities = activityService.applyBatch(id, request, user);
+        return ResponseEntity.ok(activities);
+    }
+
     @Operation(summary = "활동 수정", description = "기존 활동을 수정합니다.", security = {
             @SecurityRequirement(name = "bearerAuth") })
     @ApiResponses(value = {
@@ -0,0 +1,54 @@
+package com.travelingdog.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.travelingdog.backend.dto.nearby.NearbySearchResponseDTO;
+import com.travelingdog.backend.exception.UnauthorizedException;
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.service.NearbySearchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/nearby")
+@RequiredArgsConstructor
+@Tag(name = "주변 장소", description = "현재 위치 주변의 여행 활동/저장 장소 조회 API")
+public class NearbyController {
+
+    private final NearbySearchService nearbySearchService;
+
+    @Operation(summary = "주변 장소 조회", description = "현재 위치에서 가까운 순으로 공개/내 여행 계획의 활동과 내가 저장한 장소를 조회합니다.", security = {
+            @SecurityRequirement(name = "bearerAuth") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = NearbySearchResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 좌표/반경"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping
+    public ResponseEntity<NearbySearchResponseDTO> getNearby(
+            @Parameter(description = "위도", required = true) @RequestParam("lat") double latitude,
+            @Parameter(description = "경도", required = true) @RequestParam("lng") double longitude,
+            @Parameter(description = "검색 반경(m)") @RequestParam(value = "radius", defaultValue = "3000") int radiusMeters,
+            @Parameter(description = "최대 결과 수") @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @AuthenticationPrincipal User user) {
+
+        if (user == null) {
+            throw new UnauthorizedException("인증이 필요한 요청입니다.");
+        }
+
+        return ResponseEntity.ok(nearbySearchService.findNearby(latitude, longitude, radiusMeters, limit, user));
+    }
+}
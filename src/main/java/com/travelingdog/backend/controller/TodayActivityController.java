@@ -1,6 +1,10 @@
 package com.travelingdog.backend.controller;
 
+import com.travelingdog.backend.dto.CursorPageResponse;
+import com.travelingdog.backend.dto.todayActivity.DeleteActivitiesResponseDTO;
+import com.travelingdog.backend.dto.todayActivity.SaveActivitiesResponseDTO;
 import com.travelingdog.backend.dto.todayActivity.SaveActivityRequestDTO;
+import com.travelingdog.backend.dto.todayActivity.SavedActivityCountsDTO;
 import com.travelingdog.backend.dto.todayActivity.SavedActivityResponseDTO;
 import com.travelingdog.backend.dto.todayActivity.TodayActivityRequestDTO;
 import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO;
@@ -101,24 +105,59 @@ public class TodayActivityController {
         }
     }
 
+    @PostMapping("/save/bulk")
+    @Operation(summary = "활동 일괄 저장", description = "추천받은 활동 여러 개를 한 번에 저장합니다. 항목별 결과(SAVED, DUPLICATE, INVALID)를 요청 순서대로 돌려줍니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 성공 (항목별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "빈 요청 또는 최대 개수 초과"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<SaveActivitiesResponseDTO> saveActivities(
+            @Parameter(description = "저장할 활동 목록 (최대 100개)", required = true) @RequestBody List<SaveActivityRequestDTO> requests,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        log.info("활동 일괄 저장 요청 - 사용자: {}, 개수: {}",
+                user != null ? user.getEmail() : "anonymous", requests.size());
+
+        try {
+            SaveActivitiesResponseDTO response = todayActivityService.saveActivities(requests, user);
+
+            log.info("활동 일괄 저장 성공 - 사용자: {}, 저장: {}, 중복: {}",
+                    user.getEmail(), response.getSavedCount(), response.getDuplicateCount());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("활동 일괄 저장 실패 - 사용자: {}, 오류: {}",
+                    user != null ? user.getEmail() : "anonymous",
+                    e.getMessage());
+            throw e;
+        }
+    }
+
     @GetMapping("/saved")
-    @Operation(summary = "저장된 활동 목록 조회", description = "사용자가 저장한 모든 활동 목록을 조회합니다.")
+    @Operation(summary = "저장된 활동 목록 조회", description = "사용자가 저장한 활동 목록을 최신순으로 커서 기반 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<List<SavedActivityResponseDTO>> getSavedActivities(
+    public ResponseEntity<CursorPageResponse<SavedActivityResponseDTO>> getSavedActivities(
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size,
             @Parameter(hidden = true) @AuthenticationPrincipal User user) {
 
         log.info("저장된 활동 목록 조회 요청 - 사용자: {}",
                 user != null ? user.getEmail() : "anonymous");
 
         try {
-            List<SavedActivityResponseDTO> response = todayActivityService.getSavedActivities(user);
+            CursorPageResponse<SavedActivityResponseDTO> response = todayActivityService.getSavedActivities(user,
+                    cursor, size);
 
             log.info("저장된 활동 목록 조회 성공 - 사용자: {}, 개수: {}",
-                    user.getEmail(), response.size());
+                    user.getEmail(), response.getContent().size());
 
             return ResponseEntity.ok(response);
 
@@ -131,25 +170,28 @@ public class TodayActivityController {
     }
 
     @GetMapping("/saved/category/{category}")
-    @Operation(summary = "카테고리별 저장된 활동 조회", description = "특정 카테고리의 저장된 활동 목록을 조회합니다.")
+    @Operation(summary = "카테고리별 저장된 활동 조회", description = "특정 카테고리의 저장된 활동 목록을 최신순으로 커서 기반 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<List<SavedActivityResponseDTO>> getSavedActivitiesByCategory(
+    public ResponseEntity<CursorPageResponse<SavedActivityResponseDTO>> getSavedActivitiesByCategory(
             @Parameter(description = "카테고리명", required = true) @PathVariable String category,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size,
             @Parameter(hidden = true) @AuthenticationPrincipal User user) {
 
         log.info("카테고리별 저장된 활동 조회 요청 - 사용자: {}, 카테고리: {}",
                 user != null ? user.getEmail() : "anonymous", category);
 
         try {
-            List<SavedActivityResponseDTO> response = todayActivityService
-                    .getSavedActivitiesByCategory(user, category);
+            CursorPageResponse<SavedActivityResponseDTO> response = todayActivityService
+                    .getSavedActivitiesByCategory(user, category, cursor, size);
 
             log.info("카테고리별 저장된 활동 조회 성공 - 사용자: {}, 카테고리: {}, 개수: {}",
-                    user.getEmail(), category, response.size());
+                    user.getEmail(), category, response.getContent().size());
 
             return ResponseEntity.ok(response);
 
@@ -195,6 +237,37 @@ public class TodayActivityController {
         }
     }
 
+    @DeleteMapping("/saved")
+    @Operation(summary = "저장된 활동 일괄 삭제", description = "저장된 활동 여러 개를 한 번에 삭제합니다. 항목별 결과(DELETED, NOT_FOUND)를 요청 순서대로 돌려줍니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 성공 (항목별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "빈 요청 또는 최대 개수 초과"),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<DeleteActivitiesResponseDTO> deleteSavedActivities(
+            @Parameter(description = "삭제할 활동 ID 목록 (최대 100개)", required = true) @RequestParam List<Long> ids,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        log.info("저장된 활동 일괄 삭제 요청 - 사용자: {}, 개수: {}",
+                user != null ? user.getEmail() : "anonymous", ids.size());
+
+        try {
+            DeleteActivitiesResponseDTO response = todayActivityService.deleteSavedActivities(ids, user);
+
+            log.info("저장된 활동 일괄 삭제 성공 - 사용자: {}, 삭제: {}",
+                    user.getEmail(), response.getDeletedCount());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("저장된 활동 일괄 삭제 실패 - 사용자: {}, 오류: {}",
+                    user != null ? user.getEmail() : "anonymous",
+                    e.getMessage());
+            throw e;
+        }
+    }
+
     @GetMapping("/saved/count")
     @Operation(summary = "저장된 활동 개수 조회", description = "사용자가 저장한 활동의 총 개수를 조회합니다.")
     public ResponseEntity<Long> getSavedActivityCount(
@@ -204,6 +277,14 @@ public class TodayActivityController {
         return ResponseEntity.ok(count);
     }
 
+    @GetMapping("/saved/counts")
+    @Operation(summary = "카테고리별 저장된 활동 개수 조회", description = "사용자가 저장한 활동의 전체 개수와 카테고리별 개수를 한 번에 조회합니다.")
+    public ResponseEntity<SavedActivityCountsDTO> getSavedActivityCounts(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+
+        return ResponseEntity.ok(todayActivityService.getSavedActivityCounts(user));
+    }
+
     @GetMapping("/health")
     @Operation(summary = "서비스 상태 확인", description = "당일 활동 추천 서비스의 상태를 확인합니다.")
     public ResponseEntity<String> healthCheck() {
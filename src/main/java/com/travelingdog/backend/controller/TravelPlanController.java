@@ -1,13 +1,18 @@
 package com.travelingdog.backend.controller;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -15,6 +20,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.travelingdog.backend.dto.travelPlan.ItineraryDTO;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanDTO;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanRequest;
@@ -23,6 +30,8 @@ import com.travelingdog.backend.dto.travelPlan.TravelPlanSearchResponse;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanUpdateRequest;
 import com.travelingdog.backend.exception.UnauthorizedException;
 import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.service.SearchResponseCache;
+import com.travelingdog.backend.service.SearchResponseCache.CachedSearchPage;
 import com.travelingdog.backend.service.TravelPlanService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -43,6 +52,12 @@ public class TravelPlanController {
         @Autowired
         private TravelPlanService travelPlanService;
 
+        @Autowired
+        private SearchResponseCache searchResponseCache;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
         @Operation(summary = "여행 계획 생성", description = "국가, 도시, 여행 날짜를 입력받아 여행 계획을 생성합니다.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "여행 계획 생성 성공", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ItineraryDTO.class)))),
@@ -84,12 +99,42 @@ public class TravelPlanController {
                         @Parameter(description = "검색 조건", required = false) @RequestBody(required = false) TravelPlanSearchRequest searchRequest) {
 
                 // 요청이 null인 경우 기본값으로 초기화
-                if (searchRequest == null) {
-                        searchRequest = new TravelPlanSearchRequest();
+                TravelPlanSearchRequest request = searchRequest != null ? searchRequest : new TravelPlanSearchRequest();
+
+                // 필터 없는 앞쪽 페이지는 서버 캐시의 응답을 사용 (POST 응답은 공유 캐시 대상이 아니므로 캐시 헤더 없음)
+                TravelPlanSearchResponse response = searchResponseCache.lookup(request)
+                                .map(CachedSearchPage::response)
+                                .orElseGet(() -> travelPlanService.searchTravelPlans(request));
+                return ResponseEntity.ok(response);
+        }
+
+        @Operation(summary = "여행 계획 검색 (캐시 가능)", description = "검색 조건을 쿼리 파라미터로 받습니다. 필터 없는 앞쪽 페이지는 Cache-Control/ETag와 함께 응답해 CDN과 브라우저가 캐시할 수 있습니다.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "여행 계획 검색 성공", content = @Content(schema = @Schema(implementation = TravelPlanSearchResponse.class))),
+                        @ApiResponse(responseCode = "304", description = "If-None-Match와 일치 (변경 없음)"),
+                        @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+                        @ApiResponse(responseCode = "500", description = "서버 오류")
+        })
+        @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+        public ResponseEntity<byte[]> searchTravelPlansCacheable(
+                        @Parameter(description = "검색 조건") @ModelAttribute TravelPlanSearchRequest searchRequest)
+                        throws JsonProcessingException {
+
+                // 필터 없는 앞쪽 페이지는 미리 직렬화된 응답을 그대로 반환 (CDN 캐시 허용)
+                // If-None-Match 비교(약한 ETag, 목록 포함)와 304 응답은 ResponseEntity의 ETag로 Spring MVC가 처리
+                Optional<CachedSearchPage> cachedPage = searchResponseCache.lookup(searchRequest);
+                if (cachedPage.isPresent()) {
+                        CachedSearchPage page = cachedPage.get();
+                        return ResponseEntity.ok()
+                                        .cacheControl(CacheControl
+                                                        .maxAge(searchResponseCache.getMaxAgeSeconds(), TimeUnit.SECONDS)
+                                                        .cachePublic())
+                                        .eTag(page.etag())
+                                        .body(page.body());
                 }
 
                 TravelPlanSearchResponse response = travelPlanService.searchTravelPlans(searchRequest);
-                return ResponseEntity.ok(response);
+                return ResponseEntity.ok(objectMapper.writeValueAsBytes(response));
         }
 
         @Operation(summary = "여행 계획 좋아요 조회", description = "여행 계획을 좋아요 조회합니다.")
@@ -4,13 +4,17 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.travelingdog.backend.dto.CursorPageResponse;
 import com.travelingdog.backend.dto.UserProfileDTO;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSummaryDTO;
 import com.travelingdog.backend.model.User;
 import com.travelingdog.backend.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,7 +31,7 @@ public class UserController {
 
     private final UserService userService;
 
-    @Operation(summary = "사용자 프로필 조회", description = "현재 인증된 사용자의 프로필 정보를 조회합니다.", security = {
+    @Operation(summary = "사용자 프로필 조회", description = "현재 인증된 사용자의 프로필 정보와 집계(여행 계획 수, 받은 좋아요 수, 저장한 활동 수)를 조회합니다.", security = {
             @SecurityRequirement(name = "bearerAuth") })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "프로필 조회 성공", content = @Content(schema = @Schema(implementation = UserProfileDTO.class))),
@@ -39,4 +43,18 @@ public class UserController {
         UserProfileDTO profile = userService.getUserProfile(user);
         return ResponseEntity.ok(profile);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "내 여행 계획 목록 조회", description = "현재 인증된 사용자의 여행 계획 요약을 최신순으로 커서 기반 페이지 조회합니다. 삭제된 계획은 제외됩니다.", security = {
+            @SecurityRequirement(name = "bearerAuth") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/profile/travel-plans")
+    public ResponseEntity<CursorPageResponse<TravelPlanSummaryDTO>> getProfileTravelPlans(
+            @AuthenticationPrincipal User user,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.getTravelPlanSummaries(user, cursor, size));
+    }
+}
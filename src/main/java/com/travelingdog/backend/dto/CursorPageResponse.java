@@ -0,0 +1,33 @@
+package com.travelingdog.backend.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커서 기반 페이지 응답 (다음 요청의 cursor로 nextCursor를 그대로 넘김, 커서 형식은 API마다 다름)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content; // 현재 페이지 결과
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+
+    /**
+     * size + 1개를 조회한 결과로 페이지를 만듭니다. 초과분이 있으면 다음 페이지가 있는 것으로 봅니다.
+     */
+    public static <T> CursorPageResponse<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageResponse<>(content, nextCursor, hasNext);
+    }
+}
@@ -2,14 +2,17 @@ package com.travelingdog.backend.dto;
 
 import java.util.List;
 
-import com.travelingdog.backend.dto.travelPlan.TravelPlanDTO;
 import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.model.UserStats;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * 사용자 프로필 헤더 (여행 계획 목록은 /api/user/profile/travel-plans에서 커서 기반으로 조회)
+ */
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,16 +23,24 @@ public class UserProfileDTO {
     private String nickname;
     private String preferredTravelStyle;
     private List<String> favoriteDestinations;
-    private List<TravelPlanDTO> travelPlans;
+    private long planCount; // 삭제되지 않은 여행 계획 수
+    private long likesReceivedCount; // 내 여행 계획이 받은 좋아요 수
+    private long savedActivityCount; // 저장한 활동 수
 
-    public static UserProfileDTO fromEntity(User user, List<TravelPlanDTO> travelPlans) {
+    public static UserProfileDTO fromEntity(User user) {
+        return fromEntity(user, null);
+    }
+
+    public static UserProfileDTO fromEntity(User user, UserStats stats) {
         return UserProfileDTO.builder()
                 .id(user.getId())
                 .email(user.getEmail())
                 .nickname(user.getNickname())
                 .preferredTravelStyle(user.getPreferredTravelStyle())
                 .favoriteDestinations(user.getFavoriteDestinations())
-                .travelPlans(travelPlans)
+                .planCount(stats != null ? stats.getPlanCount() : 0)
+                .likesReceivedCount(stats != null ? stats.getLikesReceivedCount() : 0)
+                .savedActivityCount(stats != null ? stats.getSavedActivityCount() : 0)
                 .build();
     }
-}
\ No newline at end of file
+}
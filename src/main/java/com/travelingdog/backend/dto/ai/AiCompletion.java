@@ -0,0 +1,22 @@
+package com.travelingdog.backend.dto.ai;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 공급자 응답 (생성된 텍스트와 공급자가 보고한 토큰 사용량)
+ *
+ * 공급자가 사용량을 주지 않으면 토큰 수는 null입니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiCompletion {
+    private String text;
+    private Integer inputTokens;
+    private Integer outputTokens;
+    private Integer cachedInputTokens;
+}
@@ -0,0 +1,33 @@
+package com.travelingdog.backend.dto.ai;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공급자에 무관한 AI 텍스트 생성 요청
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiCompletionRequest {
+    /** 메트릭 태그용 요청 종류 (travel-plan, today-activity, restaurant) */
+    private String purpose;
+    /** 요청마다 바뀌지 않는 공통 지시사항. 항상 요청 앞부분에 보내 공급자의 자동 접두사 캐시에 걸리게 함 */
+    private String systemPrompt;
+    private String prompt;
+    @Builder.Default
+    private float temperature = 0.3f;
+    @Builder.Default
+    private int topK = 1;
+    @Builder.Default
+    private int topP = 1;
+    @Builder.Default
+    private int maxOutputTokens = 4096;
+    /** 응답 JSON 스키마. 지정하면 공급자에 JSON 전용 출력을 요청해 응답을 바로 역직렬화할 수 있음 */
+    private Map<String, Object> responseSchema;
+}
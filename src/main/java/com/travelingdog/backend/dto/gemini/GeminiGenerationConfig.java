@@ -1,5 +1,9 @@
 package com.travelingdog.backend.dto.gemini;
 
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,4 +18,10 @@ public class GeminiGenerationConfig {
     private int topK;
     private int topP;
     private int maxOutputTokens;
+    // application/json으로 지정하면 코드 블록이나 설명 없이 JSON만 반환
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String responseMimeType;
+    // 출력 JSON 스키마 (ResponseSchemaGenerator로 DTO에서 생성)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Object> responseSchema;
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.travelingdog.backend.dto.gemini;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,4 +16,6 @@ import lombok.NoArgsConstructor;
 public class GeminiRequest {
     private List<GeminiContent> contents;
     private GeminiGenerationConfig generationConfig;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private GeminiContent systemInstruction;
 }
\ No newline at end of file
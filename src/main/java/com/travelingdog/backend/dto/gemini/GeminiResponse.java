@@ -13,4 +13,5 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class GeminiResponse {
     private List<GeminiCandidate> candidates;
+    private GeminiUsageMetadata usageMetadata;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.travelingdog.backend.dto.gemini;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeminiUsageMetadata {
+    private Integer promptTokenCount;
+    private Integer candidatesTokenCount;
+    private Integer cachedContentTokenCount;
+    private Integer totalTokenCount;
+}
@@ -1,11 +1,18 @@
 package com.travelingdog.backend.dto.gpt;
 
 import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 public class AIChatRequest {
     private String model;
     private List<AIChatMessage> messages;
     private double temperature;
+    private Integer max_tokens;
+    // {"type": "json_object"}로 지정하면 JSON만 반환
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, String> response_format;
 
     public String getModel() {
         return model;
@@ -30,4 +37,20 @@ public class AIChatRequest {
     public void setTemperature(double temperature) {
         this.temperature = temperature;
     }
+
+    public Integer getMax_tokens() {
+        return max_tokens;
+    }
+
+    public void setMax_tokens(Integer max_tokens) {
+        this.max_tokens = max_tokens;
+    }
+
+    public Map<String, String> getResponse_format() {
+        return response_format;
+    }
+
+    public void setResponse_format(Map<String, String> response_format) {
+        this.response_format = response_format;
+    }
 }
\ No newline at end of file
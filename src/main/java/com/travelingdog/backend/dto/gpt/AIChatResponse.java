@@ -4,6 +4,7 @@ import java.util.List;
 
 public class AIChatResponse {
     private List<Choice> choices;
+    private Usage usage;
 
     public List<Choice> getChoices() {
         return choices;
@@ -13,6 +14,14 @@ public class AIChatResponse {
         this.choices = choices;
     }
 
+    public Usage getUsage() {
+        return usage;
+    }
+
+    public void setUsage(Usage usage) {
+        this.usage = usage;
+    }
+
     public static class Choice {
         private AIChatMessage message;
         private String finish_reason;
@@ -42,4 +51,25 @@ public class AIChatResponse {
             this.index = index;
         }
     }
+
+    public static class Usage {
+        private Integer prompt_tokens;
+        private Integer completion_tokens;
+
+        public Integer getPrompt_tokens() {
+            return prompt_tokens;
+        }
+
+        public void setPrompt_tokens(Integer prompt_tokens) {
+            this.prompt_tokens = prompt_tokens;
+        }
+
+        public Integer getCompletion_tokens() {
+            return completion_tokens;
+        }
+
+        public void setCompletion_tokens(Integer completion_tokens) {
+            this.completion_tokens = completion_tokens;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.travelingdog.backend.dto.itinerary;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 일정의 활동 생성/수정/삭제/이동을 한 번에 적용하는 요청 (요청 순서대로 적용, 하나라도 실패하면 전체 취소)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItineraryActivityBatchRequest {
+
+    @NotEmpty(message = "적용할 작업이 없습니다")
+    @Size(max = 100, message = "한 번에 최대 100개의 작업만 적용할 수 있습니다")
+    @Valid
+    private List<Operation> operations;
+
+    public enum OperationType {
+        CREATE, UPDATE, DELETE, MOVE
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+
+        @NotNull(message = "작업 종류는 필수입니다")
+        private OperationType type;
+
+        private Long activityId; // UPDATE, DELETE, MOVE 대상 활동 ID
+
+        @Size(min = 2, max = 100, message = "활동 제목은 2-100자 사이여야 합니다")
+        private String title; // CREATE 필수, UPDATE는 null이면 유지
+
+        @Size(max = 500, message = "설명은 최대 500자까지 가능합니다")
+        private String description;
+
+        @Size(min = 2, max = 100, message = "활동 위치명은 2-100자 사이여야 합니다")
+        private String locationName; // CREATE 필수, UPDATE는 null이면 유지
+
+        @Min(value = 0, message = "위치는 0 이상이어야 합니다")
+        private Integer position; // MOVE 필수, CREATE는 null이면 맨 뒤
+    }
+}
@@ -21,6 +21,7 @@ public class ItineraryActivityResponseDTO {
     private String description;
     private String locationName;
     private Long itineraryId;
+    private Integer position;
 
     /**
      * 엔티티를 DTO로 변환
@@ -32,6 +33,7 @@ public class ItineraryActivityResponseDTO {
                 .description(activity.getDescription())
                 .locationName(activity.getLocationName())
                 .itineraryId(activity.getItinerary() != null ? activity.getItinerary().getId() : null)
+                .position(activity.getPosition())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.travelingdog.backend.dto.knowledge;
+
+/**
+ * 여행지 지식 저장소 수집용 장소 조회(native query) 결과 프로젝션
+ */
+public interface HarvestedPlaceProjection {
+
+    Long getId();
+
+    String getCity();
+
+    String getLocationName();
+
+    String getCategory();
+
+    String getTitle();
+}
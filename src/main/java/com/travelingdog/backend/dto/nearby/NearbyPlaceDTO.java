@@ -0,0 +1,35 @@
+package com.travelingdog.backend.dto.nearby;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyPlaceDTO {
+
+    private Long id;
+    private String title;
+    private String locationName;
+    private String category;
+    private Long travelPlanId; // 여행 계획 활동인 경우에만 존재
+    private Double latitude;
+    private Double longitude;
+    private Double distanceMeters;
+
+    public static NearbyPlaceDTO fromProjection(NearbyPlaceProjection projection) {
+        return NearbyPlaceDTO.builder()
+                .id(projection.getId())
+                .title(projection.getTitle())
+                .locationName(projection.getLocationName())
+                .category(projection.getCategory())
+                .travelPlanId(projection.getTravelPlanId())
+                .latitude(projection.getLatitude())
+                .longitude(projection.getLongitude())
+                .distanceMeters(projection.getDistanceMeters())
+                .build();
+    }
+}
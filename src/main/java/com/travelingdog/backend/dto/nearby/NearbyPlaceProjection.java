@@ -0,0 +1,23 @@
+package com.travelingdog.backend.dto.nearby;
+
+/**
+ * 근처 장소 KNN 조회(native query) 결과 프로젝션
+ */
+public interface NearbyPlaceProjection {
+
+    Long getId();
+
+    String getTitle();
+
+    String getLocationName();
+
+    String getCategory();
+
+    Long getTravelPlanId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    Double getDistanceMeters();
+}
@@ -0,0 +1,21 @@
+package com.travelingdog.backend.dto.nearby;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbySearchResponseDTO {
+
+    private Double latitude;
+    private Double longitude;
+    private Integer radiusMeters;
+    private List<NearbyPlaceDTO> planActivities; // 공개 계획 + 내 계획의 활동
+    private List<NearbyPlaceDTO> savedActivities; // 내가 저장한 장소
+}
@@ -0,0 +1,25 @@
+package com.travelingdog.backend.dto.todayActivity;
+
+import com.travelingdog.backend.status.BulkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeleteActivitiesResponseDTO {
+
+    private int deletedCount; // 삭제된 개수
+    private List<Result> results; // 요청 순서와 같은 항목별 결과
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private Long id;
+        private BulkItemStatus status; // DELETED, NOT_FOUND (없거나 다른 사용자의 활동)
+    }
+}
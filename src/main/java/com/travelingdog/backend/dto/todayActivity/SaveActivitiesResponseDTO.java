@@ -0,0 +1,28 @@
+package com.travelingdog.backend.dto.todayActivity;
+
+import com.travelingdog.backend.status.BulkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaveActivitiesResponseDTO {
+
+    private int savedCount; // 새로 저장된 개수
+    private int duplicateCount; // 이미 저장되어 있던 개수 (요청 안의 중복 포함)
+    private List<Result> results; // 요청 순서와 같은 항목별 결과
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private String locationName;
+        private String category;
+        private BulkItemStatus status; // SAVED, DUPLICATE, INVALID
+        private SavedActivityResponseDTO activity; // 저장된 활동 (INVALID면 null)
+    }
+}
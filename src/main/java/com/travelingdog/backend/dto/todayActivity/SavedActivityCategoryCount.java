@@ -0,0 +1,11 @@
+package com.travelingdog.backend.dto.todayActivity;
+
+/**
+ * 카테고리별 저장 활동 개수 조회(GROUP BY) 결과 프로젝션
+ */
+public interface SavedActivityCategoryCount {
+
+    String getCategory();
+
+    Long getCount();
+}
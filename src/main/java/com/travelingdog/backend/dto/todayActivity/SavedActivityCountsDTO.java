@@ -0,0 +1,34 @@
+package com.travelingdog.backend.dto.todayActivity;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavedActivityCountsDTO {
+
+    private long total; // 전체 저장 활동 개수
+    private Map<String, Long> byCategory; // 카테고리별 개수 (개수 많은 순)
+
+    /**
+     * 카테고리별 집계 결과로 DTO를 만듭니다. 전체 개수는 카테고리별 개수의 합입니다.
+     */
+    public static SavedActivityCountsDTO from(List<SavedActivityCategoryCount> counts) {
+        Map<String, Long> byCategory = new LinkedHashMap<>();
+        long total = 0;
+        List<SavedActivityCategoryCount> sorted = counts.stream()
+                .sorted((a, b) -> Long.compare(b.getCount(), a.getCount()))
+                .toList();
+        for (SavedActivityCategoryCount count : sorted) {
+            byCategory.put(count.getCategory(), count.getCount());
+            total += count.getCount();
+        }
+        return new SavedActivityCountsDTO(total, byCategory);
+    }
+}
@@ -40,7 +40,7 @@ public class ItineraryDTO {
             return null;
         }
 
-        return Itinerary.builder()
+        Itinerary itinerary = Itinerary.builder()
                 .id(dto.getId())
                 .location(dto.getLocation() != null ? dto.getLocation() : "")
                 .date(dto.getDate())
@@ -48,6 +48,8 @@ public class ItineraryDTO {
                         .map(ItineraryActivityDTO::toEntity)
                         .collect(Collectors.toList()))
                 .build();
+        itinerary.renumberActivities();
+        return itinerary;
     }
 
 }
\ No newline at end of file
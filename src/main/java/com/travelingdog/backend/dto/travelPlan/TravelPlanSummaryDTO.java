@@ -0,0 +1,31 @@
+package com.travelingdog.backend.dto.travelPlan;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.travelingdog.backend.status.PlanStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여행 계획 목록용 요약 (일정/연관 엔티티 없이 travel_plan 컬럼만 프로젝션 쿼리로 조회)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelPlanSummaryDTO {
+    private Long id;
+    private String title;
+    private String country;
+    private String city;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private PlanStatus status;
+    private Integer likeCount;
+    private Integer viewCount;
+    private LocalDateTime createdAt;
+}
@@ -2,6 +2,7 @@ package com.travelingdog.backend.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -30,7 +31,7 @@ public class AccommodationRecommendation {
     @Column(name = "location_name", nullable = false)
     private String locationName;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "travel_plan_id")
     private TravelPlan travelPlan;
 }
\ No newline at end of file
@@ -17,7 +17,7 @@ public class AccommodationType {
     @Column(nullable = false)
     private String name;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "travel_plan_id")
     private TravelPlan travelPlan;
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.travelingdog.backend.model;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import com.travelingdog.backend.dto.AIRecommendedItineraryDTO;
@@ -8,12 +9,16 @@ import com.travelingdog.backend.dto.AIRecommendedItineraryDTO;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,6 +27,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+// 일정 편집/활동 목록 조회용: 활동을 함께 조회
+@NamedEntityGraph(name = Itinerary.WITH_ACTIVITIES, attributeNodes = @NamedAttributeNode("activities"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,6 +36,8 @@ import lombok.Setter;
 @Builder
 public class Itinerary {
 
+    public static final String WITH_ACTIVITIES = "Itinerary.withActivities";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,14 +51,16 @@ public class Itinerary {
     private String location; // 일정 위치(지역명)
 
     @OneToMany(mappedBy = "itinerary", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("position ASC, id ASC")
     @Builder.Default
     private List<ItineraryActivity> activities = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "travel_plan_id")
     private TravelPlan travelPlan; // 여행 계획과의 관계
 
     public void addActivity(ItineraryActivity activity) {
+        activity.setPosition(activities.size());
         activities.add(activity);
         activity.setItinerary(this);
     }
@@ -59,6 +70,30 @@ public class Itinerary {
         activity.setItinerary(null);
     }
 
+    /**
+     * 현재 목록 순서대로 활동 위치를 0부터 다시 매깁니다.
+     */
+    public void renumberActivities() {
+        for (int i = 0; i < activities.size(); i++) {
+            activities.get(i).setPosition(i);
+        }
+    }
+
+    /**
+     * 순서 도입 전에 저장되어 위치가 null인 활동이 있으면 위치를 채웁니다.
+     * 위치가 null인 활동은 예전 표시 순서(id 순)대로 앞에 두고, 위치가 있는 활동은 그 뒤에 위치 순으로 둔 뒤 다시 매깁니다.
+     * (PostgreSQL은 ASC 정렬에서 null을 마지막에 두므로, 채우지 않으면 새로 추가한 활동이 예전 활동보다 앞에 보임)
+     */
+    public void backfillActivityPositions() {
+        if (activities.stream().noneMatch(activity -> activity.getPosition() == null)) {
+            return;
+        }
+        activities.sort(Comparator
+                .comparing(ItineraryActivity::getPosition, Comparator.nullsFirst(Comparator.<Integer>naturalOrder()))
+                .thenComparing(ItineraryActivity::getId, Comparator.nullsLast(Comparator.<Long>naturalOrder())));
+        renumberActivities();
+    }
+
     public static Itinerary fromDto(AIRecommendedItineraryDTO dto, TravelPlan travelPlan) {
         Itinerary itinerary = new Itinerary();
         itinerary.setDate(dto.getDate());
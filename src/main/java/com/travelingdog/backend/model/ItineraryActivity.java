@@ -1,12 +1,20 @@
 package com.travelingdog.backend.model;
 
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import org.locationtech.jts.geom.Point;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +22,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_itinerary_activity_itinerary_position", columnList = "itinerary_id, position")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,7 +48,28 @@ public class ItineraryActivity {
     @Column
     private String cost; // 예상 비용
 
-    @ManyToOne
+    @Column(columnDefinition = "geometry(Point,4326)")
+    private Point location; // 지오코딩된 좌표 (WGS84, 지오코딩 전에는 null)
+
+    @Column(name = "geocoded_at")
+    private LocalDateTime geocodedAt; // 지오코딩 시도 시각 (좌표를 찾지 못해도 기록)
+
+    @Column(name = "position")
+    private Integer position; // 일정 안에서의 순서 (0부터, 순서 도입 전 데이터는 null)
+
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "itinerary_id")
     private Itinerary itinerary;
+
+    /**
+     * 위치 이름을 변경합니다. 실제로 바뀐 경우 기존 좌표와 지오코딩 시각을 비워 지오코딩 작업이 다시 처리하게 합니다.
+     */
+    public void changeLocationName(String locationName) {
+        if (Objects.equals(this.locationName, locationName)) {
+            return;
+        }
+        this.locationName = locationName;
+        this.location = null;
+        this.geocodedAt = null;
+    }
 }
\ No newline at end of file
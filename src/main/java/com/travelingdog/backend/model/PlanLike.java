@@ -3,8 +3,10 @@ package com.travelingdog.backend.model;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
@@ -17,6 +19,8 @@ import lombok.Setter;
 @Entity
 @Table(uniqueConstraints = {
         @UniqueConstraint(columnNames = { "user_id", "travel_plan_id" })
+}, indexes = {
+        @Index(name = "idx_plan_like_liked_at", columnList = "liked_at")
 })
 @Builder
 @Getter
@@ -28,10 +32,10 @@ public class PlanLike {
     @GeneratedValue
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private TravelPlan travelPlan;
 
     private LocalDateTime likedAt;
@@ -1,5 +1,9 @@
 package com.travelingdog.backend.model;
 
+import java.time.LocalDateTime;
+
+import org.locationtech.jts.geom.Point;
+
 import com.travelingdog.backend.auditing.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -9,7 +13,13 @@ import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "saved_activity")
+@Table(name = "saved_activity", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_saved_activity_user_location_category",
+                columnNames = { "user_id", "location_name", "category" })
+}, indexes = {
+        @Index(name = "idx_saved_activity_user_created_at", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_saved_activity_user_category_created_at", columnList = "user_id, category, created_at, id")
+})
 @Data
 @EqualsAndHashCode(callSuper = false)
 @Builder
@@ -34,4 +44,10 @@ public class SavedActivity extends BaseTimeEntity {
     // 저장할 때의 위치 정보 (참고용)
     @Column(name = "saved_location")
     private String savedLocation;
+
+    @Column(columnDefinition = "geometry(Point,4326)")
+    private Point location; // 지오코딩된 좌표 (WGS84, 지오코딩 전에는 null)
+
+    @Column(name = "geocoded_at")
+    private LocalDateTime geocodedAt; // 지오코딩 시도 시각 (좌표를 찾지 못해도 기록)
 }
\ No newline at end of file
@@ -19,9 +19,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotNull;
@@ -32,6 +36,17 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_travel_plan_status_hot_score", columnList = "status, hot_score"),
+        @Index(name = "idx_travel_plan_user_id_id", columnList = "user_id, id")
+})
+// 목록/검색용: 작성자만 함께 조회 (컬렉션은 default_batch_fetch_size로 페이지 단위 일괄 조회)
+@NamedEntityGraph(name = TravelPlan.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
+// 상세 조회용: 작성자와 일정을 함께 조회 (List 컬렉션은 하나만 fetch join 가능)
+@NamedEntityGraph(name = TravelPlan.DETAIL, attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("itineraries")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -39,6 +54,9 @@ import lombok.Setter;
 @Builder
 public class TravelPlan extends BaseTimeEntity {
 
+    public static final String WITH_USER = "TravelPlan.withUser";
+    public static final String DETAIL = "TravelPlan.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -67,7 +85,7 @@ public class TravelPlan extends BaseTimeEntity {
     @Column(name = "transportation_tips", length = 500)
     private String transportationTips; // 교통 팁
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user; // 사용자와의 관계
 
@@ -103,6 +121,11 @@ public class TravelPlan extends BaseTimeEntity {
     @Builder.Default
     private Integer viewCount = 0;
 
+    // 시간 감쇠가 적용된 인기 점수 (TrendingRankingService가 주기적으로 갱신)
+    @Column(name = "hot_score", columnDefinition = "double precision default 0")
+    @Builder.Default
+    private Double hotScore = 0.0;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -0,0 +1,38 @@
+package com.travelingdog.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 집계 (프로필 헤더용)
+ *
+ * 계획 생성/삭제, 좋아요, 활동 저장/삭제 시점에 원자적 UPDATE로 증감하므로 조회 시 다시 세지 않습니다.
+ * users 테이블에 두면 사용자 엔티티 저장 시 오래된 값으로 덮어쓸 수 있어 별도 테이블로 둡니다.
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "plan_count", nullable = false)
+    private long planCount; // 삭제되지 않은 여행 계획 수
+
+    @Column(name = "likes_received_count", nullable = false)
+    private long likesReceivedCount; // 삭제되지 않은 계획이 받은 좋아요 수
+
+    @Column(name = "saved_activity_count", nullable = false)
+    private long savedActivityCount; // 저장한 활동 수
+}
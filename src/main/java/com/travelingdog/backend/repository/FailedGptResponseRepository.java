@@ -6,6 +6,6 @@ import org.springframework.stereotype.Repository;
 import com.travelingdog.backend.model.FailedGptResponse;
 
 @Repository
-public interface FailedGptResponseRepository extends JpaRepository<FailedGptResponse, Long> {
+public interface FailedGptResponseRepository extends JpaRepository<FailedGptResponse, Long>, FailedGptResponseRepositoryCustom {
     // 기본 CRUD 메서드 외에 필요한 메서드가 있다면 여기에 추가
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.travelingdog.backend.repository;
+
+import java.util.List;
+
+import com.travelingdog.backend.model.FailedGptResponse;
+
+/**
+ * JPA 메서드로 표현할 수 없는 실패 응답 일괄 처리 (JDBC 배치)
+ */
+public interface FailedGptResponseRepositoryCustom {
+
+    /**
+     * 실패 응답 여러 건을 하나의 JDBC 배치로 저장합니다.
+     * IDENTITY 키 엔티티는 Hibernate가 INSERT를 배치로 묶지 않으므로 saveAll 대신 사용합니다. 생성된 ID는 엔티티에 채워지지 않습니다.
+     *
+     * @param responses 저장할 실패 응답 목록
+     */
+    void batchInsert(List<FailedGptResponse> responses);
+}
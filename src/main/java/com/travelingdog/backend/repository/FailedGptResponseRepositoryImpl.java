@@ -0,0 +1,32 @@
+package com.travelingdog.backend.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.travelingdog.backend.model.FailedGptResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class FailedGptResponseRepositoryImpl implements FailedGptResponseRepositoryCustom {
+
+    private static final String INSERT = "INSERT INTO failed_gpt_response"
+            + " (prompt, response, error_message, timestamp) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<FailedGptResponse> responses) {
+        if (responses.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, responses, responses.size(), (ps, response) -> {
+            ps.setString(1, response.getPrompt());
+            ps.setString(2, response.getResponse());
+            ps.setString(3, response.getErrorMessage());
+            ps.setTimestamp(4, response.getTimestamp() == null ? null : Timestamp.valueOf(response.getTimestamp()));
+        });
+    }
+}
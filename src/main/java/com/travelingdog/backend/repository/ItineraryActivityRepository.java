@@ -1,11 +1,85 @@
 package com.travelingdog.backend.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.travelingdog.backend.dto.knowledge.HarvestedPlaceProjection;
+import com.travelingdog.backend.dto.nearby.NearbyPlaceProjection;
 import com.travelingdog.backend.model.ItineraryActivity;
 
 @Repository
 public interface ItineraryActivityRepository extends JpaRepository<ItineraryActivity, Long> {
 
+    /**
+     * 아직 지오코딩을 시도하지 않은 활동 조회
+     *
+     * @param pageable 배치 크기
+     * @return 지오코딩 대상 활동 목록 (지역 힌트로 쓰는 일정을 함께 조회)
+     */
+    @EntityGraph(attributePaths = { "itinerary" })
+    List<ItineraryActivity> findByGeocodedAtIsNull(Pageable pageable);
+
+    /**
+     * 기준 좌표에서 가까운 순으로 활동 조회 (PostGIS KNN, GiST 인덱스 사용)
+     *
+     * 내부 쿼리는 `<->` 연산자로 인덱스를 타며 후보를 limit개만 읽고, 외부 쿼리에서 실제 거리(m)로 반경을 거릅니다.
+     *
+     * @param latitude     기준 위도
+     * @param longitude    기준 경도
+     * @param radiusMeters 검색 반경(m)
+     * @param userId       조회 사용자 ID (본인의 비공개 계획 포함)
+     * @param limit        최대 결과 수
+     * @return 거리순 활동 목록
+     */
+    @Query(value = "SELECT t.* FROM ("
+            + " SELECT a.id AS \"id\", a.title AS \"title\", a.location_name AS \"locationName\","
+            + " CAST(NULL AS varchar) AS \"category\", p.id AS \"travelPlanId\","
+            + " ST_Y(a.location) AS \"latitude\", ST_X(a.location) AS \"longitude\","
+            + " ST_DistanceSphere(a.location, ST_SetSRID(ST_MakePoint(:longitude, :latitude), 4326)) AS \"distanceMeters\""
+            + " FROM itinerary_activity a"
+            + " JOIN itinerary i ON i.id = a.itinerary_id"
+            + " JOIN travel_plan p ON p.id = i.travel_plan_id"
+            + " WHERE a.location IS NOT NULL"
+            + " AND (p.status = 'PUBLISHED' OR (p.user_id = :userId AND p.status <> 'DELETED'))"
+            + " ORDER BY a.location <-> ST_SetSRID(ST_MakePoint(:longitude, :latitude), 4326)"
+            + " LIMIT :limit) t"
+            + " WHERE t.\"distanceMeters\" <= :radiusMeters"
+            + " ORDER BY t.\"distanceMeters\"", nativeQuery = true)
+    List<NearbyPlaceProjection> findNearby(@Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("radiusMeters") double radiusMeters,
+            @Param("userId") Long userId,
+            @Param("limit") int limit);
+
+    /**
+     * 여행지 지식 저장소 증분 수집용 활동 조회 (ID 순, 삭제된 계획 제외)
+     *
+     * 활동에는 카테고리가 없으므로 category는 null이고, 도시는 여행 계획의 도시를 씁니다.
+     *
+     * @param afterId 마지막으로 수집한 활동 ID
+     * @param limit   최대 결과 수
+     * @return afterId 이후의 활동 목록
+     */
+    @Query(value = "SELECT a.id AS \"id\", p.city AS \"city\", a.location_name AS \"locationName\","
+            + " CAST(NULL AS varchar) AS \"category\", a.title AS \"title\""
+            + " FROM itinerary_activity a"
+            + " JOIN itinerary i ON i.id = a.itinerary_id"
+            + " JOIN travel_plan p ON p.id = i.travel_plan_id"
+            + " WHERE a.id > :afterId AND p.status <> 'DELETED'"
+            + " ORDER BY a.id"
+            + " LIMIT :limit", nativeQuery = true)
+    List<HarvestedPlaceProjection> findHarvestBatch(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 활동이 속한 여행 계획의 작성자 ID만 조회 (권한 검증용, 기본키 조인만 사용하고 엔티티를 읽지 않음)
+     */
+    @Query("SELECT p.user.id FROM ItineraryActivity a JOIN a.itinerary i JOIN i.travelPlan p WHERE a.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
 }
@@ -1,8 +1,12 @@
 package com.travelingdog.backend.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.travelingdog.backend.model.Itinerary;
@@ -10,4 +14,16 @@ import com.travelingdog.backend.model.Itinerary;
 @Repository
 public interface ItineraryRepository extends JpaRepository<Itinerary, Long> {
     List<Itinerary> findAllByTravelPlanIdOrderByDateAsc(Long travelPlanId);
+
+    /**
+     * 활동 목록 조회/일정 편집용 조회 (활동을 함께 조회)
+     */
+    @EntityGraph(Itinerary.WITH_ACTIVITIES)
+    Optional<Itinerary> findWithActivitiesById(Long id);
+
+    /**
+     * 일정이 속한 여행 계획의 작성자 ID만 조회 (권한 검증용, 엔티티를 읽지 않음)
+     */
+    @Query("SELECT p.user.id FROM Itinerary i JOIN i.travelPlan p WHERE i.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
 }
@@ -1,10 +1,14 @@
 package com.travelingdog.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.travelingdog.backend.model.PlanLike;
@@ -40,4 +44,22 @@ public interface PlanLikeRepository extends JpaRepository<PlanLike, Long> {
      * @return 좋아요 존재 여부
      */
     boolean existsByUserAndTravelPlan(User user, TravelPlan travelPlan);
+
+    /**
+     * 특정 시점 이후 좋아요가 발생한 여행 계획 ID 목록을 조회합니다.
+     * 
+     * @param since 기준 시각
+     * @return 여행 계획 ID 목록
+     */
+    @Query("SELECT DISTINCT l.travelPlan.id FROM PlanLike l WHERE l.likedAt >= :since")
+    List<Long> findTravelPlanIdsLikedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 여행 계획별 좋아요 시각을 조회합니다. [travelPlanId, likedAt]
+     * 
+     * @param travelPlanIds 여행 계획 ID 목록
+     * @return 여행 계획 ID와 좋아요 시각 배열 목록
+     */
+    @Query("SELECT l.travelPlan.id, l.likedAt FROM PlanLike l WHERE l.travelPlan.id IN :travelPlanIds")
+    List<Object[]> findLikedAtByTravelPlanIds(@Param("travelPlanIds") Collection<Long> travelPlanIds);
 }
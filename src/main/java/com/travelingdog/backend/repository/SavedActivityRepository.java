@@ -1,27 +1,63 @@
 package com.travelingdog.backend.repository;
 
+import com.travelingdog.backend.dto.knowledge.HarvestedPlaceProjection;
+import com.travelingdog.backend.dto.nearby.NearbyPlaceProjection;
+import com.travelingdog.backend.dto.todayActivity.SavedActivityCategoryCount;
 import com.travelingdog.backend.model.SavedActivity;
 import com.travelingdog.backend.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SavedActivityRepository extends JpaRepository<SavedActivity, Long> {
+public interface SavedActivityRepository extends JpaRepository<SavedActivity, Long>, SavedActivityRepositoryCustom {
 
     /**
-     * 사용자별 저장된 활동 목록 조회 (최신순)
+     * 사용자별 저장된 활동 목록 커서 조회 (최신순, (created_at, id) 키셋, idx_saved_activity_user_created_at 사용)
+     *
+     * @param userId    사용자 ID
+     * @param createdAt 이전 페이지 마지막 항목의 저장 시각
+     * @param id        이전 페이지 마지막 항목의 ID
+     * @param limit     최대 결과 수
+     * @return 커서 이후의 저장 활동 목록
      */
-    List<SavedActivity> findByUserOrderByCreatedAtDesc(User user);
+    @Query(value = "SELECT sa.* FROM saved_activity sa"
+            + " WHERE sa.user_id = :userId AND (sa.created_at, sa.id) < (:createdAt, :id)"
+            + " ORDER BY sa.created_at DESC, sa.id DESC"
+            + " LIMIT :limit", nativeQuery = true)
+    List<SavedActivity> findPageByUserId(@Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") long id,
+            @Param("limit") int limit);
 
     /**
-     * 사용자별 카테고리별 저장된 활동 목록 조회
+     * 사용자별 카테고리별 저장된 활동 목록 커서 조회 (최신순, idx_saved_activity_user_category_created_at 사용)
+     *
+     * @param userId    사용자 ID
+     * @param category  카테고리
+     * @param createdAt 이전 페이지 마지막 항목의 저장 시각
+     * @param id        이전 페이지 마지막 항목의 ID
+     * @param limit     최대 결과 수
+     * @return 커서 이후의 저장 활동 목록
      */
-    List<SavedActivity> findByUserAndCategoryOrderByCreatedAtDesc(User user, String category);
+    @Query(value = "SELECT sa.* FROM saved_activity sa"
+            + " WHERE sa.user_id = :userId AND sa.category = :category"
+            + " AND (sa.created_at, sa.id) < (:createdAt, :id)"
+            + " ORDER BY sa.created_at DESC, sa.id DESC"
+            + " LIMIT :limit", nativeQuery = true)
+    List<SavedActivity> findPageByUserIdAndCategory(@Param("userId") Long userId,
+            @Param("category") String category,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") long id,
+            @Param("limit") int limit);
 
     /**
      * 사용자가 특정 활동을 이미 저장했는지 확인
@@ -31,8 +67,110 @@ public interface SavedActivityRepository extends JpaRepository<SavedActivity, Lo
             @Param("locationName") String locationName,
             @Param("category") String category);
 
+    /**
+     * 활동을 저장합니다. 같은 사용자/활동명/카테고리가 이미 있으면 아무것도 하지 않습니다.
+     * (uk_saved_activity_user_location_category 충돌만 무시하므로 다른 제약 위반은 그대로 오류가 됨.
+     * 중복 확인과 삽입이 한 문장이라 동시 요청에도 안전)
+     *
+     * @return 삽입된 행 수 (이미 저장되어 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO saved_activity (user_id, location_name, category, saved_location, created_at, updated_at)"
+            + " VALUES (:userId, :locationName, :category, :savedLocation, :now, :now)"
+            + " ON CONFLICT (user_id, location_name, category) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+            @Param("locationName") String locationName,
+            @Param("category") String category,
+            @Param("savedLocation") String savedLocation,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자가 저장한 활동 중 활동명이 목록에 있는 것을 한 번에 조회 (일괄 저장 결과 응답용)
+     */
+    @Query("SELECT sa FROM SavedActivity sa WHERE sa.user.id = :userId AND sa.locationName IN :locationNames")
+    List<SavedActivity> findByUserIdAndLocationNameIn(@Param("userId") Long userId,
+            @Param("locationNames") Collection<String> locationNames);
+
+    /**
+     * ID 목록 중 사용자가 소유한 저장 활동 ID만 조회
+     */
+    @Query("SELECT sa.id FROM SavedActivity sa WHERE sa.user.id = :userId AND sa.id IN :ids")
+    List<Long> findIdsByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 사용자가 소유한 저장 활동을 한 문장으로 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM SavedActivity sa WHERE sa.user.id = :userId AND sa.id IN :ids")
+    int deleteByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
     /**
      * 사용자별 저장된 활동 개수
      */
     long countByUser(User user);
-}
\ No newline at end of file
+
+    /**
+     * 사용자별 카테고리별 저장된 활동 개수 (한 번의 GROUP BY 조회)
+     */
+    @Query("SELECT sa.category AS category, COUNT(sa) AS count FROM SavedActivity sa"
+            + " WHERE sa.user.id = :userId GROUP BY sa.category")
+    List<SavedActivityCategoryCount> countByUserIdGroupByCategory(@Param("userId") Long userId);
+
+    /**
+     * 아직 지오코딩을 시도하지 않은 저장 활동 조회
+     *
+     * @param pageable 배치 크기
+     * @return 지오코딩 대상 저장 활동 목록
+     */
+    List<SavedActivity> findByGeocodedAtIsNull(Pageable pageable);
+
+    /**
+     * 기준 좌표에서 가까운 순으로 사용자의 저장 활동 조회 (PostGIS KNN, GiST 인덱스 사용)
+     *
+     * @param userId       사용자 ID
+     * @param latitude     기준 위도
+     * @param longitude    기준 경도
+     * @param radiusMeters 검색 반경(m)
+     * @param limit        최대 결과 수
+     * @return 거리순 저장 활동 목록
+     */
+    @Query(value = "SELECT t.* FROM ("
+            + " SELECT sa.id AS \"id\", sa.location_name AS \"title\", sa.location_name AS \"locationName\","
+            + " sa.category AS \"category\", CAST(NULL AS bigint) AS \"travelPlanId\","
+            + " ST_Y(sa.location) AS \"latitude\", ST_X(sa.location) AS \"longitude\","
+            + " ST_DistanceSphere(sa.location, ST_SetSRID(ST_MakePoint(:longitude, :latitude), 4326)) AS \"distanceMeters\""
+            + " FROM saved_activity sa"
+            + " WHERE sa.user_id = :userId AND sa.location IS NOT NULL"
+            + " ORDER BY sa.location <-> ST_SetSRID(ST_MakePoint(:longitude, :latitude), 4326)"
+            + " LIMIT :limit) t"
+            + " WHERE t.\"distanceMeters\" <= :radiusMeters"
+            + " ORDER BY t.\"distanceMeters\"", nativeQuery = true)
+    List<NearbyPlaceProjection> findNearbyByUserId(@Param("userId") Long userId,
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("radiusMeters") double radiusMeters,
+            @Param("limit") int limit);
+
+    /**
+     * 여행지 지식 저장소 증분 수집용 저장 활동 조회 (ID 순, 저장 위치가 있는 행만)
+     *
+     * @param afterId 마지막으로 수집한 저장 활동 ID
+     * @param limit   최대 결과 수
+     * @return afterId 이후의 저장 활동 목록
+     */
+    @Query(value = "SELECT sa.id AS \"id\", sa.saved_location AS \"city\", sa.location_name AS \"locationName\","
+            + " sa.category AS \"category\", sa.location_name AS \"title\""
+            + " FROM saved_activity sa"
+            + " WHERE sa.id > :afterId AND sa.saved_location IS NOT NULL"
+            + " ORDER BY sa.id"
+            + " LIMIT :limit", nativeQuery = true)
+    List<HarvestedPlaceProjection> findHarvestBatch(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 저장 활동 소유자 ID만 조회 (권한 검증용, 엔티티를 읽지 않음)
+     */
+    @Query("SELECT sa.user.id FROM SavedActivity sa WHERE sa.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
+}
@@ -0,0 +1,22 @@
+package com.travelingdog.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.travelingdog.backend.dto.todayActivity.SaveActivityRequestDTO;
+
+/**
+ * JPA 메서드로 표현할 수 없는 저장 활동 일괄 처리 (JDBC 배치)
+ */
+public interface SavedActivityRepositoryCustom {
+
+    /**
+     * 활동 여러 개를 하나의 JDBC 배치로 저장합니다. 이미 저장된 활동(요청 안의 중복 포함)은 ON CONFLICT로 건너뜁니다.
+     *
+     * @param userId     사용자 ID
+     * @param activities 저장할 활동 목록
+     * @param now        저장 시각
+     * @return 항목별 삽입 여부 (activities와 같은 순서)
+     */
+    boolean[] batchInsertIfAbsent(Long userId, List<SaveActivityRequestDTO> activities, LocalDateTime now);
+}
@@ -0,0 +1,45 @@
+package com.travelingdog.backend.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.travelingdog.backend.dto.todayActivity.SaveActivityRequestDTO;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class SavedActivityRepositoryImpl implements SavedActivityRepositoryCustom {
+
+    // 항목별 결과를 알아야 하므로 드라이버의 다중 행 INSERT 재작성(reWriteBatchedInserts)을 켜면 안 됨
+    private static final String INSERT_IF_ABSENT = "INSERT INTO saved_activity"
+            + " (user_id, location_name, category, saved_location, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (user_id, location_name, category) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean[] batchInsertIfAbsent(Long userId, List<SaveActivityRequestDTO> activities, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, activities, activities.size(),
+                (ps, activity) -> {
+                    ps.setLong(1, userId);
+                    ps.setString(2, activity.getLocationName());
+                    ps.setString(3, activity.getCategory());
+                    ps.setString(4, activity.getSavedLocation());
+                    ps.setTimestamp(5, timestamp);
+                    ps.setTimestamp(6, timestamp);
+                });
+
+        boolean[] inserted = new boolean[activities.size()];
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted[index++] = count > 0;
+            }
+        }
+        return inserted;
+    }
+}
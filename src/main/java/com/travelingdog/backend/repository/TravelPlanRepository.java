@@ -2,20 +2,24 @@ package com.travelingdog.backend.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSummaryDTO;
 import com.travelingdog.backend.model.TravelPlan;
 import com.travelingdog.backend.model.User;
 import com.travelingdog.backend.status.PlanStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TravelPlanRepository extends JpaRepository<TravelPlan, Long> {
+public interface TravelPlanRepository extends JpaRepository<TravelPlan, Long>, TravelPlanRepositoryCustom {
 
     /**
      * 특정 사용자의 여행 계획 목록을 조회합니다.
@@ -23,6 +27,7 @@ public interface TravelPlanRepository extends JpaRepository<TravelPlan, Long> {
      * @param user 조회할 사용자
      * @return 사용자의 여행 계획 목록
      */
+    @EntityGraph(TravelPlan.WITH_USER)
     List<TravelPlan> findAllByUser(User user);
 
     /**
@@ -45,6 +50,15 @@ public interface TravelPlanRepository extends JpaRepository<TravelPlan, Long> {
     @Query("SELECT p FROM TravelPlan p WHERE p.id = :id AND p.user.id = :userId")
     Optional<TravelPlan> findByIdWithUser(@Param("id") Long id, @Param("userId") Long userId);
 
+    /**
+     * 여행 계획 상세 화면용 조회 (작성자와 일정을 함께 조회, 나머지 컬렉션은 일괄 지연 로딩)
+     *
+     * @param id 조회할 여행 계획의 ID
+     * @return 여행 계획 상세
+     */
+    @EntityGraph(TravelPlan.DETAIL)
+    Optional<TravelPlan> findDetailById(Long id);
+
     // 기존의 findByStatusOrderByLikeCountDesc()와 findByStatusOrderByCreatedAtDesc()
     // 메서드는
     // 이제 아래의 통합 검색 메서드들로 대체되었습니다.
@@ -62,6 +76,7 @@ public interface TravelPlanRepository extends JpaRepository<TravelPlan, Long> {
             "LOWER(p.city) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(p.country) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
             "ORDER BY p.likeCount DESC, p.createdAt DESC")
+    @EntityGraph(TravelPlan.WITH_USER)
     Page<TravelPlan> searchByKeywordOrderByPopular(@Param("keyword") String keyword,
             @Param("status") PlanStatus status,
             Pageable pageable);
@@ -79,6 +94,7 @@ public interface TravelPlanRepository extends JpaRepository<TravelPlan, Long> {
             "LOWER(p.city) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(p.country) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
             "ORDER BY p.createdAt DESC")
+    @EntityGraph(TravelPlan.WITH_USER)
     Page<TravelPlan> searchByKeywordOrderByRecent(@Param("keyword") String keyword,
             @Param("status") PlanStatus status,
             Pageable pageable);
@@ -96,10 +112,29 @@ public interface TravelPlanRepository extends JpaRepository<TravelPlan, Long> {
             "LOWER(p.city) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(p.country) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
             "ORDER BY p.createdAt ASC")
+    @EntityGraph(TravelPlan.WITH_USER)
     Page<TravelPlan> searchByKeywordOrderByOldest(@Param("keyword") String keyword,
             @Param("status") PlanStatus status,
             Pageable pageable);
 
+    /**
+     * 키워드로 여행 계획을 검색하고 시간 감쇠 인기 점수(hotScore) 기준으로 정렬합니다.
+     * 
+     * @param keyword  검색 키워드
+     * @param status   계획 상태
+     * @param pageable 페이징 정보
+     * @return 검색된 여행 계획 페이지
+     */
+    @Query("SELECT p FROM TravelPlan p WHERE p.status = :status AND " +
+            "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(p.city) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(p.country) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+            "ORDER BY p.hotScore DESC, p.id DESC")
+    @EntityGraph(TravelPlan.WITH_USER)
+    Page<TravelPlan> searchByKeywordOrderByTrending(@Param("keyword") String keyword,
+            @Param("status") PlanStatus status,
+            Pageable pageable);
+
     /**
      * 도시와 국가로 여행 계획을 필터링하고 좋아요 수 기준으로 정렬합니다.
      * 
@@ -113,6 +148,7 @@ public interface TravelPlanRepository extends JpaRepository<TravelPlan, Long> {
             "(:city = '' OR LOWER(p.city) = LOWER(:city)) AND " +
             "(:country = '' OR LOWER(p.country) = LOWER(:country)) " +
             "ORDER BY p.likeCount DESC, p.createdAt DESC")
+    @EntityGraph(TravelPlan.WITH_USER)
     Page<TravelPlan> findByLocationOrderByPopular(@Param("city") String city,
             @Param("country") String country,
             @Param("status") PlanStatus status,
@@ -131,6 +167,7 @@ public interface TravelPlanRepository extends JpaRepository<TravelPlan, Long> {
             "(:city = '' OR LOWER(p.city) = LOWER(:city)) AND " +
             "(:country = '' OR LOWER(p.country) = LOWER(:country)) " +
             "ORDER BY p.createdAt DESC")
+    @EntityGraph(TravelPlan.WITH_USER)
     Page<TravelPlan> findByLocationOrderByRecent(@Param("city") String city,
             @Param("country") String country,
             @Param("status") PlanStatus status,
@@ -149,8 +186,81 @@ public interface TravelPlanRepository extends JpaRepository<TravelPlan, Long> {
             "(:city = '' OR LOWER(p.city) = LOWER(:city)) AND " +
             "(:country = '' OR LOWER(p.country) = LOWER(:country)) " +
             "ORDER BY p.createdAt ASC")
+    @EntityGraph(TravelPlan.WITH_USER)
     Page<TravelPlan> findByLocationOrderByOldest(@Param("city") String city,
             @Param("country") String country,
             @Param("status") PlanStatus status,
             Pageable pageable);
+
+    /**
+     * 도시와 국가로 여행 계획을 필터링하고 시간 감쇠 인기 점수(hotScore) 기준으로 정렬합니다.
+     * (status, hot_score) 인덱스를 그대로 따라 읽을 수 있도록 정렬 컬럼을 hotScore로 한정합니다.
+     * 
+     * @param city     도시 (빈 문자열이면 필터 없음)
+     * @param country  국가 (빈 문자열이면 필터 없음)
+     * @param status   계획 상태
+     * @param pageable 페이징 정보
+     * @return 필터링된 여행 계획 페이지
+     */
+    @Query("SELECT p FROM TravelPlan p WHERE p.status = :status AND " +
+            "(:city = '' OR LOWER(p.city) = LOWER(:city)) AND " +
+            "(:country = '' OR LOWER(p.country) = LOWER(:country)) " +
+            "ORDER BY p.hotScore DESC, p.id DESC")
+    @EntityGraph(TravelPlan.WITH_USER)
+    Page<TravelPlan> findByLocationOrderByTrending(@Param("city") String city,
+            @Param("country") String country,
+            @Param("status") PlanStatus status,
+            Pageable pageable);
+
+    /**
+     * 주어진 ID 다음의 여행 계획 ID를 오름차순으로 조회합니다. (인기 점수 전체 재계산용 키셋 페이지)
+     * 
+     * @param afterId  이전 페이지 마지막 ID (첫 페이지는 0)
+     * @param pageable 조회 개수
+     * @return 여행 계획 ID 목록
+     */
+    @Query("SELECT p.id FROM TravelPlan p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 특정 시점 이후 수정된 여행 계획 ID 목록을 조회합니다. (인기 점수 증분 갱신용)
+     * 
+     * @param since 기준 시각
+     * @return 수정된 여행 계획 ID 목록
+     */
+    @Query("SELECT p.id FROM TravelPlan p WHERE p.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 인기 점수 계산에 필요한 컬럼만 조회합니다. [id, createdAt]
+     * 
+     * @param ids 조회할 여행 계획 ID 목록
+     * @return 점수 계산용 컬럼 배열 목록
+     */
+    @Query("SELECT p.id, p.createdAt FROM TravelPlan p WHERE p.id IN :ids")
+    List<Object[]> findScoreInputsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 사용자의 여행 계획 요약을 커서 기반으로 조회합니다. (ID 내림차순, (user_id, id) 인덱스 사용)
+     * 
+     * @param userId   사용자 ID
+     * @param status   제외할 상태 (DELETED)
+     * @param cursor   이전 페이지 마지막 ID (첫 페이지는 Long.MAX_VALUE)
+     * @param pageable 조회 개수
+     * @return 여행 계획 요약 목록
+     */
+    @Query("SELECT new com.travelingdog.backend.dto.travelPlan.TravelPlanSummaryDTO("
+            + "p.id, p.title, p.country, p.city, p.startDate, p.endDate, p.status, p.likeCount, p.viewCount, p.createdAt)"
+            + " FROM TravelPlan p WHERE p.user.id = :userId AND p.status <> :status AND p.id < :cursor"
+            + " ORDER BY p.id DESC")
+    List<TravelPlanSummaryDTO> findSummariesByUserId(@Param("userId") Long userId,
+            @Param("status") PlanStatus status,
+            @Param("cursor") Long cursor,
+            Pageable pageable);
+
+    /**
+     * 여행 계획 작성자 ID만 조회 (권한 검증용, 엔티티를 읽지 않음)
+     */
+    @Query("SELECT p.user.id FROM TravelPlan p WHERE p.id = :id")
+    Optional<Long> findOwnerIdById(@Param("id") Long id);
 }
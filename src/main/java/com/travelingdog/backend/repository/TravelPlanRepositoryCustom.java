@@ -0,0 +1,16 @@
+package com.travelingdog.backend.repository;
+
+import java.util.Map;
+
+/**
+ * JPA 메서드로 표현할 수 없는 여행 계획 일괄 처리 (JDBC 배치)
+ */
+public interface TravelPlanRepositoryCustom {
+
+    /**
+     * 인기 점수를 하나의 JDBC 배치로 갱신합니다. 벌크 업데이트이므로 updatedAt은 변경되지 않습니다.
+     *
+     * @param scores 여행 계획 ID별 새 인기 점수
+     */
+    void batchUpdateHotScores(Map<Long, Double> scores);
+}
@@ -0,0 +1,29 @@
+package com.travelingdog.backend.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TravelPlanRepositoryImpl implements TravelPlanRepositoryCustom {
+
+    private static final String UPDATE_HOT_SCORE = "UPDATE travel_plan SET hot_score = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchUpdateHotScores(Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(scores.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_HOT_SCORE, entries, entries.size(), (ps, entry) -> {
+            ps.setDouble(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+}
@@ -2,6 +2,7 @@ package com.travelingdog.backend.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +11,10 @@ import com.travelingdog.backend.model.User;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * 이메일로 사용자를 조회합니다. 인증에 쓰이므로 권한(roles)을 함께 조회합니다.
+     */
+    @EntityGraph(User.WITH_ROLES)
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
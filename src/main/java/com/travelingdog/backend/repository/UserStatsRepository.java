@@ -0,0 +1,52 @@
+package com.travelingdog.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.travelingdog.backend.model.UserStats;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    /**
+     * 현재 데이터를 세어 집계 행을 만듭니다. 동시에 다른 요청이 먼저 만들었으면 아무것도 하지 않습니다.
+     *
+     * 세는 것과 넣는 것을 한 문장에서 처리해, 따로 센 뒤 넣는 사이에 들어온 증감(행이 없어 UPDATE 0건)이 빠지지 않게 합니다.
+     * 삭제된 계획과 그 계획이 받은 좋아요는 제외합니다.
+     *
+     * @return 삽입된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO user_stats (user_id, plan_count, likes_received_count, saved_activity_count)"
+            + " SELECT :userId,"
+            + " (SELECT COUNT(*) FROM travel_plan p WHERE p.user_id = :userId AND p.status <> 'DELETED'),"
+            + " (SELECT COALESCE(SUM(p.like_count), 0) FROM travel_plan p"
+            + " WHERE p.user_id = :userId AND p.status <> 'DELETED'),"
+            + " (SELECT COUNT(*) FROM saved_activity a WHERE a.user_id = :userId)"
+            + " ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertFromCurrentCounts(@Param("userId") Long userId);
+
+    /**
+     * 여행 계획 수를 증감합니다. 집계 행이 아직 없으면 아무것도 하지 않습니다. (첫 조회 시 전체 집계)
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET s.planCount = s.planCount + :delta WHERE s.userId = :userId")
+    int addPlanCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * 받은 좋아요 수를 증감합니다.
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET s.likesReceivedCount = s.likesReceivedCount + :delta WHERE s.userId = :userId")
+    int addLikesReceivedCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /**
+     * 저장한 활동 수를 증감합니다.
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET s.savedActivityCount = s.savedActivityCount + :delta WHERE s.userId = :userId")
+    int addSavedActivityCount(@Param("userId") Long userId, @Param("delta") long delta);
+}
@@ -0,0 +1,37 @@
+package com.travelingdog.backend.service;
+
+import com.travelingdog.backend.dto.ai.AiCompletion;
+import com.travelingdog.backend.dto.ai.AiCompletionRequest;
+
+/**
+ * AI 텍스트 생성 공급자 (Gemini, OpenAI 등)
+ *
+ * 구현체는 요청을 공급자 API 형식으로 바꿔 호출하고, 생성된 텍스트와 공급자가 보고한 토큰 사용량을 돌려줍니다.
+ * 호출 실패나 빈 응답은 {@link com.travelingdog.backend.exception.ExternalApiException}으로 알립니다.
+ */
+public interface AiProvider {
+
+    /**
+     * 라우터 설정과 메트릭에서 쓰는 공급자 이름
+     */
+    String getName();
+
+    /**
+     * API 키 등 호출에 필요한 설정이 갖춰졌는지 여부
+     */
+    boolean isEnabled();
+
+    /**
+     * 동시에 보낼 수 있는 최대 요청 수
+     */
+    int getMaxConcurrency();
+
+    /**
+     * 호출 span 속성에 남길 모델 이름
+     */
+    default String getModel() {
+        return getName();
+    }
+
+    AiCompletion complete(AiCompletionRequest request);
+}
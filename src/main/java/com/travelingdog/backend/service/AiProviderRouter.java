@@ -0,0 +1,324 @@
+package com.travelingdog.backend.service;
+
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.travelingdog.backend.dto.ai.AiCompletion;
+import com.travelingdog.backend.dto.ai.AiCompletionRequest;
+import com.travelingdog.backend.exception.ExternalApiException;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+
+/**
+ * AI 공급자 라우터
+ *
+ * 공급자별 최근 N건의 지연 시간과 오류율을 기록해 가장 빠르고 건강한 공급자로 요청을 보냅니다.
+ * 공급자마다 동시 요청 수를 세마포어로 제한하고, 호출이 실패하거나 자리가 없으면 다음 공급자로 넘어갑니다.
+ * 오류율이 임계값을 넘은 공급자는 다른 공급자가 모두 안 될 때만 사용합니다.
+ * 호출자가 취소해 스레드가 인터럽트된 호출은 공급자 실패로 세지 않고 다음 공급자도 시도하지 않습니다.
+ */
+@Component
+public class AiProviderRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(AiProviderRouter.class);
+
+    private final List<ProviderState> states = new ArrayList<>();
+    private final MeterRegistry meterRegistry;
+    private final AiStageTimer stageTimer;
+
+    @Value("${ai.router.acquire-timeout-ms:2000}")
+    private long acquireTimeoutMs = 2000;
+
+    @Value("${ai.router.error-rate-threshold:0.5}")
+    private double errorRateThreshold = 0.5;
+
+    @Value("${ai.router.min-samples:5}")
+    private int minSamples = 5;
+
+    @Value("${ai.router.explore-ratio:0.05}")
+    private double exploreRatio = 0.05;
+
+    public AiProviderRouter(List<AiProvider> providers, MeterRegistry meterRegistry, AiStageTimer stageTimer,
+            @Value("${ai.router.providers:gemini,openai}") String priority,
+            @Value("${ai.router.window-size:50}") int windowSize) {
+        this.meterRegistry = meterRegistry;
+        this.stageTimer = stageTimer;
+
+        Map<String, AiProvider> byName = new LinkedHashMap<>();
+        providers.forEach(provider -> byName.put(provider.getName(), provider));
+
+        // 설정된 우선순위 순서대로 등록하고, 설정에 없는 공급자는 뒤에 붙임
+        List<String> order = new ArrayList<>(Arrays.stream(priority.split(","))
+                .map(String::trim)
+                .filter(byName::containsKey)
+                .toList());
+        byName.keySet().stream().filter(name -> !order.contains(name)).forEach(order::add);
+
+        for (int i = 0; i < order.size(); i++) {
+            AiProvider provider = byName.get(order.get(i));
+            if (!provider.isEnabled()) {
+                log.info("AI 공급자 비활성화 (설정 없음): {}", provider.getName());
+                continue;
+            }
+            ProviderState state = new ProviderState(provider, i, windowSize);
+            states.add(state);
+            Gauge.builder("ai.provider.in_flight", state,
+                    s -> s.provider.getMaxConcurrency() - s.permits.availablePermits())
+                    .tag("provider", provider.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 가장 적합한 공급자로 요청을 보내고, 실패하면 다음 공급자로 넘깁니다.
+     */
+    public String complete(AiCompletionRequest request) {
+        List<ProviderState> ranked = rank();
+        if (ranked.isEmpty()) {
+            throw new ExternalApiException("사용 가능한 AI 공급자가 없습니다.");
+        }
+
+        List<ProviderState> attempted = new ArrayList<>();
+        RuntimeException lastError = null;
+
+        // 1차: 자리가 있는 공급자만 순서대로 시도
+        for (ProviderState state : ranked) {
+            if (!state.permits.tryAcquire()) {
+                continue;
+            }
+            attempted.add(state);
+            try {
+                return invoke(state, request);
+            } catch (RuntimeException e) {
+                if (isInterruption(e)) {
+                    throw e;
+                }
+                lastError = e;
+            } finally {
+                state.permits.release();
+            }
+        }
+
+        // 2차: 모두 포화 상태였던 공급자는 제한 시간까지 자리를 기다림
+        for (ProviderState state : ranked) {
+            if (attempted.contains(state)) {
+                continue;
+            }
+            try {
+                if (!state.permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    log.warn("AI 공급자 동시 요청 한도 초과: {}", state.provider.getName());
+                    continue;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExternalApiException("AI 공급자 대기 중 인터럽트가 발생했습니다.", e);
+            }
+            try {
+                return invoke(state, request);
+            } catch (RuntimeException e) {
+                if (isInterruption(e)) {
+                    throw e;
+                }
+                lastError = e;
+            } finally {
+                state.permits.release();
+            }
+        }
+
+        if (lastError != null) {
+            throw new ExternalApiException("모든 AI 공급자 호출에 실패했습니다: " + lastError.getMessage(), lastError);
+        }
+        throw new ExternalApiException("AI 공급자가 모두 혼잡합니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private String invoke(ProviderState state, AiCompletionRequest request) {
+        String name = state.provider.getName();
+        String purpose = request.getPurpose() != null ? request.getPurpose() : "unknown";
+        Observation observation = stageTimer.startNetwork(purpose, name, state.provider.getModel());
+        long started = System.nanoTime();
+        try (Observation.Scope scope = observation.openScope()) {
+            AiCompletion completion = state.provider.complete(request);
+            long elapsed = System.nanoTime() - started;
+            state.record(elapsed, true);
+            timer(name, "success").record(elapsed, TimeUnit.NANOSECONDS);
+            recordTokenUsage(name, purpose, request, completion, observation);
+            return completion.getText();
+        } catch (RuntimeException e) {
+            if (isInterruption(e)) {
+                // 청크 마감 등으로 호출자가 취소한 호출이므로 공급자 통계에 넣지 않음
+                observation.error(e);
+                throw e;
+            }
+            long elapsed = System.nanoTime() - started;
+            state.record(elapsed, false);
+            timer(name, "failure").record(elapsed, TimeUnit.NANOSECONDS);
+            observation.error(e);
+            log.warn("AI 공급자 호출 실패, 다음 공급자로 전환: {} - {}", name, e.getMessage());
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * 현재 스레드가 인터럽트됐거나 예외 원인에 인터럽트가 있으면 true입니다. 소켓 읽기 시간 초과는 공급자 실패로 봅니다.
+     */
+    static boolean isInterruption(Throwable e) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof ClosedByInterruptException
+                    || (cause instanceof InterruptedIOException && !(cause instanceof SocketTimeoutException))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청별 입력/출력 토큰 수를 메트릭과 호출 span 속성으로 기록합니다. 공급자가 사용량을 주지 않으면 추정값을 씁니다.
+     */
+    private void recordTokenUsage(String provider, String purpose, AiCompletionRequest request,
+            AiCompletion completion, Observation observation) {
+        int input = completion.getInputTokens() != null ? completion.getInputTokens()
+                : TokenEstimator.estimate(request.getSystemPrompt()) + TokenEstimator.estimate(request.getPrompt());
+        int output = completion.getOutputTokens() != null ? completion.getOutputTokens()
+                : TokenEstimator.estimate(completion.getText());
+
+        tokenSummary("ai.tokens.input", provider, purpose).record(input);
+        tokenSummary("ai.tokens.output", provider, purpose).record(output);
+        observation.highCardinalityKeyValue("tokens.input", String.valueOf(input));
+        observation.highCardinalityKeyValue("tokens.output", String.valueOf(output));
+        if (completion.getCachedInputTokens() != null) {
+            tokenSummary("ai.tokens.cached", provider, purpose).record(completion.getCachedInputTokens());
+            observation.highCardinalityKeyValue("tokens.cached", String.valueOf(completion.getCachedInputTokens()));
+        }
+        if (output >= request.getMaxOutputTokens()) {
+            log.warn("AI 응답이 출력 토큰 한도에 도달했습니다: {} {} ({} tokens)", provider, purpose, output);
+        }
+    }
+
+    private DistributionSummary tokenSummary(String metric, String provider, String purpose) {
+        return DistributionSummary.builder(metric)
+                .baseUnit("tokens")
+                .tag("provider", provider)
+                .tag("purpose", purpose)
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String provider, String outcome) {
+        return Timer.builder("ai.provider.latency")
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 건강한 공급자를 점수(평균 지연 x 오류 가중치) 순으로 앞에 두고, 오류율이 높은 공급자는 뒤로 보냅니다.
+     * 표본이 없는 공급자는 설정 우선순위를 따르며, 일정 비율로 다른 공급자를 먼저 시도해 통계를 갱신합니다.
+     */
+    List<ProviderState> rank() {
+        List<ProviderState> ranked = new ArrayList<>(states);
+        ranked.sort(Comparator
+                .comparing((ProviderState s) -> s.isUnhealthy(errorRateThreshold, minSamples))
+                .thenComparingDouble(ProviderState::score)
+                .thenComparingInt(s -> s.priority));
+        if (ranked.size() > 1 && exploreRatio > 0 && ThreadLocalRandom.current().nextDouble() < exploreRatio) {
+            ProviderState explored = ranked.remove(1 + ThreadLocalRandom.current().nextInt(ranked.size() - 1));
+            ranked.add(0, explored);
+        }
+        return ranked;
+    }
+
+    /**
+     * 공급자별 최근 호출 결과 (고정 크기 링 버퍼)
+     */
+    static final class ProviderState {
+
+        final AiProvider provider;
+        final int priority;
+        final Semaphore permits;
+
+        private final long[] latencies;
+        private final boolean[] failures;
+        private int next;
+        private int count;
+
+        ProviderState(AiProvider provider, int priority, int windowSize) {
+            this.provider = provider;
+            this.priority = priority;
+            this.permits = new Semaphore(Math.max(1, provider.getMaxConcurrency()));
+            this.latencies = new long[windowSize];
+            this.failures = new boolean[windowSize];
+        }
+
+        synchronized void record(long latencyNanos, boolean success) {
+            latencies[next] = latencyNanos;
+            failures[next] = !success;
+            next = (next + 1) % latencies.length;
+            count = Math.min(count + 1, latencies.length);
+        }
+
+        synchronized double errorRate() {
+            if (count == 0) {
+                return 0;
+            }
+            int failed = 0;
+            for (int i = 0; i < count; i++) {
+                if (failures[i]) {
+                    failed++;
+                }
+            }
+            return (double) failed / count;
+        }
+
+        synchronized double meanLatencyMillis() {
+            long total = 0;
+            int succeeded = 0;
+            for (int i = 0; i < count; i++) {
+                if (!failures[i]) {
+                    total += latencies[i];
+                    succeeded++;
+                }
+            }
+            return succeeded == 0 ? Double.MAX_VALUE : total / 1_000_000.0 / succeeded;
+        }
+
+        synchronized int sampleCount() {
+            return count;
+        }
+
+        boolean isUnhealthy(double threshold, int minSamples) {
+            return sampleCount() >= minSamples && errorRate() >= threshold;
+        }
+
+        double score() {
+            if (sampleCount() == 0) {
+                return Double.MAX_VALUE;
+            }
+            double latency = meanLatencyMillis();
+            return latency == Double.MAX_VALUE ? latency : latency * (1 + 4 * errorRate());
+        }
+    }
+}
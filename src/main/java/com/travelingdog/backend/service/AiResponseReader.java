@@ -0,0 +1,50 @@
+package com.travelingdog.backend.service;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * AI 응답 텍스트를 대상 DTO로 읽습니다.
+ *
+ * 응답 스키마를 지정한 호출처럼 본문 전체가 JSON 객체이면 문자열에서 바로 역직렬화하고(중간 버퍼 없음),
+ * 코드 블록/설명 문장이 섞였거나 잘린 응답만 LlmJsonExtractor로 JSON 토큰을 한 번 버퍼링해 읽습니다.
+ * ObjectMapper는 공용 빈을 넘겨 역직렬화기 캐시와 필드 이름 심볼 테이블을 요청 간에 재사용합니다.
+ */
+public final class AiResponseReader {
+
+    private AiResponseReader() {
+    }
+
+    public static <T> T read(ObjectMapper objectMapper, String content, Class<T> type) throws IOException {
+        if (content == null || content.isBlank()) {
+            throw new JsonParseException(null, "응답이 비어 있습니다.");
+        }
+        if (startsWithObject(content)) {
+            try {
+                return objectMapper.readValue(content, type);
+            } catch (JsonProcessingException e) {
+                // 깨진 JSON은 아래에서 추출/복구
+            }
+        }
+        try (JsonParser parser = LlmJsonExtractor.extract(content).asParser(objectMapper)) {
+            return objectMapper.readValue(parser, type);
+        }
+    }
+
+    /**
+     * 앞쪽 공백을 건너뛴 첫 글자가 '{'인지 확인합니다. (strip()처럼 복사하지 않음)
+     */
+    private static boolean startsWithObject(String content) {
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{';
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+package com.travelingdog.backend.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * AI 생성 요청의 단계별 구간 측정
+ *
+ * 각 단계를 Micrometer Observation으로 감싸 ai.stage 타이머(operation, stage 태그)와 트레이스 span을 함께 남깁니다.
+ * 요청 전체는 ai.request로 감싸 단계 span들의 부모가 됩니다. 공급자/모델/토큰 수처럼 값이 다양한 속성은
+ * 타이머 태그가 아닌 span 속성(high cardinality)으로만 기록합니다.
+ * 단계별 백분위수는 actuator aistages 엔드포인트에서 확인합니다.
+ */
+@Component
+public class AiStageTimer {
+
+    public static final String REQUEST_METRIC = "ai.request";
+    public static final String STAGE_METRIC = "ai.stage";
+
+    static final String NETWORK_STAGE = "network";
+
+    private final ObservationRegistry observationRegistry;
+
+    public AiStageTimer(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * 요청 전체 구간을 측정합니다. 안에서 측정한 단계는 이 구간의 하위 span이 됩니다.
+     */
+    public <T> T request(String operation, Supplier<T> work) {
+        return Observation.createNotStarted(REQUEST_METRIC, observationRegistry)
+                .contextualName(operation)
+                .lowCardinalityKeyValue("operation", operation)
+                .observe(work);
+    }
+
+    public <T> T stage(String operation, String stage, Supplier<T> work) {
+        return stageObservation(operation, stage).observe(work);
+    }
+
+    public void stage(String operation, String stage, Runnable work) {
+        stageObservation(operation, stage).observe(work);
+    }
+
+    /**
+     * 공급자 호출 구간을 시작합니다. 호출자가 토큰 수를 기록한 뒤 stop()해야 합니다.
+     */
+    Observation startNetwork(String operation, String provider, String model) {
+        return stageObservation(operation, NETWORK_STAGE)
+                .highCardinalityKeyValue("provider", provider)
+                .highCardinalityKeyValue("model", model)
+                .start();
+    }
+
+    private Observation stageObservation(String operation, String stage) {
+        return Observation.createNotStarted(STAGE_METRIC, observationRegistry)
+                .contextualName(operation + " " + stage)
+                .lowCardinalityKeyValue("operation", operation)
+                .lowCardinalityKeyValue("stage", stage);
+    }
+}
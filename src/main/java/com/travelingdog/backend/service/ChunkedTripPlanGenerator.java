@@ -0,0 +1,326 @@
+package com.travelingdog.backend.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.travelingdog.backend.dto.AIRecommendedItineraryDTO;
+import com.travelingdog.backend.dto.AIRecommendedTravelPlanDTO;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanRequest;
+import com.travelingdog.backend.exception.ExternalApiException;
+
+/**
+ * 긴 여행 일정 분할 생성기
+ *
+ * 여행 기간을 며칠 단위 구간으로 나눠 구간별 일정을 동시에 요청하고, 결과를 하나의 여행 계획으로 합칩니다.
+ * 각 구간 프롬프트에는 전체 여행 기간과 구간 위치(첫 구간/마지막 구간)를 함께 넣어 도착/출발 일정을 맞추고,
+ * 합친 뒤에는 여러 구간에 겹쳐 나온 장소를 뒤쪽 구간에서 제거합니다. (숙소/공항 등은 반복 허용)
+ * 전체 소요 시간은 여행 길이가 아니라 가장 느린 구간에 따라 정해집니다.
+ */
+@Component
+public class ChunkedTripPlanGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedTripPlanGenerator.class);
+
+    // 여러 날에 반복되어도 되는 활동 (제목 기준)
+    private static final String[] REPEATABLE_KEYWORDS = {
+            "숙소", "호텔", "체크인", "체크아웃", "조식", "공항"
+    };
+
+    @Value("${ai.chunked-generation.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${ai.chunked-generation.threshold-days:6}")
+    private int thresholdDays = 6;
+
+    @Value("${ai.chunked-generation.chunk-days:4}")
+    private int chunkDays = 4;
+
+    @Value("${ai.chunked-generation.max-chunks:6}")
+    private int maxChunks = 6;
+
+    @Value("${ai.chunked-generation.timeout-ms:90000}")
+    private long timeoutMs = 90000;
+
+    /**
+     * 분할 생성 대상인지 여부 (임계 일수보다 긴 여행)
+     */
+    public boolean shouldChunk(TravelPlanRequest request) {
+        return enabled && request.getStartDate() != null && request.getEndDate() != null
+                && tripDays(request) > thresholdDays;
+    }
+
+    /**
+     * 구간별 일정을 동시에 생성해 합칩니다. 구간 하나라도 끝내 파싱에 실패하면 null을 돌려줍니다.
+     *
+     * @param blockGenerator (구간 요청, 공유 여행 컨텍스트) -> 구간 일정. 파싱 실패 시 null
+     */
+    public AIRecommendedTravelPlanDTO generate(TravelPlanRequest request,
+            BiFunction<TravelPlanRequest, String, AIRecommendedTravelPlanDTO> blockGenerator) {
+        List<TravelPlanRequest> blocks = split(request);
+        log.info("여행 일정 분할 생성: {}일, {}개 구간", tripDays(request), blocks.size());
+
+        List<AIRecommendedTravelPlanDTO> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<String> contexts = new ArrayList<>();
+            List<Future<AIRecommendedTravelPlanDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < blocks.size(); i++) {
+                TravelPlanRequest block = blocks.get(i);
+                String context = tripContext(request, block, i, blocks.size());
+                contexts.add(context);
+                futures.add(executor.submit(() -> blockGenerator.apply(block, context)));
+            }
+
+            // 재시도도 같은 실행기에서 다른 구간과 동시에 돌리고, 처음 요청과 같은 마감 시각까지만 기다림
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            List<Future<AIRecommendedTravelPlanDTO>> retries = new ArrayList<>();
+            try {
+                for (int i = 0; i < futures.size(); i++) {
+                    AIRecommendedTravelPlanDTO result = await(futures.get(i), deadline);
+                    if (isEmpty(result)) {
+                        // 응답이 잘리거나 깨진 구간은 한 번만 다시 요청
+                        log.warn("구간 {} 일정 생성 실패, 재시도합니다.", i + 1);
+                        TravelPlanRequest block = blocks.get(i);
+                        String context = contexts.get(i);
+                        retries.add(executor.submit(() -> blockGenerator.apply(block, context)));
+                    } else {
+                        retries.add(null);
+                    }
+                    results.add(result);
+                }
+                for (int i = 0; i < retries.size(); i++) {
+                    if (retries.get(i) == null) {
+                        continue;
+                    }
+                    AIRecommendedTravelPlanDTO result = await(retries.get(i), deadline);
+                    if (isEmpty(result)) {
+                        cancelAll(retries);
+                        return null;
+                    }
+                    results.set(i, result);
+                }
+            } catch (RuntimeException e) {
+                // 남은 구간을 기다리지 않도록 취소한 뒤 전달
+                cancelAll(futures);
+                cancelAll(retries);
+                throw e;
+            }
+        }
+        return merge(request, blocks, results);
+    }
+
+    private static void cancelAll(List<Future<AIRecommendedTravelPlanDTO>> futures) {
+        futures.stream().filter(Objects::nonNull).forEach(future -> future.cancel(true));
+    }
+
+    private static boolean isEmpty(AIRecommendedTravelPlanDTO result) {
+        return result == null || result.getItinerary() == null || result.getItinerary().isEmpty();
+    }
+
+    private AIRecommendedTravelPlanDTO await(Future<AIRecommendedTravelPlanDTO> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ExternalApiException("여행 일정 분할 생성 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException("여행 일정 분할 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ExternalApiException("여행 일정 분할 생성에 실패했습니다: " + e.getCause().getMessage(), e);
+        }
+    }
+
+    /**
+     * 여행 기간을 구간으로 나눕니다. 구간 수가 최대치를 넘으면 구간 길이를 늘립니다.
+     */
+    List<TravelPlanRequest> split(TravelPlanRequest request) {
+        int days = (int) tripDays(request);
+        int size = Math.max(chunkDays, (days + maxChunks - 1) / maxChunks);
+
+        List<TravelPlanRequest> blocks = new ArrayList<>();
+        for (int offset = 0; offset < days; offset += size) {
+            LocalDate blockStart = request.getStartDate().plusDays(offset);
+            LocalDate blockEnd = request.getStartDate().plusDays(Math.min(days, offset + size) - 1);
+
+            TravelPlanRequest block = new TravelPlanRequest();
+            block.setCity(request.getCity());
+            block.setStartDate(blockStart);
+            block.setEndDate(blockEnd);
+            block.setTravelStyle(request.getTravelStyle());
+            block.setInterests(request.getInterests());
+            block.setAccommodation(request.getAccommodation());
+            block.setTransportation(request.getTransportation());
+            if (request.getUserSpecifiedAccommodations() != null) {
+                block.setUserSpecifiedAccommodations(request.getUserSpecifiedAccommodations().stream()
+                        .filter(accommodation -> isWithin(accommodation.getDate(), blockStart, blockEnd))
+                        .toList());
+            }
+            blocks.add(block);
+        }
+        return blocks;
+    }
+
+    private static boolean isWithin(String date, LocalDate start, LocalDate end) {
+        try {
+            LocalDate parsed = LocalDate.parse(date);
+            return !parsed.isBefore(start) && !parsed.isAfter(end);
+        } catch (Exception e) {
+            // 날짜 형식을 알 수 없으면 모든 구간에 전달
+            return true;
+        }
+    }
+
+    private static String tripContext(TravelPlanRequest trip, TravelPlanRequest block, int index, int total) {
+        StringBuilder context = new StringBuilder();
+        context.append("전체 여행 기간은 ").append(trip.getStartDate()).append(" ~ ").append(trip.getEndDate())
+                .append("(").append(tripDays(trip)).append("일)이며, 이번 요청은 ").append(total).append("개 구간 중 ")
+                .append(index + 1).append("번째 구간(").append(block.getStartDate()).append(" ~ ")
+                .append(block.getEndDate()).append(")의 일정만 생성합니다. ");
+        if (index > 0) {
+            context.append("이 구간의 첫날은 여행 도착일이 아니므로 공항 도착 일정은 넣지 마세요. ");
+        }
+        if (index < total - 1) {
+            context.append("이 구간의 마지막 날은 여행 종료일이 아니므로 출국 일정은 넣지 마세요. ");
+        }
+        context.append("다른 구간과 장소가 겹치지 않도록 이 구간만의 지역과 테마를 중심으로 추천해주세요.");
+        return context.toString();
+    }
+
+    /**
+     * 구간 결과를 하나의 여행 계획으로 합치고, 여러 구간에 겹친 장소를 제거합니다.
+     */
+    AIRecommendedTravelPlanDTO merge(TravelPlanRequest request, List<TravelPlanRequest> blocks,
+            List<AIRecommendedTravelPlanDTO> results) {
+        AIRecommendedTravelPlanDTO first = results.get(0);
+        long days = tripDays(request);
+
+        AIRecommendedTravelPlanDTO merged = new AIRecommendedTravelPlanDTO();
+        merged.setTripName(request.getCity() + " " + (days - 1) + "박 " + days + "일 여행");
+        merged.setStartDate(request.getStartDate().toString());
+        merged.setEndDate(request.getEndDate().toString());
+        merged.setCountry(first.getCountry());
+        merged.setDestination(first.getDestination());
+
+        Set<String> travelStyles = new LinkedHashSet<>();
+        Set<String> interests = new LinkedHashSet<>();
+        Set<String> accommodations = new LinkedHashSet<>();
+        Set<String> transportations = new LinkedHashSet<>();
+        Set<String> visited = new HashSet<>();
+        List<AIRecommendedItineraryDTO> itinerary = new ArrayList<>();
+        int removed = 0;
+
+        for (int i = 0; i < results.size(); i++) {
+            AIRecommendedTravelPlanDTO result = results.get(i);
+            addAll(travelStyles, result.getTravelStyle());
+            addAll(interests, result.getInterests());
+            addAll(accommodations, result.getAccommodation());
+            addAll(transportations, result.getTransportation());
+            if (merged.getCountry() == null) {
+                merged.setCountry(result.getCountry());
+            }
+            if (merged.getTransportationTips() == null || merged.getTransportationTips().isBlank()) {
+                merged.setTransportationTips(result.getTransportationTips());
+            }
+
+            // 구간 길이를 넘는 일정은 다음 구간과 겹치므로 버림
+            long blockOffset = ChronoUnit.DAYS.between(request.getStartDate(), blocks.get(i).getStartDate());
+            long blockDays = tripDays(blocks.get(i));
+            List<AIRecommendedItineraryDTO> blockItinerary = result.getItinerary();
+            for (int day = 0; day < blockItinerary.size() && day < blockDays; day++) {
+                AIRecommendedItineraryDTO dayPlan = blockItinerary.get(day);
+                dayPlan.setDate(shiftDayNumber(dayPlan.getDate(), blockOffset));
+                if (dayPlan.getActivities() != null) {
+                    int before = dayPlan.getActivities().size();
+                    dayPlan.setActivities(new ArrayList<>(dayPlan.getActivities().stream()
+                            .filter(activity -> isRepeatable(activity.getTitle())
+                                    || normalize(activity.getLocationName()) == null
+                                    || visited.add(normalize(activity.getLocationName())))
+                            .toList()));
+                    removed += before - dayPlan.getActivities().size();
+                }
+                itinerary.add(dayPlan);
+            }
+        }
+
+        merged.setTravelStyle(new ArrayList<>(travelStyles));
+        merged.setInterests(new ArrayList<>(interests));
+        merged.setAccommodation(new ArrayList<>(accommodations));
+        merged.setTransportation(new ArrayList<>(transportations));
+        merged.setItinerary(itinerary);
+        if (removed > 0) {
+            log.info("분할 생성 결과에서 중복 장소 {}건 제거", removed);
+        }
+        return merged;
+    }
+
+    /**
+     * 일자가 구간 기준 번호(1, 2, ...)로 오면 전체 여행 기준 번호로 바꿉니다. 날짜 문자열은 그대로 둡니다.
+     */
+    private static String shiftDayNumber(String date, long offset) {
+        if (date == null || offset == 0) {
+            return date;
+        }
+        try {
+            return String.valueOf(Integer.parseInt(date.trim()) + offset);
+        } catch (NumberFormatException e) {
+            return date;
+        }
+    }
+
+    private static boolean isRepeatable(String title) {
+        if (title == null) {
+            return false;
+        }
+        for (String keyword : REPEATABLE_KEYWORDS) {
+            if (title.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 장소 비교용 키: 괄호 안 영문 병기와 공백/기호를 뺀 소문자
+     */
+    static String normalize(String locationName) {
+        if (locationName == null) {
+            return null;
+        }
+        String key = locationName.replaceAll("\\(.*?\\)", "")
+                .replaceAll("[\\s\\p{Punct}·]", "")
+                .toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : key;
+    }
+
+    private static void addAll(Set<String> target, List<String> values) {
+        if (values != null) {
+            target.addAll(values);
+        }
+    }
+
+    private static long tripDays(TravelPlanRequest request) {
+        return ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1;
+    }
+}
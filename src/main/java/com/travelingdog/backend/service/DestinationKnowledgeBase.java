@@ -0,0 +1,414 @@
+package com.travelingdog.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.travelingdog.backend.dto.knowledge.HarvestedPlaceProjection;
+import com.travelingdog.backend.dto.restaurant.RestaurantRecommendationResponseDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityRequestDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO.ActivityRecommendation;
+import com.travelingdog.backend.repository.ItineraryActivityRepository;
+import com.travelingdog.backend.repository.SavedActivityRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 여행지 지식 저장소
+ *
+ * 저장된 일정 활동, 사용자가 저장한 활동, 맛집 추천 결과에서 장소명을 모아 도시 → 카테고리 → 장소(언급 횟수 순)로
+ * 색인합니다. 일정 활동과 저장 활동은 마지막으로 읽은 ID 이후만 주기적으로 읽어 덧붙이고, 맛집 추천은 DB에 저장되지
+ * 않으므로 생성 시점에 메모리에만 기록합니다(재시작하면 사라짐). 삭제된 행은 색인에서 빼지 않습니다.
+ *
+ * 당일 활동 요청의 모든 카테고리를 충분히 여러 번 언급된 장소로 채울 수 있으면 AI 호출 없이 바로 응답하고,
+ * 그렇지 않으면 프롬프트에 넣을 후보 목록으로 씁니다.
+ */
+@Component
+public class DestinationKnowledgeBase {
+
+    private static final Logger log = LoggerFactory.getLogger(DestinationKnowledgeBase.class);
+
+    // 도시 키 부분 일치 검색 범위 ("후쿠오카 하카타역" → "후쿠오카")
+    private static final int MIN_CITY_KEY_LENGTH = 2;
+    private static final int MAX_CITY_KEY_LENGTH = 40;
+
+    // 숙소/이동 일정은 추천할 장소가 아니므로 수집하지 않음
+    private static final String[] EXCLUDED_KEYWORDS = {
+            "숙소", "호텔", "체크인", "체크아웃", "공항", "이동", "출발", "도착"
+    };
+
+    private final ItineraryActivityRepository itineraryActivityRepository;
+    private final SavedActivityRepository savedActivityRepository;
+
+    private final Map<String, CityIndex> cities = new ConcurrentHashMap<>();
+    private long lastItineraryActivityId;
+    private long lastSavedActivityId;
+
+    private final Counter directCounter;
+    private final Counter partialCounter;
+    private final Counter missCounter;
+    private final Counter candidateCounter;
+
+    @Value("${knowledge-base.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${knowledge-base.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${knowledge-base.min-mentions:2}")
+    private int minMentions = 2;
+
+    @Value("${knowledge-base.max-places-per-category:50}")
+    private int maxPlacesPerCategory = 50;
+
+    @Value("${knowledge-base.candidate-limit:5}")
+    private int candidateLimit = 5;
+
+    @Value("${knowledge-base.covered-min-places:3}")
+    private int coveredMinPlaces = 3;
+
+    public DestinationKnowledgeBase(ItineraryActivityRepository itineraryActivityRepository,
+            SavedActivityRepository savedActivityRepository, MeterRegistry meterRegistry) {
+        this.itineraryActivityRepository = itineraryActivityRepository;
+        this.savedActivityRepository = savedActivityRepository;
+        this.directCounter = counter(meterRegistry, "direct");
+        this.partialCounter = counter(meterRegistry, "partial");
+        this.missCounter = counter(meterRegistry, "miss");
+        this.candidateCounter = Counter.builder("knowledge_base.prompt_candidates").register(meterRegistry);
+        Gauge.builder("knowledge_base.cities", cities, Map::size).register(meterRegistry);
+        Gauge.builder("knowledge_base.places", this, kb -> kb.stats().places()).register(meterRegistry);
+        Gauge.builder("knowledge_base.coverage", this, kb -> kb.stats().coverage()).register(meterRegistry);
+        Gauge.builder("knowledge_base.hit_rate", this, kb -> kb.stats().hitRate()).register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("knowledge_base.lookups").tag("result", result).register(meterRegistry);
+    }
+
+    /**
+     * 당일 활동 추천 카테고리
+     */
+    public enum Category {
+        RESTAURANT("맛집", "맛집", "식당", "음식", "레스토랑", "식사", "카페", "디저트", "베이커리", "브런치", "한식", "일식",
+                "중식", "양식", "라멘", "라면", "스시", "초밥", "우동", "이자카야", "포장마차", "야타이", "restaurant", "cafe",
+                "food", "dining"),
+        SHOPPING("쇼핑", "쇼핑", "시장", "백화점", "아울렛", "상점가", "상가", "면세점", "엔터테인먼트", "shopping", "market",
+                "mall", "outlet"),
+        NATURE("자연/휴식", "자연", "휴식", "공원", "해변", "바다", "해수욕장", "정원", "호수", "온천", "계곡", "폭포", "숲",
+                "등산", "산책", "park", "beach", "garden", "lake"),
+        CULTURE("관광", "관광", "문화", "박물관", "미술관", "기념관", "신사", "사찰", "사원", "성당", "궁", "유적", "타워",
+                "전망대", "명소", "역사", "체험", "museum", "temple", "shrine", "castle", "tower", "gallery");
+
+        private final String label;
+        private final String[] keywords;
+
+        Category(String label, String... keywords) {
+            this.label = label;
+            this.keywords = keywords;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * 카테고리 문자열, 활동 제목, 장소명 순으로 키워드를 찾아 분류합니다. 어디에도 없으면 null입니다.
+         */
+        static Category classify(String... texts) {
+            for (String text : texts) {
+                if (text == null || text.isBlank()) {
+                    continue;
+                }
+                String lower = text.toLowerCase(Locale.ROOT);
+                for (Category category : values()) {
+                    for (String keyword : category.keywords) {
+                        if (lower.contains(keyword)) {
+                            return category;
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 마지막 실행 이후 추가된 일정 활동과 저장 활동을 색인에 덧붙입니다.
+     */
+    @Scheduled(initialDelayString = "${knowledge-base.initial-delay-ms:20000}", fixedDelayString = "${knowledge-base.refresh-interval-ms:300000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        int[] harvested = new int[1];
+        lastItineraryActivityId = harvest(itineraryActivityRepository::findHarvestBatch, lastItineraryActivityId,
+                harvested);
+        lastSavedActivityId = harvest(savedActivityRepository::findHarvestBatch, lastSavedActivityId, harvested);
+
+        if (harvested[0] > 0) {
+            Stats stats = stats();
+            log.info("여행지 지식 저장소 갱신 - 신규 {}건, 도시 {}곳, 장소 {}곳, 커버 도시 {}곳",
+                    harvested[0], stats.cities(), stats.places(), stats.coveredCities());
+        }
+    }
+
+    private long harvest(BiFunction<Long, Integer, List<HarvestedPlaceProjection>> query, long afterId,
+            int[] harvested) {
+        while (true) {
+            List<HarvestedPlaceProjection> batch = query.apply(afterId, batchSize);
+            for (HarvestedPlaceProjection row : batch) {
+                if (!isExcluded(row.getTitle()) && !isExcluded(row.getLocationName())) {
+                    Category category = Category.classify(row.getCategory(), row.getTitle(), row.getLocationName());
+                    add(row.getCity(), row.getLocationName(), category, row.getCategory());
+                }
+                afterId = Math.max(afterId, row.getId());
+            }
+            harvested[0] += batch.size();
+            if (batch.size() < batchSize) {
+                return afterId;
+            }
+        }
+    }
+
+    private static boolean isExcluded(String text) {
+        if (text == null) {
+            return false;
+        }
+        for (String keyword : EXCLUDED_KEYWORDS) {
+            if (text.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 맛집 추천 결과를 여행 계획 도시의 맛집으로 기록합니다.
+     */
+    public void recordRestaurants(String city, RestaurantRecommendationResponseDTO response) {
+        if (!enabled || response == null || response.getRestaurants() == null) {
+            return;
+        }
+        for (RestaurantRecommendationResponseDTO.RestaurantDTO restaurant : response.getRestaurants()) {
+            add(city, restaurant.getLocationName(), Category.RESTAURANT, restaurant.getCuisine());
+        }
+    }
+
+    /**
+     * 장소 하나를 색인에 더합니다. 이미 있는 장소면 언급 횟수만 늘립니다.
+     *
+     * @param label 응답에 쓸 세부 카테고리 (없으면 카테고리 기본 이름)
+     */
+    void add(String city, String locationName, Category category, String label) {
+        String cityKey = TodayActivityCache.normalizeLocation(city);
+        String placeKey = TodayActivityCache.normalizeLocation(locationName);
+        if (cityKey == null || placeKey == null || category == null || cityKey.length() > MAX_CITY_KEY_LENGTH) {
+            return;
+        }
+        String resolvedLabel = label != null && !label.isBlank() ? label.trim() : category.getLabel();
+        cities.computeIfAbsent(cityKey, key -> new CityIndex())
+                .add(category, placeKey, locationName.trim(), resolvedLabel, maxPlacesPerCategory);
+    }
+
+    /**
+     * 요청한 모든 카테고리를 충분히 언급된 장소로 채울 수 있으면 바로 응답을 만들고, 아니면 null을 돌려줍니다.
+     */
+    public TodayActivityResponseDTO answer(TodayActivityRequestDTO request) {
+        if (!enabled) {
+            return null;
+        }
+        CityIndex city = find(request.getLocation());
+        if (city == null) {
+            missCounter.increment();
+            return null;
+        }
+
+        Map<Category, List<ActivityRecommendation>> picks = new EnumMap<>(Category.class);
+        for (Category category : Category.values()) {
+            int count = requestedCount(request, category);
+            List<Place> places = city.top(category, count, minMentions);
+            if (places.size() < count) {
+                partialCounter.increment();
+                return null;
+            }
+            picks.put(category, new ArrayList<>(places.stream()
+                    .map(place -> new ActivityRecommendation(place.name, place.label))
+                    .toList()));
+        }
+        directCounter.increment();
+
+        TodayActivityResponseDTO response = new TodayActivityResponseDTO();
+        response.setLocation(request.getLocation());
+        response.setCreatedAt(LocalDateTime.now());
+        response.setRestaurants(picks.get(Category.RESTAURANT));
+        response.setCultureSpots(picks.get(Category.CULTURE));
+        response.setShoppingSpots(picks.get(Category.SHOPPING));
+        response.setNatureSpots(picks.get(Category.NATURE));
+        return response;
+    }
+
+    private static int requestedCount(TodayActivityRequestDTO request, Category category) {
+        Integer count = switch (category) {
+            case RESTAURANT -> request.getRestaurantCount();
+            case CULTURE -> request.getCultureCount();
+            case SHOPPING -> request.getShoppingCount();
+            case NATURE -> request.getNatureCount();
+        };
+        return count != null ? Math.max(0, count) : 0;
+    }
+
+    /**
+     * 프롬프트에 넣을 카테고리별 후보 장소명 (언급 횟수 순, 후보가 없는 카테고리는 제외)
+     */
+    public Map<Category, List<String>> candidates(String location) {
+        Map<Category, List<String>> candidates = new EnumMap<>(Category.class);
+        CityIndex city = enabled ? find(location) : null;
+        if (city == null) {
+            return candidates;
+        }
+        for (Category category : Category.values()) {
+            List<Place> places = city.top(category, candidateLimit, 1);
+            if (!places.isEmpty()) {
+                candidates.put(category, places.stream().map(place -> place.name).toList());
+            }
+        }
+        if (!candidates.isEmpty()) {
+            candidateCounter.increment();
+        }
+        return candidates;
+    }
+
+    /**
+     * 위치를 정규화해 도시를 찾고, 정확히 일치하는 도시가 없으면 위치에 포함된 가장 긴 도시명으로 찾습니다.
+     */
+    private CityIndex find(String location) {
+        String key = TodayActivityCache.normalizeLocation(location);
+        if (key == null) {
+            return null;
+        }
+        CityIndex exact = cities.get(key);
+        if (exact != null) {
+            return exact;
+        }
+        for (int length = Math.min(key.length() - 1, MAX_CITY_KEY_LENGTH); length >= MIN_CITY_KEY_LENGTH; length--) {
+            for (int start = 0; start + length <= key.length(); start++) {
+                CityIndex city = cities.get(key.substring(start, start + length));
+                if (city != null) {
+                    return city;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 색인 크기, 커버리지(모든 카테고리에 충분히 언급된 장소가 covered-min-places개 이상인 도시 비율), 직접 응답 비율
+     */
+    public Stats stats() {
+        int places = 0;
+        int covered = 0;
+        for (CityIndex city : cities.values()) {
+            places += city.size();
+            if (city.covers(coveredMinPlaces, minMentions)) {
+                covered++;
+            }
+        }
+        return new Stats(cities.size(), places, covered, (long) directCounter.count(),
+                (long) partialCounter.count(), (long) missCounter.count());
+    }
+
+    public record Stats(int cities, int places, int coveredCities, long directHits, long partialHits,
+            long misses) {
+
+        public double coverage() {
+            return cities == 0 ? 0 : (double) coveredCities / cities;
+        }
+
+        public double hitRate() {
+            long lookups = directHits + partialHits + misses;
+            return lookups == 0 ? 0 : (double) directHits / lookups;
+        }
+    }
+
+    /**
+     * 도시 하나의 카테고리별 장소 (this로 동기화)
+     */
+    private static final class CityIndex {
+
+        private final Map<Category, Map<String, Place>> places = new EnumMap<>(Category.class);
+        private long sequence;
+
+        synchronized void add(Category category, String placeKey, String name, String label, int maxPlaces) {
+            Map<String, Place> byKey = places.computeIfAbsent(category, key -> new HashMap<>());
+            Place place = byKey.get(placeKey);
+            if (place != null) {
+                place.mentions++;
+                return;
+            }
+            // 가득 차면 언급이 가장 적고 오래된 장소를 밀어냄
+            if (byKey.size() >= maxPlaces) {
+                byKey.values().stream()
+                        .min(Comparator.comparingInt((Place p) -> p.mentions).thenComparingLong(p -> p.order))
+                        .ifPresent(weakest -> byKey.values().remove(weakest));
+            }
+            byKey.put(placeKey, new Place(name, label, sequence++));
+        }
+
+        synchronized List<Place> top(Category category, int limit, int minMentions) {
+            Map<String, Place> byKey = places.get(category);
+            if (byKey == null || limit <= 0) {
+                return List.of();
+            }
+            return byKey.values().stream()
+                    .filter(place -> place.mentions >= minMentions)
+                    .sorted(Comparator.comparingInt((Place p) -> -p.mentions).thenComparingLong(p -> p.order))
+                    .limit(limit)
+                    .toList();
+        }
+
+        synchronized boolean covers(int minPlaces, int minMentions) {
+            for (Category category : Category.values()) {
+                Map<String, Place> byKey = places.get(category);
+                if (byKey == null
+                        || byKey.values().stream().filter(place -> place.mentions >= minMentions).count() < minPlaces) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized int size() {
+            return places.values().stream().mapToInt(Map::size).sum();
+        }
+    }
+
+    private static final class Place {
+
+        private final String name;
+        private final String label;
+        private final long order;
+        private int mentions = 1;
+
+        Place(String name, String label, long order) {
+            this.name = name;
+            this.label = label;
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.travelingdog.backend.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelingdog.backend.model.FailedGptResponse;
+import com.travelingdog.backend.repository.FailedGptResponseRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 파싱에 실패한 AI 응답을 요청 스레드 밖에서 모아 저장합니다.
+ *
+ * 요청 스레드는 제한된 크기의 큐에 넣기만 하고, 전용 단일 스레드가 주기적으로 꺼내 배치 크기 단위로 하나의 JDBC 배치 INSERT로 저장합니다.
+ * 큐가 일정 수준 이상 차면 N건 중 1건만 받는 샘플링으로 전환하고, 가득 차면 버립니다. 버린 건수는 메트릭으로 남깁니다.
+ * 공용 @Scheduled 스레드를 쓰면 다른 배치 작업(지식 베이스 수집, 지오코딩 등)이 길어질 때 저장이 밀려 큐가 넘치므로 따로 둡니다.
+ * 큰 응답/프롬프트는 저장 직전(저장 스레드)에 gzip + Base64로 압축하며 {@link #decode(String)}로 복원합니다.
+ */
+@Component
+public class FailedResponseRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(FailedResponseRecorder.class);
+
+    static final String COMPRESSED_PREFIX = "gzip+base64:";
+
+    private final FailedGptResponseRepository failedResponseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<FailedGptResponse> queue;
+    private final int highWaterMark;
+    private final int sampleRateWhenBusy;
+
+    private final AtomicLong sampleSequence = new AtomicLong();
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter writeFailureCounter;
+
+    @Value("${failed-response.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${failed-response.compress-threshold-bytes:8192}")
+    private int compressThresholdBytes = 8192;
+
+    @Value("${failed-response.flush-interval-ms:1000}")
+    private long flushIntervalMs = 1000;
+
+    private ScheduledExecutorService writer;
+
+    public FailedResponseRecorder(FailedGptResponseRepository failedResponseRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${failed-response.queue-capacity:1000}") int queueCapacity,
+            @Value("${failed-response.sample-rate-when-busy:10}") int sampleRateWhenBusy) {
+        if (sampleRateWhenBusy < 1) {
+            throw new IllegalArgumentException(
+                    "failed-response.sample-rate-when-busy는 1 이상이어야 합니다: " + sampleRateWhenBusy);
+        }
+        this.failedResponseRepository = failedResponseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.highWaterMark = Math.max(1, queueCapacity * 8 / 10);
+        this.sampleRateWhenBusy = sampleRateWhenBusy;
+
+        this.enqueuedCounter = Counter.builder("ai.failed_response.enqueued").register(meterRegistry);
+        this.droppedCounter = Counter.builder("ai.failed_response.dropped").register(meterRegistry);
+        this.writtenCounter = Counter.builder("ai.failed_response.written").register(meterRegistry);
+        this.writeFailureCounter = Counter.builder("ai.failed_response.write_failures").register(meterRegistry);
+        Gauge.builder("ai.failed_response.queue_size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * 실패한 응답을 저장 큐에 넣습니다. 요청 스레드를 막지 않으며, 압축은 저장 시점에 합니다.
+     *
+     * @return 큐에 들어갔으면 true, 샘플링/용량 초과로 버려졌으면 false
+     */
+    public boolean record(String prompt, String response, String errorMessage) {
+        if (queue.size() >= highWaterMark && sampleSequence.incrementAndGet() % sampleRateWhenBusy != 0) {
+            droppedCounter.increment();
+            return false;
+        }
+
+        FailedGptResponse failedResponse = FailedGptResponse.builder()
+                .prompt(prompt)
+                .response(response)
+                .errorMessage(errorMessage)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        if (!queue.offer(failedResponse)) {
+            droppedCounter.increment();
+            return false;
+        }
+        enqueuedCounter.increment();
+        return true;
+    }
+
+    @PostConstruct
+    void start() {
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "failed-response-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 큐에 쌓인 실패 응답을 배치 단위로 압축/저장합니다.
+     */
+    public void flush() {
+        while (!queue.isEmpty()) {
+            List<FailedGptResponse> batch = new ArrayList<>(batchSize);
+            if (queue.drainTo(batch, batchSize) == 0) {
+                return;
+            }
+            try {
+                for (FailedGptResponse failedResponse : batch) {
+                    failedResponse.setPrompt(encode(failedResponse.getPrompt(), compressThresholdBytes));
+                    failedResponse.setResponse(encode(failedResponse.getResponse(), compressThresholdBytes));
+                }
+                transactionTemplate.executeWithoutResult(status -> failedResponseRepository.batchInsert(batch));
+                writtenCounter.increment(batch.size());
+            } catch (RuntimeException e) {
+                writeFailureCounter.increment(batch.size());
+                log.error("실패 응답 {}건 저장 실패: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 저장 스레드를 멈춘 뒤 남은 응답을 마저 저장합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (writer != null) {
+            writer.shutdown();
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        flush();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return (long) droppedCounter.count();
+    }
+
+    /**
+     * 임계값보다 큰 값은 gzip 압축 후 Base64로 인코딩합니다.
+     */
+    static String encode(String value, int thresholdBytes) {
+        if (value == null) {
+            return null;
+        }
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < thresholdBytes) {
+            return value;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(raw.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return COMPRESSED_PREFIX + Base64.getEncoder().encodeToString(buffer.toByteArray());
+    }
+
+    /**
+     * {@link #encode(String, int)}로 저장된 값을 원문으로 복원합니다. 압축되지 않은 값은 그대로 반환합니다.
+     */
+    public static String decode(String stored) {
+        if (stored == null || !stored.startsWith(COMPRESSED_PREFIX)) {
+            return stored;
+        }
+        byte[] compressed = Base64.getDecoder().decode(stored.substring(COMPRESSED_PREFIX.length()));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
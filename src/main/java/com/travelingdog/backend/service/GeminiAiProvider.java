@@ -0,0 +1,122 @@
+package com.travelingdog.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.travelingdog.backend.dto.ai.AiCompletion;
+import com.travelingdog.backend.dto.ai.AiCompletionRequest;
+import com.travelingdog.backend.dto.gemini.GeminiContent;
+import com.travelingdog.backend.dto.gemini.GeminiGenerationConfig;
+import com.travelingdog.backend.dto.gemini.GeminiPart;
+import com.travelingdog.backend.dto.gemini.GeminiRequest;
+import com.travelingdog.backend.dto.gemini.GeminiResponse;
+import com.travelingdog.backend.dto.gemini.GeminiUsageMetadata;
+import com.travelingdog.backend.exception.ExternalApiException;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class GeminiAiProvider implements AiProvider {
+
+    private final RestClient restClient;
+
+    @Value("${gemini.api.key:}")
+    private String geminiApiKey;
+
+    @Value("${gemini.api.url:}")
+    private String geminiApiUrl;
+
+    @Value("${gemini.api.model:gemini-2.0-flash}")
+    private String model = "gemini-2.0-flash";
+
+    @Value("${ai.providers.gemini.max-concurrency:16}")
+    private int maxConcurrency = 16;
+
+    @Override
+    public String getName() {
+        return "gemini";
+    }
+
+    /**
+     * URL과 API 키가 모두 있어야 등록합니다. 키 없이 등록되면 모든 호출이 인증 실패로 끝나 라우터 통계만 나빠집니다.
+     */
+    @Override
+    public boolean isEnabled() {
+        return geminiApiUrl != null && !geminiApiUrl.isBlank()
+                && geminiApiKey != null && !geminiApiKey.isBlank();
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public String getModel() {
+        return model;
+    }
+
+    @Override
+    public AiCompletion complete(AiCompletionRequest request) {
+        List<GeminiPart> parts = new ArrayList<>();
+        parts.add(GeminiPart.builder()
+                .text(request.getPrompt())
+                .build());
+
+        List<GeminiContent> contents = new ArrayList<>();
+        contents.add(GeminiContent.builder()
+                .parts(parts)
+                .build());
+
+        GeminiContent systemInstruction = null;
+        if (request.getSystemPrompt() != null) {
+            systemInstruction = GeminiContent.builder()
+                    .parts(List.of(GeminiPart.builder().text(request.getSystemPrompt()).build()))
+                    .build();
+        }
+
+        GeminiRequest geminiRequest = GeminiRequest.builder()
+                .contents(contents)
+                .systemInstruction(systemInstruction)
+                .generationConfig(GeminiGenerationConfig.builder()
+                        .temperature(request.getTemperature())
+                        .topK(request.getTopK())
+                        .topP(request.getTopP())
+                        .maxOutputTokens(request.getMaxOutputTokens())
+                        .responseMimeType(request.getResponseSchema() != null ? "application/json" : null)
+                        .responseSchema(request.getResponseSchema())
+                        .build())
+                .build();
+
+        GeminiResponse geminiResponse = restClient.post()
+                .uri(geminiApiUrl)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("x-goog-api-key", geminiApiKey)
+                .body(geminiRequest)
+                .retrieve()
+                .body(GeminiResponse.class);
+
+        if (geminiResponse != null &&
+                geminiResponse.getCandidates() != null &&
+                !geminiResponse.getCandidates().isEmpty() &&
+                geminiResponse.getCandidates().get(0).getContent() != null &&
+                geminiResponse.getCandidates().get(0).getContent().getParts() != null &&
+                !geminiResponse.getCandidates().get(0).getContent().getParts().isEmpty()) {
+            GeminiUsageMetadata usage = geminiResponse.getUsageMetadata();
+            return AiCompletion.builder()
+                    .text(geminiResponse.getCandidates().get(0).getContent().getParts().get(0).getText())
+                    .inputTokens(usage != null ? usage.getPromptTokenCount() : null)
+                    .outputTokens(usage != null ? usage.getCandidatesTokenCount() : null)
+                    .cachedInputTokens(usage != null ? usage.getCachedContentTokenCount() : null)
+                    .build();
+        }
+        throw new ExternalApiException("Gemini API로부터 유효한 응답을 받지 못했습니다.");
+    }
+}
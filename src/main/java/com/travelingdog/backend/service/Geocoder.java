@@ -0,0 +1,26 @@
+package com.travelingdog.backend.service;
+
+import java.util.Optional;
+
+/**
+ * 장소명을 좌표로 변환하는 지오코딩 제공자 인터페이스.
+ *
+ * 외부 API(Google Geocoding 등)로 교체할 수 있도록 구현체는 설정(geocoding.provider)으로 선택합니다.
+ */
+public interface Geocoder {
+
+    /**
+     * 장소명을 좌표로 변환합니다.
+     *
+     * @param locationName 장소명 (예: "후쿠오카 타워")
+     * @param regionHint   검색 범위를 좁히기 위한 지역명 (없으면 null)
+     * @return 좌표, 찾지 못하면 빈 Optional
+     */
+    Optional<Coordinate> geocode(String locationName, String regionHint);
+
+    /**
+     * WGS84 좌표
+     */
+    record Coordinate(double latitude, double longitude) {
+    }
+}
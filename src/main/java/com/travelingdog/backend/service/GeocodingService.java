@@ -0,0 +1,99 @@
+package com.travelingdog.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.travelingdog.backend.model.ItineraryActivity;
+import com.travelingdog.backend.model.SavedActivity;
+import com.travelingdog.backend.repository.ItineraryActivityRepository;
+import com.travelingdog.backend.repository.SavedActivityRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 활동/저장 장소의 좌표를 지연 채움하는 지오코딩 단계.
+ *
+ * 저장 시점에는 좌표를 구하지 않고, 주기적으로 geocoded_at이 비어 있는 행을 배치로 읽어 채웁니다.
+ * 좌표를 찾지 못한 행도 geocoded_at을 기록해 같은 장소를 반복 조회하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "geocoding.enabled", havingValue = "true", matchIfMissing = true)
+public class GeocodingService {
+
+    private static final Logger log = LoggerFactory.getLogger(GeocodingService.class);
+
+    static final int SRID_WGS84 = 4326;
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), SRID_WGS84);
+
+    private final Geocoder geocoder;
+    private final ItineraryActivityRepository itineraryActivityRepository;
+    private final SavedActivityRepository savedActivityRepository;
+
+    @Value("${geocoding.batch-size:100}")
+    private int batchSize = 100;
+
+    /**
+     * 좌표가 없는 활동과 저장 장소를 한 배치씩 지오코딩합니다.
+     */
+    @Scheduled(initialDelayString = "${geocoding.initial-delay-ms:15000}", fixedDelayString = "${geocoding.interval-ms:30000}")
+    @Transactional
+    public void geocodePending() {
+        PageRequest batch = PageRequest.of(0, batchSize, Sort.by("id"));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ItineraryActivity> activities = itineraryActivityRepository.findByGeocodedAtIsNull(batch);
+        int resolved = 0;
+        for (ItineraryActivity activity : activities) {
+            String region = activity.getItinerary() != null ? activity.getItinerary().getLocation() : null;
+            Optional<Point> point = resolve(activity.getLocationName(), region);
+            point.ifPresent(activity::setLocation);
+            activity.setGeocodedAt(now);
+            resolved += point.isPresent() ? 1 : 0;
+        }
+
+        List<SavedActivity> savedActivities = savedActivityRepository.findByGeocodedAtIsNull(batch);
+        for (SavedActivity savedActivity : savedActivities) {
+            Optional<Point> point = resolve(savedActivity.getLocationName(), savedActivity.getSavedLocation());
+            point.ifPresent(savedActivity::setLocation);
+            savedActivity.setGeocodedAt(now);
+            resolved += point.isPresent() ? 1 : 0;
+        }
+
+        int total = activities.size() + savedActivities.size();
+        if (total > 0) {
+            log.info("지오코딩 완료: 대상 {}건, 좌표 확보 {}건", total, resolved);
+        }
+    }
+
+    private Optional<Point> resolve(String locationName, String regionHint) {
+        try {
+            return geocoder.geocode(locationName, regionHint).map(GeocodingService::toPoint);
+        } catch (RuntimeException e) {
+            log.warn("지오코딩 실패: {} - {}", locationName, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 위경도를 SRID 4326 Point로 변환합니다. (JTS 좌표 순서는 x=경도, y=위도)
+     */
+    public static Point toPoint(Geocoder.Coordinate coordinate) {
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(coordinate.longitude(), coordinate.latitude()));
+    }
+}
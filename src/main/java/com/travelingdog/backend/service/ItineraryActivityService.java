@@ -6,14 +6,14 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.travelingdog.backend.dto.itinerary.ItineraryActivityBatchRequest;
 import com.travelingdog.backend.dto.itinerary.ItineraryActivityCreateRequest;
 import com.travelingdog.backend.dto.itinerary.ItineraryActivityResponseDTO;
 import com.travelingdog.backend.dto.itinerary.ItineraryActivityUpdateRequest;
-import com.travelingdog.backend.exception.ForbiddenResourceAccessException;
+import com.travelingdog.backend.exception.InvalidRequestException;
 import com.travelingdog.backend.exception.ResourceNotFoundException;
 import com.travelingdog.backend.model.Itinerary;
 import com.travelingdog.backend.model.ItineraryActivity;
-import com.travelingdog.backend.model.TravelPlan;
 import com.travelingdog.backend.model.User;
 import com.travelingdog.backend.repository.ItineraryActivityRepository;
 import com.travelingdog.backend.repository.ItineraryRepository;
@@ -26,6 +26,7 @@ public class ItineraryActivityService {
 
     private final ItineraryActivityRepository activityRepository;
     private final ItineraryRepository itineraryRepository;
+    private final ResourceAccessGuard accessGuard;
 
     /**
      * 특정 활동 조회
@@ -41,10 +42,7 @@ public class ItineraryActivityService {
      */
     @Transactional(readOnly = true)
     public List<ItineraryActivityResponseDTO> getActivitiesByItineraryId(Long id, User user) {
-        Itinerary itinerary = itineraryRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다. ID: " + id));
-
-        validateAccess(itinerary, user);
+        Itinerary itinerary = findItineraryAndValidateAccess(id, user);
 
         return itinerary.getActivities().stream()
                 .map(ItineraryActivityResponseDTO::fromEntity)
@@ -56,17 +54,16 @@ public class ItineraryActivityService {
      */
     @Transactional
     public ItineraryActivityResponseDTO createActivity(ItineraryActivityCreateRequest request, User user) {
-        Itinerary itinerary = itineraryRepository.findById(request.getItineraryId())
-                .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다. ID: " + request.getItineraryId()));
-
-        validateAccess(itinerary, user);
+        Itinerary itinerary = findItineraryAndValidateAccess(request.getItineraryId(), user);
+        // 위치가 null인 예전 활동이 있으면 먼저 채워야 새 활동이 맨 뒤에 놓임
+        itinerary.backfillActivityPositions();
 
         ItineraryActivity activity = ItineraryActivity.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .locationName(request.getLocationName())
-                .itinerary(itinerary)
                 .build();
+        itinerary.addActivity(activity);
 
         return ItineraryActivityResponseDTO.fromEntity(activityRepository.save(activity));
     }
@@ -81,7 +78,7 @@ public class ItineraryActivityService {
 
         activity.setTitle(request.getTitle());
         activity.setDescription(request.getDescription());
-        activity.setLocationName(request.getLocationName());
+        activity.changeLocationName(request.getLocationName());
 
         return ItineraryActivityResponseDTO.fromEntity(activityRepository.save(activity));
     }
@@ -96,25 +93,96 @@ public class ItineraryActivityService {
     }
 
     /**
-     * 활동을 찾고 접근 권한을 검증
+     * 한 일정에 활동 생성/수정/삭제/이동 작업을 요청 순서대로 적용합니다.
+     * 접근 권한은 일정 단위로 한 번만(작성자 ID 조회) 검증하고, 모든 작업이 끝나면 위치를 0부터 다시 매겨 한 번에 반영합니다.
+     *
+     * @return 작업 적용 후 일정의 활동 목록 (위치 순)
      */
-    private ItineraryActivity findActivityAndValidateAccess(Long activityId, User user) {
-        ItineraryActivity activity = activityRepository.findById(activityId)
-                .orElseThrow(() -> new ResourceNotFoundException("활동을 찾을 수 없습니다. ID: " + activityId));
+    @Transactional
+    public List<ItineraryActivityResponseDTO> applyBatch(Long itineraryId, ItineraryActivityBatchRequest request,
+            User user) {
+        Itinerary itinerary = findItineraryAndValidateAccess(itineraryId, user);
+        // 요청의 위치는 화면 순서 기준이므로 위치가 null인 예전 활동을 먼저 표시 순서대로 채움
+        itinerary.backfillActivityPositions();
+
+        List<ItineraryActivity> activities = itinerary.getActivities();
+        for (ItineraryActivityBatchRequest.Operation operation : request.getOperations()) {
+            switch (operation.getType()) {
+                case CREATE -> {
+                    if (operation.getTitle() == null || operation.getLocationName() == null) {
+                        throw new InvalidRequestException("활동 생성에는 제목과 위치명이 필요합니다.");
+                    }
+                    ItineraryActivity activity = ItineraryActivity.builder()
+                            .title(operation.getTitle())
+                            .description(operation.getDescription())
+                            .locationName(operation.getLocationName())
+                            .itinerary(itinerary)
+                            .build();
+                    activities.add(insertionIndex(operation.getPosition(), activities.size()), activity);
+                }
+                case UPDATE -> {
+                    ItineraryActivity activity = findInItinerary(activities, operation.getActivityId());
+                    if (operation.getTitle() != null) {
+                        activity.setTitle(operation.getTitle());
+                    }
+                    if (operation.getDescription() != null) {
+                        activity.setDescription(operation.getDescription());
+                    }
+                    if (operation.getLocationName() != null) {
+                        activity.changeLocationName(operation.getLocationName());
+                    }
+                }
+                case DELETE -> itinerary.removeActivity(findInItinerary(activities, operation.getActivityId()));
+                case MOVE -> {
+                    if (operation.getPosition() == null) {
+                        throw new InvalidRequestException("활동 이동에는 위치가 필요합니다.");
+                    }
+                    ItineraryActivity activity = findInItinerary(activities, operation.getActivityId());
+                    activities.remove(activity);
+                    activities.add(insertionIndex(operation.getPosition(), activities.size()), activity);
+                }
+            }
+        }
+
+        itinerary.renumberActivities();
+        itineraryRepository.saveAndFlush(itinerary);
+
+        return activities.stream()
+                .map(ItineraryActivityResponseDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
 
-        validateAccess(activity.getItinerary(), user);
+    private static ItineraryActivity findInItinerary(List<ItineraryActivity> activities, Long activityId) {
+        if (activityId == null) {
+            throw new InvalidRequestException("대상 활동 ID가 필요합니다.");
+        }
+        return activities.stream()
+                .filter(activity -> activityId.equals(activity.getId()))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("일정에서 활동을 찾을 수 없습니다. ID: " + activityId));
+    }
 
-        return activity;
+    private static int insertionIndex(Integer position, int size) {
+        return position == null ? size : Math.min(position, size);
     }
 
     /**
-     * 사용자가 일정에 대한 접근 권한이 있는지 검증
+     * 접근 권한을 먼저 검증(작성자 ID 조회 한 번)한 뒤 활동을 조회
      */
-    private void validateAccess(Itinerary itinerary, User user) {
-        TravelPlan travelPlan = itinerary.getTravelPlan();
+    private ItineraryActivity findActivityAndValidateAccess(Long activityId, User user) {
+        accessGuard.requireActivityOwner(activityId, user);
 
-        if (!travelPlan.getUser().getId().equals(user.getId())) {
-            throw new ForbiddenResourceAccessException("해당 일정에 대한 접근 권한이 없습니다.");
-        }
+        return activityRepository.findById(activityId)
+                .orElseThrow(() -> new ResourceNotFoundException("활동을 찾을 수 없습니다. ID: " + activityId));
+    }
+
+    /**
+     * 접근 권한을 먼저 검증(작성자 ID 조회 한 번)한 뒤 일정을 활동과 함께 조회
+     */
+    private Itinerary findItineraryAndValidateAccess(Long itineraryId, User user) {
+        accessGuard.requireItineraryOwner(itineraryId, user);
+
+        return itineraryRepository.findWithActivitiesById(itineraryId)
+                .orElseThrow(() -> new ResourceNotFoundException("일정을 찾을 수 없습니다. ID: " + itineraryId));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,312 @@
+package com.travelingdog.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.travelingdog.backend.dto.AIRecommendedItineraryDTO;
+import com.travelingdog.backend.dto.AIRecommendedTravelPlanDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI가 생성한 일자별 활동 순서를 이동 거리가 짧아지도록 재배치합니다.
+ *
+ * 식사/숙소 활동과 좌표를 찾지 못한 활동은 제자리에 고정하고, 그 사이 구간만 최근접 이웃 + 2-opt로 정렬합니다.
+ * 계획 하나당 시간 예산을 넘기면 그 시점까지의 결과만 반영합니다. 지오코딩도 예산에 포함되어, 예산을 다 쓴 뒤에는
+ * 이미 조회한 좌표만 사용하고 나머지 활동은 제자리에 고정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ItineraryRouteOptimizer {
+
+    private static final Logger log = LoggerFactory.getLogger(ItineraryRouteOptimizer.class);
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000d;
+
+    // 시간대가 정해진 활동 (제목 기준)
+    private static final String[] FIXED_SLOT_KEYWORDS = {
+            "식사", "조식", "아침", "점심", "저녁", "브런치", "숙소", "호텔", "체크인", "체크아웃"
+    };
+
+    private final Geocoder geocoder;
+
+    @Value("${itinerary.route-optimization.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${itinerary.route-optimization.time-budget-ms:50}")
+    private long timeBudgetMs = 50;
+
+    /**
+     * 여행 계획의 각 일자 활동 순서를 제자리에서 재배치합니다.
+     */
+    public void optimize(AIRecommendedTravelPlanDTO plan) {
+        if (!enabled || plan == null || plan.getItinerary() == null) {
+            return;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMs);
+        Map<String, Optional<Geocoder.Coordinate>> coordinateCache = new HashMap<>();
+
+        for (AIRecommendedItineraryDTO day : plan.getItinerary()) {
+            if (System.nanoTime() >= deadline) {
+                log.debug("동선 최적화 시간 예산 초과: {}ms", timeBudgetMs);
+                return;
+            }
+            reorderDay(day, coordinateCache, deadline);
+        }
+    }
+
+    private void reorderDay(AIRecommendedItineraryDTO day, Map<String, Optional<Geocoder.Coordinate>> coordinateCache,
+            long deadline) {
+        List<AIRecommendedItineraryDTO.Location> activities = day.getActivities();
+        if (activities == null || activities.size() < 3) {
+            return;
+        }
+
+        int n = activities.size();
+        Geocoder.Coordinate[] coordinates = new Geocoder.Coordinate[n];
+        boolean[] anchored = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            AIRecommendedItineraryDTO.Location activity = activities.get(i);
+            coordinates[i] = lookup(activity.getLocationName(), day.getLocation(), coordinateCache, deadline);
+            anchored[i] = coordinates[i] == null || isFixedSlot(activity.getTitle());
+        }
+
+        List<AIRecommendedItineraryDTO.Location> reordered = new ArrayList<>(activities);
+        int segmentStart = 0;
+        while (segmentStart < n) {
+            if (anchored[segmentStart]) {
+                segmentStart++;
+                continue;
+            }
+            int segmentEnd = segmentStart;
+            while (segmentEnd + 1 < n && !anchored[segmentEnd + 1]) {
+                segmentEnd++;
+            }
+            reorderSegment(activities, reordered, coordinates, segmentStart, segmentEnd, deadline);
+            segmentStart = segmentEnd + 1;
+        }
+        day.setActivities(reordered);
+    }
+
+    /**
+     * [start, end] 구간의 자유 활동을 앞뒤 고정 활동 좌표를 경로 양 끝으로 삼아 재배치합니다.
+     */
+    private void reorderSegment(List<AIRecommendedItineraryDTO.Location> source,
+            List<AIRecommendedItineraryDTO.Location> target, Geocoder.Coordinate[] coordinates,
+            int start, int end, long deadline) {
+        boolean fixedStart = start > 0 && coordinates[start - 1] != null;
+        boolean fixedEnd = end < source.size() - 1 && coordinates[end + 1] != null;
+        int free = end - start + 1;
+        if (free < 2) {
+            return;
+        }
+
+        int offset = fixedStart ? 1 : 0;
+        double[][] points = new double[free + offset + (fixedEnd ? 1 : 0)][];
+        if (fixedStart) {
+            points[0] = toArray(coordinates[start - 1]);
+        }
+        for (int i = 0; i < free; i++) {
+            points[offset + i] = toArray(coordinates[start + i]);
+        }
+        if (fixedEnd) {
+            points[points.length - 1] = toArray(coordinates[end + 1]);
+        }
+
+        int[] order = solvePath(points, fixedStart, fixedEnd, deadline);
+        for (int i = 0; i < free; i++) {
+            target.set(start + i, source.get(start + order[offset + i] - offset));
+        }
+    }
+
+    /**
+     * 좌표를 조회합니다. 이미 조회한 장소가 아니면 시간 예산이 남아 있을 때만 지오코딩합니다.
+     *
+     * @return 좌표, 찾지 못했거나 예산을 다 써서 조회하지 않았으면 null
+     */
+    private Geocoder.Coordinate lookup(String locationName, String region,
+            Map<String, Optional<Geocoder.Coordinate>> coordinateCache, long deadline) {
+        if (locationName == null || locationName.isBlank()) {
+            return null;
+        }
+        Optional<Geocoder.Coordinate> cached = coordinateCache.get(locationName);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        if (System.nanoTime() >= deadline) {
+            log.debug("동선 최적화 시간 예산 소진, 지오코딩 생략: {}", locationName);
+            return null;
+        }
+
+        Optional<Geocoder.Coordinate> coordinate;
+        try {
+            coordinate = geocoder.geocode(locationName, region);
+        } catch (RuntimeException e) {
+            log.debug("동선 최적화용 지오코딩 실패: {} - {}", locationName, e.getMessage());
+            coordinate = Optional.empty();
+        }
+        coordinateCache.put(locationName, coordinate);
+        return coordinate.orElse(null);
+    }
+
+    static boolean isFixedSlot(String title) {
+        if (title == null) {
+            return false;
+        }
+        for (String keyword : FIXED_SLOT_KEYWORDS) {
+            if (title.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double[] toArray(Geocoder.Coordinate coordinate) {
+        return new double[] { coordinate.latitude(), coordinate.longitude() };
+    }
+
+    /**
+     * 점 목록의 방문 순서를 구합니다. (열린 경로 TSP 휴리스틱)
+     *
+     * @param points     {위도, 경도} 배열
+     * @param fixedStart true면 points[0]을 출발점으로 고정
+     * @param fixedEnd   true면 마지막 점을 도착점으로 고정
+     * @param deadline   System.nanoTime() 기준 마감 시각
+     * @return 방문 순서 (points 인덱스), 원래 순서보다 길어지지 않음
+     */
+    static int[] solvePath(double[][] points, boolean fixedStart, boolean fixedEnd, long deadline) {
+        int n = points.length;
+        int[] identity = new int[n];
+        for (int i = 0; i < n; i++) {
+            identity[i] = i;
+        }
+        if (n < 3) {
+            return identity;
+        }
+
+        double[][] distance = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                distance[i][j] = distance[j][i] = haversine(points[i], points[j]);
+            }
+        }
+
+        int[] best = identity;
+        double bestCost = pathCost(identity, distance);
+
+        // 최근접 이웃: 출발점이 고정되지 않았으면 모든 출발 후보를 시도
+        int firstCandidate = 0;
+        int lastCandidate = fixedStart ? 0 : (fixedEnd ? n - 2 : n - 1);
+        for (int startNode = firstCandidate; startNode <= lastCandidate; startNode++) {
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+            int[] candidate = nearestNeighbour(distance, startNode, fixedEnd);
+            double cost = pathCost(candidate, distance);
+            if (cost < bestCost) {
+                best = candidate;
+                bestCost = cost;
+            }
+        }
+
+        twoOpt(best, distance, fixedStart, fixedEnd, deadline);
+        return best;
+    }
+
+    private static int[] nearestNeighbour(double[][] distance, int startNode, boolean fixedEnd) {
+        int n = distance.length;
+        int endNode = fixedEnd ? n - 1 : -1;
+        boolean[] visited = new boolean[n];
+        int[] order = new int[n];
+        order[0] = startNode;
+        visited[startNode] = true;
+        if (fixedEnd) {
+            visited[endNode] = true;
+            order[n - 1] = endNode;
+        }
+
+        int filled = fixedEnd ? n - 1 : n;
+        for (int position = 1; position < filled; position++) {
+            int current = order[position - 1];
+            int next = -1;
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (!visited[candidate] && (next < 0 || distance[current][candidate] < distance[current][next])) {
+                    next = candidate;
+                }
+            }
+            order[position] = next;
+            visited[next] = true;
+        }
+        return order;
+    }
+
+    /**
+     * 구간 뒤집기로 경로가 짧아지는 동안 반복합니다. 고정된 양 끝은 움직이지 않습니다.
+     */
+    private static void twoOpt(int[] order, double[][] distance, boolean fixedStart, boolean fixedEnd,
+            long deadline) {
+        int n = order.length;
+        int lowest = fixedStart ? 1 : 0;
+        int highest = fixedEnd ? n - 2 : n - 1;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = lowest; i < highest; i++) {
+                if (System.nanoTime() >= deadline) {
+                    return;
+                }
+                for (int k = i + 1; k <= highest; k++) {
+                    double before = 0;
+                    double after = 0;
+                    if (i > 0) {
+                        before += distance[order[i - 1]][order[i]];
+                        after += distance[order[i - 1]][order[k]];
+                    }
+                    if (k < n - 1) {
+                        before += distance[order[k]][order[k + 1]];
+                        after += distance[order[i]][order[k + 1]];
+                    }
+                    if (after + 1e-9 < before) {
+                        reverse(order, i, k);
+                        improved = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int tmp = order[from];
+            order[from++] = order[to];
+            order[to--] = tmp;
+        }
+    }
+
+    static double pathCost(int[] order, double[][] distance) {
+        double cost = 0;
+        for (int i = 1; i < order.length; i++) {
+            cost += distance[order[i - 1]][order[i]];
+        }
+        return cost;
+    }
+
+    static double haversine(double[] a, double[] b) {
+        double dLat = Math.toRadians(b[0] - a[0]);
+        double dLng = Math.toRadians(b[1] - a[1]);
+        double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(a[0])) * Math.cos(Math.toRadians(b[0]))
+                        * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(h)));
+    }
+}
@@ -0,0 +1,166 @@
+package com.travelingdog.backend.service;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * LLM 응답 텍스트에서 첫 번째 최상위 JSON 객체를 한 번의 스트리밍 파싱으로 추출합니다.
+ *
+ * 코드 블록(```json)이나 앞뒤 설명 문장은 '{' 이전/객체 종료 이후이므로 자연스럽게 무시됩니다.
+ * 끝에 붙은 쉼표는 파서 옵션으로 허용하고, 응답이 잘려 괄호가 닫히지 않은 경우 열린 객체/배열을 닫아 복구합니다.
+ * 정규식을 사용하지 않고, 후보 위치마다 원문을 복사하지 않고 해당 위치부터 읽으므로 응답 크기에 비례하는 시간만 걸립니다.
+ */
+public final class LlmJsonExtractor {
+
+    private static final JsonFactory LENIENT_FACTORY = JsonFactory.builder()
+            .enable(JsonReadFeature.ALLOW_TRAILING_COMMA)
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+            .build();
+
+    private LlmJsonExtractor() {
+    }
+
+    /**
+     * 첫 번째로 파싱 가능한 JSON 객체를 토큰 버퍼로 추출합니다. 반환된 버퍼는 ObjectMapper.readValue(buffer.asParser(), ...)로
+     * 바로 역직렬화할 수 있습니다.
+     *
+     * @param content LLM 응답 원문
+     * @return 복구된 JSON 객체 토큰
+     * @throws JsonProcessingException 파싱 가능한 객체가 없는 경우
+     */
+    public static TokenBuffer extract(String content) throws JsonProcessingException {
+        if (content == null) {
+            throw new JsonParseException(null, "응답에서 JSON 객체를 찾을 수 없습니다.");
+        }
+
+        JsonProcessingException lastError = null;
+        int from = 0;
+        int start;
+        while ((start = content.indexOf('{', from)) >= 0) {
+            try {
+                return copyFirstObject(content, start);
+            } catch (JsonProcessingException e) {
+                // 실패한 위치까지는 같은 (깨진) 객체이므로 그 다음 '{'부터 다시 시도
+                lastError = e;
+                long failedAt = e.getLocation() != null ? e.getLocation().getCharOffset() : -1;
+                from = start + (int) Math.max(1, failedAt);
+            } catch (IOException e) {
+                throw new JsonParseException(null, "JSON 추출 중 오류: " + e.getMessage());
+            }
+        }
+
+        if (lastError != null) {
+            throw lastError;
+        }
+        throw new JsonParseException(null, "응답에서 JSON 객체를 찾을 수 없습니다.");
+    }
+
+    /**
+     * 추출한 JSON 객체를 정규화된 문자열로 반환합니다. (리플레이/디버깅용)
+     */
+    public static String extractAsString(String content) throws JsonProcessingException {
+        TokenBuffer buffer = extract(content);
+        try (JsonParser parser = buffer.asParser()) {
+            StringWriter writer = new StringWriter(content.length());
+            try (JsonGenerator generator = LENIENT_FACTORY.createGenerator(writer)) {
+                while (parser.nextToken() != null) {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+            return writer.toString();
+        } catch (JsonProcessingException e) {
+            throw e;
+        } catch (IOException e) {
+            throw new JsonParseException(null, "JSON 직렬화 중 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 오류 위치 뒤에 공백만 남아 있으면 입력 끝에서 잘린 것으로 봅니다.
+     *
+     * @param start 파싱을 시작한 원문 위치 (오류 위치는 이 위치 기준)
+     */
+    private static boolean isTruncatedAt(String content, int start, JsonParseException e) {
+        if (e.getLocation() == null || e.getLocation().getCharOffset() < 0) {
+            return false;
+        }
+        for (int i = (int) Math.min(start + e.getLocation().getCharOffset(), content.length()); i < content.length(); i++) {
+            if (!Character.isWhitespace(content.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * start 위치부터 첫 객체를 읽습니다. 후보마다 substring으로 복사하지 않도록 원문 Reader를 건너뛰어 시작합니다.
+     * (StringReader.skip은 위치만 옮기므로 복사가 없고, 오류 위치는 start 기준이 됩니다.)
+     */
+    private static TokenBuffer copyFirstObject(String content, int start) throws IOException {
+        StringReader reader = new StringReader(content);
+        reader.skip(start);
+        try (JsonParser parser = LENIENT_FACTORY.createParser(reader)) {
+            TokenBuffer out = new TokenBuffer(parser);
+            int depth = 0;
+            boolean fieldPending = false;
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != null) {
+                    out.copyCurrentEvent(parser);
+                    switch (token) {
+                        case START_OBJECT, START_ARRAY -> {
+                            depth++;
+                            fieldPending = false;
+                        }
+                        case END_OBJECT, END_ARRAY -> {
+                            depth--;
+                            fieldPending = false;
+                        }
+                        case FIELD_NAME -> fieldPending = true;
+                        default -> fieldPending = false;
+                    }
+                    if (depth == 0) {
+                        return out;
+                    }
+                }
+            } catch (JsonEOFException e) {
+                // 응답이 중간에 잘림 - 아래에서 열린 괄호를 닫아 복구
+            } catch (JsonParseException e) {
+                // 'nu', '1.'처럼 입력 끝에서 잘린 값도 잘림으로 취급하고, 그 외 문법 오류는 다음 후보로 넘김
+                if (!isTruncatedAt(content, start, e)) {
+                    throw e;
+                }
+            }
+
+            if (depth == 0) {
+                throw new JsonParseException(parser, "JSON 객체가 비어 있습니다.");
+            }
+            if (fieldPending) {
+                out.writeNull();
+            }
+            JsonStreamContext context = out.getOutputContext();
+            while (context != null && !context.inRoot()) {
+                if (context.inObject()) {
+                    out.writeEndObject();
+                } else {
+                    out.writeEndArray();
+                }
+                context = out.getOutputContext();
+            }
+            return out;
+        }
+    }
+}
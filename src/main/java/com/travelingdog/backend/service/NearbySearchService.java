@@ -0,0 +1,63 @@
+package com.travelingdog.backend.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.travelingdog.backend.dto.nearby.NearbyPlaceDTO;
+import com.travelingdog.backend.dto.nearby.NearbySearchResponseDTO;
+import com.travelingdog.backend.exception.InvalidRequestException;
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.repository.ItineraryActivityRepository;
+import com.travelingdog.backend.repository.SavedActivityRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 현재 위치 주변의 여행 계획 활동과 저장 장소를 조회합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NearbySearchService {
+
+    static final int MAX_RADIUS_METERS = 50_000;
+    static final int MAX_LIMIT = 50;
+
+    private final ItineraryActivityRepository itineraryActivityRepository;
+    private final SavedActivityRepository savedActivityRepository;
+
+    @Transactional(readOnly = true)
+    public NearbySearchResponseDTO findNearby(double latitude, double longitude, int radiusMeters, int limit,
+            User user) {
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new InvalidRequestException("위도/경도 범위가 올바르지 않습니다.");
+        }
+        if (radiusMeters <= 0 || radiusMeters > MAX_RADIUS_METERS) {
+            throw new InvalidRequestException("검색 반경은 1m 이상 " + MAX_RADIUS_METERS + "m 이하여야 합니다.");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+
+        List<NearbyPlaceDTO> planActivities = itineraryActivityRepository
+                .findNearby(latitude, longitude, radiusMeters, user.getId(), limit)
+                .stream()
+                .map(NearbyPlaceDTO::fromProjection)
+                .toList();
+
+        List<NearbyPlaceDTO> savedActivities = savedActivityRepository
+                .findNearbyByUserId(user.getId(), latitude, longitude, radiusMeters, limit)
+                .stream()
+                .map(NearbyPlaceDTO::fromProjection)
+                .toList();
+
+        return NearbySearchResponseDTO.builder()
+                .latitude(latitude)
+                .longitude(longitude)
+                .radiusMeters(radiusMeters)
+                .planActivities(planActivities)
+                .savedActivities(savedActivities)
+                .build();
+    }
+}
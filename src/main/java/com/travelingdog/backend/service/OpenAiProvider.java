@@ -0,0 +1,99 @@
+package com.travelingdog.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.travelingdog.backend.dto.ai.AiCompletion;
+import com.travelingdog.backend.dto.ai.AiCompletionRequest;
+import com.travelingdog.backend.dto.gpt.AIChatMessage;
+import com.travelingdog.backend.dto.gpt.AIChatRequest;
+import com.travelingdog.backend.dto.gpt.AIChatResponse;
+import com.travelingdog.backend.exception.ExternalApiException;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class OpenAiProvider implements AiProvider {
+
+    private final RestClient restClient;
+
+    @Value("${openai.api.key:}")
+    private String openAiApiKey;
+
+    @Value("${openai.api.url:https://api.openai.com/v1/chat/completions}")
+    private String openAiApiUrl;
+
+    @Value("${openai.model:gpt-3.5-turbo}")
+    private String model;
+
+    @Value("${ai.providers.openai.max-concurrency:8}")
+    private int maxConcurrency = 8;
+
+    @Override
+    public String getName() {
+        return "openai";
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return openAiApiKey != null && !openAiApiKey.isBlank();
+    }
+
+    @Override
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public String getModel() {
+        return model;
+    }
+
+    @Override
+    public AiCompletion complete(AiCompletionRequest request) {
+        // 공통 지시사항을 system 메시지로 맨 앞에 두어 OpenAI의 자동 프롬프트 접두사 캐시가 적용되도록 함
+        List<AIChatMessage> messages = new ArrayList<>();
+        if (request.getSystemPrompt() != null) {
+            messages.add(new AIChatMessage("system", request.getSystemPrompt()));
+        }
+        messages.add(new AIChatMessage("user", request.getPrompt()));
+
+        AIChatRequest openAiRequest = new AIChatRequest();
+        openAiRequest.setModel(model);
+        openAiRequest.setMessages(messages);
+        openAiRequest.setTemperature(request.getTemperature());
+        openAiRequest.setMax_tokens(request.getMaxOutputTokens());
+        if (request.getResponseSchema() != null) {
+            // Chat Completions의 JSON 모드는 스키마를 받지 않으므로 형식은 프롬프트 예시를 따름
+            openAiRequest.setResponse_format(Map.of("type", "json_object"));
+        }
+
+        AIChatResponse openAiResponse = restClient.post()
+                .uri(openAiApiUrl)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + openAiApiKey)
+                .body(openAiRequest)
+                .retrieve()
+                .body(AIChatResponse.class);
+
+        if (openAiResponse != null && openAiResponse.getChoices() != null
+                && !openAiResponse.getChoices().isEmpty()
+                && openAiResponse.getChoices().get(0).getMessage() != null) {
+            AIChatResponse.Usage usage = openAiResponse.getUsage();
+            return AiCompletion.builder()
+                    .text(openAiResponse.getChoices().get(0).getMessage().getContent())
+                    .inputTokens(usage != null ? usage.getPrompt_tokens() : null)
+                    .outputTokens(usage != null ? usage.getCompletion_tokens() : null)
+                    .build();
+        }
+        throw new ExternalApiException("OpenAI API로부터 유효한 응답을 받지 못했습니다.");
+    }
+}
@@ -0,0 +1,94 @@
+package com.travelingdog.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 컴파일된 프롬프트 템플릿
+ *
+ * {{name}} 형태의 변수를 기준으로 템플릿을 고정 문자열 조각과 변수 조각으로 한 번만 나눠 두고,
+ * 렌더링 시에는 조각을 이어 붙이기만 합니다. 고정 부분의 길이를 알고 있으므로 StringBuilder를 한 번에 할당합니다.
+ */
+public final class PromptTemplate {
+
+    private final String[] literals;
+    private final String[] variables;
+    private final int staticLength;
+
+    private PromptTemplate(String[] literals, String[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.staticLength = length;
+    }
+
+    public static PromptTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            int close = open < 0 ? -1 : source.indexOf("}}", open + 2);
+            if (open < 0 || close < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            literals.add(source.substring(position, open));
+            variables.add(source.substring(open + 2, close).trim());
+            position = close + 2;
+        }
+        return new PromptTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    /**
+     * 클래스패스 리소스(예: prompts/travel-plan-request.txt)를 읽어 컴파일합니다.
+     */
+    public static PromptTemplate fromClasspath(String resource) {
+        try (InputStream in = PromptTemplate.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("프롬프트 템플릿을 찾을 수 없습니다: " + resource);
+            }
+            return compile(new String(in.readAllBytes(), StandardCharsets.UTF_8).strip());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 변수를 채워 프롬프트를 만듭니다. 값이 없는 변수는 빈 문자열로 채웁니다.
+     */
+    public String render(Map<String, ?> values) {
+        StringBuilder builder = new StringBuilder(staticLength + variables.length * 32);
+        for (int i = 0; i < variables.length; i++) {
+            builder.append(literals[i]);
+            Object value = values.get(variables[i]);
+            if (value != null) {
+                builder.append(value);
+            }
+        }
+        builder.append(literals[variables.length]);
+        return builder.toString();
+    }
+
+    /**
+     * 변수가 없는 템플릿의 본문 (공통 지시사항 등)
+     */
+    public String asStaticText() {
+        if (variables.length > 0) {
+            throw new IllegalStateException("변수가 있는 템플릿입니다: " + List.of(variables));
+        }
+        return literals[0];
+    }
+
+    public List<String> getVariables() {
+        return List.of(variables);
+    }
+}
@@ -0,0 +1,75 @@
+package com.travelingdog.backend.service;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.travelingdog.backend.exception.ForbiddenResourceAccessException;
+import com.travelingdog.backend.exception.ResourceNotFoundException;
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.repository.ItineraryActivityRepository;
+import com.travelingdog.backend.repository.ItineraryRepository;
+import com.travelingdog.backend.repository.SavedActivityRepository;
+import com.travelingdog.backend.repository.TravelPlanRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리소스 소유자 권한 검증
+ *
+ * 엔티티 연관관계(활동 → 일정 → 여행 계획 → 사용자)를 따라 읽지 않고, 기본키 조인으로 작성자 ID 하나만 조회해 비교합니다.
+ * 검증은 쿼리 한 번이며, 실패하면 엔티티를 전혀 읽지 않은 상태로 예외가 발생합니다.
+ * (없는 리소스는 404, 다른 사용자의 리소스는 403)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResourceAccessGuard {
+
+    private final TravelPlanRepository travelPlanRepository;
+    private final ItineraryRepository itineraryRepository;
+    private final ItineraryActivityRepository itineraryActivityRepository;
+    private final SavedActivityRepository savedActivityRepository;
+
+    /**
+     * 사용자가 여행 계획의 작성자인지 검증
+     *
+     * @param forbiddenMessage 작성자가 아닐 때의 오류 메시지
+     */
+    public void requirePlanOwner(Long planId, User user, String forbiddenMessage) {
+        require(travelPlanRepository.findOwnerIdById(planId), user,
+                "여행 계획을 찾을 수 없습니다.", forbiddenMessage);
+    }
+
+    /**
+     * 사용자가 일정이 속한 여행 계획의 작성자인지 검증
+     */
+    public void requireItineraryOwner(Long itineraryId, User user) {
+        require(itineraryRepository.findOwnerIdById(itineraryId), user,
+                "일정을 찾을 수 없습니다. ID: " + itineraryId, "해당 일정에 대한 접근 권한이 없습니다.");
+    }
+
+    /**
+     * 사용자가 활동이 속한 여행 계획의 작성자인지 검증
+     */
+    public void requireActivityOwner(Long activityId, User user) {
+        require(itineraryActivityRepository.findOwnerIdById(activityId), user,
+                "활동을 찾을 수 없습니다. ID: " + activityId, "해당 일정에 대한 접근 권한이 없습니다.");
+    }
+
+    /**
+     * 사용자가 저장 활동의 소유자인지 검증
+     */
+    public void requireSavedActivityOwner(Long savedActivityId, User user) {
+        require(savedActivityRepository.findOwnerIdById(savedActivityId), user,
+                "저장된 활동을 찾을 수 없습니다.", "삭제 권한이 없습니다.");
+    }
+
+    private static void require(Optional<Long> ownerId, User user, String notFoundMessage, String forbiddenMessage) {
+        Long owner = ownerId.orElseThrow(() -> new ResourceNotFoundException(notFoundMessage));
+        if (user == null || !owner.equals(user.getId())) {
+            throw new ForbiddenResourceAccessException(forbiddenMessage);
+        }
+    }
+}
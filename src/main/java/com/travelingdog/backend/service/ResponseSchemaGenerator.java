@@ -0,0 +1,121 @@
+package com.travelingdog.backend.service;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+/**
+ * DTO 클래스로부터 Gemini responseSchema(OpenAPI 스키마 부분집합)를 생성합니다.
+ *
+ * 속성 이름은 Jackson 역직렬화 규칙(@JsonProperty, @JsonIgnore)을 그대로 따르므로, 모델이 스키마대로 출력한 JSON은
+ * 같은 DTO로 바로 역직렬화됩니다. 모든 속성은 필수로 두고 값이 없을 수 있는 단일 값은 null을 허용합니다.
+ * 스키마는 요청마다 만들지 말고 상수로 한 번만 생성해 재사용하세요.
+ */
+public final class ResponseSchemaGenerator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    // 순환 참조 DTO 방지
+    private static final int MAX_DEPTH = 8;
+
+    private ResponseSchemaGenerator() {
+    }
+
+    /**
+     * @param type               응답 DTO 클래스
+     * @param excludedProperties 모델이 채우지 않는 최상위 속성 (예: 서버가 설정하는 createdAt)
+     */
+    public static Map<String, Object> schemaFor(Class<?> type, String... excludedProperties) {
+        return objectSchema(MAPPER.constructType(type), Set.of(excludedProperties), 0);
+    }
+
+    private static Map<String, Object> schemaOf(JavaType type, int depth) {
+        Class<?> raw = type.getRawClass();
+        Map<String, Object> schema = new LinkedHashMap<>();
+
+        if (CharSequence.class.isAssignableFrom(raw) || raw == Character.class || raw == char.class
+                || Temporal.class.isAssignableFrom(raw)) {
+            schema.put("type", "STRING");
+        } else if (raw.isEnum()) {
+            schema.put("type", "STRING");
+            schema.put("enum", Arrays.stream(raw.getEnumConstants()).map(Object::toString).toList());
+        } else if (raw == Integer.class || raw == int.class || raw == Long.class || raw == long.class
+                || raw == Short.class || raw == short.class || raw == BigInteger.class) {
+            schema.put("type", "INTEGER");
+        } else if (raw == Double.class || raw == double.class || raw == Float.class || raw == float.class
+                || raw == BigDecimal.class) {
+            schema.put("type", "NUMBER");
+        } else if (raw == Boolean.class || raw == boolean.class) {
+            schema.put("type", "BOOLEAN");
+        } else if (type.isCollectionLikeType() || type.isArrayType()) {
+            schema.put("type", "ARRAY");
+            schema.put("items", schemaOf(type.getContentType(), depth + 1));
+            return schema;
+        } else if (type.isMapLikeType()) {
+            throw new IllegalArgumentException("응답 스키마는 고정된 속성만 지원합니다: " + type);
+        } else {
+            return objectSchema(type, Set.of(), depth);
+        }
+        schema.put("nullable", true);
+        return schema;
+    }
+
+    private static Map<String, Object> objectSchema(JavaType type, Set<String> excluded, int depth) {
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("응답 스키마의 중첩이 너무 깊습니다: " + type);
+        }
+        BeanDescription description = MAPPER.getDeserializationConfig().introspect(type);
+
+        // Jackson은 @JsonProperty로 이름을 바꾼 속성을 뒤로 보내므로 필드 선언 순서로 다시 정렬
+        List<String> declared = declaredFieldNames(type.getRawClass());
+        List<BeanPropertyDefinition> ordered = new ArrayList<>(description.findProperties());
+        ordered.sort(Comparator.comparingInt(property -> property.getField() != null
+                ? declared.indexOf(property.getField().getName())
+                : Integer.MAX_VALUE));
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        List<String> names = new ArrayList<>();
+        for (BeanPropertyDefinition property : ordered) {
+            if (!property.couldDeserialize() || excluded.contains(property.getName())) {
+                continue;
+            }
+            properties.put(property.getName(), schemaOf(property.getPrimaryType(), depth + 1));
+            names.add(property.getName());
+        }
+
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "OBJECT");
+        schema.put("properties", properties);
+        schema.put("required", names);
+        // 선언 순서대로 출력하게 해 프롬프트 예시와 같은 순서를 유지
+        schema.put("propertyOrdering", names);
+        return schema;
+    }
+
+    private static List<String> declaredFieldNames(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(0, current);
+        }
+        List<String> names = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+            for (Field field : current.getDeclaredFields()) {
+                names.add(field.getName());
+            }
+        }
+        return names;
+    }
+}
@@ -1,12 +1,10 @@
 package com.travelingdog.backend.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.IOException;
+import java.util.Map;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.travelingdog.backend.dto.gemini.GeminiContent;
-import com.travelingdog.backend.dto.gemini.GeminiGenerationConfig;
-import com.travelingdog.backend.dto.gemini.GeminiResponse;
-import com.travelingdog.backend.dto.gemini.GeminiPart;
-import com.travelingdog.backend.dto.gemini.GeminiRequest;
+import com.travelingdog.backend.dto.ai.AiCompletionRequest;
 import com.travelingdog.backend.dto.restaurant.RestaurantRecommendationRequestDTO;
 import com.travelingdog.backend.dto.restaurant.RestaurantRecommendationResponseDTO;
 import com.travelingdog.backend.exception.ExternalApiException;
@@ -17,30 +15,23 @@ import com.travelingdog.backend.repository.TravelPlanRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
-
-import java.util.ArrayList;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RestaurantRecommendationService {
 
-    private final TravelPlanRepository travelPlanRepository;
-    private final RestClient restClient;
-    private final ObjectMapper objectMapper;
+    private static final String OPERATION = "restaurant";
 
-    @Value("${openai.api.key}")
-    private String openAiApiKey;
+    private static final Map<String, Object> RESPONSE_SCHEMA = ResponseSchemaGenerator
+            .schemaFor(RestaurantRecommendationResponseDTO.class);
 
-    @Value("${openai.api.url}")
-    private String openaiApiUrl;
+    private final TravelPlanRepository travelPlanRepository;
+    private final AiProviderRouter aiProviderRouter;
+    private final ObjectMapper objectMapper;
+    private final DestinationKnowledgeBase destinationKnowledgeBase;
+    private final AiStageTimer stageTimer;
 
     /**
      * 여행 계획 ID를 기반으로 맛집 추천을 생성
@@ -48,19 +39,27 @@ public class RestaurantRecommendationService {
     public RestaurantRecommendationResponseDTO generateRestaurantRecommendations(
             Long travelPlanId,
             RestaurantRecommendationRequestDTO requestDTO) {
-
-        // 여행 계획 조회
-        TravelPlan travelPlan = travelPlanRepository.findById(travelPlanId)
-                .orElseThrow(() -> new ResourceNotFoundException("여행 계획을 찾을 수 없습니다."));
-
-        // 프롬프트 생성
-        String prompt = createRestaurantPrompt(travelPlan, requestDTO);
-
-        // AI 호출
-        String aiResponse = callAI(prompt);
-
-        // 응답 파싱
-        return parseAIResponse(aiResponse);
+        return stageTimer.request(OPERATION, () -> {
+            // 여행 계획 조회
+            TravelPlan travelPlan = stageTimer.stage(OPERATION, "plan_lookup",
+                    () -> travelPlanRepository.findById(travelPlanId)
+                            .orElseThrow(() -> new ResourceNotFoundException("여행 계획을 찾을 수 없습니다.")));
+
+            // 프롬프트 생성 (여행 스타일/관심사 지연 로딩 포함)
+            String prompt = stageTimer.stage(OPERATION, "prompt", () -> createRestaurantPrompt(travelPlan, requestDTO));
+
+            // AI 호출 (공급자 호출 구간은 라우터에서 측정)
+            String aiResponse = callAI(prompt);
+
+            // 응답 파싱
+            RestaurantRecommendationResponseDTO response = stageTimer.stage(OPERATION, "parse",
+                    () -> parseAIResponse(aiResponse));
+
+            // 맛집 추천은 저장되지 않으므로 여행지 지식 저장소에 바로 기록
+            stageTimer.stage(OPERATION, "knowledge_base",
+                    () -> destinationKnowledgeBase.recordRestaurants(travelPlan.getCity(), response));
+            return response;
+        });
     }
 
     private String createRestaurantPrompt(TravelPlan travelPlan, RestaurantRecommendationRequestDTO requestDTO) {
@@ -130,54 +129,40 @@ public class RestaurantRecommendationService {
 
     private String callAI(String prompt) {
         try {
-            List<GeminiPart> parts = new ArrayList<>();
-            parts.add(GeminiPart.builder()
-                    .text(prompt)
-                    .build());
-
-            List<GeminiContent> contents = new ArrayList<>();
-            contents.add(GeminiContent.builder()
-                    .parts(parts)
+            return aiProviderRouter.complete(AiCompletionRequest.builder()
+                    .purpose(OPERATION)
+                    .prompt(prompt)
+                    .temperature(0.3f)
+                    .topK(1)
+                    .topP(1)
+                    .maxOutputTokens(3072) // 맛집 5~10개 기준
+                    .responseSchema(RESPONSE_SCHEMA)
                     .build());
-            // Gemini API 요청 구성
-            GeminiRequest geminiRequest = GeminiRequest.builder()
-                    .contents(contents)
-                    .generationConfig(GeminiGenerationConfig.builder()
-                            .temperature(0.3f)
-                            .topK(1)
-                            .topP(1)
-                            .maxOutputTokens(4096)
-                            .build())
-                    .build();
-
-            GeminiResponse geminiResponse = restClient.post()
-                    .uri(openaiApiUrl)
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + openAiApiKey)
-                    .body(geminiRequest)
-                    .retrieve()
-                    .body(GeminiResponse.class);
-
-            if (geminiResponse.getCandidates() != null && !geminiResponse.getCandidates().isEmpty()) {
-                return geminiResponse.getCandidates().get(0).getContent().getParts().get(0).getText();
-            } else {
-                throw new ExternalApiException("AI 응답이 비어있습니다.");
-            }
-
         } catch (Exception e) {
             log.error("AI 호출 중 오류 발생: ", e);
             throw new ExternalApiException("AI 서비스 호출 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
-    private RestaurantRecommendationResponseDTO parseAIResponse(String aiResponse) {
+    /**
+     * AI 응답을 파싱합니다.
+     */
+    RestaurantRecommendationResponseDTO parseAIResponse(String aiResponse) {
         try {
-            // JSON 응답 파싱
-            return objectMapper.readValue(aiResponse, RestaurantRecommendationResponseDTO.class);
-        } catch (JsonProcessingException e) {
+            return readResponse(objectMapper, aiResponse);
+        } catch (IOException e) {
             log.error("AI 응답 파싱 중 오류 발생: ", e);
             log.error("AI 응답 내용: {}", aiResponse);
             throw new ExternalApiException("AI 응답을 파싱하는 중 오류가 발생했습니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * AI 응답을 맛집 추천으로 읽습니다. (오프라인 리플레이 하네스에서 직접 호출)
+     */
+    static RestaurantRecommendationResponseDTO readResponse(ObjectMapper objectMapper, String aiResponse)
+            throws IOException {
+        // 순수 JSON은 바로, 코드 블록이나 설명이 섞인 응답은 JSON 객체만 추출해서 역직렬화
+        return AiResponseReader.read(objectMapper, aiResponse, RestaurantRecommendationResponseDTO.class);
+    }
+}
@@ -0,0 +1,192 @@
+package com.travelingdog.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSearchRequest;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSearchResponse;
+
+/**
+ * 필터 없는 공개 검색 결과의 앞쪽 페이지를 직렬화된 JSON 바이트로 보관합니다.
+ *
+ * 익명 트래픽 대부분이 같은 몇 개의 검색 조건(정렬 × 0~2 페이지 × 기본 크기)에 몰리므로, 이 조건만 미리 렌더링해
+ * 두고 백그라운드에서 주기적으로 다시 렌더링합니다. 그 외의 조건은 캐시하지 않습니다.
+ * GET 검색은 직렬화된 바이트를 ETag와 함께 내보내고, POST 검색은 같은 응답 객체를 재사용합니다.
+ */
+@Component
+public class SearchResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchResponseCache.class);
+
+    private static final int DEFAULT_PAGE_SIZE = new TravelPlanSearchRequest().getSize();
+
+    private final TravelPlanService travelPlanService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<SearchCacheKey, CachedSearchPage> pages = new ConcurrentHashMap<>();
+
+    @Value("${search.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${search.cache.max-page:2}")
+    private int maxPage;
+
+    @Value("${search.cache.sorts:recent,popular}")
+    private String[] sorts;
+
+    @Value("${search.cache.refresh-interval-ms:30000}")
+    private long refreshIntervalMs;
+
+    public SearchResponseCache(TravelPlanService travelPlanService, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.travelPlanService = travelPlanService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 캐시 대상 검색 조건이면 미리 렌더링된 응답을 반환합니다. 아직 렌더링되지 않았다면 즉시 렌더링합니다.
+     */
+    public Optional<CachedSearchPage> lookup(TravelPlanSearchRequest request) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        SearchCacheKey key = SearchCacheKey.from(request);
+        if (!isHot(key)) {
+            return Optional.empty();
+        }
+
+        CachedSearchPage cached = pages.get(key);
+        if (cached == null) {
+            cached = render(key);
+            pages.put(key, cached);
+        }
+        return Optional.of(cached);
+    }
+
+    /**
+     * 캐시 대상 조건 전체를 백그라운드에서 다시 렌더링합니다.
+     */
+    @Scheduled(fixedDelayString = "${search.cache.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        Set<SearchCacheKey> keys = new LinkedHashSet<>(hotKeys());
+        keys.addAll(pages.keySet());
+
+        for (SearchCacheKey key : keys) {
+            try {
+                pages.put(key, render(key));
+            } catch (Exception e) {
+                // 갱신 실패 시 기존 응답을 계속 제공
+                log.warn("검색 캐시 갱신 실패 - 조건: {}, 오류: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 응답의 Cache-Control max-age로 사용할 값 (초)
+     */
+    public long getMaxAgeSeconds() {
+        return Math.max(1, refreshIntervalMs / 1000);
+    }
+
+    private boolean isHot(SearchCacheKey key) {
+        return isBlank(key.keyword())
+                && isBlank(key.country())
+                && isBlank(key.city())
+                && Arrays.asList(sorts).contains(key.sortBy())
+                && key.page() >= 0 && key.page() <= maxPage
+                && key.size() == DEFAULT_PAGE_SIZE;
+    }
+
+    private List<SearchCacheKey> hotKeys() {
+        List<SearchCacheKey> keys = new ArrayList<>();
+        for (String sort : sorts) {
+            for (int page = 0; page <= maxPage; page++) {
+                keys.add(new SearchCacheKey(null, null, null, sort, page, DEFAULT_PAGE_SIZE));
+            }
+        }
+        return keys;
+    }
+
+    private CachedSearchPage render(SearchCacheKey key) {
+        TravelPlanSearchRequest request = key.toRequest();
+
+        // DTO 변환 중 지연 로딩이 일어나므로 요청 스레드 밖에서도 읽기 전용 트랜잭션 안에서 조회
+        TravelPlanSearchResponse response = transactionTemplate
+                .execute(status -> travelPlanService.searchTravelPlans(request));
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new CachedSearchPage(body, etag, response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("검색 응답 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    /**
+     * 캐시 키. TravelPlanSearchRequest의 모든 필드를 (기본값 적용 후) 포함합니다.
+     */
+    record SearchCacheKey(String keyword, String country, String city, String sortBy, int page, int size) {
+
+        static SearchCacheKey from(TravelPlanSearchRequest request) {
+            return new SearchCacheKey(
+                    normalize(request.getKeyword()),
+                    normalize(request.getCountry()),
+                    normalize(request.getCity()),
+                    request.getSortBy().toLowerCase(),
+                    request.getPage(),
+                    request.getSize());
+        }
+
+        // 공백만 다른 조건이 별도 키로 쌓이지 않도록 정규화
+        private static String normalize(String value) {
+            return isBlank(value) ? null : value.trim();
+        }
+
+        TravelPlanSearchRequest toRequest() {
+            return TravelPlanSearchRequest.builder()
+                    .keyword(keyword)
+                    .country(country)
+                    .city(city)
+                    .sortBy(sortBy)
+                    .page(page)
+                    .size(size)
+                    .build();
+        }
+    }
+
+    /**
+     * 미리 직렬화된 응답 본문과 ETag, 직렬화 전 응답 (POST 검색용)
+     */
+    public record CachedSearchPage(byte[] body, String etag, TravelPlanSearchResponse response) {
+    }
+}
@@ -0,0 +1,298 @@
+package com.travelingdog.backend.service;
+
+import java.text.Normalizer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.travelingdog.backend.dto.todayActivity.TodayActivityRequestDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO.ActivityRecommendation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 당일 활동 추천 캐시
+ *
+ * 위치(공백/기호/대소문자 정규화)마다 카테고리별로 최대 개수만큼 추천 목록(풀)을 한 번 생성해 두고,
+ * 요청마다 필요한 개수만큼 앞에서 잘라 응답합니다. 같은 위치라면 개수 조합이 달라도 같은 풀을 씁니다.
+ * 자주 조회되는 위치는 만료 전에 백그라운드에서 다시 생성하고, 만료 직후 일정 시간 동안은 이전 풀을 응답하면서
+ * 갱신합니다(stale-while-revalidate). 메모리 예산을 넘으면 가장 오래 조회되지 않은 위치부터 제거합니다.
+ */
+@Component
+public class TodayActivityCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TodayActivityCache.class);
+
+    // 항목 하나의 고정 비용(키, 엔트리, DTO, 리스트 4개)과 추천 하나의 객체 비용 추정값
+    private static final long ENTRY_OVERHEAD_BYTES = 512;
+    private static final long ACTIVITY_OVERHEAD_BYTES = 96;
+
+    // 접근 순서 LinkedHashMap (LRU), this로 동기화
+    private final LinkedHashMap<String, PoolEntry> pools = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, CompletableFuture<PoolEntry>> loading = new ConcurrentHashMap<>();
+    private final ExecutorService refresher = Executors.newVirtualThreadPerTaskExecutor();
+    private long totalBytes;
+
+    private final Counter hitCounter;
+    private final Counter staleCounter;
+    private final Counter missCounter;
+    private final Counter refreshCounter;
+    private final Counter evictionCounter;
+
+    Clock clock = Clock.systemDefaultZone();
+
+    @Value("${today-activity.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${today-activity.cache.pool-size:10}")
+    private int poolSize = 10;
+
+    @Value("${today-activity.cache.ttl-seconds:3600}")
+    private long ttlSeconds = 3600;
+
+    @Value("${today-activity.cache.refresh-ahead-ratio:0.8}")
+    private double refreshAheadRatio = 0.8;
+
+    @Value("${today-activity.cache.popular-min-hits:3}")
+    private int popularMinHits = 3;
+
+    @Value("${today-activity.cache.max-stale-seconds:600}")
+    private long maxStaleSeconds = 600;
+
+    @Value("${today-activity.cache.max-bytes:8388608}")
+    private long maxBytes = 8L * 1024 * 1024;
+
+    public TodayActivityCache(MeterRegistry meterRegistry) {
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.staleCounter = counter(meterRegistry, "stale");
+        this.missCounter = counter(meterRegistry, "miss");
+        this.refreshCounter = Counter.builder("today_activity.cache.refreshes").register(meterRegistry);
+        this.evictionCounter = Counter.builder("today_activity.cache.evictions").register(meterRegistry);
+        Gauge.builder("today_activity.cache.bytes", this, TodayActivityCache::estimatedBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("today_activity.cache.entries", this, TodayActivityCache::size).register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("today_activity.cache.requests").tag("result", result).register(meterRegistry);
+    }
+
+    /**
+     * 캐시 풀로 응답할 수 있는 요청인지 (카테고리별 요청 개수가 풀 크기 이하)
+     */
+    public boolean canServe(TodayActivityRequestDTO request) {
+        return enabled && normalizeLocation(request.getLocation()) != null
+                && withinPool(request.getRestaurantCount()) && withinPool(request.getCultureCount())
+                && withinPool(request.getShoppingCount()) && withinPool(request.getNatureCount());
+    }
+
+    private boolean withinPool(Integer count) {
+        return count == null || count <= poolSize;
+    }
+
+    /**
+     * 위치의 추천 풀에서 요청 개수만큼 잘라 돌려줍니다. 풀이 없거나 너무 오래되었으면 generator로 생성합니다.
+     *
+     * @param generator 카테고리별 풀 크기만큼의 추천을 생성하는 함수 (AI 호출)
+     */
+    public TodayActivityResponseDTO recommend(TodayActivityRequestDTO request,
+            Function<TodayActivityRequestDTO, TodayActivityResponseDTO> generator) {
+        String key = normalizeLocation(request.getLocation());
+        PoolEntry entry = get(key);
+
+        if (entry == null) {
+            missCounter.increment();
+            entry = load(key, request.getLocation(), generator, true);
+        } else {
+            long ageMillis = Duration.between(entry.createdAt(), clock.instant()).toMillis();
+            long ttlMillis = ttlSeconds * 1000;
+            int hits = entry.hits().incrementAndGet();
+
+            if (ageMillis >= ttlMillis + maxStaleSeconds * 1000) {
+                missCounter.increment();
+                entry = load(key, request.getLocation(), generator, true);
+            } else if (ageMillis >= ttlMillis) {
+                // 만료 직후에는 이전 풀로 바로 응답하고 백그라운드에서 갱신
+                staleCounter.increment();
+                refreshAsync(key, request.getLocation(), generator);
+            } else {
+                hitCounter.increment();
+                if (ageMillis >= ttlMillis * refreshAheadRatio && hits >= popularMinHits) {
+                    // 자주 조회되는 위치는 만료 전에 미리 갱신
+                    refreshAsync(key, request.getLocation(), generator);
+                }
+            }
+        }
+        return slice(entry, request);
+    }
+
+    private synchronized PoolEntry get(String key) {
+        return pools.get(key);
+    }
+
+    private void refreshAsync(String key, String location,
+            Function<TodayActivityRequestDTO, TodayActivityResponseDTO> generator) {
+        if (loading.containsKey(key)) {
+            return;
+        }
+        refresher.execute(() -> {
+            try {
+                if (load(key, location, generator, false) != null) {
+                    refreshCounter.increment();
+                }
+            } catch (Exception e) {
+                // 갱신 실패 시 기존 풀을 계속 제공
+                log.warn("당일 활동 추천 캐시 갱신 실패 - 위치: {}, 오류: {}", location, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 같은 위치의 생성 요청은 하나만 AI를 호출하고 나머지는 그 결과를 기다립니다.
+     *
+     * @param waitForInFlight false면 이미 생성 중일 때 기다리지 않고 null을 돌려줌 (백그라운드 갱신용)
+     */
+    private PoolEntry load(String key, String location,
+            Function<TodayActivityRequestDTO, TodayActivityResponseDTO> generator, boolean waitForInFlight) {
+        CompletableFuture<PoolEntry> created = new CompletableFuture<>();
+        CompletableFuture<PoolEntry> existing = loading.putIfAbsent(key, created);
+        if (existing != null) {
+            return waitForInFlight ? join(existing) : null;
+        }
+
+        try {
+            TodayActivityResponseDTO pool = generator.apply(
+                    new TodayActivityRequestDTO(location, poolSize, poolSize, poolSize, poolSize));
+            PoolEntry entry = new PoolEntry(pool, clock.instant(), estimateBytes(key, pool), new AtomicInteger());
+            put(key, entry);
+            created.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, created);
+        }
+    }
+
+    private static PoolEntry join(CompletableFuture<PoolEntry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private synchronized void put(String key, PoolEntry entry) {
+        PoolEntry previous = pools.put(key, entry);
+        totalBytes += entry.bytes() - (previous != null ? previous.bytes() : 0);
+
+        // 메모리 예산을 넘으면 가장 오래 조회되지 않은 위치부터 제거 (방금 넣은 항목은 유지)
+        Iterator<Map.Entry<String, PoolEntry>> eldest = pools.entrySet().iterator();
+        while (totalBytes > maxBytes && pools.size() > 1 && eldest.hasNext()) {
+            Map.Entry<String, PoolEntry> candidate = eldest.next();
+            if (candidate.getKey().equals(key)) {
+                continue;
+            }
+            totalBytes -= candidate.getValue().bytes();
+            eldest.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    synchronized long estimatedBytes() {
+        return totalBytes;
+    }
+
+    synchronized int size() {
+        return pools.size();
+    }
+
+    private static TodayActivityResponseDTO slice(PoolEntry entry, TodayActivityRequestDTO request) {
+        TodayActivityResponseDTO pool = entry.pool();
+        TodayActivityResponseDTO response = new TodayActivityResponseDTO();
+        response.setLocation(request.getLocation());
+        response.setCreatedAt(pool.getCreatedAt() != null ? pool.getCreatedAt() : LocalDateTime.now());
+        response.setRestaurants(head(pool.getRestaurants(), request.getRestaurantCount()));
+        response.setCultureSpots(head(pool.getCultureSpots(), request.getCultureCount()));
+        response.setShoppingSpots(head(pool.getShoppingSpots(), request.getShoppingCount()));
+        response.setNatureSpots(head(pool.getNatureSpots(), request.getNatureCount()));
+        return response;
+    }
+
+    private static List<ActivityRecommendation> head(List<ActivityRecommendation> activities, Integer count) {
+        if (activities == null || count == null || count <= 0) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(activities.subList(0, Math.min(count, activities.size())));
+    }
+
+    private static long estimateBytes(String key, TodayActivityResponseDTO pool) {
+        long bytes = ENTRY_OVERHEAD_BYTES + 2L * key.length();
+        for (List<ActivityRecommendation> activities : List.of(
+                nullToEmpty(pool.getRestaurants()), nullToEmpty(pool.getCultureSpots()),
+                nullToEmpty(pool.getShoppingSpots()), nullToEmpty(pool.getNatureSpots()))) {
+            for (ActivityRecommendation activity : activities) {
+                bytes += ACTIVITY_OVERHEAD_BYTES + 2L * length(activity.getLocationName())
+                        + 2L * length(activity.getCategory());
+            }
+        }
+        return bytes;
+    }
+
+    private static List<ActivityRecommendation> nullToEmpty(List<ActivityRecommendation> activities) {
+        return activities != null ? activities : List.of();
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    /**
+     * 캐시 키용 위치 정규화: 유니코드 NFC, 소문자, 공백/기호 제거 ("하카타 역", "하카타역" → 같은 키)
+     */
+    static String normalizeLocation(String location) {
+        if (location == null) {
+            return null;
+        }
+        String key = Normalizer.normalize(location, Normalizer.Form.NFC)
+                .replaceAll("[\\s\\p{Punct}·]", "")
+                .toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : key;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private record PoolEntry(TodayActivityResponseDTO pool, Instant createdAt, long bytes, AtomicInteger hits) {
+    }
+}
@@ -1,36 +1,37 @@
 package com.travelingdog.backend.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.travelingdog.backend.dto.gemini.GeminiContent;
-import com.travelingdog.backend.dto.gemini.GeminiGenerationConfig;
-import com.travelingdog.backend.dto.gemini.GeminiPart;
-import com.travelingdog.backend.dto.gemini.GeminiRequest;
-import com.travelingdog.backend.dto.gemini.GeminiResponse;
+import com.travelingdog.backend.dto.CursorPageResponse;
+import com.travelingdog.backend.dto.ai.AiCompletionRequest;
+import com.travelingdog.backend.dto.todayActivity.DeleteActivitiesResponseDTO;
+import com.travelingdog.backend.dto.todayActivity.SaveActivitiesResponseDTO;
 import com.travelingdog.backend.dto.todayActivity.SaveActivityRequestDTO;
+import com.travelingdog.backend.dto.todayActivity.SavedActivityCountsDTO;
 import com.travelingdog.backend.dto.todayActivity.SavedActivityResponseDTO;
 import com.travelingdog.backend.dto.todayActivity.TodayActivityRequestDTO;
 import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO;
 import com.travelingdog.backend.exception.ExternalApiException;
+import com.travelingdog.backend.exception.ForbiddenResourceAccessException;
 import com.travelingdog.backend.exception.InvalidRequestException;
 import com.travelingdog.backend.exception.ResourceNotFoundException;
 import com.travelingdog.backend.model.SavedActivity;
 import com.travelingdog.backend.model.User;
 import com.travelingdog.backend.repository.SavedActivityRepository;
+import com.travelingdog.backend.status.BulkItemStatus;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,37 +40,65 @@ public class TodayActivityService {
 
     private static final Logger log = LoggerFactory.getLogger(TodayActivityService.class);
 
-    @Value("${gemini.api.key}")
-    private String geminiApiKey;
+    // location, createdAt은 서버에서 채움
+    private static final Map<String, Object> RESPONSE_SCHEMA = ResponseSchemaGenerator
+            .schemaFor(TodayActivityResponseDTO.class, "location", "createdAt");
 
-    @Value("${gemini.api.url}")
-    private String geminiApiUrl;
+    private static final String OPERATION = "today-activity";
 
-    private final RestClient restClient;
+    static final int MAX_SAVED_PAGE_SIZE = 50;
+    static final int MAX_BULK_SIZE = 100;
+
+    private final AiProviderRouter aiProviderRouter;
     private final SavedActivityRepository savedActivityRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectMapper objectMapper;
+    private final TodayActivityCache todayActivityCache;
+    private final DestinationKnowledgeBase destinationKnowledgeBase;
+    private final UserStatsService userStatsService;
+    private final ResourceAccessGuard accessGuard;
+    private final AiStageTimer stageTimer;
 
     /**
      * 당일 활동 추천을 생성합니다.
      */
     public TodayActivityResponseDTO generateTodayActivity(TodayActivityRequestDTO request) {
-        try {
-            // 1. AI 프롬프트 생성
-            String prompt = createTodayActivityPrompt(request);
+        return stageTimer.request(OPERATION, () -> {
+            try {
+                // 다른 여행자들의 일정/저장 장소로 모든 카테고리를 채울 수 있으면 AI 호출 없이 응답
+                TodayActivityResponseDTO known = stageTimer.stage(OPERATION, "knowledge_base",
+                        () -> destinationKnowledgeBase.answer(request));
+                if (known != null) {
+                    return known;
+                }
+
+                // 위치별로 미리 생성해 둔 추천 목록에서 요청 개수만큼 잘라 응답
+                if (todayActivityCache.canServe(request)) {
+                    return todayActivityCache.recommend(request, this::generate);
+                }
+                return generate(request);
+
+            } catch (ExternalApiException e) {
+                log.error("AI API 호출 실패: {}", e.getMessage());
+                throw e;
+            } catch (Exception e) {
+                log.error("당일 활동 추천 생성 중 오류 발생: {}", e.getMessage());
+                throw new InvalidRequestException("당일 활동 추천 생성에 실패했습니다: " + e.getMessage());
+            }
+        });
+    }
 
-            // 2. Gemini API 호출
-            String aiResponse = callGeminiApi(prompt);
+    /**
+     * AI를 호출해 요청 개수만큼 추천을 생성합니다.
+     */
+    private TodayActivityResponseDTO generate(TodayActivityRequestDTO request) {
+        // 1. AI 프롬프트 생성
+        String prompt = stageTimer.stage(OPERATION, "prompt", () -> createTodayActivityPrompt(request));
 
-            // 3. AI 응답 파싱
-            return parseAiResponse(aiResponse, request);
+        // 2. AI 호출 (공급자 호출 구간은 라우터에서 측정)
+        String aiResponse = callAiProvider(prompt, maxOutputTokensFor(request));
 
-        } catch (ExternalApiException e) {
-            log.error("AI API 호출 실패: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("당일 활동 추천 생성 중 오류 발생: {}", e.getMessage());
-            throw new InvalidRequestException("당일 활동 추천 생성에 실패했습니다: " + e.getMessage());
-        }
+        // 3. AI 응답 파싱
+        return stageTimer.stage(OPERATION, "parse", () -> parseAiResponse(aiResponse, request));
     }
 
     /**
@@ -91,6 +120,16 @@ public class TodayActivityService {
         prompt.append("1. 각 장소의 정확한 위치를 구글맵 기준으로 제공하고, 반드시 실제로 존재하는 장소만 추천해주세요.\n");
         prompt.append("2. 현재 위치에서 접근 가능한 장소들을 우선적으로 추천해주세요.\n\n");
 
+        // 여행지 지식 저장소에 이 지역 장소가 있으면 후보로 제공
+        Map<DestinationKnowledgeBase.Category, List<String>> candidates = destinationKnowledgeBase
+                .candidates(request.getLocation());
+        if (!candidates.isEmpty()) {
+            prompt.append("**참고 후보** (다른 여행자들이 이 지역에서 방문하거나 저장한 장소, 조건에 맞으면 우선 활용):\n");
+            candidates.forEach((category, names) -> prompt.append("- ").append(category.getLabel()).append(": ")
+                    .append(String.join(", ", names)).append("\n"));
+            prompt.append("\n");
+        }
+
         prompt.append("**JSON 형식으로 응답해주세요**:\n");
         prompt.append("{\n");
         prompt.append("  \"restaurants\": [\n");
@@ -125,55 +164,36 @@ public class TodayActivityService {
     }
 
     /**
-     * Gemini API를 호출합니다.
+     * 요청한 장소 수에 맞춰 출력 토큰 한도를 정합니다. (장소 하나당 약 60토큰, 코드 블록 등 여유분 포함 120토큰)
      */
-    private String callGeminiApi(String prompt) {
-        try {
-            // Gemini API 요청 구성
-            GeminiRequest geminiRequest = new GeminiRequest();
-
-            List<GeminiContent> contents = new ArrayList<>();
-            GeminiContent content = new GeminiContent();
-
-            List<GeminiPart> parts = new ArrayList<>();
-            GeminiPart part = new GeminiPart();
-            part.setText(prompt);
-            parts.add(part);
-
-            content.setParts(parts);
-            contents.add(content);
-            geminiRequest.setContents(contents);
-
-            // Generation config 설정
-            GeminiGenerationConfig generationConfig = new GeminiGenerationConfig();
-            generationConfig.setTemperature(0.3f);
-            generationConfig.setTopK(40);
-            generationConfig.setTopP(1);
-            generationConfig.setMaxOutputTokens(8192);
-            geminiRequest.setGenerationConfig(generationConfig);
-
-            // API 호출
-            GeminiResponse geminiResponse = restClient.post()
-                    .uri(geminiApiUrl + "?key=" + geminiApiKey)
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .body(geminiRequest)
-                    .retrieve()
-                    .body(GeminiResponse.class);
-
-            if (geminiResponse != null &&
-                    geminiResponse.getCandidates() != null &&
-                    !geminiResponse.getCandidates().isEmpty() &&
-                    geminiResponse.getCandidates().get(0).getContent() != null &&
-                    geminiResponse.getCandidates().get(0).getContent().getParts() != null &&
-                    !geminiResponse.getCandidates().get(0).getContent().getParts().isEmpty()) {
-
-                return geminiResponse.getCandidates().get(0).getContent().getParts().get(0).getText();
-            }
+    private int maxOutputTokensFor(TodayActivityRequestDTO request) {
+        int places = nullToZero(request.getRestaurantCount()) + nullToZero(request.getCultureCount())
+                + nullToZero(request.getShoppingCount()) + nullToZero(request.getNatureCount());
+        return Math.min(4096, 512 + places * 120);
+    }
 
-            throw new ExternalApiException("Gemini API로부터 유효한 응답을 받지 못했습니다.");
+    private static int nullToZero(Integer value) {
+        return value == null ? 0 : value;
+    }
 
+    /**
+     * AI 공급자 라우터를 통해 응답을 생성합니다.
+     */
+    private String callAiProvider(String prompt, int maxOutputTokens) {
+        try {
+            return aiProviderRouter.complete(AiCompletionRequest.builder()
+                    .purpose(OPERATION)
+                    .prompt(prompt)
+                    .temperature(0.3f)
+                    .topK(40)
+                    .topP(1)
+                    .maxOutputTokens(maxOutputTokens)
+                    .responseSchema(RESPONSE_SCHEMA)
+                    .build());
+        } catch (ExternalApiException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Gemini API 호출 중 오류 발생: {}", e.getMessage());
+            log.error("AI API 호출 중 오류 발생: {}", e.getMessage());
             throw new ExternalApiException("AI API 호출에 실패했습니다: " + e.getMessage());
         }
     }
@@ -181,98 +201,56 @@ public class TodayActivityService {
     /**
      * AI 응답을 파싱하여 TodayActivityResponseDTO로 변환합니다.
      */
-    private TodayActivityResponseDTO parseAiResponse(String aiResponse, TodayActivityRequestDTO request) {
+    TodayActivityResponseDTO parseAiResponse(String aiResponse, TodayActivityRequestDTO request) {
         try {
-            // JSON 응답에서 코드 블록 제거
-            String cleanedResponse = aiResponse;
-            if (aiResponse.contains("```json")) {
-                cleanedResponse = aiResponse.substring(
-                        aiResponse.indexOf("```json") + 7,
-                        aiResponse.lastIndexOf("```")).trim();
-            } else if (aiResponse.contains("```")) {
-                cleanedResponse = aiResponse.substring(
-                        aiResponse.indexOf("```") + 3,
-                        aiResponse.lastIndexOf("```")).trim();
-            }
-
-            // JSON 파싱
-            JsonNode rootNode = objectMapper.readTree(cleanedResponse);
-
-            TodayActivityResponseDTO response = new TodayActivityResponseDTO();
-            response.setLocation(request.getLocation());
-            response.setCreatedAt(LocalDateTime.now());
-
-            // 각 카테고리별 파싱
-            response.setRestaurants(parseActivityList(rootNode.get("restaurants")));
-            response.setCultureSpots(parseActivityList(rootNode.get("cultureSpots")));
-            response.setShoppingSpots(parseActivityList(rootNode.get("shoppingSpots")));
-            response.setNatureSpots(parseActivityList(rootNode.get("natureSpots")));
-
-            return response;
-
-        } catch (JsonProcessingException e) {
+            return readResponse(objectMapper, aiResponse, request.getLocation());
+        } catch (IOException e) {
             log.error("AI 응답 JSON 파싱 실패: {}", e.getMessage());
             throw new InvalidRequestException("AI 응답을 처리하는 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * JsonNode를 ActivityRecommendation 리스트로 변환합니다.
+     * AI 응답을 읽어 위치/생성 시각을 채우고 빠진 카테고리를 빈 배열로 맞춥니다. (오프라인 리플레이 하네스에서 직접 호출)
      */
-    private List<TodayActivityResponseDTO.ActivityRecommendation> parseActivityList(JsonNode arrayNode) {
-        List<TodayActivityResponseDTO.ActivityRecommendation> activities = new ArrayList<>();
-
-        if (arrayNode != null && arrayNode.isArray()) {
-            for (JsonNode node : arrayNode) {
-                TodayActivityResponseDTO.ActivityRecommendation activity = new TodayActivityResponseDTO.ActivityRecommendation();
-
-                activity.setLocationName(getStringValue(node, "locationName"));
-                activity.setCategory(getStringValue(node, "category"));
-
-                activities.add(activity);
-            }
-        }
-
-        return activities;
+    static TodayActivityResponseDTO readResponse(ObjectMapper objectMapper, String aiResponse, String location)
+            throws IOException {
+        TodayActivityResponseDTO response = AiResponseReader.read(objectMapper, aiResponse,
+                TodayActivityResponseDTO.class);
+        response.setLocation(location);
+        response.setCreatedAt(LocalDateTime.now());
+
+        // 모델이 생략한 카테고리는 빈 배열로 통일
+        response.setRestaurants(nullToEmpty(response.getRestaurants()));
+        response.setCultureSpots(nullToEmpty(response.getCultureSpots()));
+        response.setShoppingSpots(nullToEmpty(response.getShoppingSpots()));
+        response.setNatureSpots(nullToEmpty(response.getNatureSpots()));
+
+        return response;
     }
 
-    private String getStringValue(JsonNode node, String fieldName) {
-        JsonNode fieldNode = node.get(fieldName);
-        return (fieldNode != null && !fieldNode.isNull()) ? fieldNode.asText() : null;
-    }
-
-    private Integer getIntegerValue(JsonNode node, String fieldName) {
-        JsonNode fieldNode = node.get(fieldName);
-        return (fieldNode != null && !fieldNode.isNull()) ? fieldNode.asInt() : null;
-    }
-
-    private Double getDoubleValue(JsonNode node, String fieldName) {
-        JsonNode fieldNode = node.get(fieldName);
-        return (fieldNode != null && !fieldNode.isNull()) ? fieldNode.asDouble() : null;
+    private static List<TodayActivityResponseDTO.ActivityRecommendation> nullToEmpty(
+            List<TodayActivityResponseDTO.ActivityRecommendation> activities) {
+        return activities != null ? activities : new ArrayList<>();
     }
 
     /**
-     * 활동을 저장합니다.
+     * 활동을 저장합니다. 중복 확인과 삽입은 INSERT ... ON CONFLICT DO NOTHING 한 문장으로 처리합니다.
      */
+    @Transactional
     public SavedActivityResponseDTO saveActivity(SaveActivityRequestDTO request, User user) {
         try {
-            // 중복 저장 확인
-            Optional<SavedActivity> existingActivity = savedActivityRepository
-                    .findByUserAndLocationNameAndCategory(user, request.getLocationName(), request.getCategory());
+            int inserted = savedActivityRepository.insertIfAbsent(user.getId(), request.getLocationName(),
+                    request.getCategory(), request.getSavedLocation(), LocalDateTime.now());
 
-            if (existingActivity.isPresent()) {
+            if (inserted == 0) {
                 throw new InvalidRequestException("이미 저장된 활동입니다.");
             }
+            userStatsService.savedActivitiesChanged(user.getId(), 1);
 
-            // 새로운 활동 저장
-            SavedActivity savedActivity = SavedActivity.builder()
-                    .user(user)
-                    .locationName(request.getLocationName())
-                    .category(request.getCategory())
-                    .savedLocation(request.getSavedLocation())
-                    .build();
-
-            SavedActivity saved = savedActivityRepository.save(savedActivity);
+            SavedActivity saved = savedActivityRepository
+                    .findByUserAndLocationNameAndCategory(user, request.getLocationName(), request.getCategory())
+                    .orElseThrow(() -> new ResourceNotFoundException("저장된 활동을 찾을 수 없습니다."));
 
             log.info("활동 저장 완료 - 사용자: {}, 활동명: {}, 카테고리: {}",
                     user.getEmail(), request.getLocationName(), request.getCategory());
@@ -288,15 +266,21 @@ public class TodayActivityService {
     }
 
     /**
-     * 사용자의 저장된 활동 목록을 조회합니다.
+     * 사용자의 저장된 활동 목록을 최신순으로 커서 기반 조회합니다.
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 50)
      */
-    public List<SavedActivityResponseDTO> getSavedActivities(User user) {
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SavedActivityResponseDTO> getSavedActivities(User user, String cursor, int size) {
+        int pageSize = pageSize(size);
+        SavedActivityCursor position = SavedActivityCursor.decode(cursor);
         try {
-            List<SavedActivity> savedActivities = savedActivityRepository.findByUserOrderByCreatedAtDesc(user);
+            // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+            List<SavedActivity> savedActivities = savedActivityRepository.findPageByUserId(user.getId(),
+                    position.createdAt(), position.id(), pageSize + 1);
 
-            return savedActivities.stream()
-                    .map(SavedActivityResponseDTO::fromEntity)
-                    .collect(Collectors.toList());
+            return toPage(savedActivities, pageSize);
 
         } catch (Exception e) {
             log.error("저장된 활동 조회 중 오류 발생: {}", e.getMessage());
@@ -305,16 +289,18 @@ public class TodayActivityService {
     }
 
     /**
-     * 카테고리별 저장된 활동 목록을 조회합니다.
+     * 카테고리별 저장된 활동 목록을 최신순으로 커서 기반 조회합니다.
      */
-    public List<SavedActivityResponseDTO> getSavedActivitiesByCategory(User user, String category) {
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SavedActivityResponseDTO> getSavedActivitiesByCategory(User user, String category,
+            String cursor, int size) {
+        int pageSize = pageSize(size);
+        SavedActivityCursor position = SavedActivityCursor.decode(cursor);
         try {
-            List<SavedActivity> savedActivities = savedActivityRepository
-                    .findByUserAndCategoryOrderByCreatedAtDesc(user, category);
+            List<SavedActivity> savedActivities = savedActivityRepository.findPageByUserIdAndCategory(user.getId(),
+                    category, position.createdAt(), position.id(), pageSize + 1);
 
-            return savedActivities.stream()
-                    .map(SavedActivityResponseDTO::fromEntity)
-                    .collect(Collectors.toList());
+            return toPage(savedActivities, pageSize);
 
         } catch (Exception e) {
             log.error("카테고리별 저장된 활동 조회 중 오류 발생: {}", e.getMessage());
@@ -322,24 +308,37 @@ public class TodayActivityService {
         }
     }
 
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SAVED_PAGE_SIZE));
+    }
+
+    private static CursorPageResponse<SavedActivityResponseDTO> toPage(List<SavedActivity> savedActivities,
+            int pageSize) {
+        List<SavedActivityResponseDTO> fetched = savedActivities.stream()
+                .map(SavedActivityResponseDTO::fromEntity)
+                .collect(Collectors.toList());
+        return CursorPageResponse.of(fetched, pageSize,
+                activity -> SavedActivityCursor.encode(activity.getCreatedAt(), activity.getId()));
+    }
+
     /**
      * 저장된 활동을 삭제합니다.
      */
+    @Transactional
     public void deleteSavedActivity(Long activityId, User user) {
         try {
-            SavedActivity savedActivity = savedActivityRepository.findById(activityId)
-                    .orElseThrow(() -> new ResourceNotFoundException("저장된 활동을 찾을 수 없습니다."));
+            // 소유자 확인 (소유자 ID만 조회, 엔티티를 읽지 않음)
+            accessGuard.requireSavedActivityOwner(activityId, user);
 
-            // 소유자 확인
-            if (!savedActivity.getUser().getId().equals(user.getId())) {
-                throw new InvalidRequestException("삭제 권한이 없습니다.");
+            // 동시에 같은 활동을 지운 요청이 있으면 0건이므로 실제로 지운 경우에만 집계를 줄임
+            int deletedCount = savedActivityRepository.deleteByUserIdAndIdIn(user.getId(), List.of(activityId));
+            if (deletedCount > 0) {
+                userStatsService.savedActivitiesChanged(user.getId(), -deletedCount);
             }
 
-            savedActivityRepository.delete(savedActivity);
-
             log.info("저장된 활동 삭제 완료 - 사용자: {}, 활동 ID: {}", user.getEmail(), activityId);
 
-        } catch (ResourceNotFoundException | InvalidRequestException e) {
+        } catch (ResourceNotFoundException | ForbiddenResourceAccessException e) {
             throw e;
         } catch (Exception e) {
             log.error("저장된 활동 삭제 중 오류 발생: {}", e.getMessage());
@@ -348,9 +347,136 @@ public class TodayActivityService {
     }
 
     /**
-     * 사용자의 저장된 활동 개수를 조회합니다.
+     * 활동 여러 개를 한 번에 저장합니다.
+     * 삽입은 JDBC 배치 한 번(ON CONFLICT로 중복 건너뜀), 응답용 조회는 한 번으로 항목 수와 관계없이 문장 수가 일정합니다.
+     */
+    @Transactional
+    public SaveActivitiesResponseDTO saveActivities(List<SaveActivityRequestDTO> requests, User user) {
+        validateBulkSize(requests.size());
+
+        List<SaveActivityRequestDTO> valid = requests.stream().filter(TodayActivityService::isValid).toList();
+        boolean[] inserted = valid.isEmpty() ? new boolean[0]
+                : savedActivityRepository.batchInsertIfAbsent(user.getId(), valid, LocalDateTime.now());
+
+        Map<ActivityKey, SavedActivity> savedByKey = valid.isEmpty() ? Map.of()
+                : savedActivityRepository.findByUserIdAndLocationNameIn(user.getId(),
+                        valid.stream().map(SaveActivityRequestDTO::getLocationName).collect(Collectors.toSet()))
+                        .stream()
+                        .collect(Collectors.toMap(
+                                activity -> new ActivityKey(activity.getLocationName(), activity.getCategory()),
+                                activity -> activity));
+
+        List<SaveActivitiesResponseDTO.Result> results = new ArrayList<>(requests.size());
+        int savedCount = 0;
+        int validIndex = 0;
+        for (SaveActivityRequestDTO request : requests) {
+            if (!isValid(request)) {
+                results.add(new SaveActivitiesResponseDTO.Result(request.getLocationName(), request.getCategory(),
+                        BulkItemStatus.INVALID, null));
+                continue;
+            }
+            boolean saved = inserted[validIndex++];
+            if (saved) {
+                savedCount++;
+            }
+            SavedActivity activity = savedByKey.get(new ActivityKey(request.getLocationName(), request.getCategory()));
+            results.add(new SaveActivitiesResponseDTO.Result(request.getLocationName(), request.getCategory(),
+                    saved ? BulkItemStatus.SAVED : BulkItemStatus.DUPLICATE,
+                    activity != null ? SavedActivityResponseDTO.fromEntity(activity) : null));
+        }
+
+        if (savedCount > 0) {
+            userStatsService.savedActivitiesChanged(user.getId(), savedCount);
+        }
+        log.info("활동 일괄 저장 완료 - 사용자: {}, 요청: {}, 저장: {}, 유효하지 않음: {}",
+                user.getEmail(), requests.size(), savedCount, requests.size() - valid.size());
+
+        return new SaveActivitiesResponseDTO(savedCount, valid.size() - savedCount, results);
+    }
+
+    /**
+     * 저장된 활동 여러 개를 한 번에 삭제합니다. 사용자가 소유한 활동만 삭제하며, 없거나 다른 사용자의 활동은 NOT_FOUND로 응답합니다.
+     */
+    @Transactional
+    public DeleteActivitiesResponseDTO deleteSavedActivities(List<Long> activityIds, User user) {
+        validateBulkSize(activityIds.size());
+
+        Set<Long> requested = activityIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        Set<Long> owned = requested.isEmpty() ? Set.of()
+                : new HashSet<>(savedActivityRepository.findIdsByUserIdAndIdIn(user.getId(), requested));
+        int deletedCount = owned.isEmpty() ? 0 : savedActivityRepository.deleteByUserIdAndIdIn(user.getId(), owned);
+
+        if (deletedCount > 0) {
+            userStatsService.savedActivitiesChanged(user.getId(), -deletedCount);
+        }
+        log.info("저장된 활동 일괄 삭제 완료 - 사용자: {}, 요청: {}, 삭제: {}",
+                user.getEmail(), activityIds.size(), deletedCount);
+
+        // 같은 ID가 여러 번 있으면 처음 한 번만 DELETED
+        Set<Long> reported = new HashSet<>();
+        List<DeleteActivitiesResponseDTO.Result> results = activityIds.stream()
+                .map(id -> new DeleteActivitiesResponseDTO.Result(id,
+                        owned.contains(id) && reported.add(id) ? BulkItemStatus.DELETED : BulkItemStatus.NOT_FOUND))
+                .toList();
+        return new DeleteActivitiesResponseDTO(deletedCount, results);
+    }
+
+    private static void validateBulkSize(int size) {
+        if (size == 0) {
+            throw new InvalidRequestException("처리할 활동이 없습니다.");
+        }
+        if (size > MAX_BULK_SIZE) {
+            throw new InvalidRequestException("한 번에 처리할 수 있는 활동은 최대 " + MAX_BULK_SIZE + "개입니다.");
+        }
+    }
+
+    private static boolean isValid(SaveActivityRequestDTO request) {
+        return request != null && request.getLocationName() != null && !request.getLocationName().isBlank()
+                && request.getCategory() != null && !request.getCategory().isBlank();
+    }
+
+    private record ActivityKey(String locationName, String category) {
+    }
+
+    /**
+     * 사용자의 저장된 활동 개수를 조회합니다. (미리 유지된 집계를 읽으므로 COUNT를 실행하지 않음)
      */
+    @Transactional
     public long getSavedActivityCount(User user) {
-        return savedActivityRepository.countByUser(user);
+        return userStatsService.getOrInitialize(user).getSavedActivityCount();
+    }
+
+    /**
+     * 사용자의 저장된 활동 개수를 카테고리별로 한 번에 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public SavedActivityCountsDTO getSavedActivityCounts(User user) {
+        return SavedActivityCountsDTO.from(savedActivityRepository.countByUserIdGroupByCategory(user.getId()));
+    }
+
+    /**
+     * 저장 활동 목록 커서: 마지막 항목의 "저장시각_ID" (첫 페이지는 모든 행보다 뒤인 위치에서 시작)
+     */
+    record SavedActivityCursor(LocalDateTime createdAt, long id) {
+
+        private static final SavedActivityCursor FIRST = new SavedActivityCursor(
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+        static String encode(LocalDateTime createdAt, Long id) {
+            return createdAt + "_" + id;
+        }
+
+        static SavedActivityCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return FIRST;
+            }
+            int separator = cursor.lastIndexOf('_');
+            try {
+                return new SavedActivityCursor(LocalDateTime.parse(cursor.substring(0, separator)),
+                        Long.parseLong(cursor.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new InvalidRequestException("잘못된 커서입니다: " + cursor);
+            }
+        }
     }
-}
\ No newline at end of file
+}
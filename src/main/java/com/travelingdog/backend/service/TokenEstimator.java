@@ -0,0 +1,35 @@
+package com.travelingdog.backend.service;
+
+/**
+ * 토크나이저 없이 프롬프트 토큰 수를 추정합니다.
+ *
+ * 영문/숫자는 4글자당 1토큰, 한글/한자/가나는 1글자당 1토큰, 그 밖의 기호는 1글자당 1토큰으로 셉니다.
+ * Gemini/OpenAI 토크나이저 기준으로 한국어 프롬프트는 실제보다 조금 크게 잡히므로 예산 계산에는 안전한 쪽입니다.
+ * 공급자가 실제 사용량을 보고하면 그 값을 우선 사용합니다.
+ */
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int tokens = 0;
+        int wordLength = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 128 && Character.isLetterOrDigit(c)) {
+                wordLength++;
+                continue;
+            }
+            tokens += (wordLength + 3) / 4;
+            wordLength = 0;
+            if (!Character.isWhitespace(c)) {
+                tokens++;
+            }
+        }
+        return tokens + (wordLength + 3) / 4;
+    }
+}
@@ -2,9 +2,10 @@ package com.travelingdog.backend.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -15,21 +16,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClient;
 
 import com.travelingdog.backend.dto.AIRecommendedItineraryDTO;
 import com.travelingdog.backend.dto.AIRecommendedTravelPlanDTO;
-import com.travelingdog.backend.dto.gemini.GeminiContent;
-import com.travelingdog.backend.dto.gemini.GeminiGenerationConfig;
-import com.travelingdog.backend.dto.gemini.GeminiPart;
-import com.travelingdog.backend.dto.gemini.GeminiRequest;
-import com.travelingdog.backend.dto.gemini.GeminiResponse;
-import com.travelingdog.backend.dto.gpt.AIChatMessage;
-import com.travelingdog.backend.dto.gpt.AIChatRequest;
-import com.travelingdog.backend.dto.gpt.AIChatResponse;
+import com.travelingdog.backend.dto.ai.AiCompletionRequest;
 import com.travelingdog.backend.dto.travelPlan.ItineraryDTO;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanDTO;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanRequest;
@@ -63,127 +54,122 @@ public class TravelPlanService {
 
     private static final Logger log = LoggerFactory.getLogger(TravelPlanService.class);
 
-    @Value("${openai.api.key}")
-    private String openAiApiKey;
+    private static final String OPERATION = "travel-plan";
 
-    @Value("${gemini.api.key}")
-    private String geminiApiKey;
+    private static final Map<String, Object> TRAVEL_PLAN_SCHEMA = ResponseSchemaGenerator
+            .schemaFor(AIRecommendedTravelPlanDTO.class);
 
-    @Value("${gemini.api.url}")
-    private String geminiApiUrl;
+    @Value("${ai.prompt.base-output-tokens:512}")
+    private int baseOutputTokens = 512;
 
-    private final RestClient restClient;
+    @Value("${ai.prompt.output-tokens-per-day:700}")
+    private int outputTokensPerDay = 700;
+
+    @Value("${ai.prompt.min-output-tokens:1024}")
+    private int minOutputTokens = 1024;
+
+    @Value("${ai.prompt.max-output-tokens:8192}")
+    private int maxOutputTokens = 8192;
+
+    private final AiProviderRouter aiProviderRouter;
     private final GptResponseHandler gptResponseHandler;
     private final TravelPlanRepository travelPlanRepository;
     private final PlanLikeRepository planLikeRepository;
+    private final ItineraryRouteOptimizer itineraryRouteOptimizer;
+    private final ChunkedTripPlanGenerator chunkedTripPlanGenerator;
+    private final UserStatsService userStatsService;
+    private final ResourceAccessGuard accessGuard;
+    private final AiStageTimer stageTimer;
 
     @Transactional
     public TravelPlanDTO createTravelPlan(TravelPlanRequest request, User user) {
-        try {
-            // 1. AI 추천 먼저 받아오기
-            AIRecommendedTravelPlanDTO aiRecommendedPlan = generateTripPlanWithGemini(request);
-
-            // 2. TravelPlan 객체 생성 (fromDTO는 TravelPlan만 생성)
-            TravelPlan travelPlan = TravelPlan.fromDTO(aiRecommendedPlan);
-            travelPlan.setUser(user);
-
-            // 3. 연관 엔티티 add 메서드로 추가 (양방향 세팅)
-            // TravelStyle
-            if (aiRecommendedPlan.getTravelStyle() != null) {
-                for (String style : aiRecommendedPlan.getTravelStyle()) {
-                    TravelStyle travelStyle = TravelStyle.builder().name(style).build();
-                    travelPlan.addTravelStyle(travelStyle);
-                }
+        return stageTimer.request(OPERATION, () -> {
+            try {
+                // 1. AI 추천 먼저 받아오기 (프롬프트/공급자 호출/파싱 단계는 requestTripPlan에서 측정)
+                AIRecommendedTravelPlanDTO aiRecommendedPlan = generateTripPlan(request);
+
+                // 1-1. 일자별 활동 순서를 이동 거리 기준으로 재배치
+                stageTimer.stage(OPERATION, "route_optimization",
+                        () -> itineraryRouteOptimizer.optimize(aiRecommendedPlan));
+
+                // 2~3. TravelPlan과 연관 엔티티 생성
+                TravelPlan travelPlan = stageTimer.stage(OPERATION, "entity_construction",
+                        () -> buildTravelPlan(aiRecommendedPlan, user));
+
+                // 4. 한 번에 저장
+                stageTimer.stage(OPERATION, "persistence", () -> {
+                    travelPlanRepository.save(travelPlan);
+                    userStatsService.planCreated(user.getId());
+                });
+
+                // 5. DTO 반환
+                return stageTimer.stage(OPERATION, "dto_mapping", () -> TravelPlanDTO.fromEntity(travelPlan));
+            } catch (ExternalApiException e) {
+                log.error("AI 추천 실패: {}", e.getMessage());
+                throw new InvalidRequestException("AI 추천을 받지 못했습니다: " + e.getMessage());
             }
-            // Interest
-            if (aiRecommendedPlan.getInterests() != null) {
-                for (String interest : aiRecommendedPlan.getInterests()) {
-                    Interest interestEntity = Interest.builder().name(interest).build();
-                    travelPlan.addInterest(interestEntity);
-                }
+        });
+    }
+
+    private TravelPlan buildTravelPlan(AIRecommendedTravelPlanDTO aiRecommendedPlan, User user) {
+        // fromDTO는 TravelPlan만 생성
+        TravelPlan travelPlan = TravelPlan.fromDTO(aiRecommendedPlan);
+        travelPlan.setUser(user);
+
+        // 연관 엔티티 add 메서드로 추가 (양방향 세팅)
+        // TravelStyle
+        if (aiRecommendedPlan.getTravelStyle() != null) {
+            for (String style : aiRecommendedPlan.getTravelStyle()) {
+                TravelStyle travelStyle = TravelStyle.builder().name(style).build();
+                travelPlan.addTravelStyle(travelStyle);
             }
-            // AccommodationType
-            if (aiRecommendedPlan.getAccommodation() != null) {
-                for (String accommodation : aiRecommendedPlan.getAccommodation()) {
-                    AccommodationType accommodationType = AccommodationType.builder().name(accommodation).build();
-                    travelPlan.addAccommodationType(accommodationType);
-                }
+        }
+        // Interest
+        if (aiRecommendedPlan.getInterests() != null) {
+            for (String interest : aiRecommendedPlan.getInterests()) {
+                Interest interestEntity = Interest.builder().name(interest).build();
+                travelPlan.addInterest(interestEntity);
             }
-            // Transportation
-            if (aiRecommendedPlan.getTransportation() != null) {
-                for (String transportation : aiRecommendedPlan.getTransportation()) {
-                    Transportation transportationType = Transportation.builder().name(transportation).build();
-                    travelPlan.addTransportation(transportationType);
-                }
+        }
+        // AccommodationType
+        if (aiRecommendedPlan.getAccommodation() != null) {
+            for (String accommodation : aiRecommendedPlan.getAccommodation()) {
+                AccommodationType accommodationType = AccommodationType.builder().name(accommodation).build();
+                travelPlan.addAccommodationType(accommodationType);
             }
-
-            // Itinerary (fromDto에서 travelPlan 세팅됨)
-            List<Itinerary> itineraries = aiRecommendedPlan.getItinerary().stream()
-                    .map(dto -> Itinerary.fromDto(dto, travelPlan))
-                    .collect(Collectors.toList());
-            travelPlan.setItineraries(itineraries);
-
-            // 4. 한 번에 저장
-            travelPlanRepository.save(travelPlan);
-
-            // 5. DTO 반환
-            return TravelPlanDTO.fromEntity(travelPlan);
-        } catch (ExternalApiException e) {
-            log.error("AI 추천 실패: {}", e.getMessage());
-            throw new InvalidRequestException("AI 추천을 받지 못했습니다: " + e.getMessage());
         }
+        // Transportation
+        if (aiRecommendedPlan.getTransportation() != null) {
+            for (String transportation : aiRecommendedPlan.getTransportation()) {
+                Transportation transportationType = Transportation.builder().name(transportation).build();
+                travelPlan.addTransportation(transportationType);
+            }
+        }
+
+        // Itinerary (fromDto에서 travelPlan 세팅됨)
+        List<Itinerary> itineraries = aiRecommendedPlan.getItinerary().stream()
+                .map(dto -> Itinerary.fromDto(dto, travelPlan))
+                .collect(Collectors.toList());
+        travelPlan.setItineraries(itineraries);
+        return travelPlan;
     }
 
+    /**
+     * AI 공급자 라우터를 통해 여행 계획을 생성합니다. 긴 여행은 구간별로 나눠 동시에 생성합니다.
+     */
     private AIRecommendedTravelPlanDTO generateTripPlan(TravelPlanRequest request) {
         try {
-            // 강화된 프롬프트 생성
-            String prompt = gptResponseHandler.createEnhancedPrompt(
-                    request.getCity(),
-                    request.getStartDate(),
-                    request.getEndDate(),
-                    request.getTravelStyle(),
-                    request.getInterests(),
-                    request.getAccommodation(),
-                    request.getTransportation(),
-                    request.getUserSpecifiedAccommodations());
-
-            // GPT API 요청 메시지 구성
-            List<AIChatMessage> messages = new ArrayList<>();
-            messages.add(new AIChatMessage("system", "You are a travel recommendation assistant."));
-            messages.add(new AIChatMessage("user", prompt));
-
-            AIChatRequest openAiRequest = new AIChatRequest();
-            openAiRequest.setModel("gpt-3.5-turbo");
-            openAiRequest.setMessages(messages);
-            openAiRequest.setTemperature(0.3); // 안정적인 JSON 응답을 위해 낮은 temperature 설정
-
-            String openAiUrl = "https://api.openai.com/v1/chat/completions";
-
-            AIChatResponse openAiResponse = restClient.post()
-                    .uri(openAiUrl)
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + openAiApiKey)
-                    .body(openAiRequest)
-                    .retrieve()
-                    .body(AIChatResponse.class);
-
-            if (openAiResponse != null && openAiResponse.getChoices() != null
-                    && !openAiResponse.getChoices().isEmpty()) {
-                String content = openAiResponse.getChoices().get(0).getMessage().getContent();
-
-                try {
-                    // 응답 파싱 및 검증
-                    return gptResponseHandler.parseGptResponse(content);
-                } catch (Exception e) {
-                    log.error("GPT 응답 처리 중 오류 발생: {}", e.getMessage());
-                    // 대체 응답 사용
-                    return gptResponseHandler.getFallbackResponse(
-                            request.getCity(),
-                            request.getStartDate(),
-                            request.getEndDate());
-                }
+            AIRecommendedTravelPlanDTO plan = chunkedTripPlanGenerator.shouldChunk(request)
+                    ? chunkedTripPlanGenerator.generate(request, this::requestTripPlan)
+                    : requestTripPlan(request, null);
+            if (plan == null) {
+                // 대체 응답 사용
+                return gptResponseHandler.getFallbackResponse(
+                        request.getCity(),
+                        request.getStartDate(),
+                        request.getEndDate());
             }
-            throw new ExternalApiException("GPT API 호출에 실패했습니다.");
+            return plan;
         } catch (ExternalApiException e) {
             log.error("외부 API 호출 중 오류 발생: {}", e.getMessage());
             throw e;
@@ -194,12 +180,16 @@ public class TravelPlanService {
     }
 
     /**
-     * Gemini API를 사용하여 여행 계획을 생성합니다.
+     * 한 번의 AI 호출로 요청 기간의 일정을 생성합니다. 응답을 파싱하지 못하면 null을 돌려줍니다.
+     *
+     * @param tripContext 분할 생성 시 전체 여행 정보 (단일 호출이면 null)
      */
-    private AIRecommendedTravelPlanDTO generateTripPlanWithGemini(TravelPlanRequest request) {
-        try {
-            // 강화된 프롬프트 생성 (기존 프롬프트 재사용)
-            String prompt = gptResponseHandler.createEnhancedPrompt(
+    private AIRecommendedTravelPlanDTO requestTripPlan(TravelPlanRequest request, String tripContext) {
+        String operation = tripContext != null ? "travel-plan-chunk" : OPERATION;
+
+        // 강화된 프롬프트 생성
+        String prompt = stageTimer.stage(operation, "prompt", () -> {
+            String enhanced = gptResponseHandler.createEnhancedPrompt(
                     request.getCity(),
                     request.getStartDate(),
                     request.getEndDate(),
@@ -208,65 +198,41 @@ public class TravelPlanService {
                     request.getAccommodation(),
                     request.getTransportation(),
                     request.getUserSpecifiedAccommodations());
+            return tripContext != null ? enhanced + "\n\n" + tripContext : enhanced;
+        });
+
+        String content = aiProviderRouter.complete(AiCompletionRequest.builder()
+                .purpose(operation)
+                .systemPrompt(gptResponseHandler.getTravelPlanInstructions())
+                .prompt(prompt)
+                .temperature(0.3f) // 안정적인 JSON 응답을 위해 낮은 temperature 설정
+                .topK(1)
+                .topP(1)
+                .maxOutputTokens(maxOutputTokensFor(request))
+                .responseSchema(TRAVEL_PLAN_SCHEMA)
+                .build());
 
-            List<GeminiPart> parts = new ArrayList<>();
-            parts.add(GeminiPart.builder()
-                    .text(prompt)
-                    .build());
-
-            List<GeminiContent> contents = new ArrayList<>();
-            contents.add(GeminiContent.builder()
-                    .parts(parts)
-                    .build());
-            // Gemini API 요청 구성
-            GeminiRequest geminiRequest = GeminiRequest.builder()
-                    .contents(contents)
-                    .generationConfig(GeminiGenerationConfig.builder()
-                            .temperature(0.3f)
-                            .topK(1)
-                            .topP(1)
-                            .maxOutputTokens(4096)
-                            .build())
-                    .build();
-
-            // Gemini API 호출
-            GeminiResponse geminiResponse = restClient.post()
-                    .uri(geminiApiUrl)
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .header("x-goog-api-key", geminiApiKey)
-                    .body(geminiRequest)
-                    .retrieve()
-                    .body(GeminiResponse.class);
-
-            if (geminiResponse != null &&
-                    geminiResponse.getCandidates() != null &&
-                    !geminiResponse.getCandidates().isEmpty()) {
-
-                String content = geminiResponse.getCandidates().get(0)
-                        .getContent().getParts().get(0).getText();
-
-                try {
-                    // 응답 파싱 및 검증 (기존 파서 재사용)
-                    return gptResponseHandler.parseGptResponse(content);
-                } catch (Exception e) {
-                    log.error("Gemini 응답 처리 중 오류 발생: {}", e.getMessage());
-                    // 대체 응답 사용
-                    return gptResponseHandler.getFallbackResponse(
-                            request.getCity(),
-                            request.getStartDate(),
-                            request.getEndDate());
-                }
-            }
-            throw new ExternalApiException("Gemini API 호출에 실패했습니다.");
-        } catch (ExternalApiException e) {
-            log.error("외부 API 호출 중 오류 발생: {}", e.getMessage());
-            throw e;
+        try {
+            // 응답 파싱 및 검증
+            return stageTimer.stage(operation, "parse", () -> gptResponseHandler.parseGptResponse(content, prompt));
         } catch (Exception e) {
-            log.error("여행 계획 생성 중 오류 발생: {}", e.getMessage());
-            throw new InvalidRequestException("여행 계획 생성에 실패했습니다: " + e.getMessage());
+            log.error("AI 응답 처리 중 오류 발생: {}", e.getMessage());
+            return null;
         }
     }
 
+    /**
+     * 여행 일수에 맞춰 출력 토큰 한도를 정합니다. (짧은 여행에 긴 한도를 주면 잘못된 응답이 길게 이어져 지연이 커짐)
+     */
+    int maxOutputTokensFor(TravelPlanRequest request) {
+        long days = 1;
+        if (request.getStartDate() != null && request.getEndDate() != null) {
+            days = Math.max(1, ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1);
+        }
+        long budget = baseOutputTokens + days * outputTokensPerDay;
+        return (int) Math.min(maxOutputTokens, Math.max(minOutputTokens, budget));
+    }
+
     /**
      * 다른 유저의 리스트는 조회할 수 없음.
      */
@@ -281,7 +247,7 @@ public class TravelPlanService {
      * 여행 계획 상세 조회
      */
     public TravelPlanDTO getTravelPlanDetail(Long id, User user) {
-        TravelPlan travelPlan = travelPlanRepository.findById(id)
+        TravelPlan travelPlan = travelPlanRepository.findDetailById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("여행 계획을 찾을 수 없습니다."));
 
         // 공개된 여행 계획은 누구나 조회 가능
@@ -301,13 +267,11 @@ public class TravelPlanService {
      * 여행 계획 수정
      */
     public TravelPlanDTO updateTravelPlan(Long id, TravelPlanUpdateRequest request, User user) {
+        accessGuard.requirePlanOwner(id, user, "수정할 수 없는 여행 계획입니다.");
+
         TravelPlan travelPlan = travelPlanRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("여행 계획을 찾을 수 없습니다."));
 
-        if (!travelPlan.getUser().getId().equals(user.getId())) {
-            throw new ForbiddenResourceAccessException("수정할 수 없는 여행 계획입니다.");
-        }
-
         // 기존 여행 계획의 속성만 업데이트
         travelPlan.setTitle(request.getTitle());
         travelPlan.setStartDate(request.getStartDate());
@@ -340,14 +304,16 @@ public class TravelPlanService {
      */
     @Transactional
     public void deleteTravelPlan(Long id, User user) {
+        accessGuard.requirePlanOwner(id, user, "삭제할 수 없는 여행 계획입니다.");
+
         TravelPlan travelPlan = travelPlanRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("여행 계획을 찾을 수 없습니다."));
 
-        if (!travelPlan.getUser().getId().equals(user.getId())) {
-            throw new ForbiddenResourceAccessException("삭제할 수 없는 여행 계획입니다.");
-        }
-
+        boolean alreadyDeleted = travelPlan.getStatus() == PlanStatus.DELETED;
         travelPlan.softDelete();
+        if (!alreadyDeleted) {
+            userStatsService.planDeleted(user.getId(), travelPlan.getLikeCount());
+        }
     }
 
     /**
@@ -355,13 +321,11 @@ public class TravelPlanService {
      */
     @Transactional
     public TravelPlanDTO publishTravelPlan(Long id, User user) {
+        accessGuard.requirePlanOwner(id, user, "공개할 수 없는 여행 계획입니다.");
+
         TravelPlan travelPlan = travelPlanRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("여행 계획을 찾을 수 없습니다."));
 
-        if (!travelPlan.getUser().getId().equals(user.getId())) {
-            throw new ForbiddenResourceAccessException("공개할 수 없는 여행 계획입니다.");
-        }
-
         travelPlan.setStatus(PlanStatus.PUBLISHED);
         return TravelPlanDTO.fromEntity(travelPlan);
     }
@@ -371,13 +335,11 @@ public class TravelPlanService {
      */
     @Transactional
     public TravelPlanDTO unpublishTravelPlan(Long id, User user) {
+        accessGuard.requirePlanOwner(id, user, "비공개할 수 없는 여행 계획입니다.");
+
         TravelPlan travelPlan = travelPlanRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("여행 계획을 찾을 수 없습니다."));
 
-        if (!travelPlan.getUser().getId().equals(user.getId())) {
-            throw new ForbiddenResourceAccessException("비공개할 수 없는 여행 계획입니다.");
-        }
-
         travelPlan.setStatus(PlanStatus.PRIVATE);
         return TravelPlanDTO.fromEntity(travelPlan);
     }
@@ -407,6 +369,7 @@ public class TravelPlanService {
             travelPlan.removeLike(existingLike.get());
             planLikeRepository.delete(existingLike.get());
             travelPlanRepository.save(travelPlan);
+            recordLikeReceived(travelPlan, -1);
             return false; // 좋아요 취소됨
         } else {
             // 좋아요 추가
@@ -417,6 +380,7 @@ public class TravelPlanService {
 
             travelPlan.addLike(planLike);
             travelPlanRepository.save(travelPlan);
+            recordLikeReceived(travelPlan, 1);
             return true; // 좋아요 추가됨
         }
     }
@@ -443,6 +407,16 @@ public class TravelPlanService {
         travelPlan.removeLike(planLike);
         planLikeRepository.delete(planLike);
         travelPlanRepository.save(travelPlan);
+        recordLikeReceived(travelPlan, -1);
+    }
+
+    /**
+     * 계획 작성자의 받은 좋아요 수를 증감합니다. 삭제된 계획의 좋아요는 삭제 시점에 이미 뺐으므로 반영하지 않습니다.
+     */
+    private void recordLikeReceived(TravelPlan travelPlan, int delta) {
+        if (travelPlan.getStatus() != PlanStatus.DELETED) {
+            userStatsService.likesReceivedChanged(travelPlan.getUser().getId(), delta);
+        }
     }
 
     /**
@@ -513,6 +487,9 @@ public class TravelPlanService {
                 return travelPlanRepository.searchByKeywordOrderByPopular(keyword, PlanStatus.PUBLISHED, pageRequest);
             case "oldest":
                 return travelPlanRepository.searchByKeywordOrderByOldest(keyword, PlanStatus.PUBLISHED, pageRequest);
+            case "trending":
+                return travelPlanRepository.searchByKeywordOrderByTrending(keyword, PlanStatus.PUBLISHED,
+                        pageRequest);
             case "recent":
             default:
                 return travelPlanRepository.searchByKeywordOrderByRecent(keyword, PlanStatus.PUBLISHED, pageRequest);
@@ -534,6 +511,9 @@ public class TravelPlanService {
             case "oldest":
                 return travelPlanRepository.findByLocationOrderByOldest(safeCity, safeCountry, PlanStatus.PUBLISHED,
                         pageRequest);
+            case "trending":
+                return travelPlanRepository.findByLocationOrderByTrending(safeCity, safeCountry, PlanStatus.PUBLISHED,
+                        pageRequest);
             case "recent":
             default:
                 return travelPlanRepository.findByLocationOrderByRecent(safeCity, safeCountry, PlanStatus.PUBLISHED,
@@ -551,6 +531,8 @@ public class TravelPlanService {
                 return travelPlanRepository.findByLocationOrderByPopular("", "", PlanStatus.PUBLISHED, pageRequest);
             case "oldest":
                 return travelPlanRepository.findByLocationOrderByOldest("", "", PlanStatus.PUBLISHED, pageRequest);
+            case "trending":
+                return travelPlanRepository.findByLocationOrderByTrending("", "", PlanStatus.PUBLISHED, pageRequest);
             case "recent":
             default:
                 return travelPlanRepository.findByLocationOrderByRecent("", "", PlanStatus.PUBLISHED, pageRequest);
@@ -0,0 +1,148 @@
+package com.travelingdog.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.travelingdog.backend.repository.PlanLikeRepository;
+import com.travelingdog.backend.repository.TravelPlanRepository;
+
+/**
+ * 여행 계획의 시간 감쇠 인기 점수(hotScore)를 주기적으로 계산합니다.
+ *
+ * 점수는 log2(Σ 2^((t - EPOCH) / halfLife)) 형태로 저장합니다. 모든 계획에 같은 감쇠 계수가 곱해지므로
+ * 현재 시각이 바뀌어도 순서가 유지되고, 새 좋아요가 생기거나 수정된 계획만 다시 계산하면 됩니다.
+ * 대상은 ID 순으로 배치 단위로 나누어 배치마다 별도 트랜잭션과 JDBC 배치 UPDATE 한 번으로 갱신합니다.
+ */
+@Service
+@ConditionalOnProperty(name = "trending.enabled", havingValue = "true", matchIfMissing = true)
+public class TrendingRankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingRankingService.class);
+
+    static final LocalDateTime SCORE_EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int BATCH_SIZE = 500;
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+
+    private final TravelPlanRepository travelPlanRepository;
+    private final PlanLikeRepository planLikeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${trending.half-life-hours:48}")
+    private double halfLifeHours;
+
+    // 마지막 갱신 시작 시각 (null이면 전체 재계산)
+    private volatile LocalDateTime lastRefreshedAt;
+
+    public TrendingRankingService(TravelPlanRepository travelPlanRepository, PlanLikeRepository planLikeRepository,
+            PlatformTransactionManager transactionManager) {
+        this.travelPlanRepository = travelPlanRepository;
+        this.planLikeRepository = planLikeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 마지막 실행 이후 변경된 여행 계획의 인기 점수를 갱신합니다.
+     */
+    @Scheduled(initialDelayString = "${trending.initial-delay-ms:10000}", fixedDelayString = "${trending.refresh-interval-ms:60000}")
+    public void refreshScores() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastRefreshedAt;
+
+        int refreshed = 0;
+        if (since == null) {
+            // 전체 재계산은 ID 키셋으로 끊어 읽어 ID 목록 전체를 메모리에 올리지 않음
+            List<Long> ids = travelPlanRepository.findIdsAfter(0L, PageRequest.ofSize(BATCH_SIZE));
+            while (!ids.isEmpty()) {
+                refreshBatch(ids);
+                refreshed += ids.size();
+                ids = travelPlanRepository.findIdsAfter(ids.get(ids.size() - 1), PageRequest.ofSize(BATCH_SIZE));
+            }
+        } else {
+            LocalDateTime from = since.minus(WATERMARK_OVERLAP);
+            Set<Long> targetIds = new TreeSet<>(travelPlanRepository.findIdsUpdatedSince(from));
+            targetIds.addAll(planLikeRepository.findTravelPlanIdsLikedSince(from));
+
+            List<Long> ids = new ArrayList<>(targetIds);
+            for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+                refreshBatch(ids.subList(i, Math.min(i + BATCH_SIZE, ids.size())));
+            }
+            refreshed = ids.size();
+        }
+
+        lastRefreshedAt = startedAt;
+        if (refreshed > 0) {
+            log.info("인기 점수 갱신 완료 - 대상: {}건, 전체 재계산: {}", refreshed, since == null);
+        }
+    }
+
+    private void refreshBatch(List<Long> ids) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, List<LocalDateTime>> likedAtByPlan = new HashMap<>();
+            for (Object[] row : planLikeRepository.findLikedAtByTravelPlanIds(ids)) {
+                likedAtByPlan.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((LocalDateTime) row[1]);
+            }
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (Object[] row : travelPlanRepository.findScoreInputsByIds(ids)) {
+                Long id = (Long) row[0];
+                scores.put(id, hotScore(likedAtByPlan.getOrDefault(id, List.of()), (LocalDateTime) row[1],
+                        halfLifeHours));
+            }
+            travelPlanRepository.batchUpdateHotScores(scores);
+        });
+    }
+
+    /**
+     * 좋아요 시각과 생성 시각으로 시간 감쇠 인기 점수를 계산합니다.
+     * 각 이벤트는 발생 시각 기준 2^((t - EPOCH) / halfLife)의 가중치를 가지며, 합계를 log2로 저장합니다.
+     */
+    static double hotScore(List<LocalDateTime> likedAts, LocalDateTime createdAt, double halfLifeHours) {
+        List<double[]> terms = new ArrayList<>(likedAts.size() + 1);
+
+        // 신규 계획이 바로 노출될 수 있도록 생성 시각을 기본 가중치 1로 반영
+        if (createdAt != null) {
+            terms.add(new double[] { exponent(createdAt, halfLifeHours), 1.0 });
+        }
+        for (LocalDateTime likedAt : likedAts) {
+            if (likedAt != null) {
+                terms.add(new double[] { exponent(likedAt, halfLifeHours), 1.0 });
+            }
+        }
+
+        if (terms.isEmpty()) {
+            return 0.0;
+        }
+
+        // log-sum-exp (밑 2)로 오버플로 없이 합산
+        double max = Double.NEGATIVE_INFINITY;
+        for (double[] term : terms) {
+            max = Math.max(max, term[0]);
+        }
+        double sum = 0.0;
+        for (double[] term : terms) {
+            sum += term[1] * Math.pow(2.0, term[0] - max);
+        }
+        return max + Math.log(sum) / Math.log(2.0);
+    }
+
+    private static double exponent(LocalDateTime time, double halfLifeHours) {
+        double hours = Duration.between(SCORE_EPOCH, time).toSeconds() / 3600.0;
+        return hours / halfLifeHours;
+    }
+}
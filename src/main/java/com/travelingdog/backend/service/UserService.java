@@ -1,17 +1,20 @@
 package com.travelingdog.backend.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.travelingdog.backend.dto.CursorPageResponse;
 import com.travelingdog.backend.dto.UserProfileDTO;
-import com.travelingdog.backend.dto.travelPlan.TravelPlanDTO;
-import com.travelingdog.backend.model.TravelPlan;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSummaryDTO;
+import com.travelingdog.backend.exception.InvalidRequestException;
 import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.model.UserStats;
 import com.travelingdog.backend.repository.TravelPlanRepository;
 import com.travelingdog.backend.repository.UserRepository;
+import com.travelingdog.backend.status.PlanStatus;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,21 +22,53 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class UserService {
 
+    static final int MAX_PAGE_SIZE = 50;
+
     private final UserRepository userRepository;
     private final TravelPlanRepository travelPlanRepository;
+    private final UserStatsService userStatsService;
 
-    @Transactional(readOnly = true)
+    /**
+     * 프로필 헤더를 조회합니다. 집계는 미리 유지된 값을 읽고, 여행 계획 목록은 포함하지 않습니다.
+     * (집계 행이 없는 사용자는 처음 한 번 만들어야 하므로 읽기 전용 트랜잭션이 아님)
+     */
+    @Transactional
     public UserProfileDTO getUserProfile(User user) {
 
         // 최신 사용자 정보 조회 (선택적)
         User refreshedUser = userRepository.findById(user.getId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        List<TravelPlan> travelPlans = travelPlanRepository.findAllByUser(user);
-        List<TravelPlanDTO> travelPlanDTOs = travelPlans.stream()
-                .map(TravelPlanDTO::fromEntity)
-                .collect(Collectors.toList());
+        UserStats stats = userStatsService.getOrInitialize(refreshedUser);
+
+        return UserProfileDTO.fromEntity(refreshedUser, stats);
+    }
+
+    /**
+     * 사용자의 여행 계획 요약을 최신순으로 커서 기반 조회합니다. (삭제된 계획 제외)
+     *
+     * @param cursor 이전 페이지의 nextCursor (마지막 계획 ID, 첫 페이지는 null)
+     * @param size   페이지 크기 (최대 50)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TravelPlanSummaryDTO> getTravelPlanSummaries(User user, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<TravelPlanSummaryDTO> fetched = travelPlanRepository.findSummariesByUserId(user.getId(),
+                PlanStatus.DELETED, parseCursor(cursor), PageRequest.of(0, pageSize + 1));
+
+        return CursorPageResponse.of(fetched, pageSize, summary -> String.valueOf(summary.getId()));
+    }
 
-        return UserProfileDTO.fromEntity(refreshedUser, travelPlanDTOs);
+    private static long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("잘못된 커서입니다: " + cursor);
+        }
     }
-}
\ No newline at end of file
+}
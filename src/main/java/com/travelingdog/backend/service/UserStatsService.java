@@ -0,0 +1,72 @@
+package com.travelingdog.backend.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.model.UserStats;
+import com.travelingdog.backend.repository.UserStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 집계(계획 수, 받은 좋아요 수, 저장한 활동 수)를 증분으로 관리합니다.
+ *
+ * 변경이 일어난 트랜잭션 안에서 원자적 UPDATE로 증감하고, 집계 행이 없는 사용자는 처음 조회할 때 한 번만 전체를 셉니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+
+    /**
+     * 사용자 집계를 조회합니다. 아직 없으면 현재 데이터로 세어서 만듭니다.
+     */
+    @Transactional
+    public UserStats getOrInitialize(User user) {
+        return userStatsRepository.findById(user.getId()).orElseGet(() -> initialize(user));
+    }
+
+    private UserStats initialize(User user) {
+        userStatsRepository.insertFromCurrentCounts(user.getId());
+        // 동시에 다른 요청이 먼저 만들었으면 그 행을 읽음 (방금 센 값이 아니라 저장된 값을 응답에 씀)
+        return userStatsRepository.findById(user.getId())
+                .orElseThrow(() -> new IllegalStateException("사용자 집계를 만들지 못했습니다: " + user.getId()));
+    }
+
+    /**
+     * 여행 계획이 생성되었을 때
+     */
+    @Transactional
+    public void planCreated(Long userId) {
+        userStatsRepository.addPlanCount(userId, 1);
+    }
+
+    /**
+     * 여행 계획이 삭제되었을 때 (계획이 받은 좋아요도 함께 뺌)
+     */
+    @Transactional
+    public void planDeleted(Long userId, int likeCount) {
+        userStatsRepository.addPlanCount(userId, -1);
+        if (likeCount != 0) {
+            userStatsRepository.addLikesReceivedCount(userId, -likeCount);
+        }
+    }
+
+    /**
+     * 사용자의 여행 계획에 좋아요가 추가(+1)/취소(-1)되었을 때
+     */
+    @Transactional
+    public void likesReceivedChanged(Long ownerId, int delta) {
+        userStatsRepository.addLikesReceivedCount(ownerId, delta);
+    }
+
+    /**
+     * 활동이 저장(+1)/삭제(-1)되었을 때
+     */
+    @Transactional
+    public void savedActivitiesChanged(Long userId, int delta) {
+        userStatsRepository.addSavedActivityCount(userId, delta);
+    }
+}
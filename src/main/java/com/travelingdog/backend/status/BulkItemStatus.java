@@ -0,0 +1,8 @@
+package com.travelingdog.backend.status;
+
+/**
+ * 일괄 저장/삭제 요청의 항목별 처리 결과
+ */
+public enum BulkItemStatus {
+    SAVED, DUPLICATE, INVALID, DELETED, NOT_FOUND
+}
@@ -0,0 +1,63 @@
+package com.travelingdog.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * 대량 로그 카테고리 샘플링 필터 단위 테스트
+ */
+@Tag("unit")
+public class LogSamplingFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private LogSamplingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LogSamplingFilter();
+        filter.setLoggers("org.hibernate.SQL, com.travelingdog.backend.controller.TodayActivityController");
+        filter.setRate(10);
+        filter.setLevel("INFO");
+    }
+
+    @Test
+    @DisplayName("지정한 로거의 INFO 이하 이벤트는 N건 중 1건만 통과해야 한다")
+    void samplesConfiguredLoggers() {
+        int passed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (filter.decide(event("org.hibernate.SQL", Level.DEBUG)) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        assertEquals(10, passed);
+    }
+
+    @Test
+    @DisplayName("WARN 이상이거나 지정하지 않은 로거의 이벤트는 모두 통과해야 한다")
+    void passesOtherEvents() {
+        for (int i = 0; i < 20; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(event(
+                    "com.travelingdog.backend.controller.TodayActivityController", Level.WARN)));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(event(
+                    "com.travelingdog.backend.service.TravelPlanService", Level.INFO)));
+        }
+    }
+
+    private LoggingEvent event(String loggerName, Level level) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(loggerContext.getLogger(loggerName).getName());
+        event.setLevel(level);
+        event.setMessage("message");
+        return event;
+    }
+}
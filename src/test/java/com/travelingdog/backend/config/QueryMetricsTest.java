@@ -0,0 +1,142 @@
+package com.travelingdog.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 쿼리 메트릭 집계 단위 테스트
+ *
+ * 엔드포인트/리포지토리 메소드별 문장 수 기록, 샘플링, N+1 감지를 검증합니다.
+ */
+@Tag("unit")
+public class QueryMetricsTest {
+
+    private static final String SELECT_USER = "select u1_0.id from users u1_0 where u1_0.id=?";
+    private static final String SELECT_PLAN = "select t1_0.id from travel_plans t1_0 where t1_0.id=?";
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryMetrics queryMetrics;
+    private StatementInspector inspector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryMetrics = new QueryMetrics(meterRegistry, 1.0, 200, 3);
+        inspector = queryMetrics.statementInspector();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 샘플링되지 않은 요청 표시도 함께 정리
+        queryMetrics.endRequest(QueryMetrics.current(), "cleanup", "GET");
+    }
+
+    @Test
+    @DisplayName("요청이 끝나면 엔드포인트 패턴별로 문장 수와 엔티티 로드 수를 기록해야 한다")
+    void recordsPerEndpoint() {
+        QueryMetrics.Tally tally = queryMetrics.begin("GET /api/travel/plan/1");
+        inspector.inspect(SELECT_PLAN);
+        inspector.inspect(SELECT_USER);
+        tally.entityLoaded();
+
+        queryMetrics.endRequest(tally, "/api/travel/plan/{id}", "GET");
+
+        assertNull(QueryMetrics.current());
+        assertEquals(2.0, meterRegistry.get("db.request.statements")
+                .tags("uri", "/api/travel/plan/{id}", "method", "GET").summary().totalAmount());
+        assertEquals(1.0, meterRegistry.get("db.request.entity_loads").summary().totalAmount());
+        assertTrue(meterRegistry.find("db.request.n_plus_one").counters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("같은 SQL이 임계값 이상 반복되면 N+1로 집계하고 호출 위치를 남겨야 한다")
+    void detectsNPlusOne() {
+        QueryMetrics.Tally tally = queryMetrics.begin("GET /api/travel/plans");
+        inspector.inspect(SELECT_PLAN);
+        for (int i = 0; i < 5; i++) {
+            inspector.inspect(SELECT_USER);
+        }
+
+        assertEquals(1, tally.nPlusOneSites.size());
+        assertTrue(tally.nPlusOneSites.get(SELECT_USER).startsWith(QueryMetricsTest.class.getName()));
+
+        queryMetrics.endRequest(tally, "/api/travel/plans", "GET");
+
+        assertEquals(1.0, meterRegistry.get("db.request.n_plus_one").counter().count());
+    }
+
+    @Test
+    @DisplayName("리포지토리 호출은 요청 집계 중 증가한 문장 수만 메소드별로 기록해야 한다")
+    void recordsRepositoryDelta() throws Throwable {
+        QueryMetrics.Tally tally = queryMetrics.begin("GET /api/user/profile");
+        inspector.inspect(SELECT_USER);
+
+        Object result = queryMetrics.recordRepositoryCall("TravelPlanRepository", "findAllByUser", () -> {
+            inspector.inspect(SELECT_PLAN);
+            inspector.inspect(SELECT_PLAN);
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertSame(tally, QueryMetrics.current());
+        assertEquals(2.0, meterRegistry.get("db.repository.statements")
+                .tags("repository", "TravelPlanRepository", "method", "findAllByUser").summary().totalAmount());
+        assertEquals(3, tally.statements);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0이면 집계를 시작하지 않고 요청 밖 리포지토리 호출도 그대로 실행해야 한다")
+    void skipsUnsampled() throws Throwable {
+        QueryMetrics unsampled = new QueryMetrics(meterRegistry, 0.0, 200, 3);
+
+        assertNull(unsampled.begin("GET /api/travel/plans"));
+        assertEquals("ok", unsampled.recordRepositoryCall("UserRepository", "findByEmail", () -> "ok"));
+        assertNull(QueryMetrics.current());
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 요청 안의 리포지토리 호출은 다시 샘플링하지 않아야 한다")
+    void unsampledRequestSuppressesRepositorySampling() throws Throwable {
+        QueryMetrics halfSampled = new QueryMetrics(meterRegistry, 0.5, 200, 3);
+        QueryMetrics.Tally tally;
+        while ((tally = halfSampled.beginRequest("GET /api/travel/plans")) != null) {
+            halfSampled.endRequest(tally, "/api/travel/plans", "GET");
+        }
+        meterRegistry.clear();
+
+        for (int i = 0; i < 100; i++) {
+            halfSampled.recordRepositoryCall("UserRepository", "findByEmail", () -> {
+                assertNull(QueryMetrics.current());
+                return inspector.inspect(SELECT_USER);
+            });
+        }
+        halfSampled.endRequest(null, "/api/travel/plans", "GET");
+
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("요청 밖의 샘플링된 리포지토리 호출은 호출이 끝나면 집계를 정리해야 한다")
+    void standaloneRepositoryCall() throws Throwable {
+        queryMetrics.recordRepositoryCall("ItineraryActivityRepository", "findByGeocodedAtIsNull", () -> {
+            assertNotNull(QueryMetrics.current());
+            return inspector.inspect(SELECT_PLAN);
+        });
+
+        assertNull(QueryMetrics.current());
+        assertEquals(1.0, meterRegistry.get("db.repository.statements").summary().totalAmount());
+    }
+}
@@ -0,0 +1,38 @@
+package com.travelingdog.backend.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Hibernate 통계 기반 SQL 문장 수 측정 도구
+ *
+ * 영속성 컨텍스트를 비운 뒤 작업을 실행하고, 그동안 준비된 JDBC 문장 수와 로딩된 엔티티 수를 돌려줍니다.
+ * (JdbcTemplate 등 Hibernate를 거치지 않는 쿼리는 집계되지 않음)
+ */
+public class StatementCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public Result count(Runnable action) {
+        // 준비 단계의 쓰기 지연 쿼리와 1차 캐시가 측정에 섞이지 않도록 정리
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        action.run();
+
+        return new Result(statistics.getPrepareStatementCount(), statistics.getEntityLoadCount());
+    }
+
+    public record Result(long statements, long entityLoads) {
+    }
+}
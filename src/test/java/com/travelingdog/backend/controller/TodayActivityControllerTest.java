@@ -1,11 +1,16 @@
 package com.travelingdog.backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelingdog.backend.dto.CursorPageResponse;
+import com.travelingdog.backend.dto.todayActivity.DeleteActivitiesResponseDTO;
+import com.travelingdog.backend.dto.todayActivity.SaveActivitiesResponseDTO;
 import com.travelingdog.backend.dto.todayActivity.SaveActivityRequestDTO;
+import com.travelingdog.backend.dto.todayActivity.SavedActivityCountsDTO;
 import com.travelingdog.backend.dto.todayActivity.SavedActivityResponseDTO;
 import com.travelingdog.backend.dto.todayActivity.TodayActivityRequestDTO;
 import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO;
 import com.travelingdog.backend.service.TodayActivityService;
+import com.travelingdog.backend.status.BulkItemStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,9 +24,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -199,14 +206,18 @@ class TodayActivityControllerTest {
                 saved1.setCategory("맛집");
                 mockSavedList.add(saved1);
 
-                when(todayActivityService.getSavedActivities(any()))
-                                .thenReturn(mockSavedList);
+                when(todayActivityService.getSavedActivities(any(), eq("2025-05-01T10:00_9"), eq(1)))
+                                .thenReturn(new CursorPageResponse<>(mockSavedList, "2025-05-01T09:00_1", true));
 
                 // When & Then
-                mockMvc.perform(get("/api/today-activity/saved"))
+                mockMvc.perform(get("/api/today-activity/saved")
+                                .param("cursor", "2025-05-01T10:00_9")
+                                .param("size", "1"))
                                 .andExpect(status().isOk())
-                                .andExpect(jsonPath("$").isArray())
-                                .andExpect(jsonPath("$[0].locationName").value("강남 맛집"));
+                                .andExpect(jsonPath("$.content").isArray())
+                                .andExpect(jsonPath("$.content[0].locationName").value("강남 맛집"))
+                                .andExpect(jsonPath("$.nextCursor").value("2025-05-01T09:00_1"))
+                                .andExpect(jsonPath("$.hasNext").value(true));
         }
 
         @Test
@@ -220,14 +231,15 @@ class TodayActivityControllerTest {
                 saved1.setCategory("맛집");
                 mockSavedList.add(saved1);
 
-                when(todayActivityService.getSavedActivitiesByCategory(any(), eq("맛집")))
-                                .thenReturn(mockSavedList);
+                when(todayActivityService.getSavedActivitiesByCategory(any(), eq("맛집"), isNull(), eq(20)))
+                                .thenReturn(new CursorPageResponse<>(mockSavedList, null, false));
 
                 // When & Then
                 mockMvc.perform(get("/api/today-activity/saved/category/맛집"))
                                 .andExpect(status().isOk())
-                                .andExpect(jsonPath("$").isArray())
-                                .andExpect(jsonPath("$[0].category").value("맛집"));
+                                .andExpect(jsonPath("$.content").isArray())
+                                .andExpect(jsonPath("$.content[0].category").value("맛집"))
+                                .andExpect(jsonPath("$.hasNext").value(false));
         }
 
         @Test
@@ -254,4 +266,68 @@ class TodayActivityControllerTest {
                                 .andExpect(status().isOk())
                                 .andExpect(content().string("5"));
         }
-}
\ No newline at end of file
+
+        @Test
+        @WithMockCustomUser
+        void getSavedActivityCounts_Success() throws Exception {
+                // Given
+                when(todayActivityService.getSavedActivityCounts(any()))
+                                .thenReturn(new SavedActivityCountsDTO(5L, Map.of("맛집", 3L, "쇼핑", 2L)));
+
+                // When & Then
+                mockMvc.perform(get("/api/today-activity/saved/counts"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.total").value(5))
+                                .andExpect(jsonPath("$.byCategory['맛집']").value(3))
+                                .andExpect(jsonPath("$.byCategory['쇼핑']").value(2));
+        }
+
+        @Test
+        @WithMockCustomUser
+        void saveActivities_Success() throws Exception {
+                // Given
+                List<SaveActivityRequestDTO> requests = List.of(
+                                new SaveActivityRequestDTO("강남 맛집", "맛집", "서울시 강남구"),
+                                new SaveActivityRequestDTO("코엑스몰", "쇼핑", "서울시 강남구"));
+                SavedActivityResponseDTO saved = new SavedActivityResponseDTO(1L, "강남 맛집", "맛집", "서울시 강남구",
+                                LocalDateTime.now());
+                SavedActivityResponseDTO existing = new SavedActivityResponseDTO(2L, "코엑스몰", "쇼핑", "서울시 강남구",
+                                LocalDateTime.now());
+
+                when(todayActivityService.saveActivities(any(), any()))
+                                .thenReturn(new SaveActivitiesResponseDTO(1, 1, List.of(
+                                                new SaveActivitiesResponseDTO.Result("강남 맛집", "맛집",
+                                                                BulkItemStatus.SAVED, saved),
+                                                new SaveActivitiesResponseDTO.Result("코엑스몰", "쇼핑",
+                                                                BulkItemStatus.DUPLICATE, existing))));
+
+                // When & Then
+                mockMvc.perform(post("/api/today-activity/save/bulk")
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requests)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.savedCount").value(1))
+                                .andExpect(jsonPath("$.results[0].status").value("SAVED"))
+                                .andExpect(jsonPath("$.results[1].status").value("DUPLICATE"))
+                                .andExpect(jsonPath("$.results[1].activity.id").value(2));
+        }
+
+        @Test
+        @WithMockCustomUser
+        void deleteSavedActivities_Success() throws Exception {
+                // Given
+                when(todayActivityService.deleteSavedActivities(eq(List.of(1L, 2L)), any()))
+                                .thenReturn(new DeleteActivitiesResponseDTO(1, List.of(
+                                                new DeleteActivitiesResponseDTO.Result(1L, BulkItemStatus.DELETED),
+                                                new DeleteActivitiesResponseDTO.Result(2L, BulkItemStatus.NOT_FOUND))));
+
+                // When & Then
+                mockMvc.perform(delete("/api/today-activity/saved")
+                                .param("ids", "1", "2")
+                                .with(csrf()))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.deletedCount").value(1))
+                                .andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"));
+        }
+}
@@ -1,5 +1,7 @@
 package com.travelingdog.backend.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
@@ -9,6 +11,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -27,6 +30,7 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.web.servlet.MockMvc;
@@ -38,6 +42,8 @@ import com.travelingdog.backend.dto.travelPlan.ItineraryActivityDTO;
 import com.travelingdog.backend.dto.travelPlan.ItineraryDTO;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanDTO;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanRequest;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSearchRequest;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSearchResponse;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanUpdateRequest;
 import com.travelingdog.backend.exception.ForbiddenResourceAccessException;
 import com.travelingdog.backend.jwt.JwtAuthenticationEntryPoint;
@@ -47,6 +53,8 @@ import com.travelingdog.backend.repository.ItineraryRepository;
 import com.travelingdog.backend.repository.TravelPlanRepository;
 import com.travelingdog.backend.repository.UserRepository;
 import com.travelingdog.backend.service.AuthService;
+import com.travelingdog.backend.service.SearchResponseCache;
+import com.travelingdog.backend.service.SearchResponseCache.CachedSearchPage;
 import com.travelingdog.backend.service.TravelPlanService;
 import com.travelingdog.backend.status.PlanStatus;
 
@@ -66,6 +74,9 @@ public class TravelPlanControllerUnitTest {
         @MockBean
         private TravelPlanService travelPlanService;
 
+        @MockBean
+        private SearchResponseCache searchResponseCache;
+
         @MockBean
         private TravelPlanRepository travelPlanRepository;
 
@@ -385,6 +396,57 @@ public class TravelPlanControllerUnitTest {
                                 .andExpect(jsonPath("$.message").value("삭제할 수 없는 여행 계획입니다."));
         }
 
+        @Test
+        public void testCacheableSearchReturnsNotModifiedForWeakAndListedEtags() throws Exception {
+                // Given
+                when(searchResponseCache.lookup(any(TravelPlanSearchRequest.class)))
+                                .thenReturn(Optional.of(cachedSearchPage()));
+                when(searchResponseCache.getMaxAgeSeconds()).thenReturn(30L);
+
+                // When & Then: 약한 비교와 ETag 목록 모두 일치로 처리
+                mockMvc.perform(get("/api/travel/plan/search").param("sortBy", "recent"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""))
+                                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30, public"))
+                                .andExpect(jsonPath("$.sortBy").value("recent"));
+                mockMvc.perform(get("/api/travel/plan/search").header(HttpHeaders.IF_NONE_MATCH, "W/\"abc\""))
+                                .andExpect(status().isNotModified());
+                mockMvc.perform(get("/api/travel/plan/search").header(HttpHeaders.IF_NONE_MATCH, "\"old\", \"abc\""))
+                                .andExpect(status().isNotModified());
+        }
+
+        @Test
+        public void testPostSearchUsesCachedResponseWithoutSharedCacheHeaders() throws Exception {
+                // Given
+                when(searchResponseCache.lookup(any(TravelPlanSearchRequest.class)))
+                                .thenReturn(Optional.of(cachedSearchPage()));
+
+                // When & Then: POST는 If-None-Match가 일치해도 304/공유 캐시 헤더 없이 응답
+                mockMvc.perform(post("/api/travel/plan/search")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"abc\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{}"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("public"))))
+                                .andExpect(jsonPath("$.sortBy").value("recent"));
+                Mockito.verify(travelPlanService, Mockito.never()).searchTravelPlans(any());
+        }
+
+        private CachedSearchPage cachedSearchPage() throws Exception {
+                TravelPlanSearchResponse response = TravelPlanSearchResponse.builder()
+                                .content(List.of(travelPlanDTO))
+                                .page(0)
+                                .size(10)
+                                .totalElements(1)
+                                .totalPages(1)
+                                .first(true)
+                                .last(true)
+                                .sortBy("recent")
+                                .build();
+                return new CachedSearchPage(objectMapper.writeValueAsBytes(response), "\"abc\"", response);
+        }
+
         @TestConfiguration
         static class MockConfig {
                 @Bean
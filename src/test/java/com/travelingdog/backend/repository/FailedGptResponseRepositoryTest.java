@@ -136,4 +136,26 @@ public class FailedGptResponseRepositoryTest {
         assertThat(allResponses).extracting("prompt")
                 .containsExactlyInAnyOrder("프롬프트1", "프롬프트2", "프롬프트3");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("JDBC 배치로 여러 실패 응답을 한 번에 저장해야 한다")
+    public void testBatchInsert() {
+        // Given
+        failedGptResponseRepository.deleteAll();
+        LocalDateTime timestamp = LocalDateTime.of(2025, 5, 1, 12, 0);
+        List<FailedGptResponse> responses = List.of(
+                FailedGptResponse.builder().prompt("프롬프트1").response("응답1").errorMessage("에러1")
+                        .timestamp(timestamp).build(),
+                FailedGptResponse.builder().prompt("프롬프트2").response("응답2").errorMessage("에러2")
+                        .timestamp(timestamp).build());
+
+        // When
+        failedGptResponseRepository.batchInsert(responses);
+
+        // Then
+        List<FailedGptResponse> allResponses = failedGptResponseRepository.findAll();
+        assertThat(allResponses).hasSize(2);
+        assertThat(allResponses).extracting("response").containsExactlyInAnyOrder("응답1", "응답2");
+        assertThat(allResponses).allSatisfy(response -> assertThat(response.getTimestamp()).isEqualTo(timestamp));
+    }
+}
@@ -0,0 +1,126 @@
+package com.travelingdog.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.travelingdog.backend.dto.nearby.NearbyPlaceProjection;
+import com.travelingdog.backend.model.Itinerary;
+import com.travelingdog.backend.model.ItineraryActivity;
+import com.travelingdog.backend.model.TravelPlan;
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.status.PlanStatus;
+
+/**
+ * 주변 활동 KNN 네이티브 쿼리 검증 (PostGIS)
+ */
+public class ItineraryActivityNearbyQueryTest extends PostgisRepositoryTestSupport {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    // 하카타역
+    private static final double LATITUDE = 33.5897;
+    private static final double LONGITUDE = 130.4206;
+
+    @Autowired
+    private ItineraryActivityRepository itineraryActivityRepository;
+
+    @Autowired
+    private ItineraryRepository itineraryRepository;
+
+    @Autowired
+    private TravelPlanRepository travelPlanRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private User other;
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepository.save(User.builder()
+                .nickname("테스트사용자")
+                .password("password123")
+                .email("test@example.com")
+                .build());
+        other = userRepository.save(User.builder()
+                .nickname("다른사용자")
+                .password("password123")
+                .email("other@example.com")
+                .build());
+
+        Itinerary published = itinerary(other, PlanStatus.PUBLISHED);
+        activity(published, "하카타역 앞 라멘", 130.4210, 33.5900); // 약 50m
+        activity(published, "스미요시 신사", 130.4150, 33.5897); // 약 520m
+        activity(published, "후쿠오카 타워", 130.3515, 33.5933); // 약 6.4km
+        activity(published, "지오코딩 전 활동", null, null);
+
+        activity(itinerary(user, PlanStatus.PRIVATE), "내 비공개 일정", 130.4200, 33.5890); // 약 90m
+        activity(itinerary(other, PlanStatus.PRIVATE), "남의 비공개 일정", 130.4207, 33.5898);
+        activity(itinerary(user, PlanStatus.DELETED), "삭제된 일정", 130.4206, 33.5897);
+
+        itineraryRepository.flush();
+    }
+
+    @Test
+    @DisplayName("반경 안의 공개/본인 활동만 가까운 순으로 돌려줘야 한다")
+    public void findNearbyReturnsVisibleActivitiesByDistance() {
+        List<NearbyPlaceProjection> nearby = itineraryActivityRepository.findNearby(LATITUDE, LONGITUDE, 1000,
+                user.getId(), 10);
+
+        assertThat(nearby).extracting(NearbyPlaceProjection::getTitle)
+                .containsExactly("하카타역 앞 라멘", "내 비공개 일정", "스미요시 신사");
+        assertThat(nearby.get(0).getDistanceMeters()).isLessThan(100);
+        assertThat(nearby.get(2).getDistanceMeters()).isBetween(400.0, 700.0);
+        assertThat(nearby.get(0).getLatitude()).isEqualTo(33.5900);
+        assertThat(nearby.get(0).getLongitude()).isEqualTo(130.4210);
+    }
+
+    @Test
+    @DisplayName("KNN 후보는 limit개만 읽은 뒤 반경으로 거른다")
+    public void findNearbyAppliesLimitBeforeRadius() {
+        List<NearbyPlaceProjection> nearby = itineraryActivityRepository.findNearby(LATITUDE, LONGITUDE, 10000,
+                user.getId(), 2);
+
+        assertThat(nearby).extracting(NearbyPlaceProjection::getTitle)
+                .containsExactly("하카타역 앞 라멘", "내 비공개 일정");
+    }
+
+    private Itinerary itinerary(User owner, PlanStatus status) {
+        TravelPlan plan = travelPlanRepository.save(TravelPlan.builder()
+                .title("후쿠오카 여행")
+                .country("일본")
+                .city("후쿠오카")
+                .startDate(LocalDate.of(2025, 5, 1))
+                .endDate(LocalDate.of(2025, 5, 3))
+                .status(status)
+                .user(owner)
+                .build());
+        return itineraryRepository.save(Itinerary.builder()
+                .date("2025-05-01")
+                .location("하카타")
+                .travelPlan(plan)
+                .build());
+    }
+
+    private void activity(Itinerary itinerary, String title, Double longitude, Double latitude) {
+        ItineraryActivity activity = ItineraryActivity.builder()
+                .title(title)
+                .locationName(title)
+                .location(longitude == null ? null
+                        : GEOMETRY_FACTORY.createPoint(new Coordinate(longitude, latitude)))
+                .build();
+        itinerary.addActivity(activity);
+        itineraryActivityRepository.save(activity);
+    }
+}
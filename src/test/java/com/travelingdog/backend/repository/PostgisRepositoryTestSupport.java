@@ -0,0 +1,38 @@
+package com.travelingdog.backend.repository;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.travelingdog.backend.config.JpaAuditingConfigTest;
+
+/**
+ * PostGIS 컨테이너를 쓰는 리포지토리 테스트 공통 설정
+ *
+ * H2(H2GIS)가 지원하지 않는 PostgreSQL 전용 네이티브 쿼리(KNN `<->`, ON CONFLICT 대상 지정 등)를 실제 DB에서 검증합니다.
+ * Docker를 사용할 수 없는 환경에서는 테스트를 건너뜁니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Tag("integration")
+@Import(JpaAuditingConfigTest.class)
+public abstract class PostgisRepositoryTestSupport {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGIS = new PostgreSQLContainer<>(
+            DockerImageName.parse("postgis/postgis:16-3.4-alpine").asCompatibleSubstituteFor("postgres"));
+}
@@ -0,0 +1,163 @@
+package com.travelingdog.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.travelingdog.backend.config.SavedActivityUniqueKeyConfig;
+import com.travelingdog.backend.dto.todayActivity.SaveActivityRequestDTO;
+import com.travelingdog.backend.dto.todayActivity.SavedActivityCategoryCount;
+import com.travelingdog.backend.model.SavedActivity;
+import com.travelingdog.backend.model.User;
+
+/**
+ * 저장 활동 리포지토리 검증 (PostgreSQL, ON CONFLICT 대상 지정)
+ */
+public class SavedActivityRepositoryTest extends PostgisRepositoryTestSupport {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 5, 1, 9, 0);
+    private static final LocalDateTime FIRST_PAGE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    @Autowired
+    private SavedActivityRepository savedActivityRepository;
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = User.builder()
+                .nickname("테스트사용자")
+                .password("password123")
+                .email("test@example.com")
+                .preferredTravelStyle("Adventure")
+                .build();
+        userRepository.save(user);
+
+        // 두 건은 같은 시각에 저장되어 ID로 순서가 갈림
+        savedActivityRepository.insertIfAbsent(user.getId(), "이치란 라멘", "맛집", "후쿠오카", BASE);
+        savedActivityRepository.insertIfAbsent(user.getId(), "캐널시티", "쇼핑", "후쿠오카", BASE.plusHours(1));
+        savedActivityRepository.insertIfAbsent(user.getId(), "모츠나베", "맛집", "후쿠오카", BASE.plusHours(1));
+        savedActivityRepository.insertIfAbsent(user.getId(), "오호리 공원", "자연", "후쿠오카", BASE.plusHours(2));
+    }
+
+    @Test
+    @DisplayName("(저장 시각, ID) 커서 이후의 활동을 최신순으로 이어서 조회해야 한다")
+    public void findPageByUserIdContinuesAfterCursor() {
+        List<SavedActivity> first = savedActivityRepository.findPageByUserId(user.getId(), FIRST_PAGE,
+                Long.MAX_VALUE, 2);
+        SavedActivity last = first.get(first.size() - 1);
+        List<SavedActivity> second = savedActivityRepository.findPageByUserId(user.getId(), last.getCreatedAt(),
+                last.getId(), 2);
+
+        assertThat(first).extracting(SavedActivity::getLocationName).containsExactly("오호리 공원", "모츠나베");
+        assertThat(second).extracting(SavedActivity::getLocationName).containsExactly("캐널시티", "이치란 라멘");
+    }
+
+    @Test
+    @DisplayName("카테고리별 커서 조회는 해당 카테고리만 최신순으로 돌려줘야 한다")
+    public void findPageByUserIdAndCategory() {
+        List<SavedActivity> restaurants = savedActivityRepository.findPageByUserIdAndCategory(user.getId(), "맛집",
+                FIRST_PAGE, Long.MAX_VALUE, 10);
+
+        assertThat(restaurants).extracting(SavedActivity::getLocationName).containsExactly("모츠나베", "이치란 라멘");
+    }
+
+    @Test
+    @DisplayName("같은 활동을 다시 저장하면 삽입하지 않고 0을 돌려줘야 한다")
+    public void insertIfAbsentSkipsDuplicate() {
+        int inserted = savedActivityRepository.insertIfAbsent(user.getId(), "이치란 라멘", "맛집", "하카타",
+                BASE.plusDays(1));
+
+        assertThat(inserted).isZero();
+        assertThat(savedActivityRepository.countByUser(user)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("카테고리별 개수를 한 번의 조회로 집계해야 한다")
+    public void countByUserIdGroupByCategory() {
+        Map<String, Long> counts = savedActivityRepository.countByUserIdGroupByCategory(user.getId()).stream()
+                .collect(Collectors.toMap(SavedActivityCategoryCount::getCategory,
+                        SavedActivityCategoryCount::getCount));
+
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of("맛집", 2L, "쇼핑", 1L, "자연", 1L));
+    }
+
+    @Test
+    @DisplayName("일괄 저장은 항목별 삽입 여부를 돌려주고 이미 저장된 활동과 요청 안의 중복을 건너뛰어야 한다")
+    public void batchInsertIfAbsentReportsPerItem() {
+        boolean[] inserted = savedActivityRepository.batchInsertIfAbsent(user.getId(), List.of(
+                new SaveActivityRequestDTO("후쿠오카 타워", "관광", "후쿠오카"),
+                new SaveActivityRequestDTO("이치란 라멘", "맛집", "후쿠오카"),
+                new SaveActivityRequestDTO("후쿠오카 타워", "관광", "후쿠오카")), BASE.plusDays(1));
+
+        assertThat(inserted).containsExactly(true, false, false);
+        assertThat(savedActivityRepository.countByUser(user)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 사용자가 소유한 활동만 지워야 한다")
+    public void deleteByUserIdAndIdInOnlyOwned() {
+        User other = userRepository.save(User.builder()
+                .nickname("다른사용자")
+                .password("password123")
+                .email("other@example.com")
+                .build());
+        savedActivityRepository.insertIfAbsent(other.getId(), "이치란 라멘", "맛집", "후쿠오카", BASE);
+        Long otherId = savedActivityRepository.findByUserAndLocationNameAndCategory(other, "이치란 라멘", "맛집")
+                .orElseThrow().getId();
+        Long ownId = savedActivityRepository.findByUserAndLocationNameAndCategory(user, "이치란 라멘", "맛집")
+                .orElseThrow().getId();
+
+        List<Long> owned = savedActivityRepository.findIdsByUserIdAndIdIn(user.getId(), List.of(ownId, otherId));
+        int deleted = savedActivityRepository.deleteByUserIdAndIdIn(user.getId(), owned);
+
+        assertThat(owned).containsExactly(ownId);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(savedActivityRepository.findById(otherId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("유니크 인덱스가 없으면 최초 저장만 남기고 중복을 지운 뒤 집계를 보정하고 인덱스를 만들어야 한다")
+    public void uniqueKeyInitializerRemovesDuplicates() throws Exception {
+        // 제약 추가 이전에 쌓인 중복 재현
+        jdbcTemplate.execute("ALTER TABLE saved_activity DROP CONSTRAINT uk_saved_activity_user_location_category");
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO saved_activity (user_id, location_name, category, saved_location,"
+                    + " created_at, updated_at) VALUES (?, '이치란 라멘', '맛집', '하카타', now(), now())", user.getId());
+        }
+        Long firstId = savedActivityRepository.findByUserIdAndLocationNameIn(user.getId(), List.of("이치란 라멘"))
+                .stream().mapToLong(SavedActivity::getId).min().orElseThrow();
+        userStatsRepository.insertFromCurrentCounts(user.getId());
+
+        new SavedActivityUniqueKeyConfig().savedActivityUniqueKeyInitializer(dataSource).run(null);
+
+        assertThat(savedActivityRepository.findByUserIdAndLocationNameIn(user.getId(), List.of("이치란 라멘")))
+                .extracting(SavedActivity::getId).containsExactly(firstId);
+        assertThat(userStatsRepository.findById(user.getId()).orElseThrow().getSavedActivityCount()).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('uk_saved_activity_user_location_category') IS NOT NULL", Boolean.class)).isTrue();
+    }
+}
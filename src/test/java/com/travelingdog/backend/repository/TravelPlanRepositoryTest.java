@@ -0,0 +1,82 @@
+package com.travelingdog.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.travelingdog.backend.config.JpaAuditingConfigTest;
+import com.travelingdog.backend.model.TravelPlan;
+import com.travelingdog.backend.model.User;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("integration")
+@Import(JpaAuditingConfigTest.class)
+public class TravelPlanRepositoryTest {
+
+    @Autowired
+    private TravelPlanRepository travelPlanRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Long> planIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        User user = userRepository.save(User.builder()
+                .nickname("테스트사용자")
+                .password("password123")
+                .email("test@example.com")
+                .build());
+        for (int i = 0; i < 5; i++) {
+            planIds.add(travelPlanRepository.save(TravelPlan.builder()
+                    .title("여행 " + i)
+                    .country("일본")
+                    .city("후쿠오카")
+                    .startDate(LocalDate.of(2025, 5, 1))
+                    .endDate(LocalDate.of(2025, 5, 3))
+                    .user(user)
+                    .build()).getId());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("ID 키셋 조회는 이전 페이지 마지막 ID 다음부터 오름차순으로 이어져야 한다")
+    public void findIdsAfterPagesByKeyset() {
+        List<Long> first = travelPlanRepository.findIdsAfter(0L, PageRequest.ofSize(3));
+        List<Long> second = travelPlanRepository.findIdsAfter(first.get(first.size() - 1), PageRequest.ofSize(3));
+
+        assertThat(first).containsExactlyElementsOf(planIds.subList(0, 3));
+        assertThat(second).containsExactlyElementsOf(planIds.subList(3, 5));
+    }
+
+    @Test
+    @DisplayName("인기 점수 배치 갱신은 지정한 계획의 점수만 바꿔야 한다")
+    public void batchUpdateHotScores() {
+        travelPlanRepository.batchUpdateHotScores(Map.of(planIds.get(0), 12.5, planIds.get(1), 3.0));
+        entityManager.clear();
+
+        assertThat(travelPlanRepository.findById(planIds.get(0)).orElseThrow().getHotScore()).isEqualTo(12.5);
+        assertThat(travelPlanRepository.findById(planIds.get(1)).orElseThrow().getHotScore()).isEqualTo(3.0);
+        assertThat(travelPlanRepository.findById(planIds.get(2)).orElseThrow().getHotScore()).isEqualTo(0.0);
+    }
+}
@@ -0,0 +1,91 @@
+package com.travelingdog.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.travelingdog.backend.model.TravelPlan;
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.model.UserStats;
+import com.travelingdog.backend.status.PlanStatus;
+
+/**
+ * 사용자 집계 초기화 네이티브 쿼리 검증 (PostgreSQL)
+ */
+public class UserStatsRepositoryTest extends PostgisRepositoryTestSupport {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Autowired
+    private TravelPlanRepository travelPlanRepository;
+
+    @Autowired
+    private SavedActivityRepository savedActivityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = userRepository.save(User.builder()
+                .nickname("테스트사용자")
+                .password("password123")
+                .email("test@example.com")
+                .build());
+
+        plan(PlanStatus.PUBLISHED, 3);
+        plan(PlanStatus.PRIVATE, 2);
+        plan(PlanStatus.DELETED, 7);
+        savedActivityRepository.insertIfAbsent(user.getId(), "이치란 라멘", "맛집", "후쿠오카", BASE);
+        savedActivityRepository.insertIfAbsent(user.getId(), "캐널시티", "쇼핑", "후쿠오카", BASE);
+        travelPlanRepository.flush();
+    }
+
+    @Test
+    @DisplayName("삭제된 계획을 제외하고 센 값으로 집계 행을 만들어야 한다")
+    public void insertFromCurrentCountsCountsInStatement() {
+        int inserted = userStatsRepository.insertFromCurrentCounts(user.getId());
+
+        UserStats stats = userStatsRepository.findById(user.getId()).orElseThrow();
+        assertThat(inserted).isEqualTo(1);
+        assertThat(stats.getPlanCount()).isEqualTo(2);
+        assertThat(stats.getLikesReceivedCount()).isEqualTo(5);
+        assertThat(stats.getSavedActivityCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("집계 행이 이미 있으면 덮어쓰지 않아야 한다")
+    public void insertFromCurrentCountsKeepsExistingRow() {
+        userStatsRepository.insertFromCurrentCounts(user.getId());
+        userStatsRepository.addSavedActivityCount(user.getId(), 1);
+
+        int inserted = userStatsRepository.insertFromCurrentCounts(user.getId());
+
+        assertThat(inserted).isZero();
+        assertThat(userStatsRepository.findById(user.getId()).orElseThrow().getSavedActivityCount()).isEqualTo(3);
+    }
+
+    private void plan(PlanStatus status, int likeCount) {
+        travelPlanRepository.save(TravelPlan.builder()
+                .title("후쿠오카 여행")
+                .country("일본")
+                .city("후쿠오카")
+                .startDate(LocalDate.of(2025, 5, 1))
+                .endDate(LocalDate.of(2025, 5, 3))
+                .status(status)
+                .likeCount(likeCount)
+                .user(user)
+                .build());
+    }
+}
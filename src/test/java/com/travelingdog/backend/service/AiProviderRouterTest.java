@@ -0,0 +1,235 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.travelingdog.backend.dto.ai.AiCompletion;
+import com.travelingdog.backend.dto.ai.AiCompletionRequest;
+import com.travelingdog.backend.exception.ExternalApiException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * AI 공급자 라우터 단위 테스트
+ *
+ * 우선순위, 지연 시간 기반 선택, 실패 시 전환, 오류율이 높은 공급자 후순위 배치, 동시 요청 제한을 검증합니다.
+ */
+@Tag("unit")
+public class AiProviderRouterTest {
+
+    private static final AiCompletionRequest REQUEST = AiCompletionRequest.builder().prompt("프롬프트").build();
+
+    @Test
+    @DisplayName("통계가 없으면 설정된 우선순위대로 공급자를 선택해야 한다")
+    void usesPriorityWithoutSamples() {
+        FakeProvider gemini = new FakeProvider("gemini", 4, request -> "gemini");
+        FakeProvider openai = new FakeProvider("openai", 4, request -> "openai");
+
+        AiProviderRouter router = router("gemini,openai", openai, gemini);
+
+        assertEquals("gemini", router.complete(REQUEST));
+        assertEquals(0, openai.calls.get());
+    }
+
+    @Test
+    @DisplayName("호출이 실패하면 다음 공급자로 전환하고, 오류율이 높은 공급자는 뒤로 밀려야 한다")
+    void failsOverAndDemotesUnhealthyProvider() {
+        FakeProvider gemini = new FakeProvider("gemini", 4, request -> "gemini");
+        FakeProvider openai = new FakeProvider("openai", 4, request -> {
+            sleep(20);
+            return "openai";
+        });
+
+        AiProviderRouter router = router("gemini,openai", gemini, openai);
+        for (int i = 0; i < 3; i++) {
+            assertEquals("gemini", router.complete(REQUEST));
+        }
+
+        gemini.behavior = request -> {
+            throw new ExternalApiException("503");
+        };
+        for (int i = 0; i < 3; i++) {
+            assertEquals("openai", router.complete(REQUEST));
+        }
+        assertEquals(6, gemini.calls.get());
+
+        // 최소 표본 수를 넘기고 오류율이 임계값(0.5)에 닿으면 더 이상 먼저 호출하지 않음
+        assertEquals("openai", router.complete(REQUEST));
+        assertEquals(6, gemini.calls.get());
+    }
+
+    @Test
+    @DisplayName("최근 평균 지연이 짧은 공급자를 우선 선택해야 한다")
+    void prefersFasterProvider() {
+        FakeProvider gemini = new FakeProvider("gemini", 4, request -> {
+            sleep(30);
+            return "gemini";
+        });
+        FakeProvider openai = new FakeProvider("openai", 4, request -> "openai");
+
+        AiProviderRouter router = router("gemini,openai", gemini, openai);
+        router.complete(REQUEST);
+        // 통계가 없는 openai는 실패 전환으로 표본을 얻게 함
+        gemini.behavior = request -> {
+            throw new ExternalApiException("timeout");
+        };
+        router.complete(REQUEST);
+        gemini.behavior = request -> {
+            sleep(30);
+            return "gemini";
+        };
+
+        assertEquals("openai", router.complete(REQUEST));
+    }
+
+    @Test
+    @DisplayName("동시 요청 한도를 채운 공급자 대신 다른 공급자로 보내야 한다")
+    void respectsConcurrencyLimit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch entered = new CountDownLatch(1);
+        FakeProvider gemini = new FakeProvider("gemini", 1, request -> {
+            entered.countDown();
+            await(release);
+            return "gemini";
+        });
+        FakeProvider openai = new FakeProvider("openai", 1, request -> "openai");
+
+        AiProviderRouter router = router("gemini,openai", gemini, openai);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> blocked = executor.submit(() -> router.complete(REQUEST));
+            assertEquals(true, entered.await(1, TimeUnit.SECONDS));
+
+            assertEquals("openai", router.complete(REQUEST));
+
+            release.countDown();
+            assertEquals("gemini", blocked.get(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("모든 공급자가 실패하면 ExternalApiException을 던져야 한다")
+    void throwsWhenAllProvidersFail() {
+        FakeProvider gemini = new FakeProvider("gemini", 4, request -> {
+            throw new ExternalApiException("503");
+        });
+        FakeProvider openai = new FakeProvider("openai", 4, request -> {
+            throw new IllegalStateException("429");
+        });
+
+        AiProviderRouter router = router("gemini,openai", gemini, openai);
+
+        assertThrows(ExternalApiException.class, () -> router.complete(REQUEST));
+        assertEquals(1, gemini.calls.get());
+        assertEquals(1, openai.calls.get());
+    }
+
+    @Test
+    @DisplayName("취소로 인터럽트된 호출은 공급자 실패로 세지 않고 다음 공급자도 시도하지 않아야 한다")
+    void rethrowsInterruptionWithoutFailover() {
+        ExternalApiException interrupted = new ExternalApiException("interrupted", new InterruptedException());
+        FakeProvider gemini = new FakeProvider("gemini", 4, request -> {
+            throw interrupted;
+        });
+        FakeProvider openai = new FakeProvider("openai", 4, request -> "openai");
+
+        AiProviderRouter router = router("gemini,openai", gemini, openai);
+
+        assertSame(interrupted, assertThrows(ExternalApiException.class, () -> router.complete(REQUEST)));
+        assertEquals(0, openai.calls.get());
+        assertEquals(0, router.rank().get(0).sampleCount());
+        assertEquals(0, router.rank().get(1).sampleCount());
+    }
+
+    @Test
+    @DisplayName("설정이 없는 공급자는 라우팅 대상에서 제외해야 한다")
+    void skipsDisabledProvider() {
+        FakeProvider gemini = new FakeProvider("gemini", 4, request -> "gemini");
+        gemini.enabled = false;
+        FakeProvider openai = new FakeProvider("openai", 4, request -> "openai");
+
+        AiProviderRouter router = router("gemini,openai", gemini, openai);
+
+        assertEquals("openai", router.complete(REQUEST));
+        assertEquals(0, gemini.calls.get());
+    }
+
+    private AiProviderRouter router(String priority, AiProvider... providers) {
+        AiProviderRouter router = new AiProviderRouter(List.of(providers), new SimpleMeterRegistry(),
+                new AiStageTimer(ObservationRegistry.NOOP), priority, 50);
+        ReflectionTestUtils.setField(router, "exploreRatio", 0.0);
+        ReflectionTestUtils.setField(router, "acquireTimeoutMs", 100L);
+        return router;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class FakeProvider implements AiProvider {
+
+        private final String name;
+        private final int maxConcurrency;
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile Function<AiCompletionRequest, String> behavior;
+        private boolean enabled = true;
+
+        FakeProvider(String name, int maxConcurrency, Function<AiCompletionRequest, String> behavior) {
+            this.name = name;
+            this.maxConcurrency = maxConcurrency;
+            this.behavior = behavior;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        @Override
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        @Override
+        public AiCompletion complete(AiCompletionRequest request) {
+            calls.incrementAndGet();
+            return AiCompletion.builder().text(behavior.apply(request)).build();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.travelingdog.backend.config.AiStageMetricsEndpoint;
+import com.travelingdog.backend.config.AiStageMetricsEndpoint.StageStats;
+import com.travelingdog.backend.exception.ExternalApiException;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * AI 생성 단계 측정 단위 테스트
+ *
+ * 단계별 타이머 기록, 공급자 호출 구간 속성, actuator 엔드포인트의 작업/단계별 집계를 검증합니다.
+ */
+@Tag("unit")
+public class AiStageTimerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiStageTimer stageTimer;
+    private AiStageMetricsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // application.yml의 management.metrics.distribution.percentiles 설정과 같은 효과
+        meterRegistry.config().meterFilter(new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder().percentiles(0.5, 0.95, 0.99).build().merge(config);
+            }
+        });
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        stageTimer = new AiStageTimer(observationRegistry);
+        endpoint = new AiStageMetricsEndpoint(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("요청 전체와 각 단계를 작업/단계별로 집계해야 한다")
+    void recordsStagesPerOperation() {
+        for (int i = 0; i < 3; i++) {
+            String result = stageTimer.request("today-activity", () -> {
+                String prompt = stageTimer.stage("today-activity", "prompt", () -> "프롬프트");
+                return stageTimer.stage("today-activity", "parse", () -> prompt + " 응답");
+            });
+            assertEquals("프롬프트 응답", result);
+        }
+
+        Map<String, StageStats> stages = endpoint.stages().get("today-activity");
+
+        assertEquals(3, stages.get("total").count());
+        assertEquals(3, stages.get("prompt").count());
+        assertEquals(3, stages.get("parse").count());
+        assertNotNull(stages.get("parse").p95Ms());
+    }
+
+    @Test
+    @DisplayName("실패한 단계는 예외를 그대로 던지고 오류 수로만 집계해야 한다")
+    void countsFailedStages() {
+        stageTimer.stage("restaurant", "parse", () -> "ok");
+        assertThrows(ExternalApiException.class, () -> stageTimer.stage("restaurant", "parse", () -> {
+            throw new ExternalApiException("파싱 실패");
+        }));
+
+        StageStats parse = endpoint.stages().get("restaurant").get("parse");
+
+        assertEquals(1, parse.count());
+        assertEquals(1, parse.errors());
+    }
+
+    @Test
+    @DisplayName("공급자 호출 구간은 공급자/모델을 span 속성으로만 남기고 network 단계로 집계해야 한다")
+    void networkStageKeepsProviderAsHighCardinality() {
+        Observation observation = stageTimer.startNetwork("travel-plan", "gemini", "gemini-2.0-flash");
+        observation.highCardinalityKeyValue("tokens.output", "1200");
+        observation.stop();
+
+        assertEquals("gemini", observation.getContext().getHighCardinalityKeyValue("provider").getValue());
+        assertEquals(1, meterRegistry.get(AiStageTimer.STAGE_METRIC)
+                .tags("operation", "travel-plan", "stage", "network").timer().count());
+        assertEquals(1, endpoint.stages().get("travel-plan").get("network").count());
+    }
+}
@@ -0,0 +1,194 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.travelingdog.backend.dto.AIRecommendedItineraryDTO;
+import com.travelingdog.backend.dto.AIRecommendedItineraryDTO.Location;
+import com.travelingdog.backend.dto.AIRecommendedTravelPlanDTO;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanRequest;
+import com.travelingdog.backend.dto.travelPlan.UserSpecifiedAccommodation;
+import com.travelingdog.backend.exception.ExternalApiException;
+
+/**
+ * 여행 일정 분할 생성 단위 테스트
+ *
+ * 구간 분할, 구간 동시 생성, 결과 병합 및 중복 장소 제거, 실패 구간 처리를 검증합니다.
+ */
+@Tag("unit")
+public class ChunkedTripPlanGeneratorTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 5, 1);
+
+    private final ChunkedTripPlanGenerator generator = new ChunkedTripPlanGenerator();
+
+    @Test
+    @DisplayName("짧은 여행은 분할하지 않아야 한다")
+    void doesNotChunkShortTrip() {
+        assertFalse(generator.shouldChunk(request(5)));
+        assertTrue(generator.shouldChunk(request(14)));
+    }
+
+    @Test
+    @DisplayName("14일 여행은 4일 단위 구간으로 나누고 숙소 지정은 해당 구간에만 전달해야 한다")
+    void splitsIntoDayBlocks() {
+        TravelPlanRequest request = request(14);
+        UserSpecifiedAccommodation accommodation = new UserSpecifiedAccommodation();
+        accommodation.setDate(START.plusDays(9).toString());
+        accommodation.setAccommodation("하카타 호텔");
+        request.setUserSpecifiedAccommodations(List.of(accommodation));
+
+        List<TravelPlanRequest> blocks = generator.split(request);
+
+        assertEquals(4, blocks.size());
+        assertEquals(START, blocks.get(0).getStartDate());
+        assertEquals(START.plusDays(3), blocks.get(0).getEndDate());
+        assertEquals(START.plusDays(12), blocks.get(3).getStartDate());
+        assertEquals(START.plusDays(13), blocks.get(3).getEndDate());
+        assertTrue(blocks.get(0).getUserSpecifiedAccommodations().isEmpty());
+        assertEquals(1, blocks.get(2).getUserSpecifiedAccommodations().size());
+    }
+
+    @Test
+    @DisplayName("구간을 동시에 생성하고 일자 순서대로 합치며 겹친 장소는 뒤 구간에서 제거해야 한다")
+    void generatesConcurrentlyAndMerges() {
+        TravelPlanRequest request = request(10);
+        CountDownLatch allStarted = new CountDownLatch(3);
+
+        AIRecommendedTravelPlanDTO plan = generator.generate(request, (block, context) -> {
+            allStarted.countDown();
+            try {
+                // 모든 구간이 동시에 시작되지 않으면 시간 초과로 실패
+                assertTrue(allStarted.await(2, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            assertTrue(context.contains("3개 구간"));
+            return blockPlan(block);
+        });
+
+        assertEquals(10, plan.getItinerary().size());
+        assertEquals("1", plan.getItinerary().get(0).getDate());
+        assertEquals("5", plan.getItinerary().get(4).getDate());
+        assertEquals("10", plan.getItinerary().get(9).getDate());
+        assertEquals(START.toString(), plan.getStartDate());
+        assertEquals(List.of("맛집"), plan.getInterests());
+
+        // 모든 구간이 "캐널시티 하카타"를 추천했지만 첫 번째만 남고, 호텔 체크인은 반복 허용
+        long canalCity = plan.getItinerary().stream()
+                .flatMap(day -> day.getActivities().stream())
+                .filter(activity -> activity.getLocationName().startsWith("캐널시티"))
+                .count();
+        long checkIns = plan.getItinerary().stream()
+                .flatMap(day -> day.getActivities().stream())
+                .filter(activity -> activity.getTitle().contains("체크인"))
+                .count();
+        assertEquals(1, canalCity);
+        assertEquals(10, checkIns);
+    }
+
+    @Test
+    @DisplayName("실패한 구간은 한 번 재시도하고, 재시도도 실패하면 null을 돌려줘야 한다")
+    void retriesFailedBlockOnce() {
+        TravelPlanRequest request = request(8);
+        AtomicInteger calls = new AtomicInteger();
+
+        AIRecommendedTravelPlanDTO recovered = generator.generate(request, (block, context) -> {
+            boolean first = block.getStartDate().equals(START);
+            return first && calls.incrementAndGet() == 1 ? null : blockPlan(block);
+        });
+        assertEquals(8, recovered.getItinerary().size());
+        assertEquals(2, calls.get());
+
+        AIRecommendedTravelPlanDTO failed = generator.generate(request,
+                (block, context) -> block.getStartDate().equals(START) ? null : blockPlan(block));
+        assertNull(failed);
+    }
+
+    @Test
+    @DisplayName("재시도는 실행기에서 돌고 처음 요청과 같은 마감 시각을 넘기면 시간 초과로 실패해야 한다")
+    void retryRespectsDeadline() {
+        ChunkedTripPlanGenerator shortTimeout = new ChunkedTripPlanGenerator();
+        ReflectionTestUtils.setField(shortTimeout, "timeoutMs", 200L);
+        AtomicInteger calls = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        assertThrows(ExternalApiException.class, () -> shortTimeout.generate(request(8), (block, context) -> {
+            if (!block.getStartDate().equals(START)) {
+                return blockPlan(block);
+            }
+            if (calls.incrementAndGet() == 1) {
+                return null;
+            }
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return blockPlan(block);
+        }));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 2_000);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("장소 이름 정규화는 공백, 기호, 괄호 병기를 무시해야 한다")
+    void normalizesLocationNames() {
+        assertEquals(ChunkedTripPlanGenerator.normalize("캐널시티 하카타 (Canal City)"),
+                ChunkedTripPlanGenerator.normalize("캐널시티하카타"));
+        assertNull(ChunkedTripPlanGenerator.normalize(" "));
+    }
+
+    private static TravelPlanRequest request(int days) {
+        TravelPlanRequest request = new TravelPlanRequest();
+        request.setCity("후쿠오카");
+        request.setStartDate(START);
+        request.setEndDate(START.plusDays(days - 1));
+        request.setInterests("맛집");
+        return request;
+    }
+
+    /**
+     * 구간 기준 일자 번호(1부터)로 일정을 만들고, 모든 구간에 같은 장소를 하나씩 넣음
+     */
+    private static AIRecommendedTravelPlanDTO blockPlan(TravelPlanRequest block) {
+        int days = (int) ChronoUnit.DAYS.between(block.getStartDate(), block.getEndDate()) + 1;
+        List<AIRecommendedItineraryDTO> itinerary = new ArrayList<>();
+        for (int day = 1; day <= days; day++) {
+            List<Location> activities = new ArrayList<>();
+            activities.add(Location.builder().title("호텔 체크인").locationName("하카타 호텔").build());
+            activities.add(Location.builder().title("관광").locationName(block.getStartDate() + "-" + day).build());
+            if (day == 1) {
+                activities.add(Location.builder().title("쇼핑").locationName("캐널시티 하카타").build());
+            }
+            itinerary.add(AIRecommendedItineraryDTO.builder()
+                    .date(String.valueOf(day))
+                    .location("하카타")
+                    .activities(activities)
+                    .build());
+        }
+        return AIRecommendedTravelPlanDTO.builder()
+                .country("일본")
+                .destination("후쿠오카")
+                .interests(List.of("맛집"))
+                .itinerary(itinerary)
+                .build();
+    }
+}
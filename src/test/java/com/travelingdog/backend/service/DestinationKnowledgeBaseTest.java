@@ -0,0 +1,181 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.travelingdog.backend.dto.knowledge.HarvestedPlaceProjection;
+import com.travelingdog.backend.dto.restaurant.RestaurantRecommendationResponseDTO;
+import com.travelingdog.backend.dto.restaurant.RestaurantRecommendationResponseDTO.RestaurantDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityRequestDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO;
+import com.travelingdog.backend.repository.ItineraryActivityRepository;
+import com.travelingdog.backend.repository.SavedActivityRepository;
+import com.travelingdog.backend.service.DestinationKnowledgeBase.Category;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 여행지 지식 저장소 단위 테스트
+ *
+ * 증분 수집, 카테고리 분류, 충분히 언급된 장소로만 직접 응답하기, 도시명 부분 일치 후보 조회, 커버리지/적중률 통계를 검증합니다.
+ */
+@Tag("unit")
+public class DestinationKnowledgeBaseTest {
+
+    private ItineraryActivityRepository itineraryActivityRepository;
+    private SavedActivityRepository savedActivityRepository;
+    private DestinationKnowledgeBase knowledgeBase;
+
+    @BeforeEach
+    void setUp() {
+        itineraryActivityRepository = Mockito.mock(ItineraryActivityRepository.class);
+        savedActivityRepository = Mockito.mock(SavedActivityRepository.class);
+        knowledgeBase = new DestinationKnowledgeBase(itineraryActivityRepository, savedActivityRepository,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("마지막으로 읽은 ID 이후만 수집하고, 숙소/이동 일정은 건너뛰어야 한다")
+    void refreshHarvestsIncrementally() {
+        when(itineraryActivityRepository.findHarvestBatch(anyLong(), anyInt())).thenReturn(List.of());
+        when(itineraryActivityRepository.findHarvestBatch(eq(0L), anyInt())).thenReturn(List.of(
+                row(1L, "후쿠오카", "오호리 공원", null, "오호리 공원 산책"),
+                row(2L, "후쿠오카", "호텔 닛코 후쿠오카", null, "호텔 체크인"),
+                row(3L, "후쿠오카", "이치란 라멘 본점", null, "점심 식사")));
+        when(savedActivityRepository.findHarvestBatch(anyLong(), anyInt())).thenReturn(List.of());
+        when(savedActivityRepository.findHarvestBatch(eq(0L), anyInt())).thenReturn(List.of(
+                row(7L, "후쿠오카", "캐널시티 하카타", "쇼핑", "캐널시티 하카타")));
+
+        knowledgeBase.refresh();
+        knowledgeBase.refresh();
+
+        verify(itineraryActivityRepository).findHarvestBatch(eq(3L), anyInt());
+        verify(savedActivityRepository).findHarvestBatch(eq(7L), anyInt());
+
+        Map<Category, List<String>> candidates = knowledgeBase.candidates("후쿠오카");
+        assertEquals(List.of("오호리 공원"), candidates.get(Category.NATURE));
+        assertEquals(List.of("이치란 라멘 본점"), candidates.get(Category.RESTAURANT));
+        assertEquals(List.of("캐널시티 하카타"), candidates.get(Category.SHOPPING));
+        assertEquals(3, knowledgeBase.stats().places());
+    }
+
+    @Test
+    @DisplayName("요청한 모든 카테고리를 여러 번 언급된 장소로 채울 수 있을 때만 직접 응답해야 한다")
+    void answersOnlyWhenCovered() {
+        for (int i = 0; i < 2; i++) {
+            knowledgeBase.add("후쿠오카", "이치란 라멘 본점", Category.RESTAURANT, "라멘");
+            knowledgeBase.add("후쿠오카", "후쿠오카 타워", Category.CULTURE, null);
+            knowledgeBase.add("후쿠오카", "오호리 공원", Category.NATURE, null);
+        }
+        knowledgeBase.add("후쿠오카", "구시다 신사", Category.CULTURE, null);
+
+        // 관광 2곳 중 한 곳은 한 번만 언급되어 부족함
+        assertNull(knowledgeBase.answer(new TodayActivityRequestDTO("후쿠오카", 1, 2, 0, 1)));
+
+        TodayActivityResponseDTO response = knowledgeBase.answer(new TodayActivityRequestDTO("후쿠오카", 1, 1, 0, 1));
+        assertNotNull(response);
+        assertEquals("이치란 라멘 본점", response.getRestaurants().get(0).getLocationName());
+        assertEquals("라멘", response.getRestaurants().get(0).getCategory());
+        assertEquals("관광", response.getCultureSpots().get(0).getCategory());
+        assertTrue(response.getShoppingSpots().isEmpty());
+
+        assertNull(knowledgeBase.answer(new TodayActivityRequestDTO("삿포로", 1, 1, 1, 1)));
+
+        DestinationKnowledgeBase.Stats stats = knowledgeBase.stats();
+        assertEquals(1, stats.directHits());
+        assertEquals(1, stats.partialHits());
+        assertEquals(1, stats.misses());
+        assertEquals(1.0 / 3, stats.hitRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("위치에 도시명이 포함되어 있으면 그 도시의 후보를 언급 횟수 순으로 돌려줘야 한다")
+    void findsCityInsideLocation() {
+        RestaurantRecommendationResponseDTO restaurants = RestaurantRecommendationResponseDTO.builder()
+                .restaurants(List.of(
+                        RestaurantDTO.builder().locationName("신신 라멘").cuisine("라멘").build(),
+                        RestaurantDTO.builder().locationName("모츠나베 라쿠텐치").cuisine("모츠나베").build()))
+                .build();
+        knowledgeBase.recordRestaurants("후쿠오카", restaurants);
+        knowledgeBase.add("후쿠오카", "모츠나베 라쿠텐치", Category.RESTAURANT, "모츠나베");
+
+        Map<Category, List<String>> candidates = knowledgeBase.candidates("후쿠오카 하카타역");
+
+        assertEquals(List.of("모츠나베 라쿠텐치", "신신 라멘"), candidates.get(Category.RESTAURANT));
+        assertTrue(knowledgeBase.candidates("오사카 난바").isEmpty());
+    }
+
+    @Test
+    @DisplayName("모든 카테고리에 충분히 언급된 장소가 있는 도시만 커버된 것으로 집계해야 한다")
+    void reportsCoverage() {
+        for (Category category : Category.values()) {
+            for (int place = 0; place < 3; place++) {
+                knowledgeBase.add("후쿠오카", category.getLabel() + place, category, null);
+                knowledgeBase.add("후쿠오카", category.getLabel() + place, category, null);
+            }
+        }
+        knowledgeBase.add("서울", "경복궁", Category.CULTURE, null);
+
+        DestinationKnowledgeBase.Stats stats = knowledgeBase.stats();
+
+        assertEquals(2, stats.cities());
+        assertEquals(13, stats.places());
+        assertEquals(1, stats.coveredCities());
+        assertEquals(0.5, stats.coverage(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("카테고리 문자열이 없으면 활동 제목과 장소명의 키워드로 분류해야 한다")
+    void classifiesByKeywords() {
+        assertEquals(Category.RESTAURANT, Category.classify("일식", "아무 제목", null));
+        assertEquals(Category.NATURE, Category.classify(null, "모모치 해변 산책", "모모치 해변"));
+        assertEquals(Category.CULTURE, Category.classify(null, "야경 감상", "후쿠오카 타워"));
+        assertNull(Category.classify(null, "자유 시간", "텐진"));
+    }
+
+    private static HarvestedPlaceProjection row(Long id, String city, String locationName, String category,
+            String title) {
+        return new HarvestedPlaceProjection() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getCity() {
+                return city;
+            }
+
+            @Override
+            public String getLocationName() {
+                return locationName;
+            }
+
+            @Override
+            public String getCategory() {
+                return category;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+        };
+    }
+}
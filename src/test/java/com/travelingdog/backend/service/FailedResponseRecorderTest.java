@@ -0,0 +1,127 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.travelingdog.backend.model.FailedGptResponse;
+import com.travelingdog.backend.repository.FailedGptResponseRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 실패 응답 비동기 저장기 단위 테스트
+ *
+ * 큐 용량 초과 시 버린 건수가 집계되는지, 배치 단위로 저장되는지, 큰 응답이 압축/복원되는지 검증합니다.
+ */
+@Tag("unit")
+public class FailedResponseRecorderTest {
+
+    private FailedGptResponseRepository failedResponseRepository;
+    private FailedResponseRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        failedResponseRepository = Mockito.mock(FailedGptResponseRepository.class);
+        recorder = new FailedResponseRecorder(failedResponseRepository,
+                Mockito.mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 10, 1);
+        ReflectionTestUtils.setField(recorder, "batchSize", 4);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 요청 스레드를 막지 않고 버린 건수를 집계해야 한다")
+    void dropsWhenQueueIsFull() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(recorder.record("프롬프트", "응답" + i, "JSON 파싱 실패"));
+        }
+
+        assertFalse(recorder.record("프롬프트", "넘친 응답", "JSON 파싱 실패"));
+        assertEquals(1, recorder.getDroppedCount());
+        assertEquals(10, recorder.getQueueSize());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("큐에 쌓인 응답은 배치 크기 단위로 저장되어야 한다")
+    void flushesInBatches() {
+        for (int i = 0; i < 10; i++) {
+            recorder.record("프롬프트", "응답" + i, "JSON 파싱 실패");
+        }
+
+        recorder.flush();
+
+        ArgumentCaptor<List<FailedGptResponse>> captor = ArgumentCaptor.forClass(List.class);
+        verify(failedResponseRepository, times(3)).batchInsert(captor.capture());
+        assertEquals(List.of(4, 4, 2), captor.getAllValues().stream().map(List::size).toList());
+        assertEquals("프롬프트", captor.getAllValues().get(0).get(0).getPrompt());
+        assertEquals(0, recorder.getQueueSize());
+    }
+
+    @Test
+    @DisplayName("시작하면 전용 저장 스레드가 주기적으로 큐를 비워야 한다")
+    void flushesOnOwnThread() throws InterruptedException {
+        ReflectionTestUtils.setField(recorder, "flushIntervalMs", 10L);
+        recorder.start();
+        try {
+            recorder.record("프롬프트", "응답", "JSON 파싱 실패");
+
+            verify(failedResponseRepository, timeout(1000)).batchInsert(anyList());
+        } finally {
+            recorder.shutdown();
+        }
+        assertEquals(0, recorder.getQueueSize());
+    }
+
+    @Test
+    @DisplayName("바쁠 때 샘플링 비율이 1 미만이면 생성 시점에 거부해야 한다")
+    void rejectsNonPositiveSampleRate() {
+        assertThrows(IllegalArgumentException.class, () -> new FailedResponseRecorder(failedResponseRepository,
+                Mockito.mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 10, 0));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("큰 응답은 요청 스레드가 아닌 저장 시점에 압축되어야 한다")
+    void compressesOnFlush() {
+        String large = "{\"trip_name\":\"후쿠오카 여행\"}".repeat(1000);
+        recorder.record("프롬프트", large, "JSON 파싱 실패");
+
+        recorder.flush();
+
+        ArgumentCaptor<List<FailedGptResponse>> captor = ArgumentCaptor.forClass(List.class);
+        verify(failedResponseRepository).batchInsert(captor.capture());
+        String stored = captor.getValue().get(0).getResponse();
+        assertTrue(stored.startsWith(FailedResponseRecorder.COMPRESSED_PREFIX));
+        assertEquals(large, FailedResponseRecorder.decode(stored));
+    }
+
+    @Test
+    @DisplayName("임계값보다 큰 응답은 압축 저장되고 원문으로 복원되어야 한다")
+    void compressesLargePayload() {
+        String large = "{\"trip_name\":\"후쿠오카 여행\"}".repeat(1000);
+
+        String stored = FailedResponseRecorder.encode(large, 8192);
+
+        assertTrue(stored.startsWith(FailedResponseRecorder.COMPRESSED_PREFIX));
+        assertTrue(stored.length() < large.length());
+        assertEquals(large, FailedResponseRecorder.decode(stored));
+        assertEquals("짧은 응답", FailedResponseRecorder.encode("짧은 응답", 8192));
+        verify(failedResponseRepository, times(0)).batchInsert(anyList());
+    }
+}
@@ -0,0 +1,74 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Point;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+
+import com.travelingdog.backend.model.Itinerary;
+import com.travelingdog.backend.model.ItineraryActivity;
+import com.travelingdog.backend.model.SavedActivity;
+import com.travelingdog.backend.repository.ItineraryActivityRepository;
+import com.travelingdog.backend.repository.SavedActivityRepository;
+
+/**
+ * 지오코딩 단계 단위 테스트
+ *
+ * 좌표를 찾은 행은 Point가 채워지고, 찾지 못한 행도 시도 시각이 기록되어 다시 조회되지 않는지 검증합니다.
+ */
+@Tag("unit")
+public class GeocodingServiceTest {
+
+    private ItineraryActivityRepository itineraryActivityRepository;
+    private SavedActivityRepository savedActivityRepository;
+    private GeocodingService geocodingService;
+
+    @BeforeEach
+    void setUp() {
+        itineraryActivityRepository = Mockito.mock(ItineraryActivityRepository.class);
+        savedActivityRepository = Mockito.mock(SavedActivityRepository.class);
+        geocodingService = new GeocodingService(new StubGeocoder(), itineraryActivityRepository,
+                savedActivityRepository);
+    }
+
+    @Test
+    @DisplayName("사전에 있는 장소는 좌표가 채워지고, 없는 장소는 시도 시각만 기록되어야 한다")
+    void geocodePendingFillsLocation() {
+        Itinerary itinerary = Itinerary.builder().date("2025-05-01").location("후쿠오카").build();
+        ItineraryActivity known = ItineraryActivity.builder().title("전망대").locationName("후쿠오카 타워")
+                .itinerary(itinerary).build();
+        ItineraryActivity unknown = ItineraryActivity.builder().title("산책").locationName("이름 없는 골목")
+                .itinerary(itinerary).build();
+        SavedActivity saved = SavedActivity.builder().locationName("37.5796, 126.9770").category("관광").build();
+
+        when(itineraryActivityRepository.findByGeocodedAtIsNull(any(Pageable.class)))
+                .thenReturn(List.of(known, unknown));
+        when(savedActivityRepository.findByGeocodedAtIsNull(any(Pageable.class))).thenReturn(List.of(saved));
+
+        geocodingService.geocodePending();
+
+        Point point = known.getLocation();
+        assertNotNull(point);
+        assertEquals(4326, point.getSRID());
+        assertEquals(33.5932, point.getY(), 1e-9);
+        assertEquals(130.3515, point.getX(), 1e-9);
+        assertNotNull(known.getGeocodedAt());
+
+        assertNull(unknown.getLocation());
+        assertNotNull(unknown.getGeocodedAt());
+
+        assertEquals(37.5796, saved.getLocation().getY(), 1e-9);
+        assertEquals(126.9770, saved.getLocation().getX(), 1e-9);
+    }
+}
@@ -1,15 +1,20 @@
 package com.travelingdog.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -19,10 +24,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.travelingdog.backend.dto.itinerary.ItineraryActivityBatchRequest;
 import com.travelingdog.backend.dto.itinerary.ItineraryActivityCreateRequest;
 import com.travelingdog.backend.dto.itinerary.ItineraryActivityResponseDTO;
 import com.travelingdog.backend.dto.itinerary.ItineraryActivityUpdateRequest;
@@ -40,12 +49,17 @@ import com.travelingdog.backend.status.PlanStatus;
 @Tag("unit")
 public class ItineraryActivityServiceTest {
 
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
     @Mock
     private ItineraryActivityRepository activityRepository;
 
     @Mock
     private ItineraryRepository itineraryRepository;
 
+    @Mock
+    private ResourceAccessGuard accessGuard;
+
     @InjectMocks
     private ItineraryActivityService activityService;
 
@@ -151,21 +165,23 @@ public class ItineraryActivityServiceTest {
     @DisplayName("권한 없는 사용자의 활동 조회 시 예외 발생 테스트")
     void testGetActivityForbidden() {
         // Given
-        when(activityRepository.findById(anyLong())).thenReturn(Optional.of(activity));
+        doThrow(new ForbiddenResourceAccessException("해당 일정에 대한 접근 권한이 없습니다."))
+                .when(accessGuard).requireActivityOwner(1L, otherUser);
 
         // When & Then
         assertThrows(ForbiddenResourceAccessException.class, () -> {
             activityService.getActivity(1L, otherUser);
         });
 
-        verify(activityRepository, times(1)).findById(1L);
+        // 권한 검증에 실패하면 활동을 읽지 않아야 함
+        verify(activityRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("일정별 활동 목록 조회 테스트")
     void testGetActivitiesByItineraryId() {
         // Given
-        when(itineraryRepository.findById(anyLong())).thenReturn(Optional.of(itinerary));
+        when(itineraryRepository.findWithActivitiesById(anyLong())).thenReturn(Optional.of(itinerary));
 
         // When
         List<ItineraryActivityResponseDTO> activities = activityService.getActivitiesByItineraryId(1L, user);
@@ -175,7 +191,7 @@ public class ItineraryActivityServiceTest {
         assertEquals(activity.getId(), activities.get(0).getId());
         assertEquals(activity.getTitle(), activities.get(0).getTitle());
 
-        verify(itineraryRepository, times(1)).findById(1L);
+        verify(itineraryRepository, times(1)).findWithActivitiesById(1L);
     }
 
     @Test
@@ -190,7 +206,7 @@ public class ItineraryActivityServiceTest {
                 .itinerary(itinerary)
                 .build();
 
-        when(itineraryRepository.findById(anyLong())).thenReturn(Optional.of(itinerary));
+        when(itineraryRepository.findWithActivitiesById(anyLong())).thenReturn(Optional.of(itinerary));
         when(activityRepository.save(any(ItineraryActivity.class))).thenReturn(newActivity);
 
         // When
@@ -203,10 +219,35 @@ public class ItineraryActivityServiceTest {
         assertEquals(newActivity.getLocationName(), response.getLocationName());
         assertEquals(newActivity.getItinerary().getId(), response.getItineraryId());
 
-        verify(itineraryRepository, times(1)).findById(1L);
+        verify(itineraryRepository, times(1)).findWithActivitiesById(1L);
         verify(activityRepository, times(1)).save(any(ItineraryActivity.class));
     }
 
+    @Test
+    @DisplayName("위치가 없는 예전 활동이 있으면 예전 순서대로 위치를 채운 뒤 새 활동을 맨 뒤에 둬야 한다")
+    void testCreateActivityBackfillsLegacyPositions() {
+        // Given - 순서 도입 전 활동 두 개(위치 null)와 이후 추가되어 위치가 2인 활동
+        ItineraryActivity legacy = ItineraryActivity.builder()
+                .id(3L).title("섭지코지 산책").locationName("섭지코지").itinerary(itinerary).build();
+        ItineraryActivity positioned = ItineraryActivity.builder()
+                .id(5L).title("우도 자전거 투어").locationName("우도").position(2).itinerary(itinerary).build();
+        itinerary.getActivities().add(0, positioned);
+        itinerary.getActivities().add(legacy);
+
+        when(itineraryRepository.findWithActivitiesById(anyLong())).thenReturn(Optional.of(itinerary));
+        when(activityRepository.save(any(ItineraryActivity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ItineraryActivityResponseDTO response = activityService.createActivity(createRequest, user);
+
+        // Then
+        assertEquals(List.of(1L, 3L, 5L), itinerary.getActivities().subList(0, 3).stream()
+                .map(ItineraryActivity::getId).toList());
+        assertEquals(List.of(0, 1, 2, 3), itinerary.getActivities().stream()
+                .map(ItineraryActivity::getPosition).toList());
+        assertEquals(3, response.getPosition());
+    }
+
     @Test
     @DisplayName("활동 수정 테스트")
     void testUpdateActivity() {
@@ -235,6 +276,68 @@ public class ItineraryActivityServiceTest {
         verify(activityRepository, times(1)).save(any(ItineraryActivity.class));
     }
 
+    @Test
+    @DisplayName("위치 이름이 바뀌면 좌표와 지오코딩 시각을 비워 다시 지오코딩되게 해야 한다")
+    void testUpdateActivityRenameResetsGeocoding() {
+        // Given
+        activity.setLocation(GEOMETRY_FACTORY.createPoint(new Coordinate(126.9423, 33.4586)));
+        activity.setGeocodedAt(LocalDateTime.of(2025, 5, 1, 9, 0));
+        updateRequest.setLocationName("우도");
+
+        when(activityRepository.findById(anyLong())).thenReturn(Optional.of(activity));
+        when(activityRepository.save(any(ItineraryActivity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        activityService.updateActivity(1L, updateRequest, user);
+
+        // Then
+        assertEquals("우도", activity.getLocationName());
+        assertNull(activity.getLocation());
+        assertNull(activity.getGeocodedAt());
+    }
+
+    @Test
+    @DisplayName("위치 이름이 그대로면 기존 좌표를 유지해야 한다")
+    void testUpdateActivitySameNameKeepsGeocoding() {
+        // Given
+        LocalDateTime geocodedAt = LocalDateTime.of(2025, 5, 1, 9, 0);
+        activity.setLocation(GEOMETRY_FACTORY.createPoint(new Coordinate(126.9423, 33.4586)));
+        activity.setGeocodedAt(geocodedAt);
+
+        when(activityRepository.findById(anyLong())).thenReturn(Optional.of(activity));
+        when(activityRepository.save(any(ItineraryActivity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        activityService.updateActivity(1L, updateRequest, user);
+
+        // Then
+        assertNotNull(activity.getLocation());
+        assertEquals(geocodedAt, activity.getGeocodedAt());
+    }
+
+    @Test
+    @DisplayName("일괄 편집의 위치 이름 변경도 지오코딩 결과를 비워야 한다")
+    void testApplyBatchRenameResetsGeocoding() {
+        // Given
+        activity.setLocation(GEOMETRY_FACTORY.createPoint(new Coordinate(126.9423, 33.4586)));
+        activity.setGeocodedAt(LocalDateTime.of(2025, 5, 1, 9, 0));
+        ItineraryActivityBatchRequest request = ItineraryActivityBatchRequest.builder()
+                .operations(List.of(ItineraryActivityBatchRequest.Operation.builder()
+                        .type(ItineraryActivityBatchRequest.OperationType.UPDATE)
+                        .activityId(1L).locationName("섭지코지").build()))
+                .build();
+
+        when(itineraryRepository.findWithActivitiesById(1L)).thenReturn(Optional.of(itinerary));
+
+        // When
+        activityService.applyBatch(1L, request, user);
+
+        // Then
+        assertEquals("섭지코지", activity.getLocationName());
+        assertNull(activity.getLocation());
+        assertNull(activity.getGeocodedAt());
+    }
+
     @Test
     @DisplayName("활동 삭제 테스트")
     void testDeleteActivity() {
@@ -249,4 +352,66 @@ public class ItineraryActivityServiceTest {
         verify(activityRepository, times(1)).findById(1L);
         verify(activityRepository, times(1)).delete(activity);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("일괄 편집은 생성/수정/이동/삭제를 순서대로 적용하고 위치를 다시 매겨야 한다")
+    void testApplyBatch() {
+        // Given
+        ItineraryActivity second = ItineraryActivity.builder()
+                .id(2L)
+                .title("우도 자전거 투어")
+                .locationName("우도")
+                .itinerary(itinerary)
+                .build();
+        itinerary.getActivities().add(second);
+        itinerary.renumberActivities();
+
+        ItineraryActivityBatchRequest request = ItineraryActivityBatchRequest.builder()
+                .operations(List.of(
+                        ItineraryActivityBatchRequest.Operation.builder()
+                                .type(ItineraryActivityBatchRequest.OperationType.CREATE)
+                                .title("섭지코지 산책").locationName("섭지코지").position(0).build(),
+                        ItineraryActivityBatchRequest.Operation.builder()
+                                .type(ItineraryActivityBatchRequest.OperationType.UPDATE)
+                                .activityId(2L).title("우도 전기차 투어").build(),
+                        ItineraryActivityBatchRequest.Operation.builder()
+                                .type(ItineraryActivityBatchRequest.OperationType.MOVE)
+                                .activityId(2L).position(0).build(),
+                        ItineraryActivityBatchRequest.Operation.builder()
+                                .type(ItineraryActivityBatchRequest.OperationType.DELETE)
+                                .activityId(1L).build()))
+                .build();
+
+        when(itineraryRepository.findWithActivitiesById(1L)).thenReturn(Optional.of(itinerary));
+
+        // When
+        List<ItineraryActivityResponseDTO> response = activityService.applyBatch(1L, request, user);
+
+        // Then
+        assertEquals(2, response.size());
+        assertEquals("우도 전기차 투어", response.get(0).getTitle());
+        assertEquals("우도", response.get(0).getLocationName());
+        assertEquals(0, response.get(0).getPosition());
+        assertEquals("섭지코지 산책", response.get(1).getTitle());
+        assertEquals(1, response.get(1).getPosition());
+
+        verify(itineraryRepository, times(1)).findWithActivitiesById(1L);
+        verify(itineraryRepository, times(1)).saveAndFlush(itinerary);
+    }
+
+    @Test
+    @DisplayName("일괄 편집 대상 활동이 일정에 없으면 예외가 발생해야 한다")
+    void testApplyBatchUnknownActivity() {
+        // Given
+        ItineraryActivityBatchRequest request = ItineraryActivityBatchRequest.builder()
+                .operations(List.of(ItineraryActivityBatchRequest.Operation.builder()
+                        .type(ItineraryActivityBatchRequest.OperationType.DELETE)
+                        .activityId(99L).build()))
+                .build();
+
+        when(itineraryRepository.findWithActivitiesById(1L)).thenReturn(Optional.of(itinerary));
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> activityService.applyBatch(1L, request, user));
+    }
+}
@@ -0,0 +1,137 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.travelingdog.backend.dto.AIRecommendedItineraryDTO;
+import com.travelingdog.backend.dto.AIRecommendedTravelPlanDTO;
+
+/**
+ * 동선 최적화 단위 테스트
+ *
+ * 이동 거리가 원래 순서보다 길어지지 않는지, 식사처럼 시간대가 정해진 활동은 제자리를 지키는지 검증합니다.
+ */
+@Tag("unit")
+public class ItineraryRouteOptimizerTest {
+
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    @Test
+    @DisplayName("지그재그 순서는 직선 순서로 재배치되어야 한다")
+    void solvePathUntanglesZigZag() {
+        double[][] points = {
+                { 33.590, 130.40 }, { 33.590, 130.44 }, { 33.590, 130.41 }, { 33.590, 130.43 }, { 33.590, 130.42 }
+        };
+
+        int[] order = ItineraryRouteOptimizer.solvePath(points, true, false, NO_DEADLINE);
+
+        assertArrayEquals(new int[] { 0, 2, 4, 3, 1 }, order);
+    }
+
+    @Test
+    @DisplayName("무작위 좌표에서도 결과 경로가 원래 순서보다 길지 않아야 한다")
+    void solvePathNeverWorseThanOriginal() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            int n = 5 + random.nextInt(16);
+            double[][] points = new double[n][];
+            double[][] distance = new double[n][n];
+            int[] identity = new int[n];
+            for (int i = 0; i < n; i++) {
+                points[i] = new double[] { 33.5 + random.nextDouble() * 0.2, 130.3 + random.nextDouble() * 0.2 };
+                identity[i] = i;
+            }
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    distance[i][j] = ItineraryRouteOptimizer.haversine(points[i], points[j]);
+                }
+            }
+
+            int[] order = ItineraryRouteOptimizer.solvePath(points, true, true, NO_DEADLINE);
+
+            assertEquals(0, order[0]);
+            assertEquals(n - 1, order[n - 1]);
+            assertTrue(ItineraryRouteOptimizer.pathCost(order, distance)
+                    <= ItineraryRouteOptimizer.pathCost(identity, distance) + 1e-6);
+        }
+    }
+
+    @Test
+    @DisplayName("식사 활동은 같은 위치에 남고 그 앞 구간만 재배치되어야 한다")
+    void mealsKeepTheirSlot() {
+        Map<String, Geocoder.Coordinate> places = Map.of(
+                "A", new Geocoder.Coordinate(33.59, 130.40),
+                "B", new Geocoder.Coordinate(33.59, 130.44),
+                "C", new Geocoder.Coordinate(33.59, 130.41),
+                "식당", new Geocoder.Coordinate(33.59, 130.45),
+                "D", new Geocoder.Coordinate(33.59, 130.46));
+        Geocoder geocoder = (name, region) -> Optional.ofNullable(places.get(name));
+        ItineraryRouteOptimizer optimizer = new ItineraryRouteOptimizer(geocoder);
+
+        List<AIRecommendedItineraryDTO.Location> activities = new ArrayList<>(List.of(
+                activity("관광 A", "A"),
+                activity("관광 B", "B"),
+                activity("관광 C", "C"),
+                activity("점심 식사: 식당", "식당"),
+                activity("관광 D", "D")));
+        AIRecommendedItineraryDTO day = AIRecommendedItineraryDTO.builder()
+                .date("1").location("후쿠오카").activities(activities).build();
+        AIRecommendedTravelPlanDTO plan = AIRecommendedTravelPlanDTO.builder()
+                .tripName("후쿠오카 여행").itinerary(List.of(day)).build();
+
+        optimizer.optimize(plan);
+
+        List<String> titles = day.getActivities().stream().map(AIRecommendedItineraryDTO.Location::getTitle)
+                .toList();
+        assertEquals(List.of("관광 A", "관광 C", "관광 B", "점심 식사: 식당", "관광 D"), titles);
+    }
+
+    @Test
+    @DisplayName("시간 예산을 다 쓰면 남은 활동은 지오코딩하지 않고 제자리에 둬야 한다")
+    void geocodingStopsWhenBudgetIsSpent() {
+        AtomicInteger calls = new AtomicInteger();
+        Geocoder slowGeocoder = (name, region) -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of(new Geocoder.Coordinate(33.59, 130.40 + calls.get() * 0.01));
+        };
+        ItineraryRouteOptimizer optimizer = new ItineraryRouteOptimizer(slowGeocoder);
+        ReflectionTestUtils.setField(optimizer, "timeBudgetMs", 50L);
+
+        List<AIRecommendedItineraryDTO.Location> activities = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            activities.add(activity("관광 " + i, "장소 " + i));
+        }
+        AIRecommendedItineraryDTO day = AIRecommendedItineraryDTO.builder()
+                .date("1").location("후쿠오카").activities(activities).build();
+        AIRecommendedTravelPlanDTO plan = AIRecommendedTravelPlanDTO.builder()
+                .tripName("후쿠오카 여행").itinerary(List.of(day)).build();
+
+        optimizer.optimize(plan);
+
+        // 30ms 조회 두 번이면 50ms 예산을 넘기므로 세 번째 이후는 조회하지 않음
+        assertTrue(calls.get() >= 1 && calls.get() <= 2, "지오코딩 호출 수: " + calls.get());
+        assertEquals("관광 7", day.getActivities().get(7).getTitle());
+    }
+
+    private static AIRecommendedItineraryDTO.Location activity(String title, String locationName) {
+        return AIRecommendedItineraryDTO.Location.builder().title(title).locationName(locationName).build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * LLM 응답 JSON 추출기 단위/퍼즈 테스트
+ *
+ * src/test/resources/llm-responses 의 실제 응답 형태(코드 블록, 앞뒤 설명, 끝 쉼표, 잘린 응답)를 기반으로
+ * 무작위 변형을 가해도 추출 결과가 원본과 같거나, 실패하더라도 JsonProcessingException으로만 실패하는지 검증합니다.
+ */
+@Tag("unit")
+public class LlmJsonExtractorTest {
+
+    private static final String[] CORPUS = {
+            "fukuoka-code-block.txt",
+            "seoul-prose-trailing-commas.txt",
+            "busan-truncated.txt"
+    };
+
+    private static final String[] PROSE = {
+            "", "네, 여행 계획입니다.\n", "Here is your plan: ", "```json\n", "```", "{city} 여행 정보 ", "참고: {", "}}} "
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Random random = new Random(20250501L);
+    private List<String> corpus;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        corpus = new ArrayList<>();
+        for (String name : CORPUS) {
+            try (InputStream in = getClass().getResourceAsStream("/llm-responses/" + name)) {
+                corpus.add(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("코드 블록, 설명 문장, 끝 쉼표가 섞인 응답에서 여행 계획 객체를 추출해야 한다")
+    void extractsPlanFromCorpus() throws IOException {
+        JsonNode fukuoka = extractTree(corpus.get(0));
+        assertEquals("후쿠오카 2박 3일 미식 여행", fukuoka.get("trip_name").asText());
+        assertEquals(2, fukuoka.get("itinerary").size());
+
+        JsonNode seoul = extractTree(corpus.get(1));
+        assertEquals("서울 1박 2일 궁궐 여행", seoul.get("trip_name").asText());
+        assertEquals(3, seoul.get("itinerary").get(0).get("activities").size());
+        assertTrue(seoul.has("transportation_tips"));
+    }
+
+    @Test
+    @DisplayName("잘린 응답은 열린 괄호를 닫아 앞부분까지 복구해야 한다")
+    void repairsTruncatedResponse() throws IOException {
+        JsonNode busan = extractTree(corpus.get(2));
+
+        assertEquals("부산 2박 3일 바다 여행", busan.get("trip_name").asText());
+        JsonNode activities = busan.get("itinerary").get(0).get("activities");
+        assertEquals(3, activities.size());
+        assertEquals("광안리 야경", activities.get(2).get("title").asText());
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 없으면 JsonProcessingException이 발생해야 한다")
+    void failsWithoutObject() {
+        assertThrows(JsonProcessingException.class,
+                () -> LlmJsonExtractor.extract("This is not a valid JSON response"));
+    }
+
+    @Test
+    @DisplayName("깨진 '{' 후보가 많이 앞서도 뒤의 객체를 추출하고, 뒤쪽 잘린 객체도 복구해야 한다")
+    void skipsManyBrokenCandidates() throws IOException {
+        String noise = "참고: {도시} ".repeat(5_000);
+
+        JsonNode plan = extractTree(noise + corpus.get(0));
+        assertEquals("후쿠오카 2박 3일 미식 여행", plan.get("trip_name").asText());
+
+        // 잘림 판정이 후보 시작 위치가 아닌 원문 기준 위치로 이뤄지는지 확인
+        JsonNode busan = extractTree(noise + corpus.get(2));
+        assertEquals("부산 2박 3일 바다 여행", busan.get("trip_name").asText());
+    }
+
+    @Test
+    @DisplayName("앞뒤에 임의의 설명 문장을 붙여도 추출 결과는 원본과 같아야 한다")
+    void fuzzSurroundingProse() throws IOException {
+        for (String response : corpus.subList(0, 2)) {
+            JsonNode expected = extractTree(response);
+            for (int round = 0; round < 200; round++) {
+                String prefix = PROSE[random.nextInt(PROSE.length)];
+                String suffix = PROSE[random.nextInt(PROSE.length)];
+                assertEquals(expected, extractTree(prefix + response + suffix));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("임의 위치에서 잘라도 JsonProcessingException 외의 예외가 나지 않고, 성공 시 객체를 반환해야 한다")
+    void fuzzTruncation() {
+        for (String response : corpus) {
+            for (int round = 0; round < 300; round++) {
+                String truncated = response.substring(0, random.nextInt(response.length() + 1));
+                try {
+                    JsonNode node = extractTree(truncated);
+                    assertTrue(node.isObject(), truncated);
+                } catch (JsonProcessingException e) {
+                    // 객체 시작 전에 잘린 경우 등은 파싱 실패가 정상
+                } catch (IOException e) {
+                    throw new AssertionError("예상하지 못한 예외: " + e, e);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("닫는 괄호 앞에 끝 쉼표를 임의로 넣어도 추출 결과는 원본과 같아야 한다")
+    void fuzzTrailingCommas() throws IOException {
+        String response = corpus.get(0);
+        JsonNode expected = extractTree(response);
+        for (int round = 0; round < 100; round++) {
+            StringBuilder mutated = new StringBuilder(response.length() + 16);
+            boolean inString = false;
+            for (int i = 0; i < response.length(); i++) {
+                char c = response.charAt(i);
+                if (c == '"' && (i == 0 || response.charAt(i - 1) != '\\')) {
+                    inString = !inString;
+                }
+                if (!inString && (c == '}' || c == ']') && random.nextInt(3) == 0
+                        && !isAfterOpening(mutated)) {
+                    mutated.append(',');
+                }
+                mutated.append(c);
+            }
+            assertEquals(expected, extractTree(mutated.toString()));
+        }
+    }
+
+    private static boolean isAfterOpening(StringBuilder text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == '{' || c == '[' || c == ',';
+            }
+        }
+        return true;
+    }
+
+    private JsonNode extractTree(String content) throws IOException {
+        try (JsonParser parser = LlmJsonExtractor.extract(content).asParser()) {
+            return objectMapper.readTree(parser);
+        }
+    }
+}
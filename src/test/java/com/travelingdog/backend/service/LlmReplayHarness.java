@@ -0,0 +1,186 @@
+package com.travelingdog.backend.service;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelingdog.backend.config.JacksonConfig;
+import com.travelingdog.backend.model.FailedGptResponse;
+import com.travelingdog.backend.repository.FailedGptResponseRepository;
+
+/**
+ * 저장된 AI 응답을 외부 API 없이 세 파서에 다시 흘려 보내는 오프라인 리플레이 하네스
+ *
+ * 코퍼스는 디렉터리(하위 폴더명 = 파서 종류, 같은 이름의 .prompt 파일 = 프롬프트) 또는 FailedGptResponse 테이블에서
+ * 읽습니다. 여러 스레드로 병렬 실행하며 파서별 성공률, 처리량, 응답당 할당 바이트를 집계합니다.
+ * 서비스가 쓰는 것과 같은 정적 파서(readTravelPlan, readResponse)를 운영 공용 매퍼 구성으로 호출합니다.
+ */
+final class LlmReplayHarness {
+
+    enum Parser {
+        TRAVEL_PLAN("travel-plan"), TODAY_ACTIVITY("today-activity"), RESTAURANT("restaurant");
+
+        private final String directory;
+
+        Parser(String directory) {
+            this.directory = directory;
+        }
+
+        static Parser fromDirectory(String name) {
+            for (Parser parser : values()) {
+                if (parser.directory.equals(name)) {
+                    return parser;
+                }
+            }
+            return TRAVEL_PLAN;
+        }
+    }
+
+    record ReplayCase(String name, Parser parser, String prompt, String response) {
+    }
+
+    record ParserReport(Parser parser, long total, long succeeded, long busyNanos, long allocatedBytes,
+            Map<String, Long> failures) {
+
+        double successRate() {
+            return total == 0 ? 1.0 : (double) succeeded / total;
+        }
+
+        double responsesPerSecond() {
+            return busyNanos == 0 ? 0 : total * 1_000_000_000d / busyNanos;
+        }
+
+        long allocatedBytesPerResponse() {
+            return total == 0 ? 0 : allocatedBytes / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-15s total=%d success=%.1f%% throughput=%.0f/s/thread alloc=%dB/response failures=%s",
+                    parser, total, successRate() * 100, responsesPerSecond(), allocatedBytesPerResponse(), failures);
+        }
+    }
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final String REPLAY_LOCATION = "리플레이";
+
+    private final ObjectMapper objectMapper;
+
+    LlmReplayHarness(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 운영 공용 ObjectMapper와 같은 구성 (Spring Boot 기본 빌더 + JacksonConfig 모듈)
+     */
+    static ObjectMapper sharedObjectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new JacksonConfig().blackbirdModule())
+                .build();
+    }
+
+    /**
+     * 디렉터리에서 코퍼스를 읽습니다. (*.txt = 응답, 같은 이름의 *.prompt = 프롬프트)
+     */
+    static List<ReplayCase> loadFromDirectory(Path root) throws IOException {
+        List<ReplayCase> cases = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".txt")).sorted().toList()) {
+                String fileName = file.getFileName().toString();
+                Path promptFile = file.resolveSibling(fileName.substring(0, fileName.length() - 4) + ".prompt");
+                String prompt = Files.exists(promptFile) ? Files.readString(promptFile, StandardCharsets.UTF_8) : null;
+                Parser parser = file.getParent().equals(root) ? Parser.TRAVEL_PLAN
+                        : Parser.fromDirectory(file.getParent().getFileName().toString());
+                cases.add(new ReplayCase(root.relativize(file).toString(), parser, prompt,
+                        Files.readString(file, StandardCharsets.UTF_8)));
+            }
+        }
+        return cases;
+    }
+
+    /**
+     * FailedGptResponse 테이블에서 최근 실패 응답을 읽어 압축을 풉니다. (여행 계획 파서에서 저장된 응답, LlmReplayTableTest)
+     */
+    static List<ReplayCase> loadFromRepository(FailedGptResponseRepository repository, int limit) {
+        List<ReplayCase> cases = new ArrayList<>();
+        for (FailedGptResponse row : repository.findAll(PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "id")))) {
+            cases.add(new ReplayCase("failed_gpt_response#" + row.getId(), Parser.TRAVEL_PLAN,
+                    FailedResponseRecorder.decode(row.getPrompt()), FailedResponseRecorder.decode(row.getResponse())));
+        }
+        return cases;
+    }
+
+    /**
+     * 코퍼스를 iterations번 반복해 병렬로 파싱하고 파서별 결과를 반환합니다.
+     */
+    Map<Parser, ParserReport> run(List<ReplayCase> cases, int threads, int iterations) throws Exception {
+        Map<Parser, LongAdder[]> stats = new EnumMap<>(Parser.class);
+        Map<Parser, Map<String, Long>> failures = new EnumMap<>(Parser.class);
+        for (Parser parser : Parser.values()) {
+            stats.put(parser, new LongAdder[] { new LongAdder(), new LongAdder(), new LongAdder(), new LongAdder() });
+            failures.put(parser, new ConcurrentHashMap<>());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int iteration = 0; iteration < iterations; iteration++) {
+                for (ReplayCase replayCase : cases) {
+                    futures.add(executor.submit(() -> {
+                        LongAdder[] counters = stats.get(replayCase.parser());
+                        long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+                        long startedAt = System.nanoTime();
+                        try {
+                            parse(replayCase);
+                            counters[1].increment();
+                        } catch (RuntimeException | IOException e) {
+                            failures.get(replayCase.parser()).merge(e.getClass().getSimpleName(), 1L, Long::sum);
+                        }
+                        counters[2].add(System.nanoTime() - startedAt);
+                        counters[3].add(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore);
+                        counters[0].increment();
+                    }));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<Parser, ParserReport> reports = new EnumMap<>(Parser.class);
+        stats.forEach((parser, counters) -> reports.put(parser, new ParserReport(parser, counters[0].sum(),
+                counters[1].sum(), counters[2].sum(), counters[3].sum(), new TreeMap<>(failures.get(parser)))));
+        return reports;
+    }
+
+    private Object parse(ReplayCase replayCase) throws IOException {
+        return switch (replayCase.parser()) {
+            case TRAVEL_PLAN -> GptResponseHandler.readTravelPlan(objectMapper, replayCase.response());
+            case TODAY_ACTIVITY -> TodayActivityService.readResponse(objectMapper, replayCase.response(),
+                    REPLAY_LOCATION);
+            case RESTAURANT -> RestaurantRecommendationService.readResponse(objectMapper, replayCase.response());
+        };
+    }
+}
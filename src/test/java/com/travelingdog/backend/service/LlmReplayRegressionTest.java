@@ -0,0 +1,59 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+
+import com.travelingdog.backend.service.LlmReplayHarness.Parser;
+import com.travelingdog.backend.service.LlmReplayHarness.ParserReport;
+import com.travelingdog.backend.service.LlmReplayHarness.ReplayCase;
+
+/**
+ * AI 응답 파서 오프라인 리플레이 회귀 테스트
+ *
+ * src/test/resources/llm-responses 코퍼스를 세 파서에 병렬로 흘려 보내고, 파서별 성공률이 기준(replay.min-success-rate,
+ * 기본 1.0) 아래로 떨어지면 실패합니다. 반복 횟수와 스레드 수는 replay.iterations, replay.threads 시스템 속성으로 조정합니다.
+ * 외부 API를 호출하지 않으므로 CI에서 그대로 실행할 수 있습니다. (./gradlew replayTest)
+ * -Dreplay.source=table이면 이 테스트 대신 {@link LlmReplayTableTest}가 FailedGptResponse 테이블을 리플레이합니다.
+ */
+@DisabledIfSystemProperty(named = "replay.source", matches = "table")
+@Tag("replay")
+public class LlmReplayRegressionTest {
+
+    @Test
+    @DisplayName("코퍼스의 모든 응답이 각 파서에서 기준 이상의 성공률로 파싱되어야 한다")
+    void replayCorpus() throws Exception {
+        Path corpusRoot = corpusRoot();
+        List<ReplayCase> cases = LlmReplayHarness.loadFromDirectory(corpusRoot);
+        double minSuccessRate = Double.parseDouble(System.getProperty("replay.min-success-rate", "1.0"));
+        int iterations = Integer.getInteger("replay.iterations", 20);
+        int threads = Integer.getInteger("replay.threads", Runtime.getRuntime().availableProcessors());
+
+        Map<Parser, ParserReport> reports = new LlmReplayHarness(LlmReplayHarness.sharedObjectMapper()).run(cases, threads, iterations);
+
+        reports.values().forEach(System.out::println);
+        for (Parser parser : Parser.values()) {
+            long expected = cases.stream().filter(c -> c.parser() == parser).count() * iterations;
+            ParserReport report = reports.get(parser);
+            assertEquals(expected, report.total());
+            assertTrue(report.successRate() >= minSuccessRate, report.toString());
+        }
+    }
+
+    private static Path corpusRoot() throws URISyntaxException {
+        String override = System.getProperty("replay.corpus-dir");
+        if (override != null && !override.isBlank()) {
+            return Path.of(override);
+        }
+        return Path.of(LlmReplayRegressionTest.class.getResource("/llm-responses").toURI());
+    }
+}
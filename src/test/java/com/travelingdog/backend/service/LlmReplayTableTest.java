@@ -0,0 +1,75 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.travelingdog.backend.config.JpaAuditingConfigTest;
+import com.travelingdog.backend.repository.FailedGptResponseRepository;
+import com.travelingdog.backend.service.LlmReplayHarness.Parser;
+import com.travelingdog.backend.service.LlmReplayHarness.ParserReport;
+import com.travelingdog.backend.service.LlmReplayHarness.ReplayCase;
+
+/**
+ * FailedGptResponse 테이블 리플레이
+ *
+ * 운영(또는 복제) DB에 저장된 최근 실패 응답을 읽어 여행 계획 파서에 다시 흘려 보내고 파서별 결과를 출력합니다.
+ * 저장된 응답은 FailedResponseRecorder.decode로 복원합니다. 스키마는 건드리지 않으며(ddl-auto: none) 읽기만 합니다.
+ * 원래 실패했던 응답이므로 성공률 기준은 기본 0이며, 파서 개선을 확인할 때 replay.min-success-rate로 올립니다.
+ *
+ * 실행: ./gradlew replayTest -Dreplay.source=table -Dreplay.datasource.url=jdbc:postgresql://host:5432/db
+ *       -Dreplay.datasource.username=... -Dreplay.datasource.password=... [-Dreplay.limit=1000]
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "replay.source", matches = "table")
+@Tag("replay")
+@Import(JpaAuditingConfigTest.class)
+public class LlmReplayTableTest {
+
+    @Autowired
+    private FailedGptResponseRepository failedGptResponseRepository;
+
+    @DynamicPropertySource
+    static void replayDataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("replay.datasource.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("replay.datasource.username", ""));
+        registry.add("spring.datasource.password", () -> System.getProperty("replay.datasource.password", ""));
+    }
+
+    @Test
+    @DisplayName("저장된 실패 응답을 여행 계획 파서로 다시 파싱해 결과를 집계해야 한다")
+    void replayFailedResponses() throws Exception {
+        List<ReplayCase> cases = LlmReplayHarness.loadFromRepository(failedGptResponseRepository,
+                Integer.getInteger("replay.limit", 1000));
+        double minSuccessRate = Double.parseDouble(System.getProperty("replay.min-success-rate", "0.0"));
+        int threads = Integer.getInteger("replay.threads", Runtime.getRuntime().availableProcessors());
+
+        Map<Parser, ParserReport> reports = new LlmReplayHarness(LlmReplayHarness.sharedObjectMapper())
+                .run(cases, threads, 1);
+
+        System.out.printf("failed_gpt_response rows=%d%n", cases.size());
+        ParserReport report = reports.get(Parser.TRAVEL_PLAN);
+        System.out.println(report);
+        assertTrue(report.successRate() >= minSuccessRate, report.toString());
+    }
+}
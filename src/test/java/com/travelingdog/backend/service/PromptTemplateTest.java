@@ -0,0 +1,67 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 프롬프트 템플릿/토큰 추정 단위 테스트
+ */
+@Tag("unit")
+public class PromptTemplateTest {
+
+    @Test
+    @DisplayName("변수 위치에 값을 채우고, 값이 없는 변수는 빈 문자열로 채워야 한다")
+    void rendersVariables() {
+        PromptTemplate template = PromptTemplate.compile("도시: {{city}}, 기간: {{ days }}일{{suffix}}");
+
+        assertEquals(List.of("city", "days", "suffix"), template.getVariables());
+        assertEquals("도시: 후쿠오카, 기간: 3일", template.render(Map.of("city", "후쿠오카", "days", 3)));
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 중괄호는 문자열 그대로 남겨야 한다")
+    void keepsUnclosedBraces() {
+        PromptTemplate template = PromptTemplate.compile("{\"a\": 1} {{open");
+
+        assertEquals("{\"a\": 1} {{open", template.render(Map.of()));
+        assertEquals("{\"a\": 1} {{open", template.asStaticText());
+    }
+
+    @Test
+    @DisplayName("변수가 있는 템플릿은 고정 텍스트로 꺼낼 수 없어야 한다")
+    void rejectsStaticTextWithVariables() {
+        assertThrows(IllegalStateException.class, () -> PromptTemplate.compile("{{city}}").asStaticText());
+    }
+
+    @Test
+    @DisplayName("여행 계획 공통 지시사항은 변수가 없고, 요청별 프롬프트보다 훨씬 길어야 한다")
+    void travelPlanTemplatesSplitStaticInstructions() {
+        String instructions = PromptTemplate.fromClasspath("prompts/travel-plan-instructions.txt").asStaticText();
+        PromptTemplate request = PromptTemplate.fromClasspath("prompts/travel-plan-request.txt");
+
+        assertTrue(instructions.contains("\"itinerary\""));
+        assertTrue(request.getVariables().containsAll(List.of("city", "startDate", "endDate")));
+
+        String rendered = request.render(Map.of("city", "제주시", "startDate", "2024-07-01", "endDate", "2024-07-03"));
+        assertFalse(rendered.contains("{{"));
+        assertTrue(TokenEstimator.estimate(instructions) > TokenEstimator.estimate(rendered) * 3);
+    }
+
+    @Test
+    @DisplayName("영문은 4글자당 1토큰, 한글은 1글자당 1토큰으로 추정해야 한다")
+    void estimatesTokens() {
+        assertEquals(0, TokenEstimator.estimate(null));
+        assertEquals(2, TokenEstimator.estimate("Fukuoka"));
+        assertEquals(3, TokenEstimator.estimate("후쿠오"));
+        assertEquals(3, TokenEstimator.estimate("trip: 3"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.travelingdog.backend.exception.ForbiddenResourceAccessException;
+import com.travelingdog.backend.exception.ResourceNotFoundException;
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.repository.ItineraryActivityRepository;
+import com.travelingdog.backend.repository.ItineraryRepository;
+import com.travelingdog.backend.repository.SavedActivityRepository;
+import com.travelingdog.backend.repository.TravelPlanRepository;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+public class ResourceAccessGuardTest {
+
+    @Mock
+    private TravelPlanRepository travelPlanRepository;
+
+    @Mock
+    private ItineraryRepository itineraryRepository;
+
+    @Mock
+    private ItineraryActivityRepository itineraryActivityRepository;
+
+    @Mock
+    private SavedActivityRepository savedActivityRepository;
+
+    @InjectMocks
+    private ResourceAccessGuard accessGuard;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    @DisplayName("작성자 ID가 사용자와 같으면 통과해야 한다")
+    void allowsOwner() {
+        when(itineraryActivityRepository.findOwnerIdById(10L)).thenReturn(Optional.of(1L));
+
+        assertDoesNotThrow(() -> accessGuard.requireActivityOwner(10L, user));
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 리소스면 403 예외가 발생해야 한다")
+    void rejectsOtherUser() {
+        when(travelPlanRepository.findOwnerIdById(5L)).thenReturn(Optional.of(2L));
+
+        ForbiddenResourceAccessException exception = assertThrows(ForbiddenResourceAccessException.class,
+                () -> accessGuard.requirePlanOwner(5L, user, "수정할 수 없는 여행 계획입니다."));
+        assertEquals("수정할 수 없는 여행 계획입니다.", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("리소스가 없으면 404 예외가 발생해야 한다")
+    void rejectsMissingResource() {
+        when(itineraryRepository.findOwnerIdById(7L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> accessGuard.requireItineraryOwner(7L, user));
+    }
+}
@@ -0,0 +1,88 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.travelingdog.backend.dto.AIRecommendedTravelPlanDTO;
+import com.travelingdog.backend.dto.restaurant.RestaurantRecommendationResponseDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO;
+
+/**
+ * 응답 스키마 생성 단위 테스트
+ *
+ * DTO의 Jackson 속성 이름과 타입이 Gemini responseSchema 형식으로 변환되는지 검증합니다.
+ */
+@Tag("unit")
+public class ResponseSchemaGeneratorTest {
+
+    @Test
+    @DisplayName("@JsonProperty 이름과 중첩 리스트 타입을 스키마에 반영해야 한다")
+    void generatesNestedSchemaWithJsonPropertyNames() {
+        Map<String, Object> schema = ResponseSchemaGenerator.schemaFor(RestaurantRecommendationResponseDTO.class);
+
+        assertEquals("OBJECT", schema.get("type"));
+        Map<String, Object> restaurants = property(schema, "restaurants");
+        assertEquals("ARRAY", restaurants.get("type"));
+
+        Map<String, Object> restaurant = child(restaurants, "items");
+        assertEquals("OBJECT", restaurant.get("type"));
+        assertEquals("STRING", property(restaurant, "location_name").get("type"));
+        assertEquals(true, property(restaurant, "location_name").get("nullable"));
+        assertEquals("NUMBER", property(restaurant, "rating").get("type"));
+        assertEquals("STRING", child(property(restaurant, "recommended_dishes"), "items").get("type"));
+        assertEquals(List.of("location_name", "description", "cuisine", "price_range", "estimated_cost",
+                "address", "opening_hours", "phone", "rating", "recommended_dishes"),
+                restaurant.get("propertyOrdering"));
+    }
+
+    @Test
+    @DisplayName("서버가 채우는 최상위 속성은 제외해야 한다")
+    void excludesServerPopulatedProperties() {
+        Map<String, Object> schema = ResponseSchemaGenerator.schemaFor(TodayActivityResponseDTO.class,
+                "location", "createdAt");
+
+        assertEquals(List.of("restaurants", "cultureSpots", "shoppingSpots", "natureSpots"), schema.get("required"));
+        assertEquals(List.of("locationName", "category"),
+                child(property(schema, "restaurants"), "items").get("required"));
+    }
+
+    @Test
+    @DisplayName("여행 계획 스키마는 프롬프트의 JSON 필드 이름과 같아야 한다")
+    void travelPlanSchemaMatchesPromptFields() {
+        Map<String, Object> schema = ResponseSchemaGenerator.schemaFor(AIRecommendedTravelPlanDTO.class);
+
+        Map<String, Object> activity = child(child(property(schema, "itinerary"), "items"), "properties");
+        assertFalse(((Map<?, ?>) schema.get("properties")).containsKey("tripName"));
+        assertEquals("STRING", property(schema, "trip_name").get("type"));
+        assertEquals("ARRAY", property(schema, "transportation").get("type"));
+        assertEquals("ARRAY", ((Map<?, ?>) activity.get("activities")).get("type"));
+    }
+
+    @Test
+    @DisplayName("속성이 고정되지 않은 Map 타입은 지원하지 않아야 한다")
+    void rejectsMapTypes() {
+        assertThrows(IllegalArgumentException.class, () -> ResponseSchemaGenerator.schemaFor(MapHolder.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> property(Map<String, Object> schema, String name) {
+        return (Map<String, Object>) child(schema, "properties").get(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> child(Map<String, Object> schema, String key) {
+        return (Map<String, Object>) schema.get(key);
+    }
+
+    static class MapHolder {
+        public Map<String, String> values;
+    }
+}
@@ -0,0 +1,77 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSearchRequest;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSearchResponse;
+import com.travelingdog.backend.service.SearchResponseCache.CachedSearchPage;
+
+/**
+ * 공개 검색 응답 캐시 단위 테스트
+ *
+ * 필터 없는 앞쪽 페이지만 캐시되는지, 같은 조건은 한 번만 렌더링되는지 검증합니다.
+ */
+@Tag("unit")
+public class SearchResponseCacheTest {
+
+    private TravelPlanService travelPlanService;
+    private SearchResponseCache searchResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        travelPlanService = Mockito.mock(TravelPlanService.class);
+        PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+
+        searchResponseCache = new SearchResponseCache(travelPlanService, new ObjectMapper(), transactionManager);
+        ReflectionTestUtils.setField(searchResponseCache, "enabled", true);
+        ReflectionTestUtils.setField(searchResponseCache, "maxPage", 2);
+        ReflectionTestUtils.setField(searchResponseCache, "sorts", new String[] { "recent", "popular" });
+        ReflectionTestUtils.setField(searchResponseCache, "refreshIntervalMs", 30000L);
+
+        when(travelPlanService.searchTravelPlans(any(TravelPlanSearchRequest.class)))
+                .thenReturn(TravelPlanSearchResponse.builder().content(new ArrayList<>()).page(0).size(10).build());
+    }
+
+    @Test
+    @DisplayName("필터 없는 첫 페이지는 한 번만 렌더링되고 같은 ETag로 재사용되어야 한다")
+    void hotQueryIsRenderedOnce() {
+        Optional<CachedSearchPage> first = searchResponseCache.lookup(new TravelPlanSearchRequest());
+        Optional<CachedSearchPage> second = searchResponseCache.lookup(
+                TravelPlanSearchRequest.builder().keyword("  ").sortBy("recent").page(0).build());
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals(first.get().etag(), second.get().etag());
+        verify(travelPlanService, times(1)).searchTravelPlans(any(TravelPlanSearchRequest.class));
+    }
+
+    @Test
+    @DisplayName("키워드, 페이지 크기, 페이지 번호가 캐시 대상이 아니면 캐시를 사용하지 않아야 한다")
+    void nonHotQueriesAreNotCached() {
+        assertFalse(searchResponseCache.lookup(TravelPlanSearchRequest.builder().keyword("제주").build()).isPresent());
+        assertFalse(searchResponseCache.lookup(TravelPlanSearchRequest.builder().size(20).build()).isPresent());
+        assertFalse(searchResponseCache.lookup(TravelPlanSearchRequest.builder().page(3).build()).isPresent());
+        assertFalse(searchResponseCache.lookup(TravelPlanSearchRequest.builder().sortBy("oldest").build()).isPresent());
+
+        verify(travelPlanService, never()).searchTravelPlans(any(TravelPlanSearchRequest.class));
+    }
+}
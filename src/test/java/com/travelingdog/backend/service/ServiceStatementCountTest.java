@@ -0,0 +1,258 @@
+package com.travelingdog.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.travelingdog.backend.config.JpaAuditingConfigTest;
+import com.travelingdog.backend.config.StatementCounter;
+import com.travelingdog.backend.config.StatementCounter.Result;
+import com.travelingdog.backend.dto.itinerary.ItineraryActivityResponseDTO;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanDTO;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSearchRequest;
+import com.travelingdog.backend.exception.ForbiddenResourceAccessException;
+import com.travelingdog.backend.model.AccommodationType;
+import com.travelingdog.backend.model.Interest;
+import com.travelingdog.backend.model.Itinerary;
+import com.travelingdog.backend.model.ItineraryActivity;
+import com.travelingdog.backend.model.Transportation;
+import com.travelingdog.backend.model.TravelPlan;
+import com.travelingdog.backend.model.TravelStyle;
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.repository.ItineraryRepository;
+import com.travelingdog.backend.repository.TravelPlanRepository;
+import com.travelingdog.backend.repository.UserRepository;
+import com.travelingdog.backend.status.PlanStatus;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 서비스 유스케이스별 SQL 문장 수 회귀 테스트
+ *
+ * 연관관계 지연 로딩과 유스케이스별 페치 계획이 유지되는지, 메소드 하나가 실행하는 쿼리 수로 검증합니다.
+ * 테스트 클래스패스의 application.yml이 운영 설정을 가리므로 default_batch_fetch_size는 운영과 같게 여기서 지정합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.default_batch_fetch_size=100")
+@ActiveProfiles("test")
+@Tag("integration")
+@Import({ JpaAuditingConfigTest.class, ItineraryActivityService.class, TravelPlanService.class,
+        ResourceAccessGuard.class })
+public class ServiceStatementCountTest {
+
+    @Autowired
+    private ItineraryActivityService itineraryActivityService;
+
+    @Autowired
+    private TravelPlanService travelPlanService;
+
+    // 조회 경로에서 쓰지 않는 AI/집계 의존성
+    @MockBean
+    private AiProviderRouter aiProviderRouter;
+
+    @MockBean
+    private GptResponseHandler gptResponseHandler;
+
+    @MockBean
+    private ItineraryRouteOptimizer itineraryRouteOptimizer;
+
+    @MockBean
+    private ChunkedTripPlanGenerator chunkedTripPlanGenerator;
+
+    @MockBean
+    private UserStatsService userStatsService;
+
+    @MockBean
+    private AiStageTimer aiStageTimer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TravelPlanRepository travelPlanRepository;
+
+    @Autowired
+    private ItineraryRepository itineraryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private StatementCounter counter;
+    private User owner;
+    private User stranger;
+    private Itinerary itinerary;
+
+    @BeforeEach
+    void setUp() {
+        counter = new StatementCounter(entityManager);
+
+        owner = userRepository.save(User.builder()
+                .nickname("작성자")
+                .password("password123")
+                .email("owner@example.com")
+                .build());
+        stranger = userRepository.save(User.builder()
+                .nickname("다른사용자")
+                .password("password123")
+                .email("stranger@example.com")
+                .build());
+
+        TravelPlan travelPlan = travelPlanRepository.save(TravelPlan.builder()
+                .title("제주도 여행")
+                .country("Korea")
+                .city("제주시")
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(3))
+                .status(PlanStatus.PRIVATE)
+                .user(owner)
+                .build());
+
+        itinerary = Itinerary.builder()
+                .date("2024-05-15")
+                .location("제주시")
+                .travelPlan(travelPlan)
+                .build();
+        for (String place : List.of("성산일출봉", "만장굴", "우도")) {
+            itinerary.addActivity(ItineraryActivity.builder()
+                    .title(place + " 방문")
+                    .locationName(place)
+                    .build());
+        }
+        itinerary = itineraryRepository.save(itinerary);
+    }
+
+    @Test
+    @DisplayName("활동 단건 조회는 권한 검증 1회와 활동 조회 1회만 실행해야 한다")
+    void getActivityRunsTwoStatements() {
+        Long activityId = itinerary.getActivities().get(0).getId();
+
+        Result result = counter.count(() -> itineraryActivityService.getActivity(activityId, owner));
+
+        assertThat(result.statements()).isEqualTo(2);
+        // 일정/여행 계획/사용자는 지연 로딩이므로 활동 하나만 로딩됨
+        assertThat(result.entityLoads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일정별 활동 목록 조회는 활동 수와 관계없이 2회만 실행해야 한다")
+    void getActivitiesByItineraryRunsTwoStatements() {
+        Result result = counter.count(() -> {
+            List<ItineraryActivityResponseDTO> activities = itineraryActivityService
+                    .getActivitiesByItineraryId(itinerary.getId(), owner);
+            assertThat(activities).hasSize(3);
+        });
+
+        assertThat(result.statements()).isEqualTo(2);
+        assertThat(result.entityLoads()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("작성자가 아니면 엔티티를 읽지 않고 한 번의 쿼리로 거부해야 한다")
+    void forbiddenAccessRunsOneStatement() {
+        Long activityId = itinerary.getActivities().get(0).getId();
+
+        Result result = counter.count(() -> assertThatThrownBy(
+                () -> itineraryActivityService.getActivity(activityId, stranger))
+                .isInstanceOf(ForbiddenResourceAccessException.class));
+
+        assertThat(result.statements()).isEqualTo(1);
+        assertThat(result.entityLoads()).isZero();
+    }
+
+    @Test
+    @DisplayName("인증용 사용자 조회는 권한 컬렉션을 함께 한 번에 읽어야 한다")
+    void findByEmailFetchesRolesInOneStatement() {
+        Result result = counter.count(() -> {
+            User found = userRepository.findByEmail("owner@example.com").orElseThrow();
+            assertThat(Hibernate.isInitialized(found.getRoles())).isTrue();
+            assertThat(found.getAuthorities()).isNotEmpty();
+        });
+
+        assertThat(result.statements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여행 계획 상세 조회는 일정 수와 관계없이 같은 수의 쿼리만 실행해야 한다")
+    void getTravelPlanDetailDoesNotGrowWithItineraries() {
+        Long small = publishedPlan("후쿠오카 여행", 1).getId();
+        Long large = publishedPlan("오사카 여행", 4).getId();
+
+        Result smallResult = counter.count(() -> travelPlanService.getTravelPlanDetail(small, stranger));
+        Result largeResult = counter.count(() -> {
+            TravelPlanDTO detail = travelPlanService.getTravelPlanDetail(large, stranger);
+            assertThat(detail.getItineraries()).hasSize(4);
+        });
+
+        // 계획+작성자+일정 1회, 태그 컬렉션 4종 각 1회, 일정별 활동 일괄 1회
+        assertThat(largeResult.statements()).isEqualTo(smallResult.statements()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("내 여행 계획 목록 조회는 계획 수와 관계없이 같은 수의 쿼리만 실행해야 한다")
+    void getTravelPlanListDoesNotGrowWithPlans() {
+        publishedPlan("후쿠오카 여행", 2);
+        Result fewer = counter.count(() -> travelPlanService.getTravelPlanList(owner));
+
+        publishedPlan("오사카 여행", 2);
+        publishedPlan("도쿄 여행", 2);
+        Result more = counter.count(() -> assertThat(travelPlanService.getTravelPlanList(owner)).hasSize(4));
+
+        // 계획+작성자 1회, 태그 컬렉션 4종/일정/활동 각 1회 (default_batch_fetch_size로 묶어서 조회)
+        assertThat(more.statements()).isEqualTo(fewer.statements()).isLessThanOrEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("여행 계획 검색은 페이지 안의 계획 수와 관계없이 같은 수의 쿼리만 실행해야 한다")
+    void searchTravelPlansDoesNotGrowWithPageContent() {
+        TravelPlanSearchRequest request = TravelPlanSearchRequest.builder().keyword("여행").size(10).build();
+        publishedPlan("후쿠오카 여행", 2);
+        Result fewer = counter.count(() -> travelPlanService.searchTravelPlans(request));
+
+        publishedPlan("오사카 여행", 2);
+        publishedPlan("도쿄 여행", 2);
+        Result more = counter.count(
+                () -> assertThat(travelPlanService.searchTravelPlans(request).getContent()).hasSize(3));
+
+        // 첫 페이지가 다 차지 않으면 count 쿼리는 생략됨
+        assertThat(more.statements()).isEqualTo(fewer.statements()).isLessThanOrEqualTo(7);
+    }
+
+    private TravelPlan publishedPlan(String title, int days) {
+        TravelPlan plan = TravelPlan.builder()
+                .title(title)
+                .country("일본")
+                .city(title.split(" ")[0])
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusDays(days - 1))
+                .status(PlanStatus.PUBLISHED)
+                .user(owner)
+                .build();
+        plan.addTravelStyle(TravelStyle.builder().name("맛집 탐방").build());
+        plan.addInterest(Interest.builder().name("음식").build());
+        plan.addAccommodationType(AccommodationType.builder().name("호텔").build());
+        plan.addTransportation(Transportation.builder().name("지하철").build());
+        for (int day = 0; day < days; day++) {
+            Itinerary dayItinerary = Itinerary.builder()
+                    .date(LocalDate.now().plusDays(day).toString())
+                    .location(plan.getCity())
+                    .build();
+            for (String place : List.of("시내 관광", "야경 감상")) {
+                dayItinerary.addActivity(ItineraryActivity.builder().title(place).locationName(place).build());
+            }
+            plan.addItinerary(dayItinerary);
+        }
+        return travelPlanRepository.save(plan);
+    }
+}
@@ -0,0 +1,184 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.travelingdog.backend.dto.todayActivity.TodayActivityRequestDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO;
+import com.travelingdog.backend.dto.todayActivity.TodayActivityResponseDTO.ActivityRecommendation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 당일 활동 추천 캐시 단위 테스트
+ *
+ * 위치 정규화, 요청 개수만큼 풀 자르기, 만료 후 백그라운드 갱신, 메모리 예산 기반 LRU 제거, 동시 생성 합치기를 검증합니다.
+ */
+@Tag("unit")
+public class TodayActivityCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-05-01T00:00:00Z");
+
+    private TodayActivityCache cache;
+    private final AtomicInteger generated = new AtomicInteger();
+    private final Function<TodayActivityRequestDTO, TodayActivityResponseDTO> generator = request -> {
+        generated.incrementAndGet();
+        return pool(request);
+    };
+
+    @BeforeEach
+    void setUp() {
+        cache = new TodayActivityCache(new SimpleMeterRegistry());
+        at(NOW);
+    }
+
+    @Test
+    @DisplayName("같은 위치는 표기가 달라도 한 번만 생성하고 요청 개수만큼 잘라 응답해야 한다")
+    void slicesSharedPoolForNormalizedLocation() {
+        TodayActivityResponseDTO first = cache.recommend(request("하카타역", 3, 2, 0, 1), generator);
+        TodayActivityResponseDTO second = cache.recommend(request(" 하카타 역 ", 5, 0, 1, 0), generator);
+
+        assertEquals(1, generated.get());
+        assertEquals(3, first.getRestaurants().size());
+        assertEquals(2, first.getCultureSpots().size());
+        assertTrue(first.getShoppingSpots().isEmpty());
+        assertEquals(5, second.getRestaurants().size());
+        assertEquals(" 하카타 역 ", second.getLocation());
+    }
+
+    @Test
+    @DisplayName("풀 크기보다 많이 요청하면 캐시를 사용하지 않아야 한다")
+    void doesNotServeRequestsLargerThanPool() {
+        ReflectionTestUtils.setField(cache, "poolSize", 5);
+
+        assertTrue(cache.canServe(request("텐진", 5, 5, 5, 5)));
+        assertFalse(cache.canServe(request("텐진", 6, 0, 0, 0)));
+        assertFalse(cache.canServe(request(" ", 1, 0, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("만료 직후에는 이전 풀로 바로 응답하고 백그라운드에서 갱신해야 한다")
+    void servesStaleWhileRevalidating() throws Exception {
+        CountDownLatch refreshed = new CountDownLatch(1);
+        cache.recommend(request("텐진", 1, 1, 1, 1), generator);
+
+        at(NOW.plusSeconds(3601));
+        TodayActivityResponseDTO stale = cache.recommend(request("텐진", 1, 1, 1, 1), request -> {
+            TodayActivityResponseDTO pool = generator.apply(request);
+            refreshed.countDown();
+            return pool;
+        });
+
+        assertEquals(1, stale.getRestaurants().size());
+        assertTrue(refreshed.await(2, TimeUnit.SECONDS));
+        assertEquals(2, generated.get());
+    }
+
+    @Test
+    @DisplayName("만료 후 허용 시간도 지나면 새로 생성한 풀로 응답해야 한다")
+    void regeneratesWhenTooStale() {
+        cache.recommend(request("텐진", 1, 1, 1, 1), generator);
+
+        at(NOW.plusSeconds(3600 + 601));
+        cache.recommend(request("텐진", 1, 1, 1, 1), generator);
+
+        assertEquals(2, generated.get());
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 가장 오래 조회되지 않은 위치부터 제거해야 한다")
+    void evictsLeastRecentlyUsedOverBudget() {
+        cache.recommend(request("텐진", 1, 1, 1, 1), generator);
+        long onePool = cache.estimatedBytes();
+        ReflectionTestUtils.setField(cache, "maxBytes", onePool * 2 + onePool / 2);
+
+        cache.recommend(request("하카타", 1, 1, 1, 1), generator);
+        cache.recommend(request("텐진", 1, 1, 1, 1), generator);
+        cache.recommend(request("나카스", 1, 1, 1, 1), generator);
+        assertEquals(2, cache.size());
+        assertEquals(3, generated.get());
+
+        // 하카타가 제거되었으므로 다시 생성, 텐진은 남아 있음
+        cache.recommend(request("텐진", 1, 1, 1, 1), generator);
+        assertEquals(3, generated.get());
+        cache.recommend(request("하카타", 1, 1, 1, 1), generator);
+        assertEquals(4, generated.get());
+    }
+
+    @Test
+    @DisplayName("같은 위치의 동시 요청은 AI를 한 번만 호출해야 한다")
+    void coalescesConcurrentMisses() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Function<TodayActivityRequestDTO, TodayActivityResponseDTO> slow = request -> {
+            try {
+                release.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return generator.apply(request);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<TodayActivityResponseDTO>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> cache.recommend(request("텐진", 2, 0, 0, 0), slow)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<TodayActivityResponseDTO> future : futures) {
+                assertEquals(2, future.get(2, TimeUnit.SECONDS).getRestaurants().size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, generated.get());
+    }
+
+    private void at(Instant instant) {
+        ReflectionTestUtils.setField(cache, "clock", Clock.fixed(instant, ZoneId.of("UTC")));
+    }
+
+    private static TodayActivityRequestDTO request(String location, int restaurants, int culture, int shopping,
+            int nature) {
+        return new TodayActivityRequestDTO(location, restaurants, culture, shopping, nature);
+    }
+
+    private static TodayActivityResponseDTO pool(TodayActivityRequestDTO request) {
+        TodayActivityResponseDTO response = new TodayActivityResponseDTO();
+        response.setLocation(request.getLocation());
+        response.setRestaurants(activities("맛집", request.getRestaurantCount()));
+        response.setCultureSpots(activities("관광", request.getCultureCount()));
+        response.setShoppingSpots(activities("쇼핑", request.getShoppingCount()));
+        response.setNatureSpots(activities("자연", request.getNatureCount()));
+        return response;
+    }
+
+    private static List<ActivityRecommendation> activities(String category, int count) {
+        List<ActivityRecommendation> activities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            activities.add(new ActivityRecommendation(category + " " + i, category));
+        }
+        return activities;
+    }
+}
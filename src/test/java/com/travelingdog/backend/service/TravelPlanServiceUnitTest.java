@@ -24,23 +24,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestClient.RequestBodySpec;
-import org.springframework.web.client.RestClient.RequestBodyUriSpec;
-import org.springframework.web.client.RestClient.ResponseSpec;
 
 import com.travelingdog.backend.dto.AIRecommendedItineraryDTO;
 import com.travelingdog.backend.dto.AIRecommendedItineraryDTO.Location;
 import com.travelingdog.backend.dto.AIRecommendedTravelPlanDTO;
+import com.travelingdog.backend.dto.ai.AiCompletionRequest;
 // import com.travelingdog.backend.dto.AIRecommendedTravelPlanDTO.LocationDTO; // 별도 API로 분리됨
-import com.travelingdog.backend.dto.gemini.GeminiCandidate;
-import com.travelingdog.backend.dto.gemini.GeminiContent;
-import com.travelingdog.backend.dto.gemini.GeminiPart;
-import com.travelingdog.backend.dto.gemini.GeminiRequest;
-import com.travelingdog.backend.dto.gemini.GeminiResponse;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanDTO;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanRequest;
 import com.travelingdog.backend.dto.travelPlan.TravelPlanUpdateRequest;
@@ -55,10 +46,12 @@ import com.travelingdog.backend.repository.PlanLikeRepository;
 import com.travelingdog.backend.repository.TravelPlanRepository;
 import com.travelingdog.backend.status.PlanStatus;
 
+import io.micrometer.observation.ObservationRegistry;
+
 /**
  * 여행 계획 서비스 단위 테스트
  *
- * 이 테스트 클래스는 TripPlanService의 기능을 단위 테스트합니다. 외부 의존성(RestClient,
+ * 이 테스트 클래스는 TripPlanService의 기능을 단위 테스트합니다. 외부 의존성(AiProviderRouter,
  * RouteOptimizationService, GptResponseHandler)을 모킹하여 서비스 로직만 독립적으로 테스트합니다.
  *
  * 주요 테스트 대상: 1. 여행 계획 생성 요청 처리 2. GPT 응답 처리 및 위치 데이터 변환 3. 경로 최적화 서비스 연동
@@ -68,7 +61,7 @@ import com.travelingdog.backend.status.PlanStatus;
 public class TravelPlanServiceUnitTest {
 
         @Mock
-        private RestClient restClient;
+        private AiProviderRouter aiProviderRouter;
 
         @Mock
         private GptResponseHandler gptResponseHandler;
@@ -82,12 +75,27 @@ public class TravelPlanServiceUnitTest {
         @Mock
         private PlanLikeRepository planLikeRepository;
 
+        @Mock
+        private ItineraryRouteOptimizer itineraryRouteOptimizer;
+
+        @Mock
+        private ChunkedTripPlanGenerator chunkedTripPlanGenerator;
+
+        @Mock
+        private UserStatsService userStatsService;
+
+        @Mock
+        private ResourceAccessGuard accessGuard;
+
+        @Spy
+        private AiStageTimer stageTimer = new AiStageTimer(ObservationRegistry.NOOP);
+
         @InjectMocks
         private TravelPlanService tripPlanService;
 
         private TravelPlanRequest request;
         private TravelPlan travelPlan;
-        private GeminiResponse mockResponse;
+        private String mockResponse;
         private List<Itinerary> mockLocations;
         private DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         private LocalDate today;
@@ -98,9 +106,8 @@ public class TravelPlanServiceUnitTest {
         /**
          * 각 테스트 실행 전 환경 설정
          *
-         * 1. API 키 설정: ReflectionTestUtils를 사용하여 테스트용 API 키 설정 2. 테스트용 여행 계획 요청 데이터
-         * 생성 3. 모의 GPT 응답 데이터 설정 4. 모의 위치 데이터 설정 5. RestClient 모킹 설정: OpenAI API
-         * 호출을 시뮬레이션
+         * 1. 테스트용 여행 계획 요청 데이터 생성 2. 모의 AI 응답 데이터 설정 3. 모의 위치 데이터 설정 4. AI 공급자
+         * 라우터 모킹 설정: 외부 AI API 호출을 시뮬레이션
          *
          * 이 설정을 통해 실제 외부 서비스를 호출하지 않고도 TripPlanService의 로직을 테스트할 수 있습니다.
          */
@@ -112,10 +119,6 @@ public class TravelPlanServiceUnitTest {
                                 .password("password123!")
                                 .build();
 
-                // API 키 설정
-                ReflectionTestUtils.setField(tripPlanService, "openAiApiKey", "test-api-key");
-                ReflectionTestUtils.setField(tripPlanService, "geminiApiUrl", "test-api-url");
-
                 // 테스트 요청 데이터 설정
                 today = LocalDate.now();
                 LocalDate endDate = today.plusDays(3);
@@ -130,19 +133,7 @@ public class TravelPlanServiceUnitTest {
                 request.setTransportation("Transportation");
 
                 // 모의 응답 데이터 설정
-                mockResponse = new GeminiResponse();
-                GeminiCandidate candidate = new GeminiCandidate();
-                GeminiContent content = new GeminiContent();
-                List<GeminiPart> parts = new ArrayList<>();
-                String jsonContent = "[{\"title\":\"Gyeongbokgung Palace\",\"description\":\"Gyeongbokgung Palace is a large palace complex that was the main royal palace of the Joseon Dynasty.\"}]";
-                parts.add(GeminiPart.builder()
-                                .text(jsonContent)
-                                .build());
-                content.setParts(parts);
-                candidate.setContent(content);
-                List<GeminiCandidate> candidates = new ArrayList<>();
-                candidates.add(candidate);
-                mockResponse.setCandidates(candidates);
+                mockResponse = "[{\"title\":\"Gyeongbokgung Palace\",\"description\":\"Gyeongbokgung Palace is a large palace complex that was the main royal palace of the Joseon Dynasty.\"}]";
 
                 // 모의 위치 데이터 설정
                 mockLocations = new ArrayList<>();
@@ -188,17 +179,8 @@ public class TravelPlanServiceUnitTest {
         @DisplayName("여행 계획 생성 후 저장 기능 테스트")
         void testCreateTravelPlan() {
 
-                // RestClient 모킹 설정 - 이 테스트에서 필요한 경우에만 설정
-                RequestBodyUriSpec requestBodyUriSpec = Mockito.mock(RequestBodyUriSpec.class);
-                RequestBodySpec requestBodySpec = Mockito.mock(RequestBodySpec.class);
-                ResponseSpec responseSpec = Mockito.mock(ResponseSpec.class);
-
-                when(restClient.post()).thenReturn(requestBodyUriSpec);
-                when(requestBodyUriSpec.uri(any(String.class))).thenReturn(requestBodySpec);
-                when(requestBodySpec.header(any(), any())).thenReturn(requestBodySpec);
-                when(requestBodySpec.body(any(GeminiRequest.class))).thenReturn(requestBodySpec);
-                when(requestBodySpec.retrieve()).thenReturn(responseSpec);
-                when(responseSpec.body(GeminiResponse.class)).thenReturn(mockResponse);
+                // AI 공급자 라우터 모킹 설정
+                when(aiProviderRouter.complete(any(AiCompletionRequest.class))).thenReturn(mockResponse);
 
                 // Given
                 // TravelPlan savedTravelPlan = TravelPlan.builder()
@@ -216,7 +198,7 @@ public class TravelPlanServiceUnitTest {
                 TravelPlan savedTravelPlan = TravelPlan.fromDTO(aiRecommendedTravelPlanDTO);
 
                 // GptResponseHandler 모킹
-                when(gptResponseHandler.parseGptResponse(any(String.class)))
+                when(gptResponseHandler.parseGptResponse(any(String.class), any()))
                                 .thenReturn(aiRecommendedTravelPlanDTO);
                 when(gptResponseHandler.createEnhancedPrompt(any(), any(), any(), any(), any(), any(), any(), any()))
                                 .thenReturn("테스트 프롬프트");
@@ -242,17 +224,8 @@ public class TravelPlanServiceUnitTest {
         @Test
         @DisplayName("여행 계획 생성 - 선택사항 필드들이 null인 경우")
         void testCreateTravelPlan_WithNullOptionalFields() {
-                // RestClient 모킹 설정
-                RequestBodyUriSpec requestBodyUriSpec = Mockito.mock(RequestBodyUriSpec.class);
-                RequestBodySpec requestBodySpec = Mockito.mock(RequestBodySpec.class);
-                ResponseSpec responseSpec = Mockito.mock(ResponseSpec.class);
-
-                when(restClient.post()).thenReturn(requestBodyUriSpec);
-                when(requestBodyUriSpec.uri(any(String.class))).thenReturn(requestBodySpec);
-                when(requestBodySpec.header(any(), any())).thenReturn(requestBodySpec);
-                when(requestBodySpec.body(any(GeminiRequest.class))).thenReturn(requestBodySpec);
-                when(requestBodySpec.retrieve()).thenReturn(responseSpec);
-                when(responseSpec.body(GeminiResponse.class)).thenReturn(mockResponse);
+                // AI 공급자 라우터 모킹 설정
+                when(aiProviderRouter.complete(any(AiCompletionRequest.class))).thenReturn(mockResponse);
 
                 // Given
                 TravelPlanRequest requestWithNullFields = new TravelPlanRequest();
@@ -269,7 +242,7 @@ public class TravelPlanServiceUnitTest {
                 TravelPlan savedTravelPlan = TravelPlan.fromDTO(aiRecommendedTravelPlanDTO);
 
                 // GptResponseHandler 모킹
-                when(gptResponseHandler.parseGptResponse(any(String.class)))
+                when(gptResponseHandler.parseGptResponse(any(String.class), any()))
                                 .thenReturn(aiRecommendedTravelPlanDTO);
                 when(gptResponseHandler.createEnhancedPrompt(any(), any(), any(), any(), any(), any(), any(), any()))
                                 .thenReturn("테스트 프롬프트");
@@ -298,23 +271,39 @@ public class TravelPlanServiceUnitTest {
                                 any());
         }
 
+        /**
+         * 출력 토큰 한도 테스트
+         *
+         * 여행 일수에 비례해 maxOutputTokens가 늘어나되, 최소/최대 한도를 벗어나지 않는지 검증합니다.
+         */
+        @Test
+        @DisplayName("여행 일수에 맞춰 출력 토큰 한도를 정해야 한다")
+        void testMaxOutputTokensScalesWithTripLength() {
+                TravelPlanRequest dayTrip = new TravelPlanRequest();
+                dayTrip.setStartDate(today);
+                dayTrip.setEndDate(today);
+
+                TravelPlanRequest fiveDays = new TravelPlanRequest();
+                fiveDays.setStartDate(today);
+                fiveDays.setEndDate(today.plusDays(4));
+
+                TravelPlanRequest month = new TravelPlanRequest();
+                month.setStartDate(today);
+                month.setEndDate(today.plusDays(29));
+
+                assertEquals(1212, tripPlanService.maxOutputTokensFor(dayTrip));
+                assertEquals(4012, tripPlanService.maxOutputTokensFor(fiveDays));
+                assertEquals(8192, tripPlanService.maxOutputTokensFor(month));
+        }
+
         /**
          * 여행 계획 생성 - 선택사항 필드들이 빈 문자열인 경우 테스트
          */
         @Test
         @DisplayName("여행 계획 생성 - 선택사항 필드들이 빈 문자열인 경우")
         void testCreateTravelPlan_WithEmptyOptionalFields() {
-                // RestClient 모킹 설정
-                RequestBodyUriSpec requestBodyUriSpec = Mockito.mock(RequestBodyUriSpec.class);
-                RequestBodySpec requestBodySpec = Mockito.mock(RequestBodySpec.class);
-                ResponseSpec responseSpec = Mockito.mock(ResponseSpec.class);
-
-                when(restClient.post()).thenReturn(requestBodyUriSpec);
-                when(requestBodyUriSpec.uri(any(String.class))).thenReturn(requestBodySpec);
-                when(requestBodySpec.header(any(), any())).thenReturn(requestBodySpec);
-                when(requestBodySpec.body(any(GeminiRequest.class))).thenReturn(requestBodySpec);
-                when(requestBodySpec.retrieve()).thenReturn(responseSpec);
-                when(responseSpec.body(GeminiResponse.class)).thenReturn(mockResponse);
+                // AI 공급자 라우터 모킹 설정
+                when(aiProviderRouter.complete(any(AiCompletionRequest.class))).thenReturn(mockResponse);
 
                 // Given
                 TravelPlanRequest requestWithEmptyFields = new TravelPlanRequest();
@@ -331,7 +320,7 @@ public class TravelPlanServiceUnitTest {
                 TravelPlan savedTravelPlan = TravelPlan.fromDTO(aiRecommendedTravelPlanDTO);
 
                 // GptResponseHandler 모킹
-                when(gptResponseHandler.parseGptResponse(any(String.class)))
+                when(gptResponseHandler.parseGptResponse(any(String.class), any()))
                                 .thenReturn(aiRecommendedTravelPlanDTO);
                 when(gptResponseHandler.createEnhancedPrompt(any(), any(), any(), any(), any(), any(), any(), any()))
                                 .thenReturn("테스트 프롬프트");
@@ -0,0 +1,60 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 인기 점수 계산 단위 테스트
+ *
+ * 시간 감쇠 점수가 최근 좋아요를 오래된 좋아요보다 높게 평가하는지, 반감기 단위로 가중치가 절반이 되는지 검증합니다.
+ */
+@Tag("unit")
+public class TrendingRankingServiceTest {
+
+    private static final double HALF_LIFE_HOURS = 48;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Test
+    @DisplayName("최근 좋아요가 많은 계획이 오래전 좋아요가 더 많은 계획보다 점수가 높아야 한다")
+    void recentLikesOutrankOldLikes() {
+        LocalDateTime created = now.minusDays(60);
+
+        List<LocalDateTime> oldLikes = Collections.nCopies(50, now.minusDays(30));
+        List<LocalDateTime> recentLikes = Collections.nCopies(5, now.minusHours(1));
+
+        double oldViral = TrendingRankingService.hotScore(oldLikes, created, HALF_LIFE_HOURS);
+        double recentHot = TrendingRankingService.hotScore(recentLikes, created, HALF_LIFE_HOURS);
+
+        assertTrue(recentHot > oldViral);
+    }
+
+    @Test
+    @DisplayName("반감기만큼 지난 좋아요 두 개는 최근 좋아요 하나와 같은 가중치를 가져야 한다")
+    void halfLifeHalvesWeight() {
+        double twoOldLikes = TrendingRankingService.hotScore(
+                List.of(now.minusHours(48), now.minusHours(48)), null, HALF_LIFE_HOURS);
+        double oneRecentLike = TrendingRankingService.hotScore(List.of(now), null, HALF_LIFE_HOURS);
+
+        assertEquals(oneRecentLike, twoOldLikes, 1e-9);
+    }
+
+    @Test
+    @DisplayName("같은 시각에 생성된 계획은 좋아요가 있는 쪽이 점수가 높아야 한다")
+    void likesIncreaseScore() {
+        LocalDateTime created = now.minusDays(1);
+
+        double noLikes = TrendingRankingService.hotScore(List.of(), created, HALF_LIFE_HOURS);
+        double liked = TrendingRankingService.hotScore(List.of(now), created, HALF_LIFE_HOURS);
+
+        assertTrue(liked > noLikes);
+    }
+}
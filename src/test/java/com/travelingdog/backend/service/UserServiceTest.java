@@ -1,13 +1,18 @@
 package com.travelingdog.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,10 +23,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.PageRequest;
+
+import com.travelingdog.backend.dto.CursorPageResponse;
 import com.travelingdog.backend.dto.UserProfileDTO;
+import com.travelingdog.backend.dto.travelPlan.TravelPlanSummaryDTO;
 import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.model.UserStats;
 import com.travelingdog.backend.repository.TravelPlanRepository;
 import com.travelingdog.backend.repository.UserRepository;
+import com.travelingdog.backend.status.PlanStatus;
 
 @ExtendWith(MockitoExtension.class)
 @Tag("unit")
@@ -36,6 +47,9 @@ public class UserServiceTest {
     @Mock
     private TravelPlanRepository travelPlanRepository;
 
+    @Mock
+    private UserStatsService userStatsService;
+
     private User testUser;
 
     @BeforeEach
@@ -79,4 +93,47 @@ public class UserServiceTest {
             userService.getUserProfile(testUser);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("프로필 조회 시 여행 계획 목록 없이 미리 유지된 집계를 반환한다")
+    void getUserProfile_ReturnsMaintainedCounts() {
+        // Given
+        when(userRepository.findById(anyLong())).thenReturn(Optional.of(testUser));
+        when(userStatsService.getOrInitialize(testUser)).thenReturn(UserStats.builder()
+                .userId(1L).planCount(3).likesReceivedCount(12).savedActivityCount(5).build());
+
+        // When
+        UserProfileDTO profile = userService.getUserProfile(testUser);
+
+        // Then
+        assertEquals(3, profile.getPlanCount());
+        assertEquals(12, profile.getLikesReceivedCount());
+        assertEquals(5, profile.getSavedActivityCount());
+    }
+
+    @Test
+    @DisplayName("여행 계획 요약은 한 건 더 조회해 다음 페이지 커서를 만든다")
+    void getTravelPlanSummaries_ReturnsNextCursor() {
+        // Given
+        List<TravelPlanSummaryDTO> fetched = LongStream.of(30, 29, 28)
+                .mapToObj(id -> TravelPlanSummaryDTO.builder().id(id).title("계획 " + id).build())
+                .toList();
+        when(travelPlanRepository.findSummariesByUserId(1L, PlanStatus.DELETED, Long.MAX_VALUE,
+                PageRequest.of(0, 3))).thenReturn(fetched);
+        when(travelPlanRepository.findSummariesByUserId(1L, PlanStatus.DELETED, 29L, PageRequest.of(0, 3)))
+                .thenReturn(fetched.subList(2, 3));
+
+        // When
+        CursorPageResponse<TravelPlanSummaryDTO> first = userService.getTravelPlanSummaries(testUser, null, 2);
+        CursorPageResponse<TravelPlanSummaryDTO> second = userService.getTravelPlanSummaries(testUser,
+                first.getNextCursor(), 2);
+
+        // Then
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.isHasNext());
+        assertEquals("29", first.getNextCursor());
+        assertEquals(1, second.getContent().size());
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+    }
+}
@@ -0,0 +1,79 @@
+package com.travelingdog.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.travelingdog.backend.model.User;
+import com.travelingdog.backend.model.UserStats;
+import com.travelingdog.backend.repository.UserStatsRepository;
+
+/**
+ * 사용자 집계 단위 테스트
+ *
+ * 집계 행이 있으면 다시 세지 않고, 없을 때만 한 번 전체를 세어 만드는지 검증합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+public class UserStatsServiceTest {
+
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
+    @InjectMocks
+    private UserStatsService userStatsService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().id(1L).email("test@example.com").nickname("Test User").build();
+    }
+
+    @Test
+    @DisplayName("집계 행이 있으면 계획/저장 활동을 다시 세지 않는다")
+    void getOrInitialize_ExistingStats_DoesNotCount() {
+        // Given
+        UserStats stats = UserStats.builder().userId(1L).planCount(2).build();
+        when(userStatsRepository.findById(1L)).thenReturn(Optional.of(stats));
+
+        // When
+        UserStats result = userStatsService.getOrInitialize(user);
+
+        // Then
+        assertSame(stats, result);
+        verify(userStatsRepository, never()).insertFromCurrentCounts(anyLong());
+    }
+
+    @Test
+    @DisplayName("집계 행이 없으면 세면서 만들고, 저장된 행을 다시 읽어 돌려준다")
+    void getOrInitialize_MissingStats_CountsAndInserts() {
+        // Given - 동시에 다른 요청이 먼저 만든 경우에도 저장된 행을 돌려줌
+        UserStats stored = UserStats.builder().userId(1L).planCount(4).likesReceivedCount(9).savedActivityCount(6)
+                .build();
+        when(userStatsRepository.findById(1L)).thenReturn(Optional.empty(), Optional.of(stored));
+        when(userStatsRepository.insertFromCurrentCounts(1L)).thenReturn(0);
+
+        // When
+        UserStats result = userStatsService.getOrInitialize(user);
+
+        // Then
+        assertSame(stored, result);
+        assertEquals(6, result.getSavedActivityCount());
+        verify(userStatsRepository).insertFromCurrentCounts(1L);
+    }
+}